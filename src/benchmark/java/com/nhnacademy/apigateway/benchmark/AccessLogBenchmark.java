@@ -0,0 +1,141 @@
+package com.nhnacademy.apigateway.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.helpers.NOPAppender;
+import com.nhnacademy.apigateway.TestFixtures;
+import com.nhnacademy.apigateway.filter.accesslog.AccessLogEntry;
+import com.nhnacademy.apigateway.filter.accesslog.AccessLogProperties;
+import com.nhnacademy.apigateway.filter.accesslog.AccessLogWebFilter;
+import com.nhnacademy.apigateway.filter.accesslog.AccessLogWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * 여러 요청 스레드가 동시에 접근 로그를 남길 때의 처리량을 측정합니다.
+ * sink 가 NOP 이면 대기열과 JSON 변환 비용만, FILE 이면 실제 파일 쓰기까지 포함한 비용입니다.
+ * writer 가 따라가지 못하면 항목을 버리므로, 처리량과 함께 accepted/dropped 를 보고 기록 손실 없이 버티는 구간을 확인합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccessLogBenchmark {
+
+    private static final WebFilterChain NOOP_CHAIN = exchange -> Mono.empty();
+
+    @Param({"NOP", "FILE"})
+    public String sink;
+
+    private AccessLogWriter writer;
+    private AccessLogWebFilter filter;
+    private AccessLogEntry entry;
+    private Appender<ILoggingEvent> appender;
+    private Path logFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger accessLogger = loggerContext.getLogger(AccessLogWriter.LOGGER_NAME);
+        accessLogger.detachAndStopAllAppenders();
+        accessLogger.setAdditive(false);
+        appender = "FILE".equals(sink) ? fileAppender(loggerContext) : new NOPAppender<>();
+        appender.setContext(loggerContext);
+        appender.start();
+        accessLogger.addAppender(appender);
+
+        AccessLogProperties properties = new AccessLogProperties(null, null, null, null, null, null, null, null);
+        writer = new AccessLogWriter(properties, new SimpleMeterRegistry());
+        filter = new AccessLogWebFilter(properties, writer);
+        entry = new AccessLogEntry(System.currentTimeMillis(), "GET", "/books/1", 200, "BOOK-USER-SERVER",
+                1L, "authenticated", "127.0.0.1", null, 512, 1_250);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        writer.destroy();
+        appender.stop();
+        if (logFile != null) {
+            Files.deleteIfExists(logFile);
+        }
+    }
+
+    @Benchmark
+    public boolean offer(Counters counters) {
+        boolean accepted = writer.offer(entry);
+        if (accepted) {
+            counters.accepted++;
+        } else {
+            counters.dropped++;
+        }
+        return accepted;
+    }
+
+    @Benchmark
+    public ServerWebExchange filter() {
+        ServerWebExchange exchange = TestFixtures.exchange(MockServerHttpRequest.get("/books/1").build());
+        filter.filter(exchange, NOOP_CHAIN).block();
+        return exchange;
+    }
+
+    private FileAppender<ILoggingEvent> fileAppender(LoggerContext loggerContext) throws IOException {
+        logFile = Files.createTempFile("access-log-benchmark", ".log");
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setFile(logFile.toString());
+        fileAppender.setAppend(false);
+        fileAppender.setEncoder(encoder);
+        return fileAppender;
+    }
+
+    /**
+     * 스레드별로 대기열에 넣은 항목과 버린 항목 수를 셉니다.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+
+        public long accepted;
+        public long dropped;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            accepted = 0;
+            dropped = 0;
+        }
+    }
+}
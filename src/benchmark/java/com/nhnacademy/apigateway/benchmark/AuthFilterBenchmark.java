@@ -0,0 +1,204 @@
+package com.nhnacademy.apigateway.benchmark;
+
+import com.nhnacademy.apigateway.TestFixtures;
+import com.nhnacademy.apigateway.application.service.TokenRefreshProperties;
+import com.nhnacademy.apigateway.application.service.TokenRevocationService;
+import com.nhnacademy.apigateway.application.service.TokenService;
+import com.nhnacademy.apigateway.common.exception.handler.ErrorResponseWriter;
+import com.nhnacademy.apigateway.filter.JwtAuthenticationGlobalFilter;
+import com.nhnacademy.apigateway.filter.metrics.AuthFilterMetrics;
+import com.nhnacademy.apigateway.filter.rule.AuthRuleMatcher;
+import com.nhnacademy.apigateway.util.JwtUtil;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * JwtAuthenticationGlobalFilter 의 요청당 판단 시간을 측정합니다.
+ * auth-path-mix.csv 의 경로/토큰 분포대로 요청을 미리 만들어 두고 순서대로 필터에 통과시킵니다.
+ * 교환 객체 생성 비용은 {@link #exchangeOnly()} 로 따로 측정하므로 두 결과의 차이가 필터 자체의 비용입니다.
+ * 인증 서버 호출이 필요한 갱신 경로는 측정 대상에서 제외합니다 (만료 토큰은 리프레시 토큰도 만료된 상태로 보냅니다).
+ * metrics 가 none 이면 모든 미터를 no-op 으로 만들고, prometheus 면 운영 설정과 같이 판정 시간을 히스토그램으로 기록하므로
+ * 두 결과의 차이가 계측 비용입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AuthFilterBenchmark {
+
+    private static final int MIX_SIZE = 1024;
+    private static final WebFilterChain NOOP_CHAIN = exchange -> Mono.empty();
+
+    @Param({"none", "prometheus"})
+    public String metrics;
+
+    private JwtAuthenticationGlobalFilter filter;
+    private RequestTemplate[] requests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry meterRegistry = meterRegistry();
+        JwtUtil jwtUtil = TestFixtures.jwtUtil();
+        TokenRefreshProperties tokenRefreshProperties = new TokenRefreshProperties(null, null, null, null);
+        TokenRevocationService tokenRevocationService = new TokenRevocationService(
+                jwtUtil, event -> { }, meterRegistry, 100_000, 0.01, Duration.ofHours(1));
+
+        filter = new JwtAuthenticationGlobalFilter(
+                new ErrorResponseWriter(),
+                new TokenService(null, event -> { }, jwtUtil, meterRegistry, tokenRefreshProperties),
+                tokenRevocationService,
+                jwtUtil,
+                new AuthRuleMatcher(TestFixtures.authRuleProperties()),
+                new AuthFilterMetrics(meterRegistry),
+                tokenRefreshProperties);
+
+        Tokens tokens = new Tokens(
+                TestFixtures.token(1L, "USER", Duration.ofHours(1)),
+                TestFixtures.token(1L, "USER", Duration.ofDays(7)),
+                TestFixtures.token(2L, "ADMIN", Duration.ofHours(1)),
+                TestFixtures.token(1L, "USER", Duration.ofHours(-1)),
+                TestFixtures.token(3L, "USER", Duration.ofHours(1)));
+        tokenRevocationService.revokeByAdmin(tokens.revoked());
+        requests = loadMix(tokens);
+    }
+
+    private MeterRegistry meterRegistry() {
+        if ("none".equals(metrics)) {
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            meterRegistry.config().meterFilter(MeterFilter.deny());
+            return meterRegistry;
+        }
+
+        // application.yml 의 management.metrics.distribution 설정과 같은 히스토그램을 씁니다.
+        PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().equals("gateway.auth.decision")) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofNanos(1_000).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(5).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        });
+        return meterRegistry;
+    }
+
+    @Benchmark
+    public ServerWebExchange exchangeOnly() {
+        return nextRequest().toExchange();
+    }
+
+    @Benchmark
+    public ServerWebExchange filterPathMix() {
+        ServerWebExchange exchange = nextRequest().toExchange();
+        filter.filter(exchange, NOOP_CHAIN).block();
+        return exchange;
+    }
+
+    private RequestTemplate nextRequest() {
+        RequestTemplate request = requests[next];
+        next = (next + 1) & (MIX_SIZE - 1);
+        return request;
+    }
+
+    private static RequestTemplate[] loadMix(Tokens tokens) {
+        List<RequestTemplate> weighted = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource("auth-path-mix.csv").getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                RequestTemplate request = new RequestTemplate(
+                        HttpMethod.valueOf(columns[0].trim()), columns[1].trim(), tokens.headersFor(columns[2].trim()));
+                for (int i = Integer.parseInt(columns[3].trim()); i > 0; i--) {
+                    weighted.add(request);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // 분포를 유지한 채 고정 시드로 섞어 실행마다 같은 순서로 측정합니다.
+        List<RequestTemplate> mix = new ArrayList<>(MIX_SIZE);
+        while (mix.size() < MIX_SIZE) {
+            mix.addAll(weighted);
+        }
+        mix = new ArrayList<>(mix.subList(0, MIX_SIZE));
+        Collections.shuffle(mix, new Random(42));
+        return mix.toArray(RequestTemplate[]::new);
+    }
+
+    private record RequestTemplate(HttpMethod method, String path, String[] headers) {
+
+        ServerWebExchange toExchange() {
+            MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.method(method, path);
+            for (int i = 0; i < headers.length; i += 2) {
+                builder.header(headers[i], headers[i + 1]);
+            }
+            return TestFixtures.exchange(builder.build());
+        }
+    }
+
+    private record Tokens(String user, String refresh, String admin, String expired, String revoked) {
+
+        String[] headersFor(String kind) {
+            return switch (kind) {
+                case "none" -> new String[0];
+                case "user" -> bearer(user, refresh);
+                case "admin" -> bearer(admin, refresh);
+                case "expired" -> bearer(expired, expired);
+                case "revoked" -> bearer(revoked, refresh);
+                default -> throw new IllegalArgumentException("Unknown token kind: " + kind);
+            };
+        }
+
+        private static String[] bearer(String accessJwt, String refreshJwt) {
+            return new String[] {HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt, "Refresh-Token", refreshJwt};
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.nhnacademy.apigateway.benchmark;
+
+import com.nhnacademy.apigateway.TestFixtures;
+import com.nhnacademy.apigateway.filter.rule.AuthRule;
+import com.nhnacademy.apigateway.filter.rule.AuthRuleMatcher;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+/**
+ * 경로별 인증 규칙을 찾는 비용을 측정합니다.
+ * auth-path-mix.csv 의 경로 분포대로 요청을 미리 만들어 두고, 설정 기반 AuthRuleMatcher 와
+ * 이전 인증 필터의 equals/startsWith/String.matches 분기를 같은 요청 순서로 비교합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AuthRuleMatcherBenchmark {
+
+    private static final int MIX_SIZE = 1024;
+
+    private AuthRuleMatcher matcher;
+    private ServerHttpRequest[] requests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        matcher = new AuthRuleMatcher(TestFixtures.authRuleProperties());
+        requests = loadMix();
+    }
+
+    @Benchmark
+    public AuthRule ruleMatcher() {
+        return matcher.match(nextRequest());
+    }
+
+    @Benchmark
+    public boolean legacyBranches() {
+        ServerHttpRequest request = nextRequest();
+        return legacyRequiresToken(request.getPath().value(), request.getMethod(),
+                request.getHeaders().containsKey("Authorization"));
+    }
+
+    private ServerHttpRequest nextRequest() {
+        ServerHttpRequest request = requests[next];
+        next = (next + 1) & (MIX_SIZE - 1);
+        return request;
+    }
+
+    /**
+     * 이전 인증 필터와 관리자 aspect 가 경로마다 수행하던 분기를 그대로 옮긴 것입니다.
+     */
+    private static boolean legacyRequiresToken(String path, HttpMethod method, boolean hasAuthorization) {
+        if (path.contains("/admin")) {
+            return true;
+        }
+        if (path.equals("/auth/login") || path.equals("/auth/refresh") || path.equals("/auth/logout")
+                || path.equals("/books/categories/root") || (path.startsWith("/books") && !path.startsWith("/books/likes"))
+                || path.matches("/books/likes/books/\\d+") || path.equals("/users/check-email")
+                || path.equals("/users/sign-up") || path.equals("/users/find/password")
+                || path.equals("/users/find/email") || path.startsWith("/users/cart-books")
+                || path.startsWith("/policies") || path.startsWith("/auth/dormant")) {
+            return false;
+        }
+        if (path.startsWith("/orders/none") || path.matches(".*/orders/.*/delivery.*")) {
+            return false;
+        }
+        if (!hasAuthorization && (path.startsWith("/reviews/books") || path.startsWith("/payments"))) {
+            return false;
+        }
+        if (path.equals("/orders") && method == HttpMethod.POST && !hasAuthorization) {
+            return false;
+        }
+        if (path.matches("/books/likes/\\d+/exist")) {
+            return false;
+        }
+        return !(path.matches("/coupons") && !hasAuthorization);
+    }
+
+    private static ServerHttpRequest[] loadMix() {
+        List<ServerHttpRequest> weighted = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource("auth-path-mix.csv").getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                MockServerHttpRequest.BaseBuilder<?> builder =
+                        MockServerHttpRequest.method(HttpMethod.valueOf(columns[0].trim()), columns[1].trim());
+                if (!columns[2].trim().equals("none")) {
+                    builder.header("Authorization", "Bearer token");
+                }
+                ServerHttpRequest request = builder.build();
+                for (int i = Integer.parseInt(columns[3].trim()); i > 0; i--) {
+                    weighted.add(request);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // 분포를 유지한 채 고정 시드로 섞어 실행마다 같은 순서로 측정합니다.
+        List<ServerHttpRequest> mix = new ArrayList<>(MIX_SIZE);
+        while (mix.size() < MIX_SIZE) {
+            mix.addAll(weighted);
+        }
+        mix = new ArrayList<>(mix.subList(0, MIX_SIZE));
+        Collections.shuffle(mix, new Random(42));
+        return mix.toArray(ServerHttpRequest[]::new);
+    }
+}
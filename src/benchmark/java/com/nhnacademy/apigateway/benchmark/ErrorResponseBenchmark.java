@@ -0,0 +1,99 @@
+package com.nhnacademy.apigateway.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.apigateway.TestFixtures;
+import com.nhnacademy.apigateway.common.exception.UnauthorizedAccessException;
+import com.nhnacademy.apigateway.common.exception.handler.ErrorResponseWriter;
+import com.nhnacademy.apigateway.common.exception.handler.GlobalErrorWebExceptionHandler;
+import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 오류 응답 직렬화 비용을 측정합니다.
+ * ErrorResponseWriter 의 템플릿 방식과, 이전에 인증 필터가 쓰던 HashMap + ObjectMapper 방식을 같은 조건으로 비교합니다.
+ * exceptionHandler 는 백엔드 경로에서 던진 ApplicationException 이 전역 예외 핸들러를 거쳐 응답이 되는 비용입니다.
+ * 교환 생성 비용은 exchangeOnly 로 따로 재므로 각 결과에서 빼고 봅니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorResponseBenchmark {
+
+    private static final int STATUS = 401;
+    private static final String MESSAGE = "인증 토큰이 존재하지 않습니다.";
+
+    private ErrorResponseWriter errorResponseWriter;
+    private GlobalErrorWebExceptionHandler exceptionHandler;
+    private ObjectMapper objectMapper;
+    private UnauthorizedAccessException exception;
+
+    @Setup
+    public void setUp() {
+        errorResponseWriter = new ErrorResponseWriter();
+        exceptionHandler = new GlobalErrorWebExceptionHandler(errorResponseWriter);
+        objectMapper = new ObjectMapper();
+        exception = new UnauthorizedAccessException(ErrorStatus.toErrorStatus(MESSAGE, STATUS, LocalDateTime.now()));
+    }
+
+    @Benchmark
+    public ServerWebExchange exchangeOnly() {
+        return newExchange();
+    }
+
+    @Benchmark
+    public ServerWebExchange templateWriter() {
+        ServerWebExchange exchange = newExchange();
+        errorResponseWriter.write(exchange, STATUS, MESSAGE).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public ServerWebExchange exceptionHandler() {
+        ServerWebExchange exchange = newExchange();
+        exceptionHandler.handle(exchange, exception).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public ServerWebExchange objectMapperWriter() throws JsonProcessingException {
+        ServerWebExchange exchange = newExchange();
+        Map<String, Object> responseBody = new HashMap<>();
+        responseBody.put("status", STATUS);
+        responseBody.put("message", MESSAGE);
+        responseBody.put("timestamp", LocalDateTime.now().toString());
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.valueOf(STATUS));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] responseBytes = objectMapper.writeValueAsBytes(responseBody);
+        response.writeWith(Mono.just(response.bufferFactory().wrap(responseBytes))).block();
+        return exchange;
+    }
+
+    private static ServerWebExchange newExchange() {
+        return TestFixtures.exchange(MockServerHttpRequest.get("/users/me").build());
+    }
+}
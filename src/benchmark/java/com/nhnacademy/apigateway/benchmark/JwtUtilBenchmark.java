@@ -0,0 +1,111 @@
+package com.nhnacademy.apigateway.benchmark;
+
+import com.nhnacademy.apigateway.TestFixtures;
+import com.nhnacademy.apigateway.common.exception.JwtException;
+import com.nhnacademy.apigateway.presentation.dto.response.JwtAuthResponse;
+import com.nhnacademy.apigateway.util.JwtUtil;
+import com.nhnacademy.apigateway.util.SigningKeyRegistry;
+import com.nhnacademy.apigateway.util.VerifiedClaimsCache;
+import io.jsonwebtoken.Claims;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JwtUtil 의 토큰 검증 비용을 측정합니다.
+ * 검증 결과 캐시에 적중한 경우(warm)와 캐시에 없어 서명을 검증하고 캐시에 넣는 경우(cold), 만료 토큰과 서명이 틀린 토큰의 실패 경로를 비교합니다.
+ * 요청당 할당량은 -prof gc 로 함께 확인합니다 (gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private static final int COLD_TOKENS = 1024;
+
+    private JwtUtil jwtUtil;
+    private JwtUtil coldJwtUtil;
+    private String[] coldTokens;
+    private int nextColdToken;
+    private SigningKeyRegistry signingKeyRegistry;
+    private String validToken;
+    private String expiredToken;
+    private String badSignatureToken;
+
+    @Setup
+    public void setUp() {
+        VerifiedClaimsCache verifiedClaimsCache = TestFixtures.verifiedClaimsCache();
+        signingKeyRegistry = TestFixtures.signingKeyRegistry(verifiedClaimsCache);
+        jwtUtil = new JwtUtil(signingKeyRegistry, verifiedClaimsCache);
+        validToken = TestFixtures.token(1L, "USER", Duration.ofHours(1));
+        expiredToken = TestFixtures.token(1L, "USER", Duration.ofHours(-1));
+        // 서명 부분만 다른 토큰이므로 헤더와 페이로드 해석까지 같고 서명 검증에서 실패합니다.
+        String otherToken = TestFixtures.token(2L, "USER", Duration.ofHours(1));
+        badSignatureToken = validToken.substring(0, validToken.lastIndexOf('.'))
+                + otherToken.substring(otherToken.lastIndexOf('.'));
+
+        // 캐시 크기를 1 로 두고 서로 다른 토큰을 돌아가며 넣어, 매번 캐시에 없는 토큰을 검증하게 합니다.
+        VerifiedClaimsCache coldCache = new VerifiedClaimsCache(1, Duration.ofMinutes(10));
+        coldJwtUtil = new JwtUtil(TestFixtures.signingKeyRegistry(coldCache), coldCache);
+        coldTokens = new String[COLD_TOKENS];
+        for (int i = 0; i < COLD_TOKENS; i++) {
+            coldTokens[i] = TestFixtures.token(i, "USER", Duration.ofHours(1));
+        }
+    }
+
+    @Benchmark
+    public boolean isTokenValidCached() {
+        return jwtUtil.isTokenValid(validToken);
+    }
+
+    @Benchmark
+    public boolean isTokenValidCold() {
+        String token = coldTokens[nextColdToken];
+        nextColdToken = (nextColdToken + 1) & (COLD_TOKENS - 1);
+        return coldJwtUtil.isTokenValid(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValidExpired() {
+        return jwtUtil.isTokenValid(expiredToken);
+    }
+
+    /**
+     * 서명이 틀린 토큰은 JwtException 으로 거절되므로 예외 생성 비용까지 포함합니다.
+     */
+    @Benchmark
+    public boolean isTokenValidBadSignature() {
+        try {
+            return jwtUtil.isTokenValid(badSignatureToken);
+        } catch (JwtException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public JwtAuthResponse getLoginUserFromToken() {
+        return jwtUtil.getLoginUserFromToken(validToken);
+    }
+
+    @Benchmark
+    public Claims verifySignature() {
+        return signingKeyRegistry.parserFor(validToken).parseClaimsJws(validToken).getBody();
+    }
+
+    @Benchmark
+    public JwtUtil.UnverifiedClaims readUnverifiedClaims() {
+        return jwtUtil.readUnverifiedClaims(validToken);
+    }
+}
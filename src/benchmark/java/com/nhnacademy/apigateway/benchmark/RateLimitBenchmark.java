@@ -0,0 +1,129 @@
+package com.nhnacademy.apigateway.benchmark;
+
+import com.nhnacademy.apigateway.TestFixtures;
+import com.nhnacademy.apigateway.filter.GatewayExchangeAttributes;
+import com.nhnacademy.apigateway.filter.ratelimit.LocalRateLimiter;
+import com.nhnacademy.apigateway.filter.ratelimit.LoginUserKeyResolver;
+import com.nhnacademy.apigateway.filter.ratelimit.RateLimitGlobalFilter;
+import com.nhnacademy.apigateway.filter.ratelimit.RateLimitProperties;
+import com.nhnacademy.apigateway.presentation.dto.response.JwtAuthResponse;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 요청 하나당 요청 수 제한이 더하는 비용을 측정합니다.
+ * 교환 객체는 미리 만들어 두고, 필터를 거치지 않는 경우(none)와 RateLimitGlobalFilter 를 거치는 경우를 비교합니다.
+ * users 는 버킷 수(동시에 요청하는 사용자 수)입니다. 사용자 1명이면 모든 스레드가 한 버킷의 CAS 를 두고 경쟁하고,
+ * anonymous 는 X-Forwarded-For 에서 클라이언트 IP 를 고르는 비용까지 포함합니다.
+ * 제한은 측정 중 거절이 나지 않도록 충분히 크게 잡아 허용 경로의 비용만 봅니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimitBenchmark {
+
+    private static final String ROUTE_ID = "ORDER-PAYMENT-SERVER";
+    private static final GatewayFilterChain NOOP_CHAIN = exchange -> Mono.empty();
+
+    @Param({"1", "10000"})
+    public int users;
+
+    @Param({"user", "anonymous"})
+    public String caller;
+
+    private static final int EXCHANGES_PER_THREAD = 4096;
+
+    private Route route;
+    private RateLimitGlobalFilter filter;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties(
+                Map.of(ROUTE_ID, new RateLimitProperties.Limit(1_000_000_000, 1_000_000_000)), null, null, 1);
+        filter = new RateLimitGlobalFilter(properties, new LocalRateLimiter(properties),
+                new LoginUserKeyResolver(properties));
+        route = Route.async()
+                .id(ROUTE_ID)
+                .uri(URI.create("http://localhost"))
+                .predicate(exchange -> true)
+                .build();
+    }
+
+    @Benchmark
+    public ServerWebExchange none(Requests requests) {
+        return requests.next();
+    }
+
+    @Benchmark
+    public ServerWebExchange rateLimit(Requests requests) {
+        ServerWebExchange exchange = requests.next();
+        filter.filter(exchange, NOOP_CHAIN).block();
+        return exchange;
+    }
+
+    private ServerWebExchange exchange(int user) {
+        boolean anonymous = "anonymous".equals(caller);
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.post("/orders")
+                .remoteAddress(new InetSocketAddress("10.0.0.1", 40000));
+        if (anonymous) {
+            request.header("X-Forwarded-For", "10.1." + (user >> 8 & 0xff) + '.' + (user & 0xff));
+        }
+
+        ServerWebExchange exchange = TestFixtures.exchange(request.build());
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        if (!anonymous) {
+            exchange.getAttributes().put(GatewayExchangeAttributes.LOGIN_USER,
+                    new JwtAuthResponse((long) user, "USER", "ACTIVE"));
+        }
+        return exchange;
+    }
+
+    /**
+     * 스레드마다 사용자 분포대로 미리 만든 교환 객체를 순서대로 돌려줍니다.
+     */
+    @State(Scope.Thread)
+    public static class Requests {
+
+        private ServerWebExchange[] exchanges;
+        private int next;
+
+        @Setup
+        public void setUp(RateLimitBenchmark benchmark) {
+            exchanges = new ServerWebExchange[EXCHANGES_PER_THREAD];
+            for (int i = 0; i < exchanges.length; i++) {
+                exchanges[i] = benchmark.exchange(ThreadLocalRandom.current().nextInt(benchmark.users));
+            }
+        }
+
+        ServerWebExchange next() {
+            ServerWebExchange exchange = exchanges[next];
+            next = (next + 1) & (EXCHANGES_PER_THREAD - 1);
+            return exchange;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.nhnacademy.apigateway.benchmark;
+
+import com.nhnacademy.apigateway.TestFixtures;
+import com.nhnacademy.apigateway.application.service.UserInfoCacheProperties;
+import com.nhnacademy.apigateway.application.service.UserInfoService;
+import com.nhnacademy.apigateway.filter.GatewayExchangeAttributes;
+import com.nhnacademy.apigateway.filter.RoleAuthorizationFilter;
+import com.nhnacademy.apigateway.filter.metrics.AuthFilterMetrics;
+import com.nhnacademy.apigateway.filter.rule.AuthRuleMatcher;
+import com.nhnacademy.apigateway.infrastructure.adaptor.AuthAdaptor;
+import com.nhnacademy.apigateway.infrastructure.scheduler.BlockingCallProperties;
+import com.nhnacademy.apigateway.infrastructure.scheduler.BlockingCallScheduler;
+import com.nhnacademy.apigateway.presentation.dto.response.AuthResponse;
+import com.nhnacademy.apigateway.presentation.dto.response.JwtAuthResponse;
+import com.nhnacademy.apigateway.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * 역할 검사의 요청당 비용을 측정합니다.
+ * RoleAuthorizationFilter 는 인증 필터가 exchange 속성에 남긴 규칙과 사용자를 읽기만 하고,
+ * 이전 관리자 aspect 는 인증 필터를 감싼 프록시에서 경로를 검사한 뒤 토큰을 다시 파싱했습니다.
+ * aspect 는 같은 검사를 하는 MethodInterceptor 를 CGLIB 프록시(스프링 부트 기본값)로 감싸 재현합니다.
+ * verifyUserInfo 가 true 면 RoleAuthorizationFilter 가 관리자 경로에서 캐시된 사용자 정보와 토큰을 비교하는 비용도 포함하며, 캐시는 미리 채워 둡니다.
+ * 두 경우 모두 관리자 토큰으로 보내 거절 없이 통과하는 경로를 측정하며, 교환 객체 생성 비용은 {@link #exchangeOnly()} 로 따로 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoleAuthorizationBenchmark {
+
+    private static final WebFilterChain NOOP_CHAIN = exchange -> Mono.empty();
+
+    @Param({"/users/me", "/users/admin/members"})
+    public String path;
+
+    @Param({"false", "true"})
+    public boolean verifyUserInfo;
+
+    private AuthRuleMatcher authRuleMatcher;
+    private RoleAuthorizationFilter roleFilter;
+    private WebFilter aspectProxy;
+    private String adminToken;
+    private JwtAuthResponse adminUser;
+    private String adminSubject;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = TestFixtures.jwtUtil();
+        authRuleMatcher = new AuthRuleMatcher(TestFixtures.authRuleProperties());
+        adminToken = TestFixtures.token(2L, "ADMIN", Duration.ofHours(1));
+        adminUser = jwtUtil.getLoginUserFromToken(adminToken);
+        adminSubject = jwtUtil.getSubFromToken(adminToken);
+        UserInfoService userInfoService = new UserInfoService(new FixedUserAuthAdaptor(adminUser),
+                new BlockingCallScheduler(
+                        new BlockingCallProperties(BlockingCallProperties.ExecutionMode.IMMEDIATE, null, null)),
+                new UserInfoCacheProperties(null, null, null, null), new SimpleMeterRegistry());
+        userInfoService.getUserInfo(adminSubject).block();
+        roleFilter = new RoleAuthorizationFilter(new AuthFilterMetrics(new SimpleMeterRegistry()), userInfoService,
+                verifyUserInfo);
+
+        ProxyFactory proxyFactory = new ProxyFactory(new PassThroughFilter());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            ServerWebExchange exchange = (ServerWebExchange) invocation.getArguments()[0];
+            String requestPath = exchange.getRequest().getPath().value();
+            if (requestPath.contains("/admin")) {
+                String accessJwtHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+                JwtAuthResponse user = jwtUtil.getLoginUserFromToken(accessJwtHeader.substring(7));
+                if (!user.role().equals("ADMIN")) {
+                    throw new IllegalStateException("접근 권한이 없습니다.");
+                }
+            }
+            return invocation.proceed();
+        });
+        aspectProxy = (WebFilter) proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public ServerWebExchange exchangeOnly() {
+        return authenticatedExchange();
+    }
+
+    @Benchmark
+    public ServerWebExchange roleFilter() {
+        ServerWebExchange exchange = authenticatedExchange();
+        roleFilter.filter(exchange, NOOP_CHAIN).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public ServerWebExchange legacyAspect() {
+        ServerWebExchange exchange = authenticatedExchange();
+        aspectProxy.filter(exchange, NOOP_CHAIN).block();
+        return exchange;
+    }
+
+    /**
+     * 인증 필터를 통과한 직후의 교환 객체를 만듭니다. 규칙과 사용자 정보는 인증 필터가 남기는 그대로 넣어 둡니다.
+     */
+    private ServerWebExchange authenticatedExchange() {
+        ServerWebExchange exchange = TestFixtures.exchange(MockServerHttpRequest.get(path)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                .build());
+        exchange.getAttributes().put(GatewayExchangeAttributes.AUTH_RULE, authRuleMatcher.match(exchange.getRequest()));
+        exchange.getAttributes().put(GatewayExchangeAttributes.LOGIN_USER, adminUser);
+        exchange.getAttributes().put(GatewayExchangeAttributes.LOGIN_SUBJECT, adminSubject);
+        return exchange;
+    }
+
+    /**
+     * 어떤 UUID 로 조회해도 같은 사용자 정보를 돌려주는 인증 서버 어댑터입니다.
+     */
+    private record FixedUserAuthAdaptor(JwtAuthResponse userInfo) implements AuthAdaptor {
+
+        @Override
+        public ResponseEntity<AuthResponse> refreshAccessToken(String accessJwt, String refreshJwt) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public JwtAuthResponse getUserInfoByUUID(String uuid) {
+            return userInfo;
+        }
+    }
+
+    /**
+     * aspect 가 감싸던 인증 필터 자리를 대신하는, 아무 일도 하지 않는 필터입니다.
+     */
+    public static class PassThroughFilter implements WebFilter {
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+            return chain.filter(exchange);
+        }
+    }
+}
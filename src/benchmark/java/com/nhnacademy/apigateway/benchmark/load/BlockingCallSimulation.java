@@ -0,0 +1,96 @@
+package com.nhnacademy.apigateway.benchmark.load;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 블로킹 어댑터 호출 실행 방식(gateway.blocking-call.mode)별로 이벤트 루프가 막히는지 비교하는 로컬 시뮬레이션입니다.
+ * auth-latency 만큼 늦게 사용자 정보를 돌려주는 인증 서버 스텁을 띄우고, IMMEDIATE, BOUNDED_ELASTIC, VIRTUAL_THREAD 게이트웨이에서 차례로
+ * 공개 조회와 사용자 정보 조회를 일으키는 관리자 요청을 함께 보내 결과 표를 출력합니다.
+ * 사용자 정보 캐시는 매 요청 인증 서버를 호출하도록 보관 시간을 줄여 둡니다.
+ * IMMEDIATE 는 Feign 호출이 Netty 이벤트 루프를 막으므로 공개 조회의 p99 도 auth-latency 근처로 늘어나고,
+ * 나머지 두 방식에서는 공개 조회의 지연이 그대로여야 합니다.
+ *
+ * <p>옵션 (key=value, --key=value 도 허용)
+ * <ul>
+ *     <li>duration: 측정 시간 (기본 20s)</li>
+ *     <li>warmup: 측정 전 워밍업 시간 (기본 5s)</li>
+ *     <li>concurrency: 공개 조회의 동시 요청 수 (기본 8)</li>
+ *     <li>admin-clients: 사용자 정보 조회를 일으키는 관리자 수, 관리자마다 다른 사용자의 토큰을 씀 (기본 32)</li>
+ *     <li>backend-latency: 스텁 백엔드 응답 지연 (기본 5ms)</li>
+ *     <li>auth-latency: 인증 서버의 사용자 정보 응답 지연 (기본 50ms)</li>
+ *     <li>modes: 비교할 실행 방식, 쉼표로 구분 (기본 IMMEDIATE,BOUNDED_ELASTIC,VIRTUAL_THREAD)</li>
+ *     <li>그 밖에 점(.)이 들어간 옵션은 모든 게이트웨이에 설정으로 넘깁니다.</li>
+ * </ul>
+ */
+public final class BlockingCallSimulation {
+
+    private BlockingCallSimulation() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = GatewayLoadHarness.parseOptions(args);
+        Duration duration = DurationStyle.detectAndParse(options.getOrDefault("duration", "20s"));
+        Duration warmup = DurationStyle.detectAndParse(options.getOrDefault("warmup", "5s"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "8"));
+        int adminClients = Integer.parseInt(options.getOrDefault("admin-clients", "32"));
+        Duration backendLatency = DurationStyle.detectAndParse(options.getOrDefault("backend-latency", "5ms"));
+        Duration authLatency = DurationStyle.detectAndParse(options.getOrDefault("auth-latency", "50ms"));
+        List<String> modes = List.of(
+                options.getOrDefault("modes", "IMMEDIATE,BOUNDED_ELASTIC,VIRTUAL_THREAD").split(","));
+
+        List<LoadScenario> scenarios = LoadScenario.blockingCall(adminClients);
+        LoadScenario publicBrowse = scenarios.get(0);
+
+        System.out.printf("concurrency=%d admin-clients=%d backend-latency=%s auth-latency=%s warmup=%s duration=%s%n",
+                concurrency, adminClients, backendLatency, authLatency, warmup, duration);
+        try (StubBackend authority = StubBackend.start("AUTHORITY-SERVER", authLatency);
+             StubBackend backend = StubBackend.start("BOOK-USER-SERVER", backendLatency)) {
+            for (String mode : modes) {
+                Map<String, String> gatewayOptions = new HashMap<>(options);
+                gatewayOptions.put("gateway.blocking-call.mode", mode);
+                // 요청마다 인증 서버를 호출하도록 사용자 정보를 거의 보관하지 않습니다.
+                gatewayOptions.putIfAbsent("gateway.user-info-cache.ttl", "1ms");
+                gatewayOptions.putIfAbsent("gateway.user-info-cache.refresh-after", "1ms");
+                // 캐시 응답과 헤지가 지연을 가리지 않도록 끕니다.
+                gatewayOptions.put("gateway.response-cache.enabled", "false");
+                gatewayOptions.put("gateway.hedging.enabled", "false");
+
+                ConfigurableApplicationContext gateway =
+                        GatewayLoadHarness.startGateway(List.of(authority, backend), gatewayOptions);
+                ConnectionProvider connectionProvider = ConnectionProvider.builder("gateway-blocking-call")
+                        .maxConnections(concurrency + adminClients)
+                        .pendingAcquireMaxCount(-1)
+                        .build();
+                try {
+                    String target = "http://127.0.0.1:" + ((WebServerApplicationContext) gateway).getWebServer().getPort();
+                    HttpClient client = HttpClient.create(connectionProvider).baseUrl(target);
+
+                    GatewayLoadHarness.run(client, scenarios,
+                            scenario -> scenario == publicBrowse ? concurrency : 1, warmup);
+                    List<ScenarioStats> results = GatewayLoadHarness.run(client, scenarios,
+                            scenario -> scenario == publicBrowse ? concurrency : 1, duration);
+
+                    double elapsedSeconds = duration.toNanos() / 1e9;
+                    System.out.printf("%ngateway.blocking-call.mode=%s%n", mode);
+                    System.out.println(ScenarioStats.header() + "   (latency ms)");
+                    // 관리자들은 같은 조건이므로 첫 번째 관리자만 표시합니다.
+                    results.subList(0, Math.min(results.size(), 2))
+                            .forEach(stats -> System.out.println(stats.summarize(elapsedSeconds)));
+                } finally {
+                    connectionProvider.dispose();
+                    gateway.close();
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Blocking call simulation failed", e);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.nhnacademy.apigateway.benchmark.load;
+
+import com.nhnacademy.apigateway.ApiGatewayApplication;
+import com.nhnacademy.apigateway.TestFixtures;
+import com.nhnacademy.apigateway.filter.ratelimit.RateLimitProperties;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 게이트웨이 전체 필터 체인에 대한 로컬 부하 테스트 하니스입니다.
+ * 라우트별 스텁 백엔드와 스텁 인증 서버를 띄우고, 같은 JVM 에서 ci 프로파일로 게이트웨이를 기동한 뒤
+ * {@link LoadScenario#defaults()} 의 시나리오를 동시에 보내 시나리오별 처리량과 지연 백분위를 출력합니다.
+ *
+ * <p>옵션 (key=value, --key=value 도 허용)
+ * <ul>
+ *     <li>duration: 측정 시간 (기본 30s)</li>
+ *     <li>warmup: 측정 전 워밍업 시간 (기본 10s)</li>
+ *     <li>concurrency: 시나리오별 동시 요청 수 (기본 16)</li>
+ *     <li>backend-latency: 스텁 백엔드 응답 지연 (기본 5ms)</li>
+ *     <li>target: 이미 떠 있는 게이트웨이 주소. 지정하면 스텁과 게이트웨이를 기동하지 않습니다.
+ *     이때 게이트웨이는 {@link TestFixtures#JWT_SECRET} 으로 토큰을 검증해야 합니다.</li>
+ *     <li>그 밖에 점(.)이 들어간 옵션은 게이트웨이 설정으로 그대로 넘깁니다 (예: gateway.blocking-call.mode=BOUNDED_ELASTIC).</li>
+ * </ul>
+ * 모든 요청이 같은 사용자 토큰을 쓰므로 사용자별 요청 제한은 기본으로 풀어 둡니다. 제한까지 측정하려면 해당 설정을 옵션으로 넘깁니다.
+ * 부하 생성기와 게이트웨이가 CPU 를 나눠 쓰므로, 절대값보다 같은 머신에서의 변경 전후 비교에 사용합니다.
+ */
+public final class GatewayLoadHarness {
+
+    private static final List<String> ROUTE_IDS =
+            List.of("AUTHORITY-SERVER", "BOOK-USER-SERVER", "ORDER-PAYMENT-SERVER", "COUPON-SERVER");
+
+    private static final int UNLIMITED_RATE = 1_000_000_000;
+
+    private GatewayLoadHarness() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = parseOptions(args);
+        Duration duration = DurationStyle.detectAndParse(options.getOrDefault("duration", "30s"));
+        Duration warmup = DurationStyle.detectAndParse(options.getOrDefault("warmup", "10s"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "16"));
+        Duration backendLatency = DurationStyle.detectAndParse(options.getOrDefault("backend-latency", "5ms"));
+
+        List<StubBackend> backends = new ArrayList<>();
+        ConfigurableApplicationContext gateway = null;
+        try {
+            String target = options.get("target");
+            if (target == null) {
+                for (String routeId : ROUTE_IDS) {
+                    backends.add(StubBackend.start(routeId, backendLatency));
+                }
+                gateway = startGateway(backends, options);
+                target = "http://127.0.0.1:" + ((WebServerApplicationContext) gateway).getWebServer().getPort();
+            }
+
+            List<LoadScenario> scenarios = LoadScenario.defaults();
+            ConnectionProvider connectionProvider = ConnectionProvider.builder("gateway-load")
+                    .maxConnections(concurrency * scenarios.size())
+                    .pendingAcquireMaxCount(-1)
+                    .build();
+            HttpClient client = HttpClient.create(connectionProvider).baseUrl(target);
+
+            System.out.printf("target=%s scenarios=%d concurrency=%d warmup=%s duration=%s backend-latency=%s%n",
+                    target, scenarios.size(), concurrency, warmup, duration, backendLatency);
+            run(client, scenarios, scenario -> concurrency, warmup);
+            List<ScenarioStats> results = run(client, scenarios, scenario -> concurrency, duration);
+
+            double elapsedSeconds = duration.toNanos() / 1e9;
+            System.out.println(ScenarioStats.header() + "   (latency ms)");
+            results.forEach(stats -> System.out.println(stats.summarize(elapsedSeconds)));
+            connectionProvider.dispose();
+        } catch (Exception e) {
+            throw new IllegalStateException("Load test failed", e);
+        } finally {
+            if (gateway != null) {
+                gateway.close();
+            }
+            backends.forEach(StubBackend::close);
+        }
+    }
+
+    /**
+     * 스텁 백엔드로 라우팅하는 게이트웨이를 기동합니다. 점(.)이 들어간 옵션은 게이트웨이 설정으로 넘깁니다.
+     */
+    static ConfigurableApplicationContext startGateway(List<StubBackend> backends, Map<String, String> options) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.config.location", TestFixtures.mainConfigLocation());
+        properties.put("spring.profiles.active", "ci");
+        properties.put("server.port", 0);
+        properties.put("jwt.secret", TestFixtures.JWT_SECRET);
+        properties.put("gateway.identity.secret", TestFixtures.IDENTITY_SECRET);
+        // 요청마다 남는 로그가 측정에 섞이지 않도록 합니다.
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.springframework.cloud.gateway", "WARN");
+        // 같은 이름의 스텁은 한 서비스의 여러 인스턴스로 등록합니다.
+        Map<String, Integer> instanceCounts = new HashMap<>();
+        for (StubBackend backend : backends) {
+            int index = instanceCounts.merge(backend.name(), 1, Integer::sum) - 1;
+            properties.put("spring.cloud.discovery.client.simple.instances." + backend.name() + "[" + index + "].uri",
+                    backend.uri());
+            if (backend.name().equals("AUTHORITY-SERVER")) {
+                properties.put("api.authority-server", backend.uri());
+            }
+        }
+        // 제한이 걸린 라우트는 필터를 그대로 거치되 거절되지 않을 만큼 한도를 올립니다.
+        TestFixtures.bindMainConfig("gateway.rate-limit", RateLimitProperties.class)
+                .ifBound(rateLimit -> rateLimit.routes().keySet().forEach(routeId -> {
+                    properties.put("gateway.rate-limit.routes." + routeId + ".replenish-rate", UNLIMITED_RATE);
+                    properties.put("gateway.rate-limit.routes." + routeId + ".burst-capacity", UNLIMITED_RATE);
+                }));
+        options.forEach((key, value) -> {
+            if (key.contains(".")) {
+                properties.put(key, value);
+            }
+        });
+
+        // 기본 속성은 application.yml 보다 우선순위가 낮으므로 명령행 인자로 넘깁니다.
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(ApiGatewayApplication.class).run(args);
+    }
+
+    /**
+     * 시나리오마다 concurrency 가 정한 수만큼 요청을 동시에 보내며 duration 동안 반복합니다.
+     */
+    static List<ScenarioStats> run(HttpClient client, List<LoadScenario> scenarios,
+                                   ToIntFunction<LoadScenario> concurrency, Duration duration) {
+        return run(client, scenarios, concurrency, duration, Duration.ZERO);
+    }
+
+    /**
+     * {@link #run(HttpClient, List, ToIntFunction, Duration)} 와 같되, 503 을 받은 요청자는 rejectBackoff 만큼 쉬었다가 다시 보냅니다.
+     * 거절된 요청자가 쉬지 않고 재시도하면 부하 생성기가 CPU 를 차지해 게이트웨이 지연이 함께 늘어나므로,
+     * Retry-After 를 따르는 클라이언트를 흉내 낼 때 사용합니다.
+     */
+    static List<ScenarioStats> run(HttpClient client, List<LoadScenario> scenarios,
+                                   ToIntFunction<LoadScenario> concurrency, Duration duration, Duration rejectBackoff) {
+        List<ScenarioStats> results = scenarios.stream().map(ScenarioStats::new).toList();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        Flux.fromIterable(results)
+                .flatMap(stats -> {
+                    int workers = concurrency.applyAsInt(stats.scenario());
+                    Mono<Void> request = send(client, stats)
+                            .filter(status -> status == HttpResponseStatus.SERVICE_UNAVAILABLE.code()
+                                    && !rejectBackoff.isZero())
+                            .flatMap(status -> Mono.delay(rejectBackoff))
+                            .then();
+                    return Flux.range(0, workers)
+                            .flatMap(worker -> request.repeat(() -> System.nanoTime() < deadline), workers);
+                })
+                .blockLast();
+        return results;
+    }
+
+    private static Mono<Integer> send(HttpClient client, ScenarioStats stats) {
+        LoadScenario scenario = stats.scenario();
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return client.headers(headers -> scenario.headers().forEach(headers::set))
+                    .request(HttpMethod.valueOf(scenario.method().name()))
+                    .uri(scenario.path())
+                    .send((request, outbound) -> scenario.body() == null
+                            ? outbound
+                            : outbound.sendString(Mono.just(scenario.body())))
+                    .responseSingle((response, content) -> content.asByteArray()
+                            .then(Mono.fromSupplier(() -> response.status().code())))
+                    .doOnNext(status -> stats.record(status, System.nanoTime() - startNanos))
+                    .onErrorResume(e -> {
+                        stats.recordError();
+                        return Mono.empty();
+                    });
+        });
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separator = option.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Options must be key=value: " + arg);
+            }
+            options.put(option.substring(0, separator), option.substring(separator + 1));
+        }
+        return options;
+    }
+}
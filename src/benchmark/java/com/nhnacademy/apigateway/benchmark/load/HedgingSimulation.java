@@ -0,0 +1,110 @@
+package com.nhnacademy.apigateway.benchmark.load;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 지연이 들쭉날쭉한 인스턴스가 섞였을 때 요청 헤지(gateway.hedging)가 조회 지연 꼬리를 줄이는지 확인하는 로컬 시뮬레이션입니다.
+ * BOOK-USER-SERVER 인스턴스 두 개를 띄우되 하나는 느린 응답이 드물게, 다른 하나는 자주 섞이도록 하고,
+ * 헤지를 끈 게이트웨이와 켠 게이트웨이에서 차례로 도서 조회를 보내 두 결과 표와 헤지 지표를 출력합니다.
+ * 헤지를 켜면 p99 가 느린 응답 시간이 아니라 헤지 대기 시간 + 빠른 응답 시간 근처로 내려가야 하고, 헤지 비율은 예산(budget-ratio)을 넘지 않아야 합니다.
+ *
+ * <p>옵션 (key=value, --key=value 도 허용)
+ * <ul>
+ *     <li>duration: 측정 시간 (기본 20s)</li>
+ *     <li>warmup: 측정 전 워밍업 시간, 헤지 대기 시간을 학습하는 시간이기도 함 (기본 5s)</li>
+ *     <li>concurrency: 동시 요청 수 (기본 8)</li>
+ *     <li>base-latency: 인스턴스의 평소 응답 시간 (기본 5ms)</li>
+ *     <li>slow-latency: 느린 응답의 응답 시간 (기본 200ms)</li>
+ *     <li>slow-ratio: 첫 번째 인스턴스의 느린 응답 비율 (기본 0.01)</li>
+ *     <li>skewed-slow-ratio: 두 번째 인스턴스의 느린 응답 비율 (기본 0.1)</li>
+ *     <li>그 밖에 점(.)이 들어간 옵션은 두 게이트웨이 모두에 설정으로 넘깁니다. 헤지 대기 시간 계산 주기(gateway.hedging.window)는 기본 2s 로 줄여 둡니다.</li>
+ * </ul>
+ */
+public final class HedgingSimulation {
+
+    private static final String ROUTE_ID = "BOOK-USER-SERVER";
+
+    private HedgingSimulation() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = GatewayLoadHarness.parseOptions(args);
+        Duration duration = DurationStyle.detectAndParse(options.getOrDefault("duration", "20s"));
+        Duration warmup = DurationStyle.detectAndParse(options.getOrDefault("warmup", "5s"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "8"));
+        Duration baseLatency = DurationStyle.detectAndParse(options.getOrDefault("base-latency", "5ms"));
+        Duration slowLatency = DurationStyle.detectAndParse(options.getOrDefault("slow-latency", "200ms"));
+        double slowRatio = Double.parseDouble(options.getOrDefault("slow-ratio", "0.01"));
+        double skewedSlowRatio = Double.parseDouble(options.getOrDefault("skewed-slow-ratio", "0.1"));
+
+        List<LoadScenario> scenarios = LoadScenario.hedging();
+        System.out.printf("concurrency=%d base-latency=%s slow-latency=%s slow-ratio=%s/%s warmup=%s duration=%s%n",
+                concurrency, baseLatency, slowLatency, slowRatio, skewedSlowRatio, warmup, duration);
+        try (StubBackend authority = StubBackend.start("AUTHORITY-SERVER", Duration.ZERO);
+             StubBackend steady = StubBackend.start(ROUTE_ID, latency(baseLatency, slowLatency, slowRatio));
+             StubBackend skewed = StubBackend.start(ROUTE_ID, latency(baseLatency, slowLatency, skewedSlowRatio))) {
+            for (boolean hedging : new boolean[]{false, true}) {
+                Map<String, String> gatewayOptions = new HashMap<>(options);
+                gatewayOptions.putIfAbsent("gateway.hedging.window", "2s");
+                gatewayOptions.put("gateway.hedging.enabled", String.valueOf(hedging));
+                // 같은 요청을 반복해서 보내므로 캐시 응답이 백엔드 지연을 가리지 않도록 끕니다.
+                gatewayOptions.put("gateway.response-cache.enabled", "false");
+
+                ConfigurableApplicationContext gateway =
+                        GatewayLoadHarness.startGateway(List.of(authority, steady, skewed), gatewayOptions);
+                ConnectionProvider connectionProvider = ConnectionProvider.builder("gateway-hedging")
+                        .maxConnections(concurrency)
+                        .pendingAcquireMaxCount(-1)
+                        .build();
+                try {
+                    String target = "http://127.0.0.1:" + ((WebServerApplicationContext) gateway).getWebServer().getPort();
+                    HttpClient client = HttpClient.create(connectionProvider).baseUrl(target);
+
+                    GatewayLoadHarness.run(client, scenarios, scenario -> concurrency, warmup);
+                    MeterRegistry meterRegistry = gateway.getBean(MeterRegistry.class);
+                    double eligibleBefore = count(meterRegistry, "gateway.hedging.eligible");
+                    double sentBefore = count(meterRegistry, "gateway.hedging.sent");
+                    double winsBefore = count(meterRegistry, "gateway.hedging.wins");
+                    List<ScenarioStats> results = GatewayLoadHarness.run(client, scenarios, scenario -> concurrency, duration);
+
+                    double elapsedSeconds = duration.toNanos() / 1e9;
+                    System.out.printf("%ngateway.hedging.enabled=%s%n", hedging);
+                    System.out.println(ScenarioStats.header() + "   (latency ms)");
+                    results.forEach(stats -> System.out.println(stats.summarize(elapsedSeconds)));
+                    if (hedging) {
+                        double eligible = count(meterRegistry, "gateway.hedging.eligible") - eligibleBefore;
+                        double sent = count(meterRegistry, "gateway.hedging.sent") - sentBefore;
+                        double wins = count(meterRegistry, "gateway.hedging.wins") - winsBefore;
+                        System.out.printf("hedged %.0f of %.0f requests (%.2f%%), hedge won %.0f, delay %.1fms%n",
+                                sent, eligible, eligible == 0 ? 0 : sent * 100 / eligible, wins,
+                                meterRegistry.get("gateway.hedging.delay").tag("route", ROUTE_ID).gauge().value());
+                    }
+                } finally {
+                    connectionProvider.dispose();
+                    gateway.close();
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Hedging simulation failed", e);
+        }
+    }
+
+    private static Supplier<Duration> latency(Duration baseLatency, Duration slowLatency, double slowRatio) {
+        return () -> ThreadLocalRandom.current().nextDouble() < slowRatio ? slowLatency : baseLatency;
+    }
+
+    private static double count(MeterRegistry meterRegistry, String name) {
+        return meterRegistry.get(name).tag("route", ROUTE_ID).counter().count();
+    }
+}
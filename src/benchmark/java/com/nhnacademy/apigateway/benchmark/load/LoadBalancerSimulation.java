@@ -0,0 +1,95 @@
+package com.nhnacademy.apigateway.benchmark.load;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 응답 속도가 다른 인스턴스가 섞였을 때 부하 분산 전략(gateway.load-balancer.strategy)별 지연을 비교하는 로컬 시뮬레이션입니다.
+ * BOOK-USER-SERVER 인스턴스 두 개를 하나는 빠르게, 다른 하나는 느리게 응답하도록 띄우고,
+ * ROUND_ROBIN 과 LATENCY_AWARE 게이트웨이에서 차례로 도서 조회를 보내 결과 표와 인스턴스별 요청 비율을 출력합니다.
+ * ROUND_ROBIN 은 요청을 반씩 나누므로 p50 이후가 느린 인스턴스의 응답 시간에 묶이고,
+ * LATENCY_AWARE 는 느린 인스턴스로 가는 비율이 줄어 p90 이 빠른 인스턴스 쪽으로 내려가야 합니다.
+ *
+ * <p>옵션 (key=value, --key=value 도 허용)
+ * <ul>
+ *     <li>duration: 측정 시간 (기본 20s)</li>
+ *     <li>warmup: 측정 전 워밍업 시간, 인스턴스별 지연을 학습하는 시간이기도 함 (기본 5s)</li>
+ *     <li>concurrency: 동시 요청 수 (기본 8)</li>
+ *     <li>fast-latency: 빠른 인스턴스의 응답 시간 (기본 10ms)</li>
+ *     <li>slow-latency: 느린 인스턴스의 응답 시간 (기본 250ms)</li>
+ *     <li>strategies: 비교할 전략, 쉼표로 구분 (기본 ROUND_ROBIN,LATENCY_AWARE)</li>
+ *     <li>그 밖에 점(.)이 들어간 옵션은 모든 게이트웨이에 설정으로 넘깁니다.</li>
+ * </ul>
+ */
+public final class LoadBalancerSimulation {
+
+    private static final String ROUTE_ID = "BOOK-USER-SERVER";
+
+    private LoadBalancerSimulation() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = GatewayLoadHarness.parseOptions(args);
+        Duration duration = DurationStyle.detectAndParse(options.getOrDefault("duration", "20s"));
+        Duration warmup = DurationStyle.detectAndParse(options.getOrDefault("warmup", "5s"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "8"));
+        Duration fastLatency = DurationStyle.detectAndParse(options.getOrDefault("fast-latency", "10ms"));
+        Duration slowLatency = DurationStyle.detectAndParse(options.getOrDefault("slow-latency", "250ms"));
+        List<String> strategies = List.of(options.getOrDefault("strategies", "ROUND_ROBIN,LATENCY_AWARE").split(","));
+
+        List<LoadScenario> scenarios = LoadScenario.loadBalancing();
+        System.out.printf("concurrency=%d fast-latency=%s slow-latency=%s warmup=%s duration=%s%n",
+                concurrency, fastLatency, slowLatency, warmup, duration);
+        for (String strategy : strategies) {
+            // 전략마다 스텁을 새로 띄워 인스턴스별 요청 수를 따로 셉니다.
+            try (StubBackend authority = StubBackend.start("AUTHORITY-SERVER", Duration.ZERO);
+                 StubBackend fast = StubBackend.start(ROUTE_ID, fastLatency);
+                 StubBackend slow = StubBackend.start(ROUTE_ID, slowLatency)) {
+                Map<String, String> gatewayOptions = new HashMap<>(options);
+                gatewayOptions.put("gateway.load-balancer.strategy", strategy);
+                // 캐시 응답과 헤지가 느린 인스턴스를 가리지 않도록 끕니다.
+                gatewayOptions.put("gateway.response-cache.enabled", "false");
+                gatewayOptions.put("gateway.hedging.enabled", "false");
+
+                ConfigurableApplicationContext gateway =
+                        GatewayLoadHarness.startGateway(List.of(authority, fast, slow), gatewayOptions);
+                ConnectionProvider connectionProvider = ConnectionProvider.builder("gateway-load-balancer")
+                        .maxConnections(concurrency)
+                        .pendingAcquireMaxCount(-1)
+                        .build();
+                try {
+                    String target = "http://127.0.0.1:" + ((WebServerApplicationContext) gateway).getWebServer().getPort();
+                    HttpClient client = HttpClient.create(connectionProvider).baseUrl(target);
+
+                    GatewayLoadHarness.run(client, scenarios, scenario -> concurrency, warmup);
+                    long fastBefore = fast.requestCount();
+                    long slowBefore = slow.requestCount();
+                    List<ScenarioStats> results = GatewayLoadHarness.run(client, scenarios, scenario -> concurrency, duration);
+                    long fastRequests = fast.requestCount() - fastBefore;
+                    long slowRequests = slow.requestCount() - slowBefore;
+
+                    double elapsedSeconds = duration.toNanos() / 1e9;
+                    System.out.printf("%ngateway.load-balancer.strategy=%s%n", strategy);
+                    System.out.println(ScenarioStats.header() + "   (latency ms)");
+                    results.forEach(stats -> System.out.println(stats.summarize(elapsedSeconds)));
+                    long total = fastRequests + slowRequests;
+                    System.out.printf("fast instance %d (%.1f%%), slow instance %d (%.1f%%)%n",
+                            fastRequests, total == 0 ? 0 : fastRequests * 100.0 / total,
+                            slowRequests, total == 0 ? 0 : slowRequests * 100.0 / total);
+                } finally {
+                    connectionProvider.dispose();
+                    gateway.close();
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException("Load balancer simulation failed", e);
+            }
+        }
+    }
+}
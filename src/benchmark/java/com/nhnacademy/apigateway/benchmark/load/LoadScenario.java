@@ -0,0 +1,130 @@
+package com.nhnacademy.apigateway.benchmark.load;
+
+import com.nhnacademy.apigateway.TestFixtures;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+/**
+ * 부하 테스트에서 반복해서 보내는 요청 하나입니다.
+ *
+ * @param name           결과 표에 표시할 이름 (라우트 ID 와 인증 경로)
+ * @param method         HTTP 메서드
+ * @param path           요청 경로
+ * @param headers        요청 헤더
+ * @param body           요청 본문, 없으면 null
+ * @param expectedStatus 정상으로 볼 응답 상태 코드
+ */
+record LoadScenario(String name, HttpMethod method, String path, Map<String, String> headers, String body,
+                    int expectedStatus) {
+
+    /**
+     * 라우트별 대표 요청과 인증 경로(공개, 유효 토큰, 관리자, 토큰 없음, 만료 토큰 갱신)를 섞은 기본 시나리오입니다.
+     */
+    static List<LoadScenario> defaults() {
+        String userToken = TestFixtures.token(1L, "USER", Duration.ofHours(1));
+        String adminToken = TestFixtures.token(2L, "ADMIN", Duration.ofHours(1));
+        String refreshToken = TestFixtures.token(1L, "USER", Duration.ofDays(7));
+        String expiredToken = TestFixtures.token(1L, "USER", Duration.ofHours(-1));
+
+        return List.of(
+                new LoadScenario("BOOK-USER-SERVER public", HttpMethod.GET, "/books/1024", Map.of(), null, 200),
+                new LoadScenario("BOOK-USER-SERVER user", HttpMethod.GET, "/users/me",
+                        bearer(userToken, refreshToken), null, 200),
+                new LoadScenario("ORDER-PAYMENT-SERVER user", HttpMethod.POST, "/orders",
+                        json(bearer(userToken, refreshToken)), "{\"bookId\":1024,\"quantity\":1}", 200),
+                new LoadScenario("COUPON-SERVER user", HttpMethod.GET, "/coupons",
+                        bearer(userToken, refreshToken), null, 200),
+                new LoadScenario("ORDER-PAYMENT-SERVER admin", HttpMethod.GET, "/orders/admin/list",
+                        bearer(adminToken, refreshToken), null, 200),
+                new LoadScenario("BOOK-USER-SERVER missing token", HttpMethod.GET, "/users/me", Map.of(), null, 401),
+                new LoadScenario("BOOK-USER-SERVER refresh", HttpMethod.GET, "/users/me",
+                        bearer(expiredToken, refreshToken), null, 200));
+    }
+
+    /**
+     * 과부하 시뮬레이션용 시나리오입니다. 같은 백엔드(ORDER-PAYMENT-SERVER)로 가는 익명 조회와 결제/주문 요청입니다.
+     * 순서대로 익명 조회, 주문 생성, 결제 승인입니다.
+     */
+    static List<LoadScenario> overload() {
+        String userToken = TestFixtures.token(1L, "USER", Duration.ofHours(1));
+        String refreshToken = TestFixtures.token(1L, "USER", Duration.ofDays(7));
+
+        return List.of(
+                new LoadScenario("anonymous browse", HttpMethod.GET, "/policies/shipping", Map.of(), null, 200),
+                new LoadScenario("checkout order", HttpMethod.POST, "/orders",
+                        json(bearer(userToken, refreshToken)), "{\"bookId\":1024,\"quantity\":1}", 200),
+                new LoadScenario("checkout payment", HttpMethod.POST, "/payments/confirm",
+                        json(bearer(userToken, refreshToken)), "{\"orderId\":1,\"amount\":15000}", 200));
+    }
+
+    /**
+     * 헤지 시뮬레이션용 시나리오입니다. 헤지 대상인 공개 도서 조회 하나입니다.
+     */
+    static List<LoadScenario> hedging() {
+        return List.of(new LoadScenario("BOOK-USER-SERVER books", HttpMethod.GET, "/books/1024", Map.of(), null, 200));
+    }
+
+    /**
+     * 부하 분산 시뮬레이션용 시나리오입니다. 인증 없이 BOOK-USER-SERVER 인스턴스들로 나뉘는 공개 도서 조회 하나입니다.
+     */
+    static List<LoadScenario> loadBalancing() {
+        return List.of(new LoadScenario("BOOK-USER-SERVER books", HttpMethod.GET, "/books/1024", Map.of(), null, 200));
+    }
+
+    /**
+     * 인증 서버 지연 시뮬레이션용 시나리오입니다. 인증 서버를 거치지 않는 공개 조회와 사용자 요청,
+     * 그리고 만료된 액세스 토큰으로 매번 갱신을 일으키는 요청자 refreshClients 명입니다.
+     * TokenService 는 같은 리프레시 토큰의 갱신을 하나로 합치므로 요청자마다 다른 사용자의 토큰을 씁니다.
+     */
+    static List<LoadScenario> slowAuthority(int refreshClients) {
+        String userToken = TestFixtures.token(1L, "USER", Duration.ofHours(1));
+        String refreshToken = TestFixtures.token(1L, "USER", Duration.ofDays(7));
+
+        List<LoadScenario> scenarios = new ArrayList<>();
+        scenarios.add(new LoadScenario("BOOK-USER-SERVER public", HttpMethod.GET, "/books/1024", Map.of(), null, 200));
+        scenarios.add(new LoadScenario("BOOK-USER-SERVER user", HttpMethod.GET, "/users/me",
+                bearer(userToken, refreshToken), null, 200));
+        for (int client = 0; client < refreshClients; client++) {
+            long userId = 100L + client;
+            scenarios.add(new LoadScenario("BOOK-USER-SERVER refresh #" + client, HttpMethod.GET, "/users/me",
+                    bearer(TestFixtures.token(userId, "USER", Duration.ofHours(-1)),
+                            TestFixtures.token(userId, "USER", Duration.ofDays(7))), null, 200));
+        }
+        return scenarios;
+    }
+
+    /**
+     * 블로킹 호출 시뮬레이션용 시나리오입니다. 인증 서버를 거치지 않는 공개 조회와,
+     * 관리자 경로에서 사용자 정보 조회(블로킹 Feign 호출)를 일으키는 관리자 adminClients 명입니다.
+     * 사용자 정보는 UUID 별로 캐시되므로 관리자마다 다른 사용자의 토큰을 씁니다.
+     */
+    static List<LoadScenario> blockingCall(int adminClients) {
+        List<LoadScenario> scenarios = new ArrayList<>();
+        scenarios.add(new LoadScenario("BOOK-USER-SERVER public", HttpMethod.GET, "/books/1024", Map.of(), null, 200));
+        for (int client = 0; client < adminClients; client++) {
+            long userId = 200L + client;
+            scenarios.add(new LoadScenario("BOOK-USER-SERVER admin #" + client, HttpMethod.GET, "/books/admin/1",
+                    bearer(TestFixtures.token(userId, "ADMIN", Duration.ofHours(1)),
+                            TestFixtures.token(userId, "ADMIN", Duration.ofDays(7))), null, 200));
+        }
+        return scenarios;
+    }
+
+    private static Map<String, String> bearer(String accessJwt, String refreshJwt) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt);
+        headers.put("Refresh-Token", refreshJwt);
+        return headers;
+    }
+
+    private static Map<String, String> json(Map<String, String> headers) {
+        headers.put(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        return headers;
+    }
+}
@@ -0,0 +1,91 @@
+package com.nhnacademy.apigateway.benchmark.load;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 백엔드 과부하 상황에서 입장 제어(gateway.admission)가 결제/주문 지연을 지키는지 확인하는 로컬 시뮬레이션입니다.
+ * 동시 처리 수가 고정된 ORDER-PAYMENT-SERVER 스텁에 익명 조회를 처리 용량보다 많이 보내면서 결제/주문 요청을 함께 보내고,
+ * 입장 제어를 끈 게이트웨이와 켠 게이트웨이에서 차례로 측정해 두 결과 표를 출력합니다.
+ * 입장 제어를 켜면 익명 조회 일부가 503 (status! 열) 으로 거절되는 대신 결제/주문의 p99 가 백엔드 처리 시간 근처에 머물러야 합니다.
+ *
+ * <p>옵션 (key=value, --key=value 도 허용)
+ * <ul>
+ *     <li>duration: 측정 시간 (기본 20s)</li>
+ *     <li>warmup: 측정 전 워밍업 시간 (기본 5s)</li>
+ *     <li>flood-concurrency: 익명 조회 동시 요청 수 (기본 64)</li>
+ *     <li>checkout-concurrency: 주문, 결제 각각의 동시 요청 수 (기본 2)</li>
+ *     <li>backend-workers: 스텁 백엔드가 동시에 처리하는 요청 수 (기본 8)</li>
+ *     <li>backend-latency: 스텁 백엔드 요청당 처리 시간 (기본 10ms)</li>
+ *     <li>reject-backoff: 503 을 받은 요청자가 다시 보내기 전에 쉬는 시간 (기본 50ms)</li>
+ *     <li>그 밖에 점(.)이 들어간 옵션은 두 게이트웨이 모두에 설정으로 넘깁니다.</li>
+ * </ul>
+ */
+public final class OverloadSimulation {
+
+    private OverloadSimulation() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = GatewayLoadHarness.parseOptions(args);
+        Duration duration = DurationStyle.detectAndParse(options.getOrDefault("duration", "20s"));
+        Duration warmup = DurationStyle.detectAndParse(options.getOrDefault("warmup", "5s"));
+        int floodConcurrency = Integer.parseInt(options.getOrDefault("flood-concurrency", "64"));
+        int checkoutConcurrency = Integer.parseInt(options.getOrDefault("checkout-concurrency", "2"));
+        int backendWorkers = Integer.parseInt(options.getOrDefault("backend-workers", "8"));
+        Duration backendLatency = DurationStyle.detectAndParse(options.getOrDefault("backend-latency", "10ms"));
+        Duration rejectBackoff = DurationStyle.detectAndParse(options.getOrDefault("reject-backoff", "50ms"));
+
+        List<LoadScenario> scenarios = LoadScenario.overload();
+        LoadScenario flood = scenarios.get(0);
+
+        System.out.printf("flood-concurrency=%d checkout-concurrency=%d backend-workers=%d backend-latency=%s "
+                        + "reject-backoff=%s warmup=%s duration=%s%n",
+                floodConcurrency, checkoutConcurrency, backendWorkers, backendLatency, rejectBackoff, warmup, duration);
+        try (StubBackend authority = StubBackend.start("AUTHORITY-SERVER", Duration.ZERO);
+             StubBackend orderPayment = StubBackend.start("ORDER-PAYMENT-SERVER", backendLatency, backendWorkers)) {
+            for (boolean admission : new boolean[]{false, true}) {
+                Map<String, String> gatewayOptions = new HashMap<>(options);
+                gatewayOptions.put("gateway.admission.enabled", String.valueOf(admission));
+                // 같은 요청을 반복해서 보내므로 캐시 응답이나 중복 제거 응답이 백엔드 부하를 가리지 않도록 끕니다.
+                gatewayOptions.put("gateway.response-cache.enabled", "false");
+                gatewayOptions.put("gateway.idempotency.enabled", "false");
+
+                ConfigurableApplicationContext gateway =
+                        GatewayLoadHarness.startGateway(List.of(authority, orderPayment), gatewayOptions);
+                ConnectionProvider connectionProvider = ConnectionProvider.builder("gateway-overload")
+                        .maxConnections(floodConcurrency + checkoutConcurrency * (scenarios.size() - 1))
+                        .pendingAcquireMaxCount(-1)
+                        .build();
+                try {
+                    String target = "http://127.0.0.1:" + ((WebServerApplicationContext) gateway).getWebServer().getPort();
+                    HttpClient client = HttpClient.create(connectionProvider).baseUrl(target);
+
+                    ToIntFunction<LoadScenario> concurrency =
+                            scenario -> scenario == flood ? floodConcurrency : checkoutConcurrency;
+                    GatewayLoadHarness.run(client, scenarios, concurrency, warmup, rejectBackoff);
+                    List<ScenarioStats> results =
+                            GatewayLoadHarness.run(client, scenarios, concurrency, duration, rejectBackoff);
+
+                    double elapsedSeconds = duration.toNanos() / 1e9;
+                    System.out.printf("%ngateway.admission.enabled=%s%n", admission);
+                    System.out.println(ScenarioStats.header() + "   (latency ms)");
+                    results.forEach(stats -> System.out.println(stats.summarize(elapsedSeconds)));
+                } finally {
+                    connectionProvider.dispose();
+                    gateway.close();
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Overload simulation failed", e);
+        }
+    }
+}
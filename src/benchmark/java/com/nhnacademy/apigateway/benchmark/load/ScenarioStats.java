@@ -0,0 +1,66 @@
+package com.nhnacademy.apigateway.benchmark.load;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * 시나리오 하나의 요청 수, 실패 수, 지연 분포를 모읍니다.
+ */
+final class ScenarioStats {
+
+    private final LoadScenario scenario;
+    private final Recorder latencyMicros = new Recorder(3);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder unexpectedStatus = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    ScenarioStats(LoadScenario scenario) {
+        this.scenario = scenario;
+    }
+
+    LoadScenario scenario() {
+        return scenario;
+    }
+
+    void record(int status, long elapsedNanos) {
+        requests.increment();
+        latencyMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        if (status != scenario.expectedStatus()) {
+            unexpectedStatus.increment();
+        }
+    }
+
+    void recordError() {
+        requests.increment();
+        errors.increment();
+    }
+
+    /**
+     * 결과 표의 한 줄을 만듭니다. 지연은 밀리초 단위입니다.
+     */
+    String summarize(double elapsedSeconds) {
+        Histogram histogram = latencyMicros.getIntervalHistogram();
+        return String.format("%-32s %10d %8d %8d %10.1f %8.2f %8.2f %8.2f %8.2f %8.2f",
+                scenario.name(),
+                requests.sum(),
+                unexpectedStatus.sum(),
+                errors.sum(),
+                requests.sum() / elapsedSeconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    static String header() {
+        return String.format("%-32s %10s %8s %8s %10s %8s %8s %8s %8s %8s",
+                "scenario", "requests", "status!", "errors", "req/s", "p50", "p90", "p99", "p99.9", "max");
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,86 @@
+package com.nhnacademy.apigateway.benchmark.load;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 인증 서버가 느려져도 토큰 갱신과 무관한 요청의 지연이 그대로인지 확인하는 로컬 시뮬레이션입니다.
+ * 응답이 즉시 오는 인증 서버 스텁과 auth-latency 만큼 늦는 스텁으로 차례로 게이트웨이를 띄우고,
+ * 공개 조회, 유효 토큰 요청, 갱신을 일으키는 요청을 함께 보내 두 결과 표를 출력합니다.
+ * 갱신이 이벤트 루프를 막지 않으면 두 표에서 공개 조회와 유효 토큰 요청의 p99 가 비슷하고, 갱신 요청만 auth-latency 만큼 늘어나야 합니다.
+ *
+ * <p>옵션 (key=value, --key=value 도 허용)
+ * <ul>
+ *     <li>duration: 측정 시간 (기본 20s)</li>
+ *     <li>warmup: 측정 전 워밍업 시간 (기본 5s)</li>
+ *     <li>concurrency: 공개 조회, 유효 토큰 요청 각각의 동시 요청 수 (기본 8)</li>
+ *     <li>refresh-clients: 갱신을 일으키는 요청자 수, 요청자마다 다른 리프레시 토큰을 씀 (기본 32)</li>
+ *     <li>backend-latency: 스텁 백엔드 응답 지연 (기본 5ms)</li>
+ *     <li>auth-latency: 느린 인증 서버의 응답 지연 (기본 300ms, 인증 서버 서킷 브레이커의 제한 시간보다 짧아야 함)</li>
+ *     <li>그 밖에 점(.)이 들어간 옵션은 두 게이트웨이 모두에 설정으로 넘깁니다. 갱신 결과 재사용 시간(gateway.token-refresh.reuse-ttl)은 기본 1ms 로 줄여 둡니다.</li>
+ * </ul>
+ */
+public final class SlowAuthoritySimulation {
+
+    private SlowAuthoritySimulation() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = GatewayLoadHarness.parseOptions(args);
+        Duration duration = DurationStyle.detectAndParse(options.getOrDefault("duration", "20s"));
+        Duration warmup = DurationStyle.detectAndParse(options.getOrDefault("warmup", "5s"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "8"));
+        int refreshClients = Integer.parseInt(options.getOrDefault("refresh-clients", "32"));
+        Duration backendLatency = DurationStyle.detectAndParse(options.getOrDefault("backend-latency", "5ms"));
+        Duration authLatency = DurationStyle.detectAndParse(options.getOrDefault("auth-latency", "300ms"));
+
+        // 갱신 결과를 재사용하면 인증 서버 호출이 거의 일어나지 않으므로, 요청마다 인증 서버를 거치도록 재사용 시간을 줄입니다.
+        options.putIfAbsent("gateway.token-refresh.reuse-ttl", "1ms");
+
+        List<LoadScenario> scenarios = LoadScenario.slowAuthority(refreshClients);
+        List<LoadScenario> steady = scenarios.subList(0, 2);
+
+        System.out.printf("concurrency=%d refresh-clients=%d backend-latency=%s auth-latency=%s warmup=%s duration=%s%n",
+                concurrency, refreshClients, backendLatency, authLatency, warmup, duration);
+        try (StubBackend backend = StubBackend.start("BOOK-USER-SERVER", backendLatency)) {
+            for (Duration latency : List.of(Duration.ZERO, authLatency)) {
+                try (StubBackend authority = StubBackend.start("AUTHORITY-SERVER", latency)) {
+                    ConfigurableApplicationContext gateway =
+                            GatewayLoadHarness.startGateway(List.of(authority, backend), options);
+                    ConnectionProvider connectionProvider = ConnectionProvider.builder("gateway-slow-authority")
+                            .maxConnections(concurrency * steady.size() + refreshClients)
+                            .pendingAcquireMaxCount(-1)
+                            .build();
+                    try {
+                        String target =
+                                "http://127.0.0.1:" + ((WebServerApplicationContext) gateway).getWebServer().getPort();
+                        HttpClient client = HttpClient.create(connectionProvider).baseUrl(target);
+
+                        GatewayLoadHarness.run(client, scenarios,
+                                scenario -> steady.contains(scenario) ? concurrency : 1, warmup);
+                        List<ScenarioStats> results = GatewayLoadHarness.run(client, scenarios,
+                                scenario -> steady.contains(scenario) ? concurrency : 1, duration);
+
+                        double elapsedSeconds = duration.toNanos() / 1e9;
+                        System.out.printf("%nauth-latency=%s%n", latency);
+                        System.out.println(ScenarioStats.header() + "   (latency ms)");
+                        // 갱신 요청자들은 같은 조건이므로 첫 번째 요청자만 표시합니다.
+                        results.subList(0, Math.min(results.size(), steady.size() + 1))
+                                .forEach(stats -> System.out.println(stats.summarize(elapsedSeconds)));
+                    } finally {
+                        connectionProvider.dispose();
+                        gateway.close();
+                    }
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Slow authority simulation failed", e);
+        }
+    }
+}
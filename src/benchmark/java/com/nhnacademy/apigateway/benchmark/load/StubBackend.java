@@ -0,0 +1,120 @@
+package com.nhnacademy.apigateway.benchmark.load;
+
+import com.nhnacademy.apigateway.TestFixtures;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 부하 테스트용 백엔드 스텁입니다.
+ * 지정한 지연(요청마다 다르게 줄 수도 있음) 후 작은 JSON 을 돌려주며, /auth/refresh 요청에는 벤치마크 시크릿으로 서명한 새 토큰 쌍을 돌려줍니다.
+ * /auth/info 요청에는 uuid 파라미터(벤치마크 토큰의 subject, user-{userId})의 userId 를 가진 관리자 정보를 돌려줍니다.
+ */
+final class StubBackend implements AutoCloseable {
+
+    private final String name;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Supplier<Duration> latency;
+    private final LongAdder requestCount = new LongAdder();
+
+    private StubBackend(String name, HttpServer server, ExecutorService executor, Supplier<Duration> latency) {
+        this.name = name;
+        this.server = server;
+        this.executor = executor;
+        this.latency = latency;
+    }
+
+    static StubBackend start(String name, Duration latency) throws IOException {
+        return start(name, () -> latency, Executors.newCachedThreadPool());
+    }
+
+    /**
+     * 요청마다 latency 가 돌려주는 만큼 지연하는 스텁을 띄웁니다. 느린 응답이 섞인 인스턴스를 흉내 낼 때 사용합니다.
+     */
+    static StubBackend start(String name, Supplier<Duration> latency) throws IOException {
+        return start(name, latency, Executors.newCachedThreadPool());
+    }
+
+    /**
+     * 동시에 workers 개의 요청만 처리하는 스텁을 띄웁니다. 나머지 요청은 대기열에서 기다리므로 과부하된 백엔드를 흉내 냅니다.
+     */
+    static StubBackend start(String name, Duration latency, int workers) throws IOException {
+        return start(name, () -> latency, Executors.newFixedThreadPool(workers));
+    }
+
+    private static StubBackend start(String name, Supplier<Duration> latency, ExecutorService executor)
+            throws IOException {
+        // 기본값에서는 Nagle 알고리즘과 지연 ACK 가 겹쳐 응답마다 수십 ms 가 더해지므로 끕니다.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        StubBackend backend = new StubBackend(name, server, executor, latency);
+        server.createContext("/", backend::handle);
+        server.setExecutor(executor);
+        server.start();
+        return backend;
+    }
+
+    String name() {
+        return name;
+    }
+
+    String uri() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 지금까지 받은 요청 수입니다. 인스턴스 사이에 요청이 어떻게 나뉘었는지 볼 때 사용합니다.
+     */
+    long requestCount() {
+        return requestCount.sum();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.increment();
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            requestBody.transferTo(OutputStream.nullOutputStream());
+            long latencyMillis = latency.get().toMillis();
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+
+            byte[] body = responseBody(exchange.getRequestURI().getPath(), exchange.getRequestURI().getQuery())
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private String responseBody(String path, String query) {
+        if (path.endsWith("/auth/refresh")) {
+            return "{\"accessToken\":\"" + TestFixtures.token(1L, "USER", Duration.ofHours(1))
+                    + "\",\"refreshToken\":\"" + TestFixtures.token(1L, "USER", Duration.ofDays(7)) + "\"}";
+        }
+        if (path.endsWith("/auth/info") && query != null && query.startsWith("uuid=user-")) {
+            return "{\"customerId\":" + query.substring("uuid=user-".length())
+                    + ",\"role\":\"ADMIN\",\"loginStateName\":\"ACTIVE\"}";
+        }
+        return "{\"server\":\"" + name + "\",\"path\":\"" + path + "\"}";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
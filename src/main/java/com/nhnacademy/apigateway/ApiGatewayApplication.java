@@ -2,14 +2,16 @@ package com.nhnacademy.apigateway;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
-import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableFeignClients
 @EnableDiscoveryClient
 @SpringBootApplication
-@EnableAspectJAutoProxy
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class ApiGatewayApplication {
 
     public static void main(String[] args) {
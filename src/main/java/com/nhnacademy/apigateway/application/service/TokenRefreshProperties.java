@@ -0,0 +1,35 @@
+package com.nhnacademy.apigateway.application.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 토큰 갱신 설정입니다.
+ *
+ * @param reuseTtl        갱신 결과를 같은 리프레시 토큰의 후속 요청에 재사용하는 시간
+ * @param maxSize         갱신 결과를 보관하는 최대 항목 수
+ * @param proactiveWindow 만료까지 남은 시간이 이보다 짧으면 요청을 막지 않고 미리 갱신함, 0 이면 사용하지 않음
+ * @param rotationGrace   선제 갱신으로 받은 새 토큰 쌍을 이전 리프레시 토큰으로 계속 받아 갈 수 있는 시간,
+ *                        응답 헤더를 놓친 클라이언트가 이전 액세스 토큰이 만료된 뒤에도 새 토큰 쌍을 받도록 proactive-window 보다 길어야 함
+ */
+@ConfigurationProperties(prefix = "gateway.token-refresh")
+public record TokenRefreshProperties(Duration reuseTtl,
+                                     Long maxSize,
+                                     Duration proactiveWindow,
+                                     Duration rotationGrace) {
+
+    public TokenRefreshProperties {
+        reuseTtl = reuseTtl == null ? Duration.ofSeconds(10) : reuseTtl;
+        maxSize = maxSize == null ? 10_000L : maxSize;
+        proactiveWindow = proactiveWindow == null ? Duration.ofSeconds(60) : proactiveWindow;
+        rotationGrace = rotationGrace == null ? proactiveWindow.multipliedBy(2) : rotationGrace;
+        if (rotationGrace.compareTo(proactiveWindow) < 0) {
+            throw new IllegalArgumentException(
+                    "gateway.token-refresh.rotation-grace must not be shorter than proactive-window");
+        }
+    }
+
+    public boolean proactiveRefreshEnabled() {
+        return !proactiveWindow.isZero() && !proactiveWindow.isNegative();
+    }
+}
@@ -0,0 +1,260 @@
+package com.nhnacademy.apigateway.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nhnacademy.apigateway.common.exception.RevocationCapacityExceededException;
+import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
+import com.nhnacademy.apigateway.util.BloomFilter;
+import com.nhnacademy.apigateway.util.JwtUtil;
+import com.nhnacademy.apigateway.util.VerifiedClaimsCache;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그아웃 등으로 폐기된 토큰을 만료 시각까지 기억하는 서비스입니다.
+ * 요청마다 토큰 문자열의 가벼운 해시로 블룸 필터를 먼저 확인하고, 필터가 양성일 때만 SHA-256 다이제스트로 정확한 집합을 조회합니다.
+ * 정확한 집합의 항목은 토큰의 exp 에 자동으로 사라지며, 블룸 필터는 주기적으로 남은 항목만으로 다시 만들어 크기를 유지합니다.
+ * <p>
+ * 서명을 검증할 수 없는 토큰은 게이트웨이를 통과할 수 없으므로 폐기하지 않고 gateway.revocation.ignored 로만 기록합니다.
+ * 위조한 exp 로 목록을 채우지 못하도록, 보관 기간은 검증된 exp 와 max-ttl (발급되는 가장 긴 토큰 수명) 중 짧은 쪽입니다.
+ * 항목을 크기 때문에 지우면 폐기된 토큰이 다시 통과하므로, 집합은 만료로만 줄어듭니다.
+ * max-entries 에 도달하면 기존 항목을 밀어내지 않고 새 폐기를 거절하며, 거절 수를 gateway.revocation.rejected 로 기록합니다.
+ * 폐기에 성공하면 {@link TokenRevokedEvent} 를 발행해 토큰별 갱신 결과를 보관하는 쪽이 항목을 버리도록 합니다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final JwtUtil jwtUtil;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long maxEntries;
+    private final double falsePositiveRate;
+    private final Duration maxTtl;
+
+    // 값은 블룸 필터를 다시 만들 때 쓰는 토큰 해시입니다.
+    private final Cache<String, Long> revokedTokens;
+    private volatile BloomFilter bloomFilter;
+
+    private final Counter logoutCounter;
+    private final Counter adminCounter;
+    private final Counter rejectedCounter;
+    private final Counter expiredCounter;
+    private final Counter invalidCounter;
+
+    public TokenRevocationService(JwtUtil jwtUtil,
+                                  ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${gateway.revocation.max-entries:100000}") long maxEntries,
+                                  @Value("${gateway.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                  @Value("${gateway.revocation.max-ttl:7d}") Duration maxTtl) {
+        this.jwtUtil = jwtUtil;
+        this.eventPublisher = eventPublisher;
+        this.maxEntries = maxEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxTtl = maxTtl;
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String key, Long tokenHash, long currentTime) {
+                        // put 직전에 정한 만료 시각을 policy 로 지정하므로 기본값은 사용되지 않습니다.
+                        return maxTtl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Long tokenHash, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Long tokenHash, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.bloomFilter = BloomFilter.create(maxEntries, falsePositiveRate);
+
+        this.logoutCounter = revokedCounter(meterRegistry, "logout");
+        this.adminCounter = revokedCounter(meterRegistry, "admin");
+        this.rejectedCounter = Counter.builder("gateway.revocation.rejected")
+                .description("폐기 목록이 가득 차 추가하지 못한 토큰 수")
+                .register(meterRegistry);
+        this.expiredCounter = ignoredCounter(meterRegistry, "expired");
+        this.invalidCounter = ignoredCounter(meterRegistry, "invalid");
+        Gauge.builder("gateway.revocation.entries", revokedTokens, Cache::estimatedSize)
+                .description("만료 전까지 보관 중인 폐기 토큰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그아웃 응답을 보고 토큰을 폐기합니다.
+     * 인증 서버의 로그아웃은 이미 끝났으므로 폐기 목록이 가득 차도 응답은 그대로 보내고, 거절 수와 경고 로그로 남깁니다.
+     *
+     * @param token "Bearer " 접두사가 없는 JWT
+     * @return 폐기 목록에 추가되었으면 true, 검증할 수 없거나 이미 만료된 토큰이거나 목록이 가득 차면 false
+     */
+    public boolean revokeOnLogout(String token) {
+        try {
+            if (revoke(token)) {
+                logoutCounter.increment();
+                eventPublisher.publishEvent(new TokenRevokedEvent(token));
+                return true;
+            }
+            return false;
+        } catch (RevocationCapacityExceededException e) {
+            log.warn("Logout succeeded but the token could not be revoked: {}", e.getErrorStatus().message());
+            return false;
+        }
+    }
+
+    /**
+     * 관리자 요청으로 토큰을 폐기합니다.
+     *
+     * @param token "Bearer " 접두사가 없는 JWT
+     * @return 폐기 목록에 추가되었으면 true, 검증할 수 없거나 이미 만료된 토큰이면 false
+     * @throws RevocationCapacityExceededException 폐기 목록이 가득 찬 경우
+     */
+    public boolean revokeByAdmin(String token) {
+        boolean revoked = revoke(token);
+        if (revoked) {
+            adminCounter.increment();
+            eventPublisher.publishEvent(new TokenRevokedEvent(token));
+        }
+        return revoked;
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다.
+     *
+     * @param token "Bearer " 접두사가 없는 JWT
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(String token) {
+        if (token == null) {
+            return false;
+        }
+        long hash = hash(token);
+        if (!bloomFilter.mightContain(hash, mix(hash))) {
+            return false;
+        }
+        return revokedTokens.getIfPresent(VerifiedClaimsCache.digest(token)) != null;
+    }
+
+    /**
+     * 만료되어 사라진 항목을 블룸 필터에서도 지우기 위해 남은 항목만으로 필터를 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${gateway.revocation.rebuild-interval:PT1M}",
+            initialDelayString = "${gateway.revocation.rebuild-interval:PT1M}")
+    public synchronized void rebuildBloomFilter() {
+        revokedTokens.cleanUp();
+        BloomFilter rebuilt = BloomFilter.create(maxEntries, falsePositiveRate);
+        revokedTokens.asMap().values().forEach(hash -> rebuilt.put(hash, mix(hash)));
+        bloomFilter = rebuilt;
+    }
+
+    // 블룸 필터 재생성과 겹치면 새 필터에 빠질 수 있으므로 추가와 재생성은 같은 모니터에서 실행합니다.
+    private synchronized boolean revoke(String token) {
+        if (token == null || token.isBlank()) {
+            return false;
+        }
+
+        long nowMillis = System.currentTimeMillis();
+        long remainingMillis = verifiedRemainingMillis(token, nowMillis);
+        if (remainingMillis <= 0) {
+            return false;
+        }
+
+        long hash = hash(token);
+        String digest = VerifiedClaimsCache.digest(token);
+        if (revokedTokens.getIfPresent(digest) == null && isFull()) {
+            rejectedCounter.increment();
+            log.error("Revocation list is full ({} entries), token {} stays valid until it expires",
+                    maxEntries, digest);
+            throw new RevocationCapacityExceededException(ErrorStatus.toErrorStatus(
+                    "폐기 목록이 가득 차 토큰을 폐기할 수 없습니다.", 503, LocalDateTime.now()));
+        }
+        revokedTokens.policy().expireVariably().ifPresentOrElse(
+                expiry -> expiry.put(digest, hash, Duration.ofMillis(remainingMillis)),
+                () -> revokedTokens.put(digest, hash));
+        bloomFilter.put(hash, mix(hash));
+        log.info("Revoked token {} until {}", digest, nowMillis + remainingMillis);
+        return true;
+    }
+
+    /**
+     * 서명을 검증한 토큰이 만료까지 남은 시간을 max-ttl 이내로 반환합니다.
+     *
+     * @return 남은 시간, 만료되었거나 검증할 수 없는 토큰이면 0
+     */
+    private long verifiedRemainingMillis(String token, long nowMillis) {
+        try {
+            Instant expiration = jwtUtil.getExpiration(token);
+            long untilExpiration = expiration == null ? Long.MAX_VALUE : expiration.toEpochMilli() - nowMillis;
+            return Math.min(untilExpiration, maxTtl.toMillis());
+        } catch (ExpiredJwtException e) {
+            expiredCounter.increment();
+            return 0;
+        } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
+            invalidCounter.increment();
+            log.warn("Ignoring revocation of a token that failed verification: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private boolean isFull() {
+        if (revokedTokens.estimatedSize() < maxEntries) {
+            return false;
+        }
+        // 추정 크기에는 만료되었지만 아직 정리되지 않은 항목이 섞여 있으므로 정리한 뒤 다시 확인합니다.
+        revokedTokens.cleanUp();
+        return revokedTokens.estimatedSize() >= maxEntries;
+    }
+
+    /**
+     * 토큰 문자열의 FNV-1a 64비트 해시입니다. 블룸 필터 조회에만 쓰므로 암호학적 성질은 필요 없습니다.
+     */
+    private static long hash(String token) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 두 번째 블룸 필터 해시를 만들기 위한 64비트 믹서(MurmurHash3 fmix64)입니다.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash | 1;
+    }
+
+    private static Counter ignoredCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("gateway.revocation.ignored")
+                .description("만료되었거나 검증할 수 없어 폐기 목록에 넣지 않은 토큰 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static Counter revokedCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("gateway.revocation.revoked")
+                .description("폐기 목록에 추가된 토큰 수")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,10 @@
+package com.nhnacademy.apigateway.application.service;
+
+/**
+ * 토큰이 폐기 목록에 추가되었음을 알리는 이벤트입니다.
+ * 토큰 문자열을 키로 결과를 보관하는 쪽은 이 이벤트를 받아 해당 항목을 버립니다.
+ *
+ * @param token "Bearer " 접두사가 없는 JWT
+ */
+public record TokenRevokedEvent(String token) {
+}
@@ -1,22 +1,169 @@
 package com.nhnacademy.apigateway.application.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.apigateway.infrastructure.adaptor.AuthWebClientAdaptor;
 import com.nhnacademy.apigateway.presentation.dto.response.AuthResponse;
-import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Lazy;
-import org.springframework.http.ResponseEntity;
+import com.nhnacademy.apigateway.util.JwtUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import com.nhnacademy.apigateway.infrastructure.adaptor.AuthAdaptor;
+import reactor.core.publisher.Mono;
 
+/**
+ * 토큰 갱신을 담당하는 서비스입니다.
+ * 같은 리프레시 토큰으로 동시에 들어온 갱신 요청은 하나의 인증 서버 호출을 공유하고,
+ * 갱신 결과는 잠시 보관하여 뒤늦게 도착한 요청도 같은 토큰 쌍을 받도록 합니다.
+ * 만료가 임박한 토큰은 요청을 막지 않고 미리 갱신할 수 있습니다.
+ * 미리 받은 새 토큰 쌍은 rotation-grace 동안 이전 리프레시 토큰에 묶어 두므로, 새 토큰을 받지 못한 클라이언트가
+ * 이전 토큰으로 다시 요청해도 인증 서버에 이미 교체된 리프레시 토큰을 보내지 않고 같은 토큰 쌍을 돌려줍니다.
+ * 갱신이 성공하면 사용자의 권한이나 상태가 바뀌었을 수 있으므로 {@link UserSessionChangedEvent} 를 발행합니다.
+ * 리프레시 토큰이 폐기되면 ({@link TokenRevokedEvent}) 그 토큰에 묶어 둔 토큰 쌍을 모두 버려, 로그아웃 뒤에 다시 내주지 않습니다.
+ * 폐기 여부 확인은 호출하는 쪽이 갱신 전에 합니다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class TokenService {
 
-    @Lazy
-    private final AuthAdaptor authAdaptor;
+    private final AuthWebClientAdaptor authWebClientAdaptor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JwtUtil jwtUtil;
+    private final Map<String, Mono<AuthResponse>> inFlightRefreshes = new ConcurrentHashMap<>();
+    private final Cache<String, AuthResponse> recentRefreshes;
+    private final Cache<String, Mono<AuthResponse>> proactiveRefreshes;
+    private final Cache<String, AuthResponse> rotatedTokens;
 
-    public ResponseEntity<AuthResponse> updateAccessToken(String accessJwt, String refreshJwt) {
-        accessJwt = "Bearer " + accessJwt;
-        return authAdaptor.refreshAccessToken(accessJwt, refreshJwt);
+    private final Counter issuedCounter;
+    private final Counter coalescedCounter;
+    private final Counter reusedCounter;
+
+    public TokenService(AuthWebClientAdaptor authWebClientAdaptor,
+                        ApplicationEventPublisher eventPublisher,
+                        JwtUtil jwtUtil,
+                        MeterRegistry meterRegistry,
+                        TokenRefreshProperties tokenRefreshProperties) {
+        this.authWebClientAdaptor = authWebClientAdaptor;
+        this.eventPublisher = eventPublisher;
+        this.jwtUtil = jwtUtil;
+        this.recentRefreshes = Caffeine.newBuilder()
+                .expireAfterWrite(tokenRefreshProperties.reuseTtl())
+                .maximumSize(tokenRefreshProperties.maxSize())
+                .build();
+        // 선제 갱신은 리프레시 토큰당 만료 임박 구간 동안 한 번만 시도하고, 그 결과를 같은 토큰의 후속 요청에 재사용합니다.
+        this.proactiveRefreshes = Caffeine.newBuilder()
+                .expireAfterWrite(tokenRefreshProperties.proactiveWindow())
+                .maximumSize(tokenRefreshProperties.maxSize())
+                .build();
+        this.rotatedTokens = Caffeine.newBuilder()
+                .expireAfterWrite(tokenRefreshProperties.rotationGrace())
+                .maximumSize(tokenRefreshProperties.maxSize())
+                .build();
+
+        this.issuedCounter = refreshCounter(meterRegistry, "issued");
+        this.coalescedCounter = refreshCounter(meterRegistry, "coalesced");
+        this.reusedCounter = refreshCounter(meterRegistry, "reused");
+    }
+
+    /**
+     * 액세스 토큰을 갱신합니다.
+     *
+     * @param accessJwt  "Bearer " 접두사가 없는 액세스 토큰
+     * @param refreshJwt 리프레시 토큰
+     * @return 갱신된 토큰 쌍을 담은 Mono
+     */
+    public Mono<AuthResponse> updateAccessToken(String accessJwt, String refreshJwt) {
+        return Mono.defer(() -> {
+            AuthResponse recent = recentRefreshes.getIfPresent(refreshJwt);
+            if (recent == null) {
+                recent = rotatedTokens.getIfPresent(refreshJwt);
+            }
+            if (recent != null) {
+                reusedCounter.increment();
+                return Mono.just(recent);
+            }
+
+            AtomicBoolean issued = new AtomicBoolean();
+            Mono<AuthResponse> shared = inFlightRefreshes.computeIfAbsent(refreshJwt, key -> {
+                issued.set(true);
+                return sharedRefresh(accessJwt, key);
+            });
+
+            (issued.get() ? issuedCounter : coalescedCounter).increment();
+            return shared;
+        });
+    }
+
+    /**
+     * 만료가 임박한 액세스 토큰을 미리 갱신합니다.
+     * 같은 리프레시 토큰으로는 만료 임박 구간 동안 한 번만 인증 서버를 호출하며, 실패해도 현재 요청에 영향을 주지 않도록 빈 Mono 를 반환합니다.
+     * 성공한 결과는 {@link #rotatedTokens(String)} 로 바로 꺼낼 수 있습니다.
+     *
+     * @param accessJwt  "Bearer " 접두사가 없는 액세스 토큰
+     * @param refreshJwt 리프레시 토큰
+     * @return 갱신된 토큰 쌍을 담은 Mono, 실패한 경우 빈 Mono
+     */
+    public Mono<AuthResponse> refreshAhead(String accessJwt, String refreshJwt) {
+        return proactiveRefreshes.get(refreshJwt, key -> updateAccessToken(accessJwt, key)
+                .doOnNext(newTokens -> rotatedTokens.put(key, newTokens))
+                .doOnError(e -> log.warn("Proactive token refresh failed: {}", e.getMessage()))
+                .onErrorResume(e -> Mono.empty())
+                .cache());
+    }
+
+    /**
+     * 이전 리프레시 토큰으로 미리 받아 둔 새 토큰 쌍을 기다리지 않고 조회합니다.
+     *
+     * @param refreshJwt 이전 리프레시 토큰
+     * @return 새 토큰 쌍, 선제 갱신이 아직 끝나지 않았거나 rotation-grace 가 지났으면 null
+     */
+    public AuthResponse rotatedTokens(String refreshJwt) {
+        return rotatedTokens.getIfPresent(refreshJwt);
+    }
+
+    /**
+     * 폐기된 리프레시 토큰에 묶어 둔 갱신 결과를 버립니다.
+     *
+     * @param event 폐기된 토큰
+     */
+    @EventListener
+    public void onTokenRevoked(TokenRevokedEvent event) {
+        recentRefreshes.invalidate(event.token());
+        rotatedTokens.invalidate(event.token());
+        proactiveRefreshes.invalidate(event.token());
+    }
+
+    private Mono<AuthResponse> sharedRefresh(String accessJwt, String refreshJwt) {
+        AtomicReference<Mono<AuthResponse>> self = new AtomicReference<>();
+        Mono<AuthResponse> shared = authWebClientAdaptor.refreshAccessToken("Bearer " + accessJwt, refreshJwt)
+                .doOnNext(newTokens -> {
+                    recentRefreshes.put(refreshJwt, newTokens);
+                    publishSessionChanged(refreshJwt);
+                })
+                .doFinally(signal -> inFlightRefreshes.remove(refreshJwt, self.get()))
+                .cache();
+        self.set(shared);
+        return shared;
+    }
+
+    private void publishSessionChanged(String jwt) {
+        String uuid = jwtUtil.getSubFromTokenWithoutVerification(jwt);
+        if (uuid != null) {
+            eventPublisher.publishEvent(new UserSessionChangedEvent(uuid));
+        }
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.token.refresh")
+                .description("토큰 갱신 요청 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
 }
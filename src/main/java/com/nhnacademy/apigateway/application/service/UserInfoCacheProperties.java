@@ -0,0 +1,23 @@
+package com.nhnacademy.apigateway.application.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 사용자 정보 캐시 설정입니다.
+ *
+ * @param maxSize      보관할 최대 사용자 수
+ * @param ttl          조회한 사용자 정보를 보관하는 최대 시간
+ * @param refreshAfter 이 시간이 지난 항목은 조회 시 기존 값을 돌려주고 백그라운드에서 다시 읽음
+ * @param negativeTtl  인증 서버에 없는 UUID 를 기억하는 시간
+ */
+@ConfigurationProperties(prefix = "gateway.user-info-cache")
+public record UserInfoCacheProperties(Long maxSize, Duration ttl, Duration refreshAfter, Duration negativeTtl) {
+
+    public UserInfoCacheProperties {
+        maxSize = maxSize == null ? 50_000L : maxSize;
+        ttl = ttl == null ? Duration.ofMinutes(10) : ttl;
+        refreshAfter = refreshAfter == null ? Duration.ofMinutes(1) : refreshAfter;
+        negativeTtl = negativeTtl == null ? Duration.ofSeconds(30) : negativeTtl;
+    }
+}
@@ -0,0 +1,122 @@
+package com.nhnacademy.apigateway.application.service;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nhnacademy.apigateway.infrastructure.adaptor.AuthAdaptor;
+import com.nhnacademy.apigateway.infrastructure.scheduler.BlockingCallScheduler;
+import com.nhnacademy.apigateway.presentation.dto.response.JwtAuthResponse;
+import feign.FeignException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증 서버에서 사용자 정보를 조회하는 서비스입니다.
+ * AuthAdaptor 는 블로킹 Feign 클라이언트이므로 BlockingCallScheduler 를 통해서만 호출합니다.
+ * 조회 결과는 UUID 별로 캐시하며, refresh-after 가 지난 항목은 기존 값을 바로 돌려주고 백그라운드에서 다시 읽습니다.
+ * 인증 서버에 없는 UUID 도 negative-ttl 동안 기억해 같은 UUID 로 인증 서버를 반복 호출하지 않습니다.
+ * 토큰 갱신이나 로그아웃으로 {@link UserSessionChangedEvent} 가 발행되면 해당 사용자의 항목을 버립니다.
+ */
+@Slf4j
+@Service
+public class UserInfoService {
+
+    private final AuthAdaptor authAdaptor;
+    private final BlockingCallScheduler blockingCallScheduler;
+    private final AsyncLoadingCache<String, CachedUserInfo> cache;
+    private final DistributionSummary ageSummary;
+
+    /**
+     * Feign 클라이언트는 게이트웨이 필터 빈과 순환 의존이 생기므로 첫 조회 시점에 생성되도록 지연 주입합니다.
+     */
+    public UserInfoService(@Lazy AuthAdaptor authAdaptor,
+                           BlockingCallScheduler blockingCallScheduler,
+                           UserInfoCacheProperties userInfoCacheProperties,
+                           MeterRegistry meterRegistry) {
+        this.authAdaptor = authAdaptor;
+        this.blockingCallScheduler = blockingCallScheduler;
+
+        long ttlNanos = userInfoCacheProperties.ttl().toNanos();
+        long negativeTtlNanos = userInfoCacheProperties.negativeTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(userInfoCacheProperties.maxSize())
+                .refreshAfterWrite(userInfoCacheProperties.refreshAfter())
+                .expireAfter(new Expiry<String, CachedUserInfo>() {
+                    @Override
+                    public long expireAfterCreate(String uuid, CachedUserInfo userInfo, long currentTime) {
+                        return userInfo.found() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String uuid, CachedUserInfo userInfo, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(uuid, userInfo, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String uuid, CachedUserInfo userInfo, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .buildAsync((uuid, executor) -> load(uuid).toFuture());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.user.info.cache");
+        this.ageSummary = DistributionSummary.builder("gateway.user.info.cache.age")
+                .description("캐시에서 돌려준 사용자 정보를 인증 서버에서 읽은 뒤 지난 시간")
+                .baseUnit("milliseconds")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * UUID 로 사용자 정보를 조회합니다.
+     *
+     * @param uuid 사용자 UUID
+     * @return 사용자 정보를 담은 Mono, 인증 서버에 없는 UUID 면 빈 Mono
+     */
+    public Mono<JwtAuthResponse> getUserInfo(String uuid) {
+        return Mono.fromFuture(cache.get(uuid))
+                .doOnNext(userInfo -> ageSummary.record(
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - userInfo.loadedAtNanos())))
+                .mapNotNull(CachedUserInfo::userInfo);
+    }
+
+    /**
+     * 토큰 갱신이나 로그아웃으로 사용자 상태가 바뀌었을 수 있으므로 캐시된 정보를 버립니다.
+     *
+     * @param event 상태가 바뀌었을 수 있는 사용자
+     */
+    @EventListener
+    public void onUserSessionChanged(UserSessionChangedEvent event) {
+        cache.synchronous().invalidate(event.uuid());
+    }
+
+    private Mono<CachedUserInfo> load(String uuid) {
+        return blockingCallScheduler.call(() -> authAdaptor.getUserInfoByUUID(uuid))
+                .map(userInfo -> new CachedUserInfo(userInfo, System.nanoTime()))
+                .onErrorResume(FeignException.NotFound.class, e -> {
+                    log.debug("User info not found for {}", uuid);
+                    return Mono.just(new CachedUserInfo(null, System.nanoTime()));
+                });
+    }
+
+    /**
+     * @param userInfo      사용자 정보, 인증 서버에 없는 UUID 면 null
+     * @param loadedAtNanos 인증 서버에서 읽은 시각 ({@link System#nanoTime()})
+     */
+    private record CachedUserInfo(JwtAuthResponse userInfo, long loadedAtNanos) {
+
+        boolean found() {
+            return userInfo != null;
+        }
+    }
+}
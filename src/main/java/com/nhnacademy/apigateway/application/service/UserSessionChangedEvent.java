@@ -0,0 +1,10 @@
+package com.nhnacademy.apigateway.application.service;
+
+/**
+ * 토큰 갱신이나 로그아웃으로 사용자의 권한이나 상태가 바뀌었을 수 있음을 알리는 이벤트입니다.
+ * 사용자 정보를 캐시하는 쪽은 이 이벤트를 받아 해당 사용자의 항목을 버립니다.
+ *
+ * @param uuid 사용자 UUID (토큰 subject)
+ */
+public record UserSessionChangedEvent(String uuid) {
+}
@@ -1,18 +1,25 @@
 package com.nhnacademy.apigateway.common.advice;
 
-import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
 import com.nhnacademy.apigateway.common.exception.ApplicationException;
-import org.springframework.http.ResponseEntity;
+import com.nhnacademy.apigateway.common.exception.handler.ErrorResponseWriter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
 
+/**
+ * 컨트롤러와 게이트웨이 라우트 필터에서 발생한 ApplicationException 을 처리합니다.
+ * WebFlux 는 라우트 처리 중 발생한 예외에도 이 advice 를 적용하므로, WebFilter 예외와 같은 형식으로 응답하도록 ErrorResponseWriter 를 사용합니다.
+ */
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalRestControllerAdvice {
 
-    @ExceptionHandler(ApplicationException.class)
-    public ResponseEntity<ErrorStatus> handleJwtException(ApplicationException e) {
-        ErrorStatus errorStatus = e.getErrorStatus();
+    private final ErrorResponseWriter errorResponseWriter;
 
-        return new ResponseEntity<>(errorStatus, errorStatus.toHttpStatus());
+    @ExceptionHandler(ApplicationException.class)
+    public Mono<Void> handleJwtException(ApplicationException e, ServerWebExchange exchange) {
+        return errorResponseWriter.write(exchange, e.getErrorStatus());
     }
 }
@@ -0,0 +1,11 @@
+package com.nhnacademy.apigateway.common.exception;
+
+import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
+
+public class AdmissionRejectedException extends ApplicationException {
+
+    public AdmissionRejectedException(ErrorStatus errorStatus) {
+        super(errorStatus);
+    }
+
+}
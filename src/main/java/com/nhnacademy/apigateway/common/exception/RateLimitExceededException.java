@@ -0,0 +1,11 @@
+package com.nhnacademy.apigateway.common.exception;
+
+import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
+
+public class RateLimitExceededException extends ApplicationException {
+
+    public RateLimitExceededException(ErrorStatus errorStatus) {
+        super(errorStatus);
+    }
+
+}
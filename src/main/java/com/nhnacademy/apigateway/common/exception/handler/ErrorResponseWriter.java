@@ -0,0 +1,119 @@
+package com.nhnacademy.apigateway.common.exception.handler;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 오류 응답 본문을 미리 직렬화한 템플릿으로 작성합니다.
+ * (상태 코드, 메시지) 별로 {"message":"...","status":401,"timestamp":" 까지의 앞부분과 "} 뒷부분을 한 번만 만들어 두고,
+ * 요청마다 timestamp 만 끼워 넣어 하나의 버퍼로 씁니다. Map 생성이나 리플렉션 기반 직렬화가 일어나지 않습니다.
+ * timestamp 는 ISO-8601 문자열(밀리초 단위)이며, 같은 밀리초 안의 응답은 포맷 결과를 공유합니다.
+ */
+@Component
+public class ErrorResponseWriter {
+
+    // 메시지에 예외 사유 문자열이 그대로 들어올 수 있으므로 템플릿 수를 제한합니다.
+    private static final int MAX_TEMPLATES = 256;
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final Map<TemplateKey, Template> templates = new ConcurrentHashMap<>();
+    private volatile Timestamp lastTimestamp = new Timestamp(LocalDateTime.MIN, new byte[0]);
+
+    /**
+     * ErrorStatus 의 상태 코드와 메시지로 오류 응답을 씁니다.
+     *
+     * @param exchange    현재 서버 웹 교환
+     * @param errorStatus 응답할 오류
+     * @return 응답 작성 완료 Mono
+     */
+    public Mono<Void> write(ServerWebExchange exchange, ErrorStatus errorStatus) {
+        return write(exchange, errorStatus.status(), errorStatus.message());
+    }
+
+    /**
+     * 오류 응답을 씁니다.
+     *
+     * @param exchange 현재 서버 웹 교환
+     * @param status   HTTP 상태 코드
+     * @param message  오류 메시지
+     * @return 응답 작성 완료 Mono
+     */
+    public Mono<Void> write(ServerWebExchange exchange, int status, String message) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(status));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        Template template = templateFor(status, message);
+        byte[] timestamp = currentTimestamp();
+        int length = template.prefix().length + timestamp.length + template.suffix().length;
+        response.getHeaders().setContentLength(length);
+
+        DataBuffer buffer = response.bufferFactory().allocateBuffer(length)
+                .write(template.prefix())
+                .write(timestamp)
+                .write(template.suffix());
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    private Template templateFor(int status, String message) {
+        TemplateKey key = new TemplateKey(status, message);
+        Template template = templates.get(key);
+        if (template != null) {
+            return template;
+        }
+
+        template = Template.of(status, message);
+        if (templates.size() < MAX_TEMPLATES) {
+            templates.putIfAbsent(key, template);
+        }
+        return template;
+    }
+
+    private byte[] currentTimestamp() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Timestamp cached = lastTimestamp;
+        if (now.equals(cached.value())) {
+            return cached.bytes();
+        }
+
+        byte[] bytes = TIMESTAMP_FORMAT.format(now).getBytes(StandardCharsets.US_ASCII);
+        lastTimestamp = new Timestamp(now, bytes);
+        return bytes;
+    }
+
+    private record TemplateKey(int status, String message) {
+    }
+
+    private record Timestamp(LocalDateTime value, byte[] bytes) {
+    }
+
+    /**
+     * timestamp 값을 기준으로 나눈 응답 본문의 앞부분과 뒷부분입니다.
+     */
+    private record Template(byte[] prefix, byte[] suffix) {
+
+        private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.US_ASCII);
+
+        static Template of(int status, String message) {
+            String escapedMessage = new String(
+                    JsonStringEncoder.getInstance().quoteAsString(String.valueOf(message)));
+            String prefix = "{\"message\":\"" + escapedMessage
+                    + "\",\"status\":" + status
+                    + ",\"timestamp\":\"";
+            return new Template(prefix.getBytes(StandardCharsets.UTF_8), SUFFIX);
+        }
+    }
+}
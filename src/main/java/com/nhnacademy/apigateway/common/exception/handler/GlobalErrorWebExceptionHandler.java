@@ -1,38 +1,62 @@
 package com.nhnacademy.apigateway.common.exception.handler;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nhnacademy.apigateway.common.exception.ApplicationException;
-import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.web.reactive.error.ErrorWebExceptionHandler;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.Order;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+@Slf4j
 @Component
 @Order(-2)
+@RequiredArgsConstructor
 public class GlobalErrorWebExceptionHandler implements ErrorWebExceptionHandler {
 
-    private final ObjectMapper objectMapper;
-
-    public GlobalErrorWebExceptionHandler(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
-    }
+    private final ErrorResponseWriter errorResponseWriter;
 
     @Override
     public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
-        return handleApplicationException(exchange, (ApplicationException) ex);
-    }
+        if (exchange.getResponse().isCommitted()) {
+            return Mono.error(ex);
+        }
 
-    private Mono<Void> handleApplicationException(ServerWebExchange exchange, ApplicationException ex) {
-        ErrorStatus errorStatus = ex.getErrorStatus();
-        exchange.getResponse().setStatusCode(errorStatus.toHttpStatus());
-        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        if (ex instanceof ApplicationException applicationException) {
+            return errorResponseWriter.write(exchange, applicationException.getErrorStatus());
+        }
+        if (ex instanceof ResponseStatusException responseStatusException) {
+            return errorResponseWriter.write(exchange,
+                    responseStatusException.getStatusCode().value(), reasonOf(responseStatusException));
+        }
+        ResponseStatus responseStatus = AnnotatedElementUtils.findMergedAnnotation(ex.getClass(), ResponseStatus.class);
+        if (responseStatus != null) {
+            // 서킷이 열린 경우의 ServiceUnavailableException 처럼 상태 코드를 애너테이션으로 지정한 예외입니다.
+            return errorResponseWriter.write(exchange, responseStatus.code().value(),
+                    responseStatus.reason().isEmpty() ? responseStatus.code().getReasonPhrase() : responseStatus.reason());
+        }
+        if (ex instanceof io.jsonwebtoken.JwtException) {
+            // 서명이나 형식이 잘못된 토큰이 인증 필터 밖으로 던진 예외입니다.
+            return errorResponseWriter.write(exchange, HttpStatus.UNAUTHORIZED.value(), "유효하지 않은 토큰입니다.");
+        }
+
+        log.error("Unhandled exception", ex);
+        return errorResponseWriter.write(exchange, HttpStatus.INTERNAL_SERVER_ERROR.value(), "서버 내부 오류가 발생했습니다.");
+    }
 
-        return exchange.getResponse().writeWith(Mono.fromCallable(() -> {
-            byte[] bytes = objectMapper.writeValueAsBytes(errorStatus);
-            return exchange.getResponse().bufferFactory().wrap(bytes);
-        }));
+    /**
+     * 서킷 브레이커, 타임아웃 등 게이트웨이 내부에서 발생한 ResponseStatusException 의 응답 메시지를 정합니다.
+     */
+    private static String reasonOf(ResponseStatusException responseStatusException) {
+        if (responseStatusException.getReason() != null) {
+            return responseStatusException.getReason();
+        }
+        HttpStatus status = HttpStatus.resolve(responseStatusException.getStatusCode().value());
+        return status != null ? status.getReasonPhrase() : "요청을 처리할 수 없습니다.";
     }
-}
\ No newline at end of file
+}
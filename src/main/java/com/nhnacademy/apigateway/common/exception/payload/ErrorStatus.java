@@ -5,7 +5,6 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import lombok.Builder;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import java.time.LocalDateTime;
 
@@ -23,7 +22,7 @@ public record ErrorStatus(String message, int status,
     }
 
     public HttpStatusCode toHttpStatus() {
-        return HttpStatus.valueOf(status);
+        return HttpStatusCode.valueOf(status);
     }
 
 }
@@ -1,6 +1,10 @@
 package com.nhnacademy.apigateway.config;
 
+import com.nhnacademy.apigateway.filter.idempotency.IdempotencyGlobalFilter;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.reactive.CorsWebFilter;
@@ -10,12 +14,17 @@ import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
 public class CorsConfig {
 
     @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
     public CorsWebFilter corsWebFilter() {
         CorsConfiguration corsConfig = new CorsConfiguration();
         corsConfig.addAllowedOriginPattern("*");
         corsConfig.addAllowedOrigin("*");
         corsConfig.addAllowedMethod("*");
         corsConfig.addAllowedHeader("*");
+        // 선제 갱신된 토큰을 응답 헤더로 내려주므로 브라우저에서 읽을 수 있도록 노출합니다.
+        corsConfig.addExposedHeader(HttpHeaders.AUTHORIZATION);
+        corsConfig.addExposedHeader("Refresh-Token");
+        corsConfig.addExposedHeader(IdempotencyGlobalFilter.REPLAYED_HEADER);
         corsConfig.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,26 @@
+package com.nhnacademy.apigateway.config;
+
+import com.nhnacademy.apigateway.filter.ratelimit.LoginUserKeyResolver;
+import com.nhnacademy.apigateway.filter.ratelimit.RateLimitProperties;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 사용자 설정이 모두 등록된 뒤에 조건을 평가하도록 자동 구성으로 등록합니다.
+ * AutoConfiguration.imports 에 등록된 클래스이므로 컴포넌트 스캔 대상에서는 제외됩니다.
+ */
+@AutoConfiguration
+public class RateLimitConfig {
+
+    /**
+     * 요청 수 제한과 멱등성 필터가 함께 쓰는 키 생성기입니다.
+     * 다른 KeyResolver 빈이 등록되어 있으면 그 빈을 사용합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean(KeyResolver.class)
+    public LoginUserKeyResolver loginUserKeyResolver(RateLimitProperties rateLimitProperties) {
+        return new LoginUserKeyResolver(rateLimitProperties);
+    }
+}
@@ -0,0 +1,49 @@
+package com.nhnacademy.apigateway.config;
+
+import com.nhnacademy.apigateway.common.exception.ApplicationException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+@Configuration
+public class ResilienceConfig {
+
+    /**
+     * 서킷 브레이커 이름(라우트 ID)별로 gateway.resilience 정책을 적용합니다.
+     * 게이트웨이가 직접 거절한 요청과 4xx 응답은 백엔드 장애가 아니므로 실패로 집계하지 않습니다.
+     */
+    @Bean
+    public Customizer<ReactiveResilience4JCircuitBreakerFactory> circuitBreakerCustomizer(
+            ResilienceProperties resilienceProperties) {
+        return factory -> factory.configureDefault(id -> {
+            ResilienceProperties.Policy policy = resilienceProperties.policyFor(id);
+
+            return new Resilience4JConfigBuilder(id)
+                    .circuitBreakerConfig(CircuitBreakerConfig.custom()
+                            .failureRateThreshold(policy.failureRateThreshold())
+                            .slidingWindowSize(policy.slidingWindowSize())
+                            .minimumNumberOfCalls(policy.slidingWindowSize())
+                            .waitDurationInOpenState(policy.waitDurationInOpenState())
+                            .recordException(ResilienceConfig::isBackendFailure)
+                            .build())
+                    .timeLimiterConfig(TimeLimiterConfig.custom()
+                            .timeoutDuration(policy.timeout())
+                            .build())
+                    .build();
+        });
+    }
+
+    private static boolean isBackendFailure(Throwable throwable) {
+        if (throwable instanceof ApplicationException) {
+            return false;
+        }
+        return !(throwable instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().is4xxClientError());
+    }
+
+}
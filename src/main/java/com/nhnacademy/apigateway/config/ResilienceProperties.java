@@ -0,0 +1,54 @@
+package com.nhnacademy.apigateway.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 백엔드 라우트별 타임아웃, 재시도, 서킷 브레이커 설정입니다.
+ * 라우트에 지정하지 않은 항목은 defaults 값을 사용합니다.
+ *
+ * @param defaults 모든 라우트에 적용되는 기본 정책
+ * @param routes   라우트 ID (또는 서킷 브레이커 이름) 별 정책
+ */
+@ConfigurationProperties(prefix = "gateway.resilience")
+public record ResilienceProperties(Policy defaults, Map<String, Policy> routes) {
+
+    private static final Policy FALLBACK_POLICY = new Policy(Duration.ofSeconds(5), 2, 50f, 20, Duration.ofSeconds(10));
+
+    public ResilienceProperties {
+        defaults = FALLBACK_POLICY.overriddenBy(defaults);
+        routes = routes == null ? Map.of() : Map.copyOf(routes);
+    }
+
+    public Policy policyFor(String id) {
+        return defaults.overriddenBy(routes.get(id));
+    }
+
+    /**
+     * @param timeout                 백엔드 응답 제한 시간
+     * @param retries                 멱등 요청(GET)의 최대 재시도 횟수
+     * @param failureRateThreshold    서킷을 여는 실패율 (%)
+     * @param slidingWindowSize       실패율을 계산할 최근 호출 수
+     * @param waitDurationInOpenState 서킷이 열린 뒤 다시 시도하기까지의 대기 시간
+     */
+    public record Policy(Duration timeout,
+                         Integer retries,
+                         Float failureRateThreshold,
+                         Integer slidingWindowSize,
+                         Duration waitDurationInOpenState) {
+
+        Policy overriddenBy(Policy override) {
+            if (override == null) {
+                return this;
+            }
+            return new Policy(
+                    Objects.requireNonNullElse(override.timeout, timeout),
+                    Objects.requireNonNullElse(override.retries, retries),
+                    Objects.requireNonNullElse(override.failureRateThreshold, failureRateThreshold),
+                    Objects.requireNonNullElse(override.slidingWindowSize, slidingWindowSize),
+                    Objects.requireNonNullElse(override.waitDurationInOpenState, waitDurationInOpenState));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.nhnacademy.apigateway.config;
+
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+@Configuration
+public class WebClientConfig {
+
+    /**
+     * 인증 서버 호출용 WebClient 를 생성합니다.
+     * 게이트웨이 라우팅에 사용되는 HttpClient 를 파생시켜 커넥션 풀과 이벤트 루프를 공유하고, 타임아웃만 별도로 지정합니다.
+     */
+    @Bean
+    public WebClient authWebClient(WebClient.Builder builder,
+                                   HttpClient gatewayHttpClient,
+                                   @Value("${api.authority-server}") String authorityServer,
+                                   @Value("${api.auth-client.connect-timeout:1s}") Duration connectTimeout,
+                                   @Value("${api.auth-client.response-timeout:3s}") Duration responseTimeout) {
+        HttpClient httpClient = gatewayHttpClient
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+
+        return builder
+                .baseUrl(authorityServer + "/auth")
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+}
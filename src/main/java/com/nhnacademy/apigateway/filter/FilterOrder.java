@@ -0,0 +1,16 @@
+package com.nhnacademy.apigateway.filter;
+
+/**
+ * 게이트웨이 WebFilter 의 실행 순서입니다.
+ * 값이 작을수록 먼저 실행됩니다.
+ */
+public final class FilterOrder {
+
+    public static final int REQUEST_LIMIT = -10;
+    public static final int METRICS_SCRAPE = -5;
+    public static final int AUTHENTICATION = 0;
+    public static final int AUTHORIZATION = AUTHENTICATION + 10;
+
+    private FilterOrder() {
+    }
+}
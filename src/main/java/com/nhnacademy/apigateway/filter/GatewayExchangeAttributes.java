@@ -0,0 +1,30 @@
+package com.nhnacademy.apigateway.filter;
+
+/**
+ * 필터 간에 공유하는 ServerWebExchange 속성 이름입니다.
+ */
+public final class GatewayExchangeAttributes {
+
+    /**
+     * 요청에 적용된 {@link com.nhnacademy.apigateway.filter.rule.AuthRule}
+     */
+    public static final String AUTH_RULE = GatewayExchangeAttributes.class.getName() + ".authRule";
+
+    /**
+     * 인증 필터가 검증한 토큰의 사용자 정보 {@link com.nhnacademy.apigateway.presentation.dto.response.JwtAuthResponse}
+     */
+    public static final String LOGIN_USER = GatewayExchangeAttributes.class.getName() + ".loginUser";
+
+    /**
+     * 인증 필터가 검증한 토큰의 subject (사용자 UUID)
+     */
+    public static final String LOGIN_SUBJECT = GatewayExchangeAttributes.class.getName() + ".loginSubject";
+
+    /**
+     * 인증/인가 필터가 마지막으로 내린 판정 {@link com.nhnacademy.apigateway.filter.metrics.AuthDecision}
+     */
+    public static final String AUTH_DECISION = GatewayExchangeAttributes.class.getName() + ".authDecision";
+
+    private GatewayExchangeAttributes() {
+    }
+}
@@ -0,0 +1,125 @@
+package com.nhnacademy.apigateway.filter;
+
+import com.nhnacademy.apigateway.presentation.dto.response.JwtAuthResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증 필터가 검증한 사용자 정보를 서명된 헤더로 백엔드에 전달하는 필터입니다.
+ * 백엔드는 JWT 를 다시 파싱하지 않고 HMAC 서명만 확인하여 헤더를 신뢰할 수 있습니다.
+ * 클라이언트가 보낸 같은 이름의 헤더는 모든 라우트에서 제거합니다.
+ * <p>
+ * 백엔드마다 서명 키를 나눠 갖게 되므로, 그 키로 게이트웨이가 받아들이는 JWT 를 만들 수 없도록 JWT 서명 키와 다른 키를 써야 합니다.
+ * 키가 없거나 jwt.secret 과 같으면 기동하지 않습니다.
+ */
+@Component
+public class IdentityHeaderGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final String USER_ROLE_HEADER = "X-User-Role";
+    public static final String LOGIN_STATE_HEADER = "X-Login-State";
+    public static final String TIMESTAMP_HEADER = "X-Identity-Timestamp";
+    public static final String SIGNATURE_HEADER = "X-Identity-Signature";
+
+    private static final List<String> IDENTITY_HEADERS = List.of(
+            USER_ID_HEADER, USER_ROLE_HEADER, LOGIN_STATE_HEADER, TIMESTAMP_HEADER, SIGNATURE_HEADER);
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final IdentityHeaderProperties identityHeaderProperties;
+    private final ThreadLocal<Mac> mac;
+
+    public IdentityHeaderGlobalFilter(IdentityHeaderProperties identityHeaderProperties,
+                                      @Value("${jwt.secret:}") String jwtSecret) {
+        String secret = identityHeaderProperties.secret();
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException(
+                    "gateway.identity.secret (GATEWAY_IDENTITY_SECRET) must be set to a key separate from jwt.secret");
+        }
+        if (secret.equals(jwtSecret)) {
+            throw new IllegalStateException(
+                    "gateway.identity.secret must differ from jwt.secret; backends holding it could mint user JWTs");
+        }
+
+        this.identityHeaderProperties = identityHeaderProperties;
+        SecretKeySpec key = new SecretKeySpec(
+                identityHeaderProperties.secret().getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        JwtAuthResponse loginUser = exchange.getAttribute(GatewayExchangeAttributes.LOGIN_USER);
+        boolean propagate = loginUser != null && route != null
+                && identityHeaderProperties.routes().contains(route.getId());
+
+        if (!propagate && !hasIdentityHeader(exchange.getRequest())) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    IDENTITY_HEADERS.forEach(headers::remove);
+                    if (propagate) {
+                        String userId = String.valueOf(loginUser.customerId());
+                        String role = String.valueOf(loginUser.role());
+                        String loginState = String.valueOf(loginUser.loginStateName());
+                        String timestamp = String.valueOf(System.currentTimeMillis());
+
+                        headers.set(USER_ID_HEADER, userId);
+                        headers.set(USER_ROLE_HEADER, role);
+                        headers.set(LOGIN_STATE_HEADER, loginState);
+                        headers.set(TIMESTAMP_HEADER, timestamp);
+                        headers.set(SIGNATURE_HEADER, sign(userId, role, loginState, timestamp));
+                    }
+                })
+                .build();
+
+        return chain.filter(exchange.mutate().request(request).build());
+    }
+
+    /**
+     * "userId|role|loginState|timestamp" 문자열의 HMAC-SHA256 서명을 Base64 URL 형식으로 반환합니다.
+     */
+    private String sign(String userId, String role, String loginState, String timestamp) {
+        String payload = userId + '|' + role + '|' + loginState + '|' + timestamp;
+        byte[] signature = mac.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    private static boolean hasIdentityHeader(ServerHttpRequest request) {
+        for (String header : IDENTITY_HEADERS) {
+            if (request.getHeaders().containsKey(header)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.nhnacademy.apigateway.filter;
+
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 백엔드로 전달하는 사용자 식별 헤더 설정입니다.
+ *
+ * @param secret 식별 헤더 서명에 사용하는 HMAC 키, jwt.secret 과 다른 값이어야 함
+ * @param routes 식별 헤더를 추가할 라우트 ID 목록
+ */
+@ConfigurationProperties(prefix = "gateway.identity")
+public record IdentityHeaderProperties(String secret, Set<String> routes) {
+
+    public IdentityHeaderProperties {
+        routes = routes == null ? Set.of() : Set.copyOf(routes);
+    }
+}
@@ -1,19 +1,23 @@
 package com.nhnacademy.apigateway.filter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.apigateway.application.service.TokenRefreshProperties;
+import com.nhnacademy.apigateway.application.service.TokenRevocationService;
 import com.nhnacademy.apigateway.application.service.TokenService;
+import com.nhnacademy.apigateway.common.exception.handler.ErrorResponseWriter;
+import com.nhnacademy.apigateway.filter.metrics.AuthDecision;
+import com.nhnacademy.apigateway.filter.metrics.AuthFilterMetrics;
+import com.nhnacademy.apigateway.filter.rule.AuthMode;
+import com.nhnacademy.apigateway.filter.rule.AuthRule;
+import com.nhnacademy.apigateway.filter.rule.AuthRuleMatcher;
 import com.nhnacademy.apigateway.presentation.dto.response.AuthResponse;
 import com.nhnacademy.apigateway.util.JwtUtil;
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Instant;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
@@ -28,11 +32,15 @@ import reactor.core.publisher.Mono;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class JwtAuthenticationGlobalFilter implements WebFilter {
+public class JwtAuthenticationGlobalFilter implements WebFilter, Ordered {
 
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
     private final TokenService tokenService;
+    private final TokenRevocationService tokenRevocationService;
     private final JwtUtil jwtUtil;
+    private final AuthRuleMatcher authRuleMatcher;
+    private final AuthFilterMetrics authFilterMetrics;
+    private final TokenRefreshProperties tokenRefreshProperties;
 
 
     /**
@@ -45,71 +53,67 @@ public class JwtAuthenticationGlobalFilter implements WebFilter {
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
-        String path = exchange.getRequest().getPath().value();
+        long startNanos = System.nanoTime();
         ServerHttpRequest request = exchange.getRequest();
+        AuthRule authRule = authRuleMatcher.match(request);
+        exchange.getAttributes().put(GatewayExchangeAttributes.AUTH_RULE, authRule);
 
-        if (isExcludedPath(path)) {
+        if (authRule.mode() == AuthMode.PUBLIC) {
+            authFilterMetrics.record(exchange, AuthDecision.PUBLIC, startNanos);
             return chain.filter(exchange);
         }
 
-        if (path.startsWith("/orders/none")) {
-            return chain.filter(exchange);
-        }
-
-//        if (path.matches("/coupons")) {
-//            return chain.filter(exchange);
-//        }
-
-        if (path.matches(".*/orders/.*/delivery.*")) {
-            return chain.filter(exchange);
-        }
-
-        String authorizationHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
-        if (Objects.isNull(authorizationHeader) && (path.startsWith("/reviews/books") || path.startsWith("/payments"))) {
-            return chain.filter(exchange);
-        }
-
-        if (path.equals("/orders") && exchange.getRequest().getMethod().equals(HttpMethod.POST) && Objects.isNull(authorizationHeader)) {
-            return chain.filter(exchange);
-        }
-
-        if (path.startsWith("/users/cart-books")
-                && exchange.getRequest().getMethod().name().equals("POST")
-                && request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION) == null) {
-            return chain.filter(exchange);
-        }
-
-        if (path.matches("/books/likes/\\d+/exist")) {
-            try {
-
-                String accessJwtHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
-                String accessJwt = accessJwtHeader.substring(7);
-                String refreshJwt = request.getHeaders().getFirst("Refresh-Token");
-
-                return chain.filter(exchange);
-
-            } catch(NullPointerException e) {
+        String accessJwtHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (Objects.isNull(accessJwtHeader)) {
+            if (authRule.mode() == AuthMode.OPTIONAL) {
+                authFilterMetrics.record(exchange, AuthDecision.ANONYMOUS, startNanos);
                 return chain.filter(exchange);
             }
+            authFilterMetrics.record(exchange, AuthDecision.MISSING_TOKEN, startNanos);
+            return createAuthenticationErrorResponse(exchange, "인증 토큰이 존재하지 않습니다.", HttpStatus.UNAUTHORIZED.value());
         }
 
-        if (path.matches("/coupons") && Objects.isNull(authorizationHeader)) {
-            return chain.filter(exchange);
-        }
-
-
-        String accessJwtHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
         String accessJwt = accessJwtHeader.substring(7);
         String refreshJwt = request.getHeaders().getFirst("Refresh-Token");
 
         if (!isValidAccessJwt(accessJwtHeader, accessJwt)) {
+            authFilterMetrics.record(exchange, AuthDecision.MALFORMED_TOKEN, startNanos);
             return chain.filter(exchange);
         }
 
+        // 키 교체 직후 새 kid 로 서명된 토큰이 거부되지 않도록, 모르는 kid 면 키를 다시 읽을 때까지 잠시 기다립니다.
+        return jwtUtil.awaitSigningKey(accessJwt)
+                .then(jwtUtil.awaitSigningKey(refreshJwt))
+                .then(Mono.defer(() -> authenticate(exchange, chain, accessJwt, refreshJwt, startNanos)));
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrder.AUTHENTICATION;
+    }
+
+    /**
+     * 형식을 통과한 토큰의 폐기 여부와 서명을 확인하고, 만료된 경우 리프레시 토큰으로 갱신합니다.
+     */
+    private Mono<Void> authenticate(ServerWebExchange exchange, WebFilterChain chain, String accessJwt,
+                                    String refreshJwt, long startNanos) {
+        if (tokenRevocationService.isRevoked(accessJwt)) {
+            authFilterMetrics.record(exchange, AuthDecision.REVOKED, startNanos);
+            return createAuthenticationErrorResponse(exchange, "로그아웃된 토큰입니다.", HttpStatus.UNAUTHORIZED.value());
+        }
+
         if (!jwtUtil.isTokenValid(accessJwt)) {
+            // 갱신 결과는 리프레시 토큰별로 잠시 보관되므로, 캐시된 토큰 쌍을 꺼내기 전에 폐기 여부부터 확인합니다.
+            if (tokenRevocationService.isRevoked(refreshJwt)) {
+                authFilterMetrics.record(exchange, AuthDecision.REVOKED, startNanos);
+                return createAuthenticationErrorResponse(exchange, "로그아웃된 토큰입니다.", HttpStatus.UNAUTHORIZED.value());
+            }
             if (jwtUtil.isTokenValid(refreshJwt)) {
+                authFilterMetrics.record(exchange, AuthDecision.REFRESH_TRIGGERED, startNanos);
                 return refreshToken(accessJwt, refreshJwt)
+                        .doOnError(e -> authFilterMetrics.record(exchange, AuthDecision.REFRESH_FAILED, startNanos))
                         .flatMap(newTokens -> {
+                            putLoginUser(exchange, newTokens.accessToken());
                             ServerHttpRequest mutatedRequest = exchange.getRequest().mutate()
                                     .header(HttpHeaders.AUTHORIZATION, "Bearer " + newTokens.accessToken())
                                     .header("Refresh-Token", newTokens.refreshToken())
@@ -118,10 +122,16 @@ public class JwtAuthenticationGlobalFilter implements WebFilter {
                         })
                         .onErrorResume(e -> Mono.error(e));  // 예외를 전역 핸들러로 전파
             } else {
+                authFilterMetrics.record(exchange, AuthDecision.REFRESH_REJECTED, startNanos);
                 return createAuthenticationErrorResponse(exchange, "refresh 토큰이 만료되었습니다.", HttpStatus.UNAUTHORIZED.value());
             }
         }
 
+        putLoginUser(exchange, accessJwt);
+        authFilterMetrics.record(exchange, AuthDecision.TOKEN_VALID, startNanos);
+        if (isInProactiveRefreshWindow(accessJwt, refreshJwt)) {
+            refreshAhead(exchange, accessJwt, refreshJwt);
+        }
         return chain.filter(exchange);
     }
 
@@ -132,16 +142,49 @@ public class JwtAuthenticationGlobalFilter implements WebFilter {
      * @return 갱신된 인증 응답을 포함한 Mono
      */
     private Mono<AuthResponse> refreshToken(String accessJwt, String refreshJwt) {
-        return Mono.fromCallable(() -> {
-                    log.info("Refreshing access token...");
-                    AuthResponse newTokens = tokenService.updateAccessToken(accessJwt, refreshJwt).getBody();
-                    log.info("Access token refreshed: {}", newTokens.accessToken());
-                    return newTokens;
-                })
-                .onErrorMap(e -> {
-                    log.error("Error refreshing token: {}", e.getMessage());
-                    return new RuntimeException("토큰 갱신 중 오류가 발생했습니다.", e);
-                });
+        log.info("Refreshing access token...");
+        return tokenService.updateAccessToken(accessJwt, refreshJwt)
+                .doOnNext(newTokens -> log.info("Access token refreshed: {}", newTokens.accessToken()))
+                .doOnError(e -> log.error("Error refreshing token: {}", e.getMessage()));
+    }
+
+    /**
+     * 검증된 토큰의 사용자 정보와 subject 를 뒤따르는 필터가 쓰도록 exchange 속성에 남깁니다.
+     */
+    private void putLoginUser(ServerWebExchange exchange, String accessJwt) {
+        exchange.getAttributes().put(GatewayExchangeAttributes.LOGIN_USER, jwtUtil.getLoginUserFromToken(accessJwt));
+        String subject = jwtUtil.getSubFromToken(accessJwt);
+        if (subject != null) {
+            exchange.getAttributes().put(GatewayExchangeAttributes.LOGIN_SUBJECT, subject);
+        }
+    }
+
+    private boolean isInProactiveRefreshWindow(String accessJwt, String refreshJwt) {
+        if (!tokenRefreshProperties.proactiveRefreshEnabled() || refreshJwt == null) {
+            return false;
+        }
+        Instant expiration = jwtUtil.getExpiration(accessJwt);
+        return expiration != null
+                && Instant.now().plus(tokenRefreshProperties.proactiveWindow()).isAfter(expiration)
+                && !tokenRevocationService.isRevoked(refreshJwt);
+    }
+
+    /**
+     * 만료가 임박한 토큰을 백그라운드에서 갱신합니다.
+     * 현재 요청은 기존 토큰 그대로 진행하며 갱신을 기다리지 않고, 응답을 보낼 때 갱신이 이미 끝났으면 새 토큰을 응답 헤더에 담습니다.
+     * 이번 응답에 싣지 못한 새 토큰은 같은 리프레시 토큰으로 들어오는 다음 요청의 응답에 담깁니다.
+     */
+    private void refreshAhead(ServerWebExchange exchange, String accessJwt, String refreshJwt) {
+        tokenService.refreshAhead(accessJwt, refreshJwt).subscribe();
+
+        exchange.getResponse().beforeCommit(() -> Mono.fromRunnable(() -> {
+            AuthResponse newTokens = tokenService.rotatedTokens(refreshJwt);
+            if (newTokens != null) {
+                HttpHeaders headers = exchange.getResponse().getHeaders();
+                headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + newTokens.accessToken());
+                headers.set("Refresh-Token", newTokens.refreshToken());
+            }
+        }));
     }
 
     /**
@@ -153,34 +196,7 @@ public class JwtAuthenticationGlobalFilter implements WebFilter {
      * @return 오류 응답을 포함한 Mono
      */
     private Mono<Void> createAuthenticationErrorResponse(ServerWebExchange exchange, String message, int status) {
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("status", status);
-        responseBody.put("message", message);
-        responseBody.put("timestamp", LocalDateTime.now().toString());
-
-        exchange.getResponse().setStatusCode(HttpStatus.valueOf(status));
-        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
-
-        try {
-            byte[] responseBytes = objectMapper.writeValueAsBytes(responseBody);
-            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(responseBytes)));
-        } catch (Exception e) {
-            return Mono.error(e);
-        }
-    }
-
-    /**
-     * 주어진 경로가 인증에서 제외되는지 확인합니다.
-     *
-     * @param path 요청 경로
-     * @return 경로가 제외되면 true, 그렇지 않으면 false
-     */
-    private boolean isExcludedPath(String path) {
-        return path.equals("/auth/login") || path.equals("/auth/refresh") || path.equals("/auth/logout")
-            || path.equals("/books/categories/root") || (path.startsWith("/books") && !path.startsWith("/books/likes"))
-                || path.matches("/books/likes/books/\\d+") || path.equals("/users/check-email") || path.equals("/users/sign-up")
-                || path.equals("/users/find/password") || path.equals("/users/find/email")
-            || path.startsWith("/users/cart-books") || path.startsWith("/policies") || path.startsWith("/auth/dormant");
+        return errorResponseWriter.write(exchange, status, message);
     }
 
     /**
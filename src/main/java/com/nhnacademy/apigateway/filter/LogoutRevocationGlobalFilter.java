@@ -0,0 +1,82 @@
+package com.nhnacademy.apigateway.filter;
+
+import com.nhnacademy.apigateway.application.service.TokenRevocationService;
+import com.nhnacademy.apigateway.application.service.UserSessionChangedEvent;
+import com.nhnacademy.apigateway.util.JwtUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증 서버가 로그아웃을 성공적으로 처리하면 요청에 실린 액세스/리프레시 토큰을 폐기 목록에 추가합니다.
+ * 로그아웃된 토큰은 exp 까지 서명이 유효하므로, 게이트웨이가 직접 기억하지 않으면 계속 통과됩니다.
+ * 로그아웃 경로는 공개되어 있으므로 서명을 검증한 토큰만 폐기하고, 그 토큰의 사용자에 대해서만 이벤트를 발행합니다.
+ * 사용자 정보를 캐시하는 쪽이 해당 사용자의 항목을 버리도록 {@link UserSessionChangedEvent} 도 발행합니다.
+ */
+@Component
+public class LogoutRevocationGlobalFilter implements GlobalFilter, Ordered {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenRevocationService tokenRevocationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JwtUtil jwtUtil;
+    private final String logoutPath;
+
+    public LogoutRevocationGlobalFilter(TokenRevocationService tokenRevocationService,
+                                        ApplicationEventPublisher eventPublisher,
+                                        JwtUtil jwtUtil,
+                                        @Value("${gateway.revocation.logout-path:/auth/logout}") String logoutPath) {
+        this.tokenRevocationService = tokenRevocationService;
+        this.eventPublisher = eventPublisher;
+        this.jwtUtil = jwtUtil;
+        this.logoutPath = logoutPath;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!logoutPath.equals(exchange.getRequest().getPath().value())) {
+            return chain.filter(exchange);
+        }
+
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        String authorization = headers.getFirst(HttpHeaders.AUTHORIZATION);
+        String refreshJwt = headers.getFirst("Refresh-Token");
+
+        return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+            HttpStatusCode status = exchange.getResponse().getStatusCode();
+            if (status == null || !status.is2xxSuccessful()) {
+                return;
+            }
+            if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+                revoke(authorization.substring(BEARER_PREFIX.length()));
+            }
+            if (refreshJwt != null) {
+                revoke(refreshJwt);
+            }
+        }));
+    }
+
+    private void revoke(String jwt) {
+        if (!tokenRevocationService.revokeOnLogout(jwt)) {
+            return;
+        }
+        // 폐기 목록에 들어갔다면 서명을 이미 검증한 토큰이므로, 그 사이 만료되어도 subject 는 그대로 읽습니다.
+        String uuid = jwtUtil.getSubFromTokenWithoutVerification(jwt);
+        if (uuid != null) {
+            eventPublisher.publishEvent(new UserSessionChangedEvent(uuid));
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+}
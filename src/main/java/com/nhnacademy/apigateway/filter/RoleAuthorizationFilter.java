@@ -0,0 +1,99 @@
+package com.nhnacademy.apigateway.filter;
+
+import com.nhnacademy.apigateway.application.service.UserInfoService;
+import com.nhnacademy.apigateway.common.exception.ApplicationException;
+import com.nhnacademy.apigateway.common.exception.AuthServerUnavailableException;
+import com.nhnacademy.apigateway.common.exception.UnauthorizedAccessException;
+import com.nhnacademy.apigateway.common.exception.UuidMisMatchException;
+import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
+import com.nhnacademy.apigateway.filter.metrics.AuthDecision;
+import com.nhnacademy.apigateway.filter.metrics.AuthFilterMetrics;
+import com.nhnacademy.apigateway.filter.rule.AuthRule;
+import com.nhnacademy.apigateway.presentation.dto.response.JwtAuthResponse;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * 경로 규칙에 지정된 역할을 검사하는 필터입니다.
+ * 인증 필터가 exchange 속성에 남긴 규칙과 사용자 정보를 사용하므로 토큰을 다시 파싱하지 않습니다.
+ * <p>
+ * gateway.auth.verify-user-info 를 켜면 토큰의 역할이 맞을 때 토큰 subject (UUID) 로 인증 서버의 사용자 정보를 조회해,
+ * 사용자 번호와 역할이 토큰과 같은지도 확인합니다. 탈퇴했거나 역할이 바뀐 사용자가 만료 전 토큰으로 관리자 경로에 들어오는 것을 막기 위한 것이며,
+ * 조회 결과는 {@link UserInfoService} 가 캐시합니다. 인증 서버 조회에 실패하면 판단할 수 없으므로 503 으로 거절합니다.
+ */
+@Slf4j
+@Component
+public class RoleAuthorizationFilter implements WebFilter, Ordered {
+
+    private final AuthFilterMetrics authFilterMetrics;
+    private final UserInfoService userInfoService;
+    private final boolean verifyUserInfo;
+
+    public RoleAuthorizationFilter(AuthFilterMetrics authFilterMetrics,
+                                   UserInfoService userInfoService,
+                                   @Value("${gateway.auth.verify-user-info:false}") boolean verifyUserInfo) {
+        this.authFilterMetrics = authFilterMetrics;
+        this.userInfoService = userInfoService;
+        this.verifyUserInfo = verifyUserInfo;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long startNanos = System.nanoTime();
+        AuthRule authRule = exchange.getAttribute(GatewayExchangeAttributes.AUTH_RULE);
+        if (authRule == null || !authRule.requiresRole()) {
+            return chain.filter(exchange);
+        }
+
+        JwtAuthResponse loginUser = exchange.getAttribute(GatewayExchangeAttributes.LOGIN_USER);
+        if (loginUser == null || !authRule.roles().contains(loginUser.role())) {
+            authFilterMetrics.record(exchange, AuthDecision.ROLE_DENIED, startNanos);
+            return Mono.error(new UnauthorizedAccessException(ErrorStatus.builder()
+                    .message("접근 권한이 없습니다.")
+                    .status(403)
+                    .timestamp(LocalDateTime.now()).build()));
+        }
+
+        if (!verifyUserInfo) {
+            return chain.filter(exchange);
+        }
+
+        String subject = exchange.getAttribute(GatewayExchangeAttributes.LOGIN_SUBJECT);
+        if (subject == null) {
+            return userMismatch(exchange, startNanos);
+        }
+        return userInfoService.getUserInfo(subject)
+                .filter(userInfo -> matches(loginUser, userInfo))
+                .hasElement()
+                .onErrorMap(e -> !(e instanceof ApplicationException), e -> {
+                    log.warn("User info lookup failed for {}: {}", subject, e.toString());
+                    return new AuthServerUnavailableException(ErrorStatus.toErrorStatus(
+                            "사용자 정보를 확인할 수 없습니다. 잠시 후 다시 시도해 주세요.", 503, LocalDateTime.now()));
+                })
+                .flatMap(matched -> matched ? chain.filter(exchange) : userMismatch(exchange, startNanos));
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrder.AUTHORIZATION;
+    }
+
+    private static boolean matches(JwtAuthResponse loginUser, JwtAuthResponse userInfo) {
+        return Objects.equals(loginUser.customerId(), userInfo.customerId())
+                && Objects.equals(loginUser.role(), userInfo.role());
+    }
+
+    private Mono<Void> userMismatch(ServerWebExchange exchange, long startNanos) {
+        authFilterMetrics.record(exchange, AuthDecision.USER_MISMATCH, startNanos);
+        return Mono.error(new UuidMisMatchException(
+                ErrorStatus.toErrorStatus("사용자 정보가 일치하지 않습니다.", 401, LocalDateTime.now())));
+    }
+}
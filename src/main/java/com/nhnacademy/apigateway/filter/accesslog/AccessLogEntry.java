@@ -0,0 +1,29 @@
+package com.nhnacademy.apigateway.filter.accesslog;
+
+/**
+ * 요청 하나의 접근 로그 항목입니다. 요청 스레드에서는 값만 담고, 문자열 변환은 {@link AccessLogWriter} 가 합니다.
+ *
+ * @param timestampMillis 요청 시작 시각 (epoch millis)
+ * @param method          HTTP 메서드
+ * @param path            요청 경로 (쿼리 제외)
+ * @param status          응답 상태 코드, 클라이언트가 응답 전에 연결을 끊었으면 499
+ * @param routeId         라우트 ID, 라우트가 없으면 null
+ * @param userId          토큰의 사용자 ID, 익명이면 null
+ * @param authDecision    인증/인가 판정, 판정 전에 끝났으면 null
+ * @param clientIp        클라이언트 IP
+ * @param bytesIn         요청 본문 크기, 게이트웨이가 본문을 읽었으면 읽은 바이트 수, 읽지 않았으면 Content-Length, 둘 다 모르면 null
+ * @param bytesOut        응답 본문 크기
+ * @param latencyMicros   요청 시작부터 응답 완료까지 걸린 시간 (마이크로초)
+ */
+public record AccessLogEntry(long timestampMillis,
+                             String method,
+                             String path,
+                             int status,
+                             String routeId,
+                             Long userId,
+                             String authDecision,
+                             String clientIp,
+                             Long bytesIn,
+                             long bytesOut,
+                             long latencyMicros) {
+}
@@ -0,0 +1,39 @@
+package com.nhnacademy.apigateway.filter.accesslog;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 접근 로그 설정입니다. 롤링과 보관 정책은 logback-spring.xml 의 ACCESS_LOG 로거 설정을 따릅니다.
+ *
+ * @param enabled            사용 여부
+ * @param file               접근 로그 파일 경로, logback-spring.xml 이 읽음
+ * @param exclude            기록하지 않을 경로 패턴
+ * @param queueSize          파일에 쓰기 전 보관하는 최대 항목 수, 가득 차면 새 항목을 버림
+ * @param batchSize          한 번에 모아 쓰는 최대 항목 수
+ * @param flushInterval      대기열이 비었을 때 writer 가 다음 항목을 확인하는 간격, 기록 지연의 상한
+ * @param pressureThreshold  대기열 사용률이 이 비율을 넘으면 5xx 가 아닌 항목을 표본만 기록
+ * @param pressureSampleRate 대기열 사용률이 높을 때 5xx 가 아닌 항목을 기록하는 비율
+ */
+@ConfigurationProperties(prefix = "gateway.access-log")
+public record AccessLogProperties(Boolean enabled,
+                                  String file,
+                                  List<String> exclude,
+                                  Integer queueSize,
+                                  Integer batchSize,
+                                  Duration flushInterval,
+                                  Double pressureThreshold,
+                                  Double pressureSampleRate) {
+
+    public AccessLogProperties {
+        enabled = enabled == null || enabled;
+        file = file == null ? "logs/access.log" : file;
+        exclude = exclude == null ? List.of() : List.copyOf(exclude);
+        queueSize = queueSize == null ? 16384 : queueSize;
+        batchSize = batchSize == null ? 512 : batchSize;
+        flushInterval = flushInterval == null ? Duration.ofMillis(5) : flushInterval;
+        pressureThreshold = pressureThreshold == null ? 0.8 : pressureThreshold;
+        pressureSampleRate = pressureSampleRate == null ? 0.1 : pressureSampleRate;
+    }
+}
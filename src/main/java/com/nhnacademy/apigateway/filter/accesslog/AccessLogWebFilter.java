@@ -0,0 +1,188 @@
+package com.nhnacademy.apigateway.filter.accesslog;
+
+import com.nhnacademy.apigateway.filter.GatewayExchangeAttributes;
+import com.nhnacademy.apigateway.filter.metrics.AuthDecision;
+import com.nhnacademy.apigateway.presentation.dto.response.JwtAuthResponse;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 요청마다 라우트, 사용자, 인증 판정, 상태 코드, 요청/응답 크기, 처리 시간을 접근 로그로 남기는 필터입니다.
+ * 다른 필터보다 먼저 실행되어 인증 거절과 요청 제한 응답까지 기록합니다.
+ * 필터 체인 밖의 예외 처리기가 응답을 쓰는 경우에는 응답이 커밋될 때 최종 상태 코드로 기록합니다.
+ * 항목은 {@link AccessLogWriter} 의 대기열에 넣기만 하므로 요청 처리가 파일 쓰기를 기다리지 않습니다.
+ */
+@Component
+public class AccessLogWebFilter implements WebFilter, Ordered {
+
+    // nginx 와 같이 클라이언트가 응답 전에 연결을 끊은 요청을 나타냅니다.
+    private static final int CLIENT_CLOSED_REQUEST = 499;
+
+    private final AccessLogProperties properties;
+    private final AccessLogWriter accessLogWriter;
+    private final List<PathPattern> excludePatterns;
+
+    public AccessLogWebFilter(AccessLogProperties properties, AccessLogWriter accessLogWriter) {
+        this.properties = properties;
+        this.accessLogWriter = accessLogWriter;
+
+        PathPatternParser parser = new PathPatternParser();
+        this.excludePatterns = properties.exclude().stream().map(parser::parse).toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!properties.enabled() || isExcluded(exchange.getRequest())) {
+            return chain.filter(exchange);
+        }
+
+        long timestampMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        ServerHttpResponse response = exchange.getResponse();
+        CountingRequest countingRequest = new CountingRequest(exchange.getRequest());
+        CountingResponse countingResponse = new CountingResponse(response);
+
+        return chain.filter(exchange.mutate().request(countingRequest).response(countingResponse).build())
+                .doOnSuccess(done -> offer(exchange, countingRequest, statusOf(response), countingResponse.bytesOut,
+                        timestampMillis, startNanos))
+                .doOnError(e -> {
+                    if (response.isCommitted()) {
+                        offer(exchange, countingRequest, statusOf(response), countingResponse.bytesOut,
+                                timestampMillis, startNanos);
+                        return;
+                    }
+                    // 예외 처리기가 원래 응답에 오류 응답을 쓰므로, 커밋 시점의 상태 코드와 Content-Length 로 기록합니다.
+                    response.beforeCommit(() -> Mono.fromRunnable(() -> offer(exchange, countingRequest,
+                            statusOf(response), Math.max(response.getHeaders().getContentLength(), 0),
+                            timestampMillis, startNanos)));
+                })
+                .doOnCancel(() -> offer(exchange, countingRequest, CLIENT_CLOSED_REQUEST, countingResponse.bytesOut,
+                        timestampMillis, startNanos));
+    }
+
+    private void offer(ServerWebExchange exchange, CountingRequest countingRequest, int status, long bytesOut,
+                       long timestampMillis, long startNanos) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        JwtAuthResponse loginUser = exchange.getAttribute(GatewayExchangeAttributes.LOGIN_USER);
+        AuthDecision authDecision = exchange.getAttribute(GatewayExchangeAttributes.AUTH_DECISION);
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+
+        accessLogWriter.offer(new AccessLogEntry(
+                timestampMillis,
+                request.getMethod().name(),
+                request.getPath().value(),
+                status,
+                route == null ? null : route.getId(),
+                loginUser == null ? null : loginUser.customerId(),
+                authDecision == null ? null : authDecision.tagValue(),
+                remoteAddress == null || remoteAddress.getAddress() == null
+                        ? null : remoteAddress.getAddress().getHostAddress(),
+                countingRequest.bytesIn(),
+                bytesOut,
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos)));
+    }
+
+    private boolean isExcluded(ServerHttpRequest request) {
+        if (excludePatterns.isEmpty()) {
+            return false;
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        return excludePatterns.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+
+    private static int statusOf(ServerHttpResponse response) {
+        HttpStatusCode status = response.getStatusCode();
+        return status == null ? 200 : status.value();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * 요청 본문 크기를 세는 decorator 입니다. chunked 요청처럼 Content-Length 가 없어도 실제로 받은 크기를 기록합니다.
+     * 한 요청의 본문은 순서대로 한 번만 읽히므로 동기화하지 않습니다.
+     */
+    private static final class CountingRequest extends ServerHttpRequestDecorator {
+
+        private boolean bodyRead;
+        private long bytesIn;
+
+        private CountingRequest(ServerHttpRequest delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return super.getBody()
+                    .doOnSubscribe(subscription -> bodyRead = true)
+                    .doOnNext(buffer -> bytesIn += buffer.readableByteCount());
+        }
+
+        /**
+         * 본문을 읽었으면 읽은 크기를, 읽기 전에 끝났으면 선언된 크기를 돌려줍니다.
+         *
+         * @return 요청 본문 크기, 본문을 읽지 않았고 Content-Length 도 없는 chunked 요청이면 null
+         */
+        private Long bytesIn() {
+            if (bodyRead) {
+                return bytesIn;
+            }
+            HttpHeaders headers = getHeaders();
+            long contentLength = headers.getContentLength();
+            if (contentLength >= 0) {
+                return contentLength;
+            }
+            return headers.containsKey(HttpHeaders.TRANSFER_ENCODING) ? null : 0L;
+        }
+    }
+
+    /**
+     * 응답 본문 크기를 세는 decorator 입니다. 한 응답의 쓰기는 순서대로 일어나므로 동기화하지 않습니다.
+     */
+    private static final class CountingResponse extends ServerHttpResponseDecorator {
+
+        private long bytesOut;
+
+        private CountingResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body).doOnNext(this::count));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(Flux.from(body).map(part -> Flux.from(part).doOnNext(this::count)));
+        }
+
+        private void count(DataBuffer buffer) {
+            bytesOut += buffer.readableByteCount();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.nhnacademy.apigateway.filter.accesslog;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * 접근 로그 항목을 요청 스레드와 분리해 파일에 쓰는 writer 입니다.
+ * 요청 스레드는 잠금 없는 대기열에 항목을 넣기만 하고, 전용 스레드 하나가 대기열을 비우며 batch-size 개씩 JSON 줄로 바꿔
+ * ACCESS_LOG 로거에 한 번에 넘깁니다. 파일 쓰기와 롤링은 logback-spring.xml 의 ACCESS_LOG 설정이 맡습니다.
+ * <p>
+ * 요청 경로가 막히지 않도록 대기열이 차면 새 항목을 버리고, 사용률이 pressure-threshold 를 넘으면 5xx 가 아닌 항목은 표본만 남깁니다.
+ * 버린 항목 수는 gateway.access.log.dropped 로 확인할 수 있습니다.
+ * <p>
+ * 대기열은 고정 크기 링 버퍼 대신 ConcurrentLinkedQueue 와 크기 카운터로 제한합니다.
+ * 여러 요청 스레드가 넣고 writer 스레드 하나가 꺼내는 구조에 별도 의존성 없이 잠금 없이 쓸 수 있는 JDK 대기열이기 때문입니다.
+ * 항목마다 노드 하나를 할당하지만 queue-size 만큼의 배열을 미리 잡아 두지 않습니다.
+ */
+@Slf4j
+@Component
+public class AccessLogWriter implements DisposableBean {
+
+    public static final String LOGGER_NAME = "ACCESS_LOG";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final Logger ACCESS_LOGGER = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final AccessLogProperties properties;
+    private final Queue<AccessLogEntry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int pressureSize;
+    private final Counter droppedFull;
+    private final Counter droppedSampled;
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    public AccessLogWriter(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.pressureSize = (int) (properties.queueSize() * properties.pressureThreshold());
+        this.droppedFull = droppedCounter(meterRegistry, "full");
+        this.droppedSampled = droppedCounter(meterRegistry, "sampled");
+        Gauge.builder("gateway.access.log.queued", size, AtomicInteger::get)
+                .description("파일에 쓰기를 기다리는 접근 로그 항목 수")
+                .register(meterRegistry);
+
+        // 파일 쓰기로 블로킹되는 스레드이므로 요청 처리 스레드와 분리된 전용 스레드를 씁니다.
+        this.worker = new Thread(this::drain, "access-log-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 항목을 대기열에 넣습니다. 기다리지 않으며, 대기열이 찼거나 표본에서 빠지면 항목을 버립니다.
+     *
+     * @return 대기열에 넣었으면 true
+     */
+    public boolean offer(AccessLogEntry entry) {
+        int current = size.get();
+        if (current >= pressureSize && entry.status() < 500
+                && ThreadLocalRandom.current().nextDouble() >= properties.pressureSampleRate()) {
+            droppedSampled.increment();
+            return false;
+        }
+        while (true) {
+            if (current >= properties.queueSize()) {
+                droppedFull.increment();
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                queue.offer(entry);
+                return true;
+            }
+            current = size.get();
+        }
+    }
+
+    private void drain() {
+        StringWriter batch = new StringWriter(properties.batchSize() * 256);
+        long idleNanos = properties.flushInterval().toNanos();
+        while (running || !queue.isEmpty()) {
+            int count = 0;
+            AccessLogEntry entry;
+            while (count < properties.batchSize() && (entry = queue.poll()) != null) {
+                if (count > 0) {
+                    batch.write('\n');
+                }
+                write(batch, entry);
+                count++;
+            }
+            if (count == 0) {
+                LockSupport.parkNanos(idleNanos);
+                continue;
+            }
+
+            size.addAndGet(-count);
+            try {
+                ACCESS_LOGGER.info(batch.toString());
+            } catch (RuntimeException e) {
+                log.warn("Failed to write {} access log entries", count, e);
+            }
+            batch.getBuffer().setLength(0);
+        }
+    }
+
+    private static void write(StringWriter writer, AccessLogEntry entry) {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeStringField("ts", Instant.ofEpochMilli(entry.timestampMillis()).toString());
+            generator.writeStringField("method", entry.method());
+            generator.writeStringField("path", entry.path());
+            generator.writeNumberField("status", entry.status());
+            generator.writeStringField("route", entry.routeId());
+            if (entry.userId() != null) {
+                generator.writeNumberField("user", entry.userId());
+            } else {
+                generator.writeNullField("user");
+            }
+            generator.writeStringField("auth", entry.authDecision());
+            generator.writeStringField("ip", entry.clientIp());
+            if (entry.bytesIn() != null) {
+                generator.writeNumberField("bytesIn", entry.bytesIn());
+            } else {
+                generator.writeNullField("bytesIn");
+            }
+            generator.writeNumberField("bytesOut", entry.bytesOut());
+            generator.writeNumberField("latencyMs", entry.latencyMicros() / 1000.0);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            // StringWriter 에 쓰므로 발생하지 않습니다.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 남은 항목을 모두 쓴 뒤 writer 스레드를 멈춥니다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private static Counter droppedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("gateway.access.log.dropped")
+                .description("대기열이 차서 버린 접근 로그 항목 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
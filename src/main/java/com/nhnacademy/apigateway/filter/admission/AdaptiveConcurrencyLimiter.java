@@ -0,0 +1,100 @@
+package com.nhnacademy.apigateway.filter.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 백엔드 하나의 동시 처리 한도를 응답 지연의 변화로 조정하는 limiter 입니다.
+ * 최근 지연(단기 평균)이 부하가 없을 때의 지연(기준 지연)의 tolerance 배를 넘으면 그 비율만큼 한도를 줄이고,
+ * 지연이 기준 수준이면 한도에 √limit 만큼 여유를 더해 조금씩 늘립니다 (Netflix concurrency-limits 의 Gradient 방식).
+ * 기준 지연은 직전 주기와 현재 주기(baseline-window)에 관측한 최소 지연입니다.
+ * 장기 평균을 기준으로 쓰면 과부하가 이어질 때 밀린 지연을 평소 지연으로 학습해 한도를 줄이지 못하기 때문입니다.
+ * 한도의 절반도 사용하지 않는 동안에는 지연이 한도와 무관하므로 한도를 바꾸지 않습니다.
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    // 단기 평균은 최근 약 10개 응답을 반영합니다.
+    private static final double SHORT_RTT_WEIGHT = 0.1;
+
+    private final AdmissionControlProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    // 아래 필드는 onSample 의 잠금 안에서만 읽고 씁니다.
+    private double shortRttNanos;
+    private long previousWindowMinRttNanos = Long.MAX_VALUE;
+    private long currentWindowMinRttNanos = Long.MAX_VALUE;
+    private long windowStartNanos = System.nanoTime();
+
+    AdaptiveConcurrencyLimiter(AdmissionControlProperties properties) {
+        this.properties = properties;
+        this.limit = properties.initialLimit();
+    }
+
+    /**
+     * 우선순위에 허용된 몫 안에서 동시 처리 자리를 얻습니다.
+     *
+     * @return 자리를 얻었으면 true, 해당 우선순위의 몫이 찼으면 false
+     */
+    boolean tryAcquire(RequestPriority priority) {
+        int allowed = Math.max(1, (int) (limit * properties.shareOf(priority)));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 자리를 반납하고 응답 지연을 한도 계산에 반영합니다.
+     */
+    void release(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+        onSample(rttNanos, current);
+    }
+
+    /**
+     * 지연을 반영하지 않고 자리만 반납합니다.
+     * 클라이언트가 연결을 끊었거나, 백엔드에 닿지 않고 게이트웨이가 직접 응답한 경우처럼 지연이 의미 없는 경우에 사용합니다.
+     */
+    void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    double limit() {
+        return limit;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        long now = System.nanoTime();
+        if (now - windowStartNanos >= properties.baselineWindow().toNanos()) {
+            previousWindowMinRttNanos = currentWindowMinRttNanos;
+            currentWindowMinRttNanos = Long.MAX_VALUE;
+            windowStartNanos = now;
+        }
+        currentWindowMinRttNanos = Math.min(currentWindowMinRttNanos, rttNanos);
+        if (shortRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_RTT_WEIGHT;
+        double baselineRttNanos = Math.min(previousWindowMinRttNanos, currentWindowMinRttNanos);
+
+        double currentLimit = limit;
+        if (inFlightAtCompletion < currentLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, properties.tolerance() * baselineRttNanos / shortRttNanos));
+        double newLimit = currentLimit * gradient + Math.sqrt(currentLimit);
+        newLimit = currentLimit * (1 - properties.smoothing()) + newLimit * properties.smoothing();
+        limit = Math.max(properties.minLimit(), Math.min(properties.maxLimit(), newLimit));
+    }
+}
@@ -0,0 +1,124 @@
+package com.nhnacademy.apigateway.filter.admission;
+
+import com.nhnacademy.apigateway.common.exception.AdmissionRejectedException;
+import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
+import com.nhnacademy.apigateway.filter.GatewayExchangeAttributes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 백엔드(라우트)별 적응형 동시 처리 한도로 요청을 받아들이고, 과부하 시 우선순위가 낮은 요청부터 바로 503 으로 거절하는 필터입니다.
+ * 우선순위는 경로 규칙(결제 > 주문)과 로그인 여부(로그인 > 익명)로 정하며, 우선순위마다 한도의 일정 몫까지만 사용할 수 있습니다.
+ * 익명 조회가 몰려도 한도의 나머지는 결제/주문 요청을 위해 남아 있으므로 결제/주문이 백엔드 대기열 뒤에 밀리지 않습니다.
+ * 본문을 읽기 전에 판단하도록 요청 본문 크기 제한보다 먼저 실행됩니다.
+ * 한도 계산에는 백엔드가 실제로 응답한 요청의 지연만 반영합니다.
+ */
+@Component
+public class AdmissionControlGlobalFilter implements GlobalFilter, Ordered {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final AdmissionControlProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final List<CompiledRule> rules;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public AdmissionControlGlobalFilter(AdmissionControlProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        PathPatternParser parser = new PathPatternParser();
+        this.rules = properties.priorities().stream()
+                .map(rule -> new CompiledRule(parser.parse(rule.path()), rule.priority()))
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.enabled() || route == null) {
+            return chain.filter(exchange);
+        }
+
+        RequestPriority priority = priorityOf(exchange);
+        AdaptiveConcurrencyLimiter limiter = limiters.computeIfAbsent(route.getId(), this::createLimiter);
+        if (!limiter.tryAcquire(priority)) {
+            rejectedCounter(route.getId(), priority).increment();
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            return Mono.error(new AdmissionRejectedException(ErrorStatus.toErrorStatus(
+                    "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 503, LocalDateTime.now())));
+        }
+
+        long startNanos = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    // 캐시 적중, 요청 수 제한, 멱등 재생처럼 게이트웨이가 직접 답한 응답의 지연은 백엔드 지연이 아니므로 반영하지 않습니다.
+                    if (signal == SignalType.ON_COMPLETE
+                            && exchange.getAttribute(ServerWebExchangeUtils.CLIENT_RESPONSE_ATTR) != null) {
+                        limiter.release(System.nanoTime() - startNanos);
+                    } else {
+                        limiter.releaseWithoutSample();
+                    }
+                });
+    }
+
+    private RequestPriority priorityOf(ServerWebExchange exchange) {
+        PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+        for (CompiledRule rule : rules) {
+            if (rule.pattern().matches(path)) {
+                return rule.priority();
+            }
+        }
+        return exchange.getAttribute(GatewayExchangeAttributes.LOGIN_USER) != null
+                ? RequestPriority.NORMAL
+                : RequestPriority.LOW;
+    }
+
+    private AdaptiveConcurrencyLimiter createLimiter(String routeId) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        Gauge.builder("gateway.admission.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                .description("백엔드별 동시 처리 한도")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.admission.inflight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                .description("백엔드별 처리 중인 요청 수")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    private Counter rejectedCounter(String routeId, RequestPriority priority) {
+        return rejectedCounters.computeIfAbsent(routeId + '|' + priority, key -> Counter.builder("gateway.admission.rejected")
+                .description("동시 처리 한도 초과로 거절한 요청 수")
+                .tag("route", routeId)
+                .tag("priority", priority.name())
+                .register(meterRegistry));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 25;
+    }
+
+    private record CompiledRule(PathPattern pattern, RequestPriority priority) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.nhnacademy.apigateway.filter.admission;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 백엔드별 적응형 동시 처리 한도와 우선순위별 요청 수용 설정입니다.
+ *
+ * @param enabled      사용 여부
+ * @param initialLimit 백엔드별 동시 처리 한도의 초기값
+ * @param minLimit     한도의 하한
+ * @param maxLimit     한도의 상한
+ * @param smoothing    새로 계산한 한도를 반영하는 비율 (0~1), 클수록 빠르게 변함
+ * @param tolerance    기준 지연 대비 허용하는 지연 증가 배율, 이보다 느려지면 한도를 줄임
+ * @param baselineWindow 기준 지연(최소 지연)을 다시 재는 주기, 백엔드가 계속 느려지면 최대 두 주기 뒤에 새 기준을 사용
+ * @param shares       우선순위별로 사용할 수 있는 한도의 비율, 지정하지 않은 우선순위는 1.0
+ * @param priorities   경로별 우선순위, 처음 일치하는 규칙을 사용하며 일치하지 않으면 로그인 여부로 NORMAL/LOW
+ */
+@ConfigurationProperties(prefix = "gateway.admission")
+public record AdmissionControlProperties(Boolean enabled,
+                                         Integer initialLimit,
+                                         Integer minLimit,
+                                         Integer maxLimit,
+                                         Double smoothing,
+                                         Double tolerance,
+                                         Duration baselineWindow,
+                                         Map<RequestPriority, Double> shares,
+                                         List<PriorityRule> priorities) {
+
+    public AdmissionControlProperties {
+        enabled = enabled == null || enabled;
+        initialLimit = initialLimit == null ? 100 : initialLimit;
+        minLimit = minLimit == null ? 8 : minLimit;
+        maxLimit = maxLimit == null ? 1000 : maxLimit;
+        smoothing = smoothing == null ? 0.2 : smoothing;
+        tolerance = tolerance == null ? 1.5 : tolerance;
+        baselineWindow = baselineWindow == null ? Duration.ofSeconds(30) : baselineWindow;
+        EnumMap<RequestPriority, Double> resolvedShares = new EnumMap<>(RequestPriority.class);
+        for (RequestPriority priority : RequestPriority.values()) {
+            resolvedShares.put(priority, shares == null ? 1.0 : shares.getOrDefault(priority, 1.0));
+        }
+        shares = resolvedShares;
+        priorities = priorities == null ? List.of() : List.copyOf(priorities);
+    }
+
+    public double shareOf(RequestPriority priority) {
+        return shares.get(priority);
+    }
+
+    /**
+     * @param path     PathPattern 형식의 경로 패턴
+     * @param priority 우선순위
+     */
+    public record PriorityRule(String path, RequestPriority priority) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.nhnacademy.apigateway.filter.admission;
+
+/**
+ * 과부하 시 요청을 받아들이는 우선순위입니다.
+ * 우선순위가 낮을수록 백엔드 동시 처리 한도의 더 작은 몫만 사용할 수 있어 먼저 거절됩니다.
+ */
+public enum RequestPriority {
+
+    /**
+     * 결제
+     */
+    CRITICAL,
+    /**
+     * 주문
+     */
+    HIGH,
+    /**
+     * 그 밖의 로그인 사용자 요청
+     */
+    NORMAL,
+    /**
+     * 그 밖의 익명 요청
+     */
+    LOW
+}
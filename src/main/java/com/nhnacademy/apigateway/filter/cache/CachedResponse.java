@@ -0,0 +1,40 @@
+package com.nhnacademy.apigateway.filter.cache;
+
+import java.nio.ByteBuffer;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 캐시된 응답입니다.
+ * 본문은 GC 부담을 줄이기 위해 힙 밖의 direct 버퍼에 읽기 전용으로 보관하며, 백엔드 응답 조각을 힙 배열을 거치지 않고 바로 복사합니다.
+ *
+ * @param status         HTTP 상태 코드
+ * @param headers        클라이언트에 다시 보낼 응답 헤더
+ * @param body           응답 본문
+ * @param freshUntil     이 시각(System.nanoTime)까지는 백엔드 확인 없이 응답
+ * @param retainUntil    이 시각까지 재검증용으로 보관
+ */
+record CachedResponse(int status, HttpHeaders headers, ByteBuffer body, long freshUntil, long retainUntil) {
+
+    /**
+     * @param body {@link DirectBodyBuffer} 로 모은 읽기 전용 direct 버퍼
+     */
+    static CachedResponse of(int status, HttpHeaders headers, ByteBuffer body, long freshUntil, long retainUntil) {
+        return new CachedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), body, freshUntil, retainUntil);
+    }
+
+    boolean isFresh(long now) {
+        return now - freshUntil < 0;
+    }
+
+    boolean hasValidator() {
+        return headers.getETag() != null || headers.getLastModified() >= 0;
+    }
+
+    CachedResponse refreshed(long freshUntil, long retainUntil) {
+        return new CachedResponse(status, headers, body, freshUntil, retainUntil);
+    }
+
+    int weight() {
+        return body.capacity() + 256;
+    }
+}
@@ -0,0 +1,74 @@
+package com.nhnacademy.apigateway.filter.cache;
+
+import java.nio.ByteBuffer;
+import org.springframework.core.io.buffer.DataBuffer;
+
+/**
+ * 응답 본문 조각을 힙 배열을 거치지 않고 direct 버퍼에 바로 모읍니다.
+ * Content-Length 를 알면 그 크기로 한 번에 잡고, 모르면 두 배씩 늘리다가 마지막에 실제 크기로 맞춥니다.
+ * 본문이 최대 크기를 넘으면 모으기를 멈추고 그때까지 잡은 버퍼를 놓습니다.
+ * 한 응답의 쓰기는 순서대로 일어나므로 동기화하지 않습니다.
+ */
+final class DirectBodyBuffer {
+
+    private static final int INITIAL_CAPACITY = 4 * 1024;
+
+    private final int maxBytes;
+    private ByteBuffer buffer;
+
+    /**
+     * @param declaredLength 응답의 Content-Length, 모르면 음수
+     * @param maxBytes       모을 수 있는 최대 크기
+     */
+    DirectBodyBuffer(long declaredLength, int maxBytes) {
+        this.maxBytes = maxBytes;
+        if (declaredLength <= maxBytes) {
+            int capacity = declaredLength >= 0 ? (int) declaredLength : Math.min(INITIAL_CAPACITY, maxBytes);
+            this.buffer = ByteBuffer.allocateDirect(capacity);
+        }
+    }
+
+    /**
+     * 조각을 복사합니다. 조각의 읽기 위치는 바꾸지 않으므로 같은 조각을 그대로 클라이언트에 쓸 수 있습니다.
+     */
+    void append(DataBuffer chunk) {
+        if (buffer == null) {
+            return;
+        }
+        int length = chunk.readableByteCount();
+        if (length > buffer.remaining() && !grow(buffer.position() + length)) {
+            buffer = null;
+            return;
+        }
+        chunk.toByteBuffer(chunk.readPosition(), buffer, buffer.position(), length);
+        buffer.position(buffer.position() + length);
+    }
+
+    /**
+     * @return 모은 본문의 읽기 전용 버퍼, 최대 크기를 넘었으면 null
+     */
+    ByteBuffer complete() {
+        if (buffer == null) {
+            return null;
+        }
+        buffer.flip();
+        if (buffer.limit() == buffer.capacity()) {
+            return buffer.asReadOnlyBuffer();
+        }
+        // 늘리면서 남은 공간까지 캐시 용량을 차지하지 않도록 실제 크기로 옮깁니다.
+        ByteBuffer trimmed = ByteBuffer.allocateDirect(buffer.limit());
+        trimmed.put(buffer).flip();
+        return trimmed.asReadOnlyBuffer();
+    }
+
+    private boolean grow(int required) {
+        if (required > maxBytes) {
+            return false;
+        }
+        int capacity = Math.min(Math.max(buffer.capacity() * 2, required), maxBytes);
+        ByteBuffer grown = ByteBuffer.allocateDirect(capacity);
+        grown.put(buffer.flip());
+        buffer = grown;
+        return true;
+    }
+}
@@ -0,0 +1,117 @@
+package com.nhnacademy.apigateway.filter.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공개 GET 응답 저장소입니다.
+ * 전체 본문 크기 기준으로 용량을 제한하며, 항목은 재검증 보관 시간이 지나면 제거됩니다.
+ * 적중률과 사용량은 gateway.response.cache.* 메트릭으로 노출됩니다.
+ * 유효 시간이 지난 항목도 재검증을 위해 조회되므로, 적중과 미스는 조회 결과가 아니라 필터가 유효한 항목으로 응답했는지로 기록합니다.
+ */
+@Component
+public class ResponseCache {
+
+    private final Cache<String, CachedResponse> cache;
+    private final FreshnessStatsCounter statsCounter = new FreshnessStatsCounter();
+
+    public ResponseCache(ResponseCacheProperties responseCacheProperties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(responseCacheProperties.maxSize().toBytes())
+                .weigher((String key, CachedResponse response) -> response.weight())
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+                        return Math.max(0, response.retainUntil() - System.nanoTime());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse response, long currentTime,
+                                                  long currentDuration) {
+                        return Math.max(0, response.retainUntil() - System.nanoTime());
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse response, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats(() -> statsCounter)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.response.cache");
+        Gauge.builder("gateway.response.cache.bytes", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .description("캐시된 응답 본문 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    void put(String key, CachedResponse response) {
+        cache.put(key, response);
+    }
+
+    /**
+     * 유효한 항목으로 응답한 요청을 적중으로 기록합니다.
+     */
+    void recordHit() {
+        statsCounter.delegate.recordHits(1);
+    }
+
+    /**
+     * 백엔드로 보낸 요청(항목 없음, 재검증)을 미스로 기록합니다.
+     */
+    void recordMiss() {
+        statsCounter.delegate.recordMisses(1);
+    }
+
+    /**
+     * 조회 시 Caffeine 이 기록하는 적중/미스는 버리고, 제거와 로드 통계만 그대로 기록합니다.
+     */
+    private static final class FreshnessStatsCounter implements StatsCounter {
+
+        private final ConcurrentStatsCounter delegate = new ConcurrentStatsCounter();
+
+        @Override
+        public void recordHits(int count) {
+        }
+
+        @Override
+        public void recordMisses(int count) {
+        }
+
+        @Override
+        public void recordLoadSuccess(long loadTime) {
+            delegate.recordLoadSuccess(loadTime);
+        }
+
+        @Override
+        public void recordLoadFailure(long loadTime) {
+            delegate.recordLoadFailure(loadTime);
+        }
+
+        @Override
+        public void recordEviction(int weight, RemovalCause cause) {
+            delegate.recordEviction(weight, cause);
+        }
+
+        @Override
+        public CacheStats snapshot() {
+            return delegate.snapshot();
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.nhnacademy.apigateway.filter.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 설정된 공개 GET 경로의 응답을 게이트웨이에서 캐시하는 필터입니다.
+ * <ul>
+ *     <li>백엔드의 Cache-Control(no-store, private, no-cache, max-age, s-maxage)을 따릅니다.</li>
+ *     <li>유효 시간이 지난 항목은 If-None-Match / If-Modified-Since 로 재검증하고, 304 응답이면 캐시된 본문을 돌려줍니다.</li>
+ *     <li>같은 키로 동시에 들어온 캐시 미스와 재검증은 첫 요청의 결과를 기다렸다가 캐시에서 응답합니다.</li>
+ * </ul>
+ */
+@Component
+public class ResponseCacheGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private static final List<String> STORED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.CACHE_CONTROL);
+    private static final Set<String> IGNORED_VARY = Set.of(
+            "origin", "access-control-request-method", "access-control-request-headers");
+
+    private final ResponseCacheProperties properties;
+    private final ResponseCache responseCache;
+    private final List<PathPattern> includePatterns;
+    private final List<PathPattern> excludePatterns;
+    private final Map<String, Sinks.Empty<Void>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter collapsedCounter;
+    private final Counter notModifiedCounter;
+    private final Counter modifiedCounter;
+
+    public ResponseCacheGlobalFilter(ResponseCacheProperties properties, ResponseCache responseCache,
+                                     MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.responseCache = responseCache;
+
+        PathPatternParser parser = new PathPatternParser();
+        this.includePatterns = properties.include().stream().map(parser::parse).toList();
+        this.excludePatterns = properties.exclude().stream().map(parser::parse).toList();
+
+        this.collapsedCounter = Counter.builder("gateway.response.cache.collapsed")
+                .description("선행 요청의 결과를 기다린 캐시 미스 수")
+                .register(meterRegistry);
+        this.notModifiedCounter = Counter.builder("gateway.response.cache.revalidations")
+                .tag("result", "not_modified")
+                .register(meterRegistry);
+        this.modifiedCounter = Counter.builder("gateway.response.cache.revalidations")
+                .tag("result", "modified")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!isCacheable(request)) {
+            return chain.filter(exchange);
+        }
+
+        String rawQuery = request.getURI().getRawQuery();
+        String key = rawQuery == null ? request.getURI().getRawPath() : request.getURI().getRawPath() + '?' + rawQuery;
+        CachedResponse cached = responseCache.get(key);
+        if (cached != null && cached.isFresh(System.nanoTime())) {
+            responseCache.recordHit();
+            return writeCached(exchange.getResponse(), request.getHeaders().getIfNoneMatch(), cached, "HIT");
+        }
+        CachedResponse stale = cached != null && cached.hasValidator() ? cached : null;
+
+        // 항목이 없을 때와 재검증할 때 모두 같은 키의 요청은 하나만 백엔드로 보냅니다.
+        Sinks.Empty<Void> leader = Sinks.empty();
+        Sinks.Empty<Void> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            collapsedCounter.increment();
+            return existing.asMono()
+                    .timeout(properties.collapseTimeout(), Mono.empty())
+                    .then(Mono.defer(() -> {
+                        CachedResponse stored = responseCache.get(key);
+                        if (stored != null && stored.isFresh(System.nanoTime())) {
+                            responseCache.recordHit();
+                            return writeCached(exchange.getResponse(), request.getHeaders().getIfNoneMatch(), stored,
+                                    "HIT");
+                        }
+                        responseCache.recordMiss();
+                        return chain.filter(exchange);
+                    }));
+        }
+
+        responseCache.recordMiss();
+        return forward(exchange, chain, key, stale)
+                .doFinally(signal -> {
+                    inFlight.remove(key, leader);
+                    leader.tryEmitEmpty();
+                });
+    }
+
+    private boolean isCacheable(ServerHttpRequest request) {
+        if (!properties.enabled() || request.getMethod() != HttpMethod.GET) {
+            return false;
+        }
+        if (properties.bypassAuthenticated() && request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+            return false;
+        }
+
+        PathContainer path = request.getPath().pathWithinApplication();
+        return matchesAny(includePatterns, path) && !matchesAny(excludePatterns, path);
+    }
+
+    private static boolean matchesAny(List<PathPattern> patterns, PathContainer path) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Mono<Void> forward(ServerWebExchange exchange, GatewayFilterChain chain, String key, CachedResponse stale) {
+        ServerHttpRequest request = exchange.getRequest();
+        // 요청 빌더는 원본 헤더를 공유할 수 있으므로 재검증 헤더를 넣기 전에 클라이언트 값을 복사해 둡니다.
+        List<String> clientIfNoneMatch = List.copyOf(request.getHeaders().getIfNoneMatch());
+        if (stale != null) {
+            request = request.mutate()
+                    .headers(headers -> {
+                        if (stale.headers().getETag() != null) {
+                            headers.setIfNoneMatch(stale.headers().getETag());
+                        }
+                        if (stale.headers().getLastModified() >= 0) {
+                            headers.setIfModifiedSince(stale.headers().getLastModified());
+                        }
+                    })
+                    .build();
+        }
+
+        CachingResponseDecorator response = new CachingResponseDecorator(exchange.getResponse(), clientIfNoneMatch,
+                key, stale);
+        return chain.filter(exchange.mutate().request(request).response(response).build());
+    }
+
+    private Mono<Void> writeCached(ServerHttpResponse response, List<String> ifNoneMatch, CachedResponse cached,
+                                   String cacheStatus) {
+        HttpHeaders headers = response.getHeaders();
+        cached.headers().forEach(headers::put);
+        headers.set(CACHE_STATUS_HEADER, cacheStatus);
+
+        String etag = cached.headers().getETag();
+        if (etag != null && ifNoneMatch.contains(etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatusCode.valueOf(cached.status()));
+        headers.setContentLength(cached.body().remaining());
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.body().duplicate())));
+    }
+
+    /**
+     * Cache-Control 헤더로부터 캐시 유효 시간을 계산합니다.
+     *
+     * @return 유효 시간, 저장하면 안 되는 응답이면 null
+     */
+    private Duration freshness(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) {
+            return properties.defaultTtl();
+        }
+
+        Duration maxAge = null;
+        for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+            String value = directive.trim();
+            if (value.equals("no-store") || value.equals("private") || value.equals("no-cache")) {
+                return null;
+            }
+            if (value.startsWith("s-maxage=")) {
+                maxAge = parseSeconds(value.substring("s-maxage=".length()));
+            } else if (value.startsWith("max-age=") && maxAge == null) {
+                maxAge = parseSeconds(value.substring("max-age=".length()));
+            }
+        }
+        return maxAge != null ? maxAge : properties.defaultTtl();
+    }
+
+    private static Duration parseSeconds(String value) {
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return Duration.ZERO;
+        }
+    }
+
+    private static boolean isStorable(HttpStatusCode status, HttpHeaders headers) {
+        if (status == null || status.value() != HttpStatus.OK.value()
+                || headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return false;
+        }
+        for (String vary : headers.getVary()) {
+            if (!IGNORED_VARY.contains(vary.toLowerCase(Locale.ROOT))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static HttpHeaders storedHeaders(HttpHeaders headers) {
+        HttpHeaders stored = new HttpHeaders();
+        for (String name : STORED_HEADERS) {
+            List<String> values = headers.get(name);
+            if (values != null) {
+                stored.put(name, values);
+            }
+        }
+        return stored;
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    /**
+     * 백엔드 응답 본문을 클라이언트로 흘려보내면서 캐시에 저장할 사본을 만드는 응답 데코레이터입니다.
+     */
+    private class CachingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final List<String> clientIfNoneMatch;
+        private final String key;
+        private final CachedResponse stale;
+
+        CachingResponseDecorator(ServerHttpResponse delegate, List<String> clientIfNoneMatch, String key,
+                                 CachedResponse stale) {
+            super(delegate);
+            this.clientIfNoneMatch = clientIfNoneMatch;
+            this.key = key;
+            this.stale = stale;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+            if (stale != null && status != null && status.value() == HttpStatus.NOT_MODIFIED.value()) {
+                notModifiedCounter.increment();
+                CachedResponse revalidated = revalidate(stale);
+                return Flux.from(body)
+                        .doOnNext(DataBufferUtils::release)
+                        .then(Mono.defer(() -> writeCached(getDelegate(), clientIfNoneMatch, revalidated, "REVALIDATED")));
+            }
+            if (stale != null) {
+                modifiedCounter.increment();
+            }
+
+            Duration freshness = isStorable(status, getHeaders()) ? freshness(getHeaders()) : null;
+            if (freshness == null || freshness.isZero() || freshness.isNegative()) {
+                return super.writeWith(body);
+            }
+
+            HttpHeaders headers = storedHeaders(getHeaders());
+            DirectBodyBuffer copy = new DirectBodyBuffer(getHeaders().getContentLength(),
+                    (int) properties.maxEntrySize().toBytes());
+
+            Flux<DataBuffer> tapped = Flux.from(body)
+                    .map(buffer -> {
+                        copy.append(buffer);
+                        return (DataBuffer) buffer;
+                    })
+                    .doOnComplete(() -> {
+                        ByteBuffer stored = copy.complete();
+                        if (stored != null) {
+                            long now = System.nanoTime();
+                            long freshUntil = now + freshness.toNanos();
+                            responseCache.put(key, CachedResponse.of(status.value(), headers, stored,
+                                    freshUntil, retainUntil(freshUntil, headers)));
+                        }
+                    });
+
+            getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+            return super.writeWith(tapped);
+        }
+
+        private CachedResponse revalidate(CachedResponse stale) {
+            Duration freshness = freshness(getHeaders());
+            long freshUntil = System.nanoTime() + (freshness == null ? 0 : freshness.toNanos());
+            CachedResponse revalidated = stale.refreshed(freshUntil, retainUntil(freshUntil, stale.headers()));
+            responseCache.put(key, revalidated);
+
+            // 304 응답에 실린 헤더는 캐시된 본문 기준으로 다시 작성합니다.
+            getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+            return revalidated;
+        }
+
+        private long retainUntil(long freshUntil, HttpHeaders headers) {
+            boolean hasValidator = headers.getETag() != null || headers.getLastModified() >= 0;
+            return hasValidator ? freshUntil + properties.staleRetention().toNanos() : freshUntil;
+        }
+    }
+}
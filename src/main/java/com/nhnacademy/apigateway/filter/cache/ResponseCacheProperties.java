@@ -0,0 +1,42 @@
+package com.nhnacademy.apigateway.filter.cache;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 공개 GET 응답 캐시 설정입니다.
+ *
+ * @param enabled             캐시 사용 여부
+ * @param include             캐시할 경로 패턴
+ * @param exclude             include 에 포함되더라도 캐시하지 않을 경로 패턴
+ * @param maxSize             캐시 본문 전체의 최대 크기
+ * @param maxEntrySize        항목 하나의 최대 본문 크기, 이보다 큰 응답은 저장하지 않음
+ * @param defaultTtl          Cache-Control 에 max-age 가 없을 때 적용할 유효 시간
+ * @param staleRetention      유효 시간이 지난 뒤 ETag/Last-Modified 재검증을 위해 보관하는 시간
+ * @param collapseTimeout     같은 키의 캐시 미스가 선행 요청을 기다리는 최대 시간
+ * @param bypassAuthenticated Authorization 헤더가 있는 요청은 캐시를 사용하지 않음
+ */
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public record ResponseCacheProperties(boolean enabled,
+                                      List<String> include,
+                                      List<String> exclude,
+                                      DataSize maxSize,
+                                      DataSize maxEntrySize,
+                                      Duration defaultTtl,
+                                      Duration staleRetention,
+                                      Duration collapseTimeout,
+                                      Boolean bypassAuthenticated) {
+
+    public ResponseCacheProperties {
+        include = include == null ? List.of() : List.copyOf(include);
+        exclude = exclude == null ? List.of() : List.copyOf(exclude);
+        maxSize = maxSize == null ? DataSize.ofMegabytes(64) : maxSize;
+        maxEntrySize = maxEntrySize == null ? DataSize.ofKilobytes(512) : maxEntrySize;
+        defaultTtl = defaultTtl == null ? Duration.ofSeconds(5) : defaultTtl;
+        staleRetention = staleRetention == null ? Duration.ofMinutes(1) : staleRetention;
+        collapseTimeout = collapseTimeout == null ? Duration.ofSeconds(3) : collapseTimeout;
+        bypassAuthenticated = bypassAuthenticated == null || bypassAuthenticated;
+    }
+}
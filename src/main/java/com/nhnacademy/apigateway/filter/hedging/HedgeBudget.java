@@ -0,0 +1,40 @@
+package com.nhnacademy.apigateway.filter.hedging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 헤지 요청이 백엔드 부하를 일정 비율 이상 늘리지 않도록 하는 예산입니다.
+ * 헤지 대상 요청이 들어올 때마다 ratio 만큼 적립하고 헤지 요청 하나를 보낼 때 1 을 씁니다.
+ * 적립액은 burst 까지만 쌓이므로 백엔드가 전체적으로 느려져도 헤지 요청은 대상 요청의 ratio 비율을 넘지 않습니다.
+ */
+final class HedgeBudget {
+
+    // 소수 적립을 정수로 다루기 위해 헤지 요청 하나를 1000 단위로 셉니다.
+    private static final long UNIT = 1000;
+
+    private final long deposit;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    HedgeBudget(double ratio, int burst) {
+        this.deposit = Math.round(ratio * UNIT);
+        this.maxBalance = Math.max(1, burst) * UNIT;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    void deposit() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(maxBalance, current + amount));
+    }
+
+    boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < UNIT) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - UNIT)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.nhnacademy.apigateway.filter.hedging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우트의 첫 요청 응답 지연 분포에서 헤지 대기 시간을 정합니다.
+ * 응답 지연은 window 길이의 이동 구간 백분위를 계산하는 Timer(gateway.hedging.primary.latency)에 기록하고,
+ * 응답 헤더를 받기 전에 취소되거나 실패한 첫 요청은 실제 지연을 알 수 없으므로 기록하지 않습니다.
+ * window 마다 백분위를 읽어 [minDelay, maxDelay] 범위로 자른 값을 다음 주기의 대기 시간으로 씁니다.
+ * 구간에 표본이 없으면 이전 값을 유지하며, 처음에는 maxDelay 로 시작합니다.
+ */
+final class HedgeDelayEstimator {
+
+    private final Timer latency;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final long windowNanos;
+
+    private volatile long delayNanos;
+    private volatile long windowEndNanos;
+
+    HedgeDelayEstimator(HedgingProperties.RouteHedging routeHedging, Duration window, String routeId,
+                        MeterRegistry meterRegistry) {
+        this.latency = Timer.builder("gateway.hedging.primary.latency")
+                .description("헤지 대상 요청의 첫 요청 응답 헤더까지 걸린 시간")
+                .tag("route", routeId)
+                .publishPercentiles(routeHedging.percentile() / 100)
+                .distributionStatisticExpiry(window)
+                .register(meterRegistry);
+        this.minDelayNanos = routeHedging.minDelay().toNanos();
+        this.maxDelayNanos = routeHedging.maxDelay().toNanos();
+        this.windowNanos = window.toNanos();
+        this.delayNanos = maxDelayNanos;
+        this.windowEndNanos = System.nanoTime() + windowNanos;
+    }
+
+    void record(long latencyNanos) {
+        latency.record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    Duration delay() {
+        long now = System.nanoTime();
+        if (now - windowEndNanos >= 0) {
+            rotate(now);
+        }
+        return Duration.ofNanos(delayNanos);
+    }
+
+    double delayMillis() {
+        return delayNanos / 1_000_000d;
+    }
+
+    private synchronized void rotate(long now) {
+        if (now - windowEndNanos < 0) {
+            return;
+        }
+        ValueAtPercentile[] percentiles = latency.takeSnapshot().percentileValues();
+        if (percentiles.length > 0 && percentiles[0].value() > 0) {
+            long percentileNanos = (long) percentiles[0].value(TimeUnit.NANOSECONDS);
+            delayNanos = Math.max(minDelayNanos, Math.min(maxDelayNanos, percentileNanos));
+        }
+        windowEndNanos = now + windowNanos;
+    }
+}
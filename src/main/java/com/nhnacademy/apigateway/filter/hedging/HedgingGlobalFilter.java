@@ -0,0 +1,346 @@
+package com.nhnacademy.apigateway.filter.hedging;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CLIENT_RESPONSE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CLIENT_RESPONSE_HEADER_NAMES;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.ORIGINAL_RESPONSE_CONTENT_TYPE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.PRESERVE_HOST_HEADER_ATTRIBUTE;
+
+import com.nhnacademy.apigateway.loadbalancer.InstanceStatsRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.netty.Connection;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+
+/**
+ * 지정한 라우트의 조회 요청을 헤지하는 필터입니다.
+ * 로드밸런서가 고른 인스턴스에서 헤지 대기 시간(라우트 응답 지연 백분위) 안에 응답 헤더가 오지 않으면,
+ * 같은 서비스의 다른 인스턴스에 같은 요청을 한 번 더 보내고 먼저 온 응답을 사용하며 나머지 요청은 취소합니다.
+ * 헤지 요청은 {@link HedgeBudget} 이 허용하는 비율까지만 보냅니다.
+ * <p>
+ * 헤지 대상 요청은 이 필터가 {@link NettyRoutingFilter} 대신 백엔드를 호출하며, 요청/응답 헤더 처리와 응답 대기 시간은 NettyRoutingFilter 와 같습니다.
+ * 응답 본문은 NettyWriteResponseFilter 가 그대로 전달합니다.
+ */
+@Component
+public class HedgingGlobalFilter implements GlobalFilter, Ordered {
+
+    private final HedgingProperties properties;
+    private final HttpClient httpClient;
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider;
+    private final HttpClientProperties httpClientProperties;
+    private final LoadBalancerClientFactory loadBalancerClientFactory;
+    private final InstanceStatsRegistry instanceStatsRegistry;
+    private final HedgeBudget budget;
+    private final Set<String> methods;
+    private final Map<String, RoutePolicy> policies;
+
+    private volatile List<HttpHeadersFilter> headersFilters;
+
+    public HedgingGlobalFilter(HedgingProperties properties,
+                               HttpClient gatewayHttpClient,
+                               ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider,
+                               HttpClientProperties httpClientProperties,
+                               LoadBalancerClientFactory loadBalancerClientFactory,
+                               InstanceStatsRegistry instanceStatsRegistry,
+                               MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.httpClient = gatewayHttpClient;
+        this.headersFiltersProvider = headersFiltersProvider;
+        this.httpClientProperties = httpClientProperties;
+        this.loadBalancerClientFactory = loadBalancerClientFactory;
+        this.instanceStatsRegistry = instanceStatsRegistry;
+        this.budget = new HedgeBudget(properties.budgetRatio(), properties.budgetBurst());
+        this.methods = Set.copyOf(properties.methods());
+
+        PathPatternParser parser = new PathPatternParser();
+        Map<String, RoutePolicy> policies = new HashMap<>();
+        properties.routes().forEach((routeId, routeHedging) -> policies.put(routeId, new RoutePolicy(
+                routeHedging.include().stream().map(parser::parse).toList(),
+                new HedgeDelayEstimator(routeHedging, properties.window(), routeId, meterRegistry),
+                routeId, meterRegistry)));
+        this.policies = Map.copyOf(policies);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        RoutePolicy policy = route == null ? null : policies.get(route.getId());
+        URI requestUrl = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+        Response<ServiceInstance> lbResponse = exchange.getAttribute(GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (!properties.enabled() || policy == null || requestUrl == null
+                || lbResponse == null || !lbResponse.hasServer()
+                || ServerWebExchangeUtils.isAlreadyRouted(exchange)
+                || !isHttp(requestUrl)
+                || !methods.contains(exchange.getRequest().getMethod().name())
+                || !policy.matches(exchange.getRequest())) {
+            return chain.filter(exchange);
+        }
+        ServerWebExchangeUtils.setAlreadyRouted(exchange);
+        budget.deposit();
+        policy.eligible.increment();
+
+        DefaultHttpHeaders requestHeaders = requestHeaders(exchange);
+        AtomicBoolean decided = new AtomicBoolean();
+        long startNanos = System.nanoTime();
+
+        // 응답 헤더 전에 취소되거나 실패한 첫 요청의 경과 시간은 실제 지연보다 짧으므로, 헤더를 받은 경우에만 기록합니다.
+        Mono<Upstream> primary = send(exchange, requestUrl, requestHeaders, decided, false,
+                () -> policy.delayEstimator.record(System.nanoTime() - startNanos));
+        Mono<Upstream> hedge = Mono.delay(policy.delayEstimator.delay())
+                .flatMap(tick -> hedge(exchange, policy, lbResponse.getServer(), requestUrl, requestHeaders, decided));
+
+        Duration responseTimeout = responseTimeout(route);
+        Mono<Upstream> first = Flux.merge(primary, hedge).next();
+        if (responseTimeout != null) {
+            first = first.timeout(responseTimeout,
+                    Mono.error(new TimeoutException("Response took longer than timeout: " + responseTimeout)));
+        }
+        return first
+                .onErrorMap(TimeoutException.class,
+                        e -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, e.getMessage(), e))
+                .flatMap(upstream -> {
+                    if (upstream.hedged()) {
+                        policy.wins.increment();
+                    }
+                    applyResponse(exchange, upstream.response());
+                    exchange.getAttributes().put(CLIENT_RESPONSE_CONN_ATTR, upstream.connection());
+                    return chain.filter(exchange);
+                });
+    }
+
+    /**
+     * 헤지 대기 시간이 지나도 응답이 없을 때 다른 인스턴스로 같은 요청을 보냅니다.
+     * 다른 인스턴스가 없거나 예산이 없으면 보내지 않으며, 헤지 요청의 실패는 첫 요청 결과에 영향을 주지 않습니다.
+     */
+    private Mono<Upstream> hedge(ServerWebExchange exchange, RoutePolicy policy, ServiceInstance primaryInstance,
+                                 URI requestUrl, DefaultHttpHeaders requestHeaders, AtomicBoolean decided) {
+        if (decided.get()) {
+            return Mono.empty();
+        }
+        return alternateInstance(primaryInstance)
+                .switchIfEmpty(Mono.fromRunnable(policy.skippedNoInstance::increment))
+                .flatMap(instance -> {
+                    if (!budget.tryWithdraw()) {
+                        policy.skippedBudget.increment();
+                        return Mono.empty();
+                    }
+                    policy.sent.increment();
+                    instanceStatsRegistry.recordStart(instance);
+                    long startNanos = System.nanoTime();
+                    URI hedgeUrl = UriComponentsBuilder.fromUri(requestUrl)
+                            .scheme(instance.isSecure() ? "https" : "http")
+                            .host(instance.getHost())
+                            .port(instance.getPort())
+                            .build(true)
+                            .toUri();
+                    return send(exchange, hedgeUrl, requestHeaders, decided, true, () -> { })
+                            .doFinally(signal -> {
+                                // 첫 요청에 져서 취소된 헤지 요청의 지연은 끝까지 잰 값이 아니므로 기록하지 않습니다.
+                                if (signal != SignalType.CANCEL) {
+                                    instanceStatsRegistry.recordSample(instance, System.nanoTime() - startNanos,
+                                            signal == SignalType.ON_ERROR);
+                                }
+                                instanceStatsRegistry.recordFinish(instance);
+                            })
+                            .onErrorResume(e -> Mono.empty());
+                });
+    }
+
+    /**
+     * 첫 요청을 받은 인스턴스를 뺀 나머지 중 제외되지 않고 비용이 가장 낮은 인스턴스를 고릅니다.
+     */
+    private Mono<ServiceInstance> alternateInstance(ServiceInstance primaryInstance) {
+        ServiceInstanceListSupplier supplier =
+                loadBalancerClientFactory.getInstance(primaryInstance.getServiceId(), ServiceInstanceListSupplier.class);
+        if (supplier == null) {
+            return Mono.empty();
+        }
+        return supplier.get().next()
+                .flatMap(instances -> Mono.justOrEmpty(instanceStatsRegistry.leastCostExcept(instances, primaryInstance)));
+    }
+
+    /**
+     * 요청을 보내고 응답 헤더를 기다립니다. 여러 요청 중 응답 헤더를 가장 먼저 받은 하나만 값을 내보내고,
+     * 늦게 도착한 응답은 연결을 닫아 버립니다. onResponse 는 먼저 도착했는지와 관계없이 응답 헤더를 받을 때 실행합니다.
+     */
+    private Mono<Upstream> send(ServerWebExchange exchange, URI url, DefaultHttpHeaders requestHeaders,
+                                AtomicBoolean decided, boolean hedged, Runnable onResponse) {
+        ServerHttpRequest request = exchange.getRequest();
+        boolean preserveHost = exchange.getAttributeOrDefault(PRESERVE_HOST_HEADER_ATTRIBUTE, false);
+        return httpClient
+                .headers(headers -> {
+                    headers.set(requestHeaders);
+                    headers.remove(HttpHeaders.HOST);
+                    if (preserveHost) {
+                        headers.set(HttpHeaders.HOST, request.getHeaders().getFirst(HttpHeaders.HOST));
+                    }
+                })
+                .request(HttpMethod.valueOf(request.getMethod().name()))
+                .uri(url.toASCIIString())
+                .responseConnection((response, connection) -> {
+                    onResponse.run();
+                    if (decided.compareAndSet(false, true)) {
+                        return Mono.just(new Upstream(response, connection, hedged));
+                    }
+                    connection.dispose();
+                    return Mono.empty();
+                })
+                .next();
+    }
+
+    private DefaultHttpHeaders requestHeaders(ServerWebExchange exchange) {
+        HttpHeaders filtered = HttpHeadersFilter.filterRequest(getHeadersFilters(), exchange);
+        DefaultHttpHeaders headers = new DefaultHttpHeaders();
+        filtered.forEach(headers::set);
+        return headers;
+    }
+
+    /**
+     * NettyRoutingFilter 와 같은 방식으로 백엔드 응답의 상태와 헤더를 게이트웨이 응답에 옮깁니다.
+     */
+    private void applyResponse(ServerWebExchange exchange, HttpClientResponse clientResponse) {
+        exchange.getAttributes().put(CLIENT_RESPONSE_ATTR, clientResponse);
+        ServerHttpResponse response = exchange.getResponse();
+
+        HttpHeaders headers = new HttpHeaders();
+        clientResponse.responseHeaders().forEach(entry -> headers.add(entry.getKey(), entry.getValue()));
+        String contentType = headers.getFirst(HttpHeaders.CONTENT_TYPE);
+        if (StringUtils.hasLength(contentType)) {
+            exchange.getAttributes().put(ORIGINAL_RESPONSE_CONTENT_TYPE_ATTR, contentType);
+        }
+        response.setStatusCode(HttpStatusCode.valueOf(clientResponse.status().code()));
+
+        HttpHeaders filtered = HttpHeadersFilter.filter(getHeadersFilters(), headers, exchange,
+                HttpHeadersFilter.Type.RESPONSE);
+        if (!filtered.containsKey(HttpHeaders.TRANSFER_ENCODING) && filtered.containsKey(HttpHeaders.CONTENT_LENGTH)) {
+            response.getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+        }
+        exchange.getAttributes().put(CLIENT_RESPONSE_HEADER_NAMES, filtered.keySet());
+        response.getHeaders().addAll(filtered);
+    }
+
+    private Duration responseTimeout(Route route) {
+        Object timeout = route.getMetadata().get(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR);
+        if (timeout == null) {
+            return httpClientProperties.getResponseTimeout();
+        }
+        long millis = timeout instanceof Number number ? number.longValue() : Long.parseLong(timeout.toString());
+        return millis < 0 ? null : Duration.ofMillis(millis);
+    }
+
+    private List<HttpHeadersFilter> getHeadersFilters() {
+        if (headersFilters == null) {
+            headersFilters = headersFiltersProvider.getIfAvailable(List::of);
+        }
+        return headersFilters;
+    }
+
+    private static boolean isHttp(URI url) {
+        return "http".equalsIgnoreCase(url.getScheme()) || "https".equalsIgnoreCase(url.getScheme());
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyRoutingFilter.ORDER - 1;
+    }
+
+    private record Upstream(HttpClientResponse response, Connection connection, boolean hedged) {
+    }
+
+    /**
+     * 라우트 하나의 헤지 대상 경로, 대기 시간 계산기와 지표입니다.
+     */
+    private static final class RoutePolicy {
+
+        private final List<PathPattern> includePatterns;
+        private final HedgeDelayEstimator delayEstimator;
+        private final Counter eligible;
+        private final Counter sent;
+        private final Counter wins;
+        private final Counter skippedBudget;
+        private final Counter skippedNoInstance;
+
+        private RoutePolicy(List<PathPattern> includePatterns, HedgeDelayEstimator delayEstimator,
+                            String routeId, MeterRegistry meterRegistry) {
+            this.includePatterns = includePatterns;
+            this.delayEstimator = delayEstimator;
+            this.eligible = counter(meterRegistry, "gateway.hedging.eligible", "헤지 대상 요청 수", routeId);
+            this.sent = counter(meterRegistry, "gateway.hedging.sent", "보낸 헤지 요청 수", routeId);
+            this.wins = counter(meterRegistry, "gateway.hedging.wins", "헤지 요청의 응답이 먼저 도착한 수", routeId);
+            this.skippedBudget = Counter.builder("gateway.hedging.skipped")
+                    .description("헤지 대기 시간이 지났지만 헤지 요청을 보내지 않은 수")
+                    .tag("route", routeId)
+                    .tag("reason", "budget")
+                    .register(meterRegistry);
+            this.skippedNoInstance = Counter.builder("gateway.hedging.skipped")
+                    .description("헤지 대기 시간이 지났지만 헤지 요청을 보내지 않은 수")
+                    .tag("route", routeId)
+                    .tag("reason", "no-instance")
+                    .register(meterRegistry);
+            Gauge.builder("gateway.hedging.delay", delayEstimator, HedgeDelayEstimator::delayMillis)
+                    .description("헤지 요청을 보내기 전 첫 응답을 기다리는 시간 (ms)")
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+        }
+
+        private boolean matches(ServerHttpRequest request) {
+            if (includePatterns.isEmpty()) {
+                return true;
+            }
+            PathContainer path = request.getPath().pathWithinApplication();
+            return includePatterns.stream().anyMatch(pattern -> pattern.matches(path));
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String name, String description, String routeId) {
+            return Counter.builder(name)
+                    .description(description)
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.nhnacademy.apigateway.filter.hedging;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 느린 인스턴스에 대비해 조회 요청을 다른 인스턴스로 한 번 더 보내는(헤지) 설정입니다.
+ *
+ * @param enabled     사용 여부
+ * @param methods     헤지할 HTTP 메서드, 여러 번 보내도 안전한 조회 메서드만 지정
+ * @param budgetRatio 헤지 대상 요청 대비 추가로 보낼 수 있는 요청 비율 (예: 0.05 이면 최대 5%)
+ * @param budgetBurst 예산이 쌓이지 않은 상태에서도 보낼 수 있는 헤지 요청 수
+ * @param window      헤지 대기 시간(지연 백분위)을 다시 계산하는 주기
+ * @param routes      라우트 ID 별 헤지 설정, 지정한 라우트만 헤지
+ */
+@ConfigurationProperties(prefix = "gateway.hedging")
+public record HedgingProperties(Boolean enabled,
+                                List<String> methods,
+                                Double budgetRatio,
+                                Integer budgetBurst,
+                                Duration window,
+                                Map<String, RouteHedging> routes) {
+
+    public HedgingProperties {
+        enabled = enabled == null || enabled;
+        methods = methods == null ? List.of("GET", "HEAD") : List.copyOf(methods);
+        budgetRatio = budgetRatio == null ? 0.05 : budgetRatio;
+        budgetBurst = budgetBurst == null ? 10 : budgetBurst;
+        window = window == null ? Duration.ofSeconds(10) : window;
+        routes = routes == null ? Map.of() : Map.copyOf(routes);
+    }
+
+    /**
+     * @param include    헤지할 경로 패턴, 비워 두면 라우트의 모든 조회 요청
+     * @param percentile 첫 응답을 기다리는 시간으로 쓸 응답 지연 백분위
+     * @param minDelay   헤지 대기 시간 하한
+     * @param maxDelay   헤지 대기 시간 상한, 지연 분포를 알기 전에는 이 값을 사용
+     */
+    public record RouteHedging(List<String> include,
+                               Double percentile,
+                               Duration minDelay,
+                               Duration maxDelay) {
+
+        public RouteHedging {
+            include = include == null ? List.of() : List.copyOf(include);
+            percentile = percentile == null ? 95.0 : percentile;
+            minDelay = minDelay == null ? Duration.ofMillis(5) : minDelay;
+            maxDelay = maxDelay == null ? Duration.ofMillis(500) : maxDelay;
+        }
+    }
+}
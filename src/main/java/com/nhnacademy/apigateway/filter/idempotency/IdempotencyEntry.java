@@ -0,0 +1,34 @@
+package com.nhnacademy.apigateway.filter.idempotency;
+
+import java.time.Duration;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 멱등 키 하나의 처리 상태입니다.
+ * 처리 중에는 response 가 null 이며, 같은 키의 후속 요청은 completion 으로 결과를 기다립니다.
+ * completion 은 응답을 보관한 경우 그 응답으로, 보관하지 않고 끝난 경우 (5xx, 연결 실패 등) 빈 값으로 완료됩니다.
+ *
+ * @param fingerprint 요청 메서드, 경로, 본문의 해시. 같은 키로 다른 요청이 오면 거부하는 데 사용
+ * @param completion  처리 결과 신호
+ * @param response    보관된 응답, 처리 중이면 null
+ * @param ttl         저장소에 보관하는 시간
+ */
+record IdempotencyEntry(String fingerprint, Sinks.One<StoredResponse> completion, StoredResponse response,
+                        Duration ttl) {
+
+    static IdempotencyEntry inFlight(String fingerprint, Duration ttl) {
+        return new IdempotencyEntry(fingerprint, Sinks.one(), null, ttl);
+    }
+
+    IdempotencyEntry completed(StoredResponse response) {
+        return new IdempotencyEntry(fingerprint, completion, response, ttl);
+    }
+
+    boolean isCompleted() {
+        return response != null;
+    }
+
+    int weight() {
+        return response == null ? 256 : response.body().capacity() + 256;
+    }
+}
@@ -0,0 +1,377 @@
+package com.nhnacademy.apigateway.filter.idempotency;
+
+import com.nhnacademy.apigateway.common.exception.IdempotencyConflictException;
+import com.nhnacademy.apigateway.common.exception.RequestLimitExceededException;
+import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
+import com.nhnacademy.apigateway.filter.GatewayExchangeAttributes;
+import com.nhnacademy.apigateway.filter.ratelimit.RateLimitProperties;
+import com.nhnacademy.apigateway.presentation.dto.response.JwtAuthResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 주문/결제처럼 중복 실행되면 안 되는 요청을 게이트웨이에서 한 번만 백엔드로 보내는 필터입니다.
+ * <ul>
+ *     <li>Idempotency-Key 헤더가 있으면 (사용자, 키) 별로 key-ttl 동안 첫 응답을 보관해 재시도에 그대로 돌려줍니다.</li>
+ *     <li>헤더가 없으면 (사용자, 메서드, 경로, 본문) 이 같은 요청을 dedupe-window 동안 같은 요청으로 봅니다. 더블 클릭 방지용입니다.</li>
+ *     <li>첫 요청이 처리 중이면 결과를 기다렸다가 같은 응답을 돌려주고, 첫 요청이 5xx 나 연결 실패로 끝나면 다음 요청이 다시 백엔드로 갑니다.</li>
+ *     <li>같은 키로 다른 요청(경로나 본문이 다른 요청)이 오면 422 로 거부합니다.</li>
+ * </ul>
+ * 사용자는 인증 필터가 검증한 토큰의 customerId(없으면 subject) 로 구분하며, 교체될 수 있는 요청 수 제한 KeyResolver 는 쓰지 않습니다.
+ * 검증된 사용자 식별자가 없는 요청은 프록시나 NAT 뒤의 여러 사용자가 같은 IP 로 보일 수 있으므로 다른 사용자의 응답을 재생하지 않도록 좁게 처리합니다.
+ * 멱등 키가 없으면 중복 처리하지 않고, 키가 있으면 (IP, 키, 요청 해시) 가 모두 같은 요청만 같은 요청으로 봅니다.
+ * 본문은 해시를 위해 모두 읽으므로 max-body-size 를 넘으면 본문 크기 제한 필터와 같이 413 으로 거부합니다.
+ */
+@Component
+public class IdempotencyGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    // 재생하면 안 되는 연결/전송 관련 헤더는 보관하지 않습니다.
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            "content-length", "transfer-encoding", "connection", "keep-alive", "date", "set-cookie");
+
+    private final IdempotencyProperties properties;
+    private final IdempotencyStore idempotencyStore;
+    private final RemoteAddressResolver remoteAddressResolver;
+    private final List<PathPattern> includePatterns;
+    private final Set<String> methods;
+
+    private final Counter forwardedCounter;
+    private final Counter replayedCounter;
+    private final Counter collapsedCounter;
+    private final Counter mismatchCounter;
+    private final Counter timeoutCounter;
+    private final Counter anonymousCounter;
+
+    public IdempotencyGlobalFilter(IdempotencyProperties properties, IdempotencyStore idempotencyStore,
+                                   RateLimitProperties rateLimitProperties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.idempotencyStore = idempotencyStore;
+        // 요청 수 제한과 같은 프록시 설정으로 클라이언트 IP 를 구합니다.
+        this.remoteAddressResolver = rateLimitProperties.trustedProxyHops() > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(rateLimitProperties.trustedProxyHops())
+                : new RemoteAddressResolver() {
+                };
+
+        PathPatternParser parser = new PathPatternParser();
+        this.includePatterns = properties.include().stream().map(parser::parse).toList();
+        this.methods = Set.copyOf(properties.methods());
+
+        this.forwardedCounter = requestCounter(meterRegistry, "forwarded");
+        this.replayedCounter = requestCounter(meterRegistry, "replayed");
+        this.collapsedCounter = requestCounter(meterRegistry, "collapsed");
+        this.mismatchCounter = requestCounter(meterRegistry, "mismatch");
+        this.timeoutCounter = requestCounter(meterRegistry, "timeout");
+        this.anonymousCounter = requestCounter(meterRegistry, "anonymous");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!isIdempotent(request)) {
+            return chain.filter(exchange);
+        }
+
+        String idempotencyKey = request.getHeaders().getFirst(properties.keyHeader());
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > properties.maxKeyLength())) {
+            return Mono.error(conflict(properties.keyHeader() + " 헤더가 올바르지 않습니다.", 400));
+        }
+
+        String userScope = userScope(exchange);
+        if (userScope == null && idempotencyKey == null) {
+            anonymousCounter.increment();
+            return chain.filter(exchange);
+        }
+
+        return readBody(request)
+                .flatMap(body -> {
+                    String fingerprint = fingerprint(request, body);
+                    String key;
+                    if (userScope == null) {
+                        // 같은 IP 의 다른 사용자가 키를 알아내더라도 같은 요청이 아니면 그 응답을 받을 수 없습니다.
+                        key = "ip:" + clientAddress(exchange) + "|key|" + idempotencyKey + '|' + fingerprint;
+                    } else if (idempotencyKey == null) {
+                        key = userScope + '|' + fingerprint;
+                    } else {
+                        key = userScope + "|key|" + idempotencyKey;
+                    }
+                    Duration ttl = idempotencyKey == null ? properties.dedupeWindow() : properties.keyTtl();
+
+                    ServerWebExchange bufferedExchange = exchange.mutate()
+                            .request(new CachedBodyRequest(request, body))
+                            .build();
+                    return handle(bufferedExchange, chain, key, fingerprint, ttl);
+                });
+    }
+
+    /**
+     * 인증 필터가 검증한 토큰의 사용자 식별자로 멱등 키의 범위를 정합니다.
+     *
+     * @return 사용자 범위, 검증된 사용자 식별자가 없으면 null
+     */
+    private static String userScope(ServerWebExchange exchange) {
+        JwtAuthResponse loginUser = exchange.getAttribute(GatewayExchangeAttributes.LOGIN_USER);
+        if (loginUser == null) {
+            return null;
+        }
+        if (loginUser.customerId() != null) {
+            return "user:" + loginUser.customerId();
+        }
+        String subject = exchange.getAttribute(GatewayExchangeAttributes.LOGIN_SUBJECT);
+        return subject == null ? null : "sub:" + subject;
+    }
+
+    private String clientAddress(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = remoteAddressResolver.resolve(exchange);
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress().getHostAddress();
+    }
+
+    private boolean isIdempotent(ServerHttpRequest request) {
+        if (!properties.enabled() || !methods.contains(request.getMethod().name())) {
+            return false;
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (PathPattern pattern : includePatterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Mono<Void> handle(ServerWebExchange exchange, GatewayFilterChain chain, String key, String fingerprint,
+                              Duration ttl) {
+        IdempotencyEntry inFlight = IdempotencyEntry.inFlight(fingerprint, ttl);
+        IdempotencyEntry existing = idempotencyStore.putIfAbsent(key, inFlight);
+        if (existing == null) {
+            forwardedCounter.increment();
+            return forward(exchange, chain, key, inFlight);
+        }
+
+        if (!existing.fingerprint().equals(fingerprint)) {
+            mismatchCounter.increment();
+            return Mono.error(conflict("같은 " + properties.keyHeader() + " 로 다른 요청을 보낼 수 없습니다.", 422));
+        }
+        if (existing.isCompleted()) {
+            replayedCounter.increment();
+            return replay(exchange.getResponse(), existing.response());
+        }
+
+        collapsedCounter.increment();
+        return existing.completion().asMono()
+                .timeout(properties.waitTimeout(), Mono.error(() -> {
+                    timeoutCounter.increment();
+                    return conflict("같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.", 409);
+                }))
+                // 첫 요청이 응답을 남기지 못하고 끝났으면 이 요청이 다시 처리합니다.
+                // replay 는 빈 Mono 로 끝나므로 switchIfEmpty 대신 결과 유무로 먼저 분기합니다.
+                .map(response -> replay(exchange.getResponse(), response))
+                .defaultIfEmpty(Mono.defer(() -> handle(exchange, chain, key, fingerprint, ttl)))
+                .flatMap(Function.identity());
+    }
+
+    private Mono<Void> forward(ServerWebExchange exchange, GatewayFilterChain chain, String key,
+                               IdempotencyEntry inFlight) {
+        RecordingResponseDecorator response = new RecordingResponseDecorator(exchange.getResponse(), key, inFlight);
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> {
+                    // 응답을 보관하지 못했으면 키를 비워 재시도가 백엔드로 가도록 하고, 기다리던 요청도 깨웁니다.
+                    if (inFlight.completion().tryEmitEmpty() == Sinks.EmitResult.OK) {
+                        idempotencyStore.remove(key, inFlight);
+                    }
+                });
+    }
+
+    private static Mono<Void> replay(ServerHttpResponse response, StoredResponse stored) {
+        HttpHeaders headers = response.getHeaders();
+        stored.headers().forEach(headers::put);
+        headers.set(REPLAYED_HEADER, "true");
+        headers.setContentLength(stored.body().remaining());
+        response.setStatusCode(HttpStatusCode.valueOf(stored.status()));
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(stored.body().duplicate())));
+    }
+
+    /**
+     * 요청 본문을 모두 읽습니다.
+     * 앞선 본문 크기 제한 필터가 라우트별 제한을 먼저 적용하지만, 필터 순서와 관계없이 이 필터가 max-body-size 보다 많이 버퍼링하지 않도록 따로 제한합니다.
+     */
+    private Mono<byte[]> readBody(ServerHttpRequest request) {
+        return DataBufferUtils.join(request.getBody(), (int) properties.maxBodySize().toBytes())
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .defaultIfEmpty(new byte[0])
+                .onErrorMap(DataBufferLimitException.class, e -> new RequestLimitExceededException(
+                        ErrorStatus.toErrorStatus("요청 본문이 너무 큽니다.", 413, LocalDateTime.now())));
+    }
+
+    private static String fingerprint(ServerHttpRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().name().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getURI().getRawPath().getBytes(StandardCharsets.UTF_8));
+            String rawQuery = request.getURI().getRawQuery();
+            if (rawQuery != null) {
+                digest.update((byte) '?');
+                digest.update(rawQuery.getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(body);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 재생해도 되는 응답인지 판단합니다.
+     * 5xx 와 408, 429 는 백엔드가 요청을 처리하지 않았을 수 있고 재시도가 의미 있으므로 보관하지 않습니다.
+     */
+    private static boolean isReplayable(HttpStatusCode status) {
+        return status != null && !status.is5xxServerError() && status.value() != 408 && status.value() != 429;
+    }
+
+    private static HttpHeaders storedHeaders(HttpHeaders headers) {
+        HttpHeaders stored = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            if (!EXCLUDED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                stored.put(name, List.copyOf(values));
+            }
+        });
+        return stored;
+    }
+
+    private static IdempotencyConflictException conflict(String message, int status) {
+        return new IdempotencyConflictException(ErrorStatus.toErrorStatus(message, status, LocalDateTime.now()));
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.idempotency.requests")
+                .description("멱등 처리 대상 요청의 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int getOrder() {
+        // 본문 크기 제한(+50)과 요청 수 제한(+100)을 통과한 요청만 보관합니다.
+        return Ordered.HIGHEST_PRECEDENCE + 150;
+    }
+
+    /**
+     * 미리 읽어 둔 본문을 다시 돌려주는 요청 데코레이터입니다.
+     */
+    private static class CachedBodyRequest extends ServerHttpRequestDecorator {
+
+        private final byte[] body;
+
+        CachedBodyRequest(ServerHttpRequest delegate, byte[] body) {
+            super(delegate);
+            this.body = body;
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            if (body.length == 0) {
+                return Flux.empty();
+            }
+            return Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+        }
+    }
+
+    /**
+     * 백엔드 응답을 클라이언트로 흘려보내면서 재생용 사본을 만드는 응답 데코레이터입니다.
+     */
+    private class RecordingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final IdempotencyEntry inFlight;
+
+        RecordingResponseDecorator(ServerHttpResponse delegate, String key, IdempotencyEntry inFlight) {
+            super(delegate);
+            this.key = key;
+            this.inFlight = inFlight;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+            if (!isReplayable(status)) {
+                return super.writeWith(body);
+            }
+
+            int maxEntryBytes = (int) properties.maxEntrySize().toBytes();
+            HttpHeaders headers = storedHeaders(getHeaders());
+            ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            boolean[] overflow = {false};
+
+            Flux<DataBuffer> tapped = Flux.from(body)
+                    .map(buffer -> {
+                        if (!overflow[0]) {
+                            if (copy.size() + buffer.readableByteCount() > maxEntryBytes) {
+                                overflow[0] = true;
+                            } else {
+                                byte[] chunk = new byte[buffer.readableByteCount()];
+                                int readPosition = buffer.readPosition();
+                                buffer.read(chunk);
+                                buffer.readPosition(readPosition);
+                                copy.writeBytes(chunk);
+                            }
+                        }
+                        return (DataBuffer) buffer;
+                    })
+                    .doOnComplete(() -> {
+                        if (!overflow[0]) {
+                            StoredResponse stored = StoredResponse.of(status.value(), headers, copy.toByteArray());
+                            idempotencyStore.complete(key, inFlight, inFlight.completed(stored));
+                            inFlight.completion().tryEmitValue(stored);
+                        }
+                    });
+            return super.writeWith(tapped);
+        }
+    }
+}
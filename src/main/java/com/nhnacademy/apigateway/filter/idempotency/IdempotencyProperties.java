@@ -0,0 +1,49 @@
+package com.nhnacademy.apigateway.filter.idempotency;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 주문/결제 요청 중복 처리 설정입니다.
+ *
+ * @param enabled        사용 여부
+ * @param methods        적용할 HTTP 메서드
+ * @param include        적용할 경로 패턴
+ * @param keyHeader      클라이언트가 보내는 멱등 키 헤더
+ * @param maxKeyLength   멱등 키 최대 길이, 이보다 길면 400
+ * @param keyTtl         멱등 키로 처리한 요청의 응답을 보관하는 시간
+ * @param dedupeWindow   멱등 키 없이 들어온 로그인 사용자의 요청을 같은 사용자/경로/본문 기준으로 중복 처리하는 시간
+ * @param waitTimeout    처리 중인 같은 요청의 결과를 기다리는 최대 시간, 지나면 409
+ * @param maxSize        보관하는 응답 본문 전체의 최대 크기
+ * @param maxEntrySize   보관할 응답 본문 하나의 최대 크기, 이보다 큰 응답은 재생하지 않음
+ * @param maxBodySize    요청 해시를 위해 읽는 요청 본문의 최대 크기, 이보다 크면 413
+ */
+@ConfigurationProperties(prefix = "gateway.idempotency")
+public record IdempotencyProperties(Boolean enabled,
+                                    List<String> methods,
+                                    List<String> include,
+                                    String keyHeader,
+                                    Integer maxKeyLength,
+                                    Duration keyTtl,
+                                    Duration dedupeWindow,
+                                    Duration waitTimeout,
+                                    DataSize maxSize,
+                                    DataSize maxEntrySize,
+                                    DataSize maxBodySize) {
+
+    public IdempotencyProperties {
+        enabled = enabled == null || enabled;
+        methods = methods == null ? List.of("POST") : List.copyOf(methods);
+        include = include == null ? List.of() : List.copyOf(include);
+        keyHeader = keyHeader == null ? "Idempotency-Key" : keyHeader;
+        maxKeyLength = maxKeyLength == null ? 255 : maxKeyLength;
+        keyTtl = keyTtl == null ? Duration.ofMinutes(10) : keyTtl;
+        dedupeWindow = dedupeWindow == null ? Duration.ofSeconds(5) : dedupeWindow;
+        waitTimeout = waitTimeout == null ? Duration.ofSeconds(15) : waitTimeout;
+        maxSize = maxSize == null ? DataSize.ofMegabytes(32) : maxSize;
+        maxEntrySize = maxEntrySize == null ? DataSize.ofKilobytes(64) : maxEntrySize;
+        maxBodySize = maxBodySize == null ? DataSize.ofMegabytes(1) : maxBodySize;
+    }
+}
@@ -0,0 +1,69 @@
+package com.nhnacademy.apigateway.filter.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 처리 중이거나 처리가 끝난 멱등 키 저장소입니다.
+ * 보관한 응답 본문 크기 기준으로 용량을 제한하며, 항목은 키마다 정해진 보관 시간이 지나면 제거됩니다.
+ */
+@Component
+public class IdempotencyStore {
+
+    private final Cache<String, IdempotencyEntry> cache;
+
+    public IdempotencyStore(IdempotencyProperties idempotencyProperties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(idempotencyProperties.maxSize().toBytes())
+                .weigher((String key, IdempotencyEntry entry) -> entry.weight())
+                .expireAfter(new Expiry<String, IdempotencyEntry>() {
+                    @Override
+                    public long expireAfterCreate(String key, IdempotencyEntry entry, long currentTime) {
+                        return entry.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, IdempotencyEntry entry, long currentTime,
+                                                  long currentDuration) {
+                        return entry.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, IdempotencyEntry entry, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+
+        Gauge.builder("gateway.idempotency.entries", cache, Cache::estimatedSize)
+                .description("보관 중인 멱등 키 수")
+                .register(meterRegistry);
+        Gauge.builder("gateway.idempotency.bytes", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .description("보관 중인 응답 본문 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키가 비어 있으면 처리 중 항목을 등록합니다.
+     *
+     * @return 이미 등록된 항목, 새로 등록했으면 null
+     */
+    IdempotencyEntry putIfAbsent(String key, IdempotencyEntry entry) {
+        return cache.asMap().putIfAbsent(key, entry);
+    }
+
+    void complete(String key, IdempotencyEntry inFlight, IdempotencyEntry completed) {
+        cache.asMap().replace(key, inFlight, completed);
+    }
+
+    void remove(String key, IdempotencyEntry entry) {
+        cache.asMap().remove(key, entry);
+    }
+}
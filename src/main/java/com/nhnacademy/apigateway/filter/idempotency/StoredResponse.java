@@ -0,0 +1,21 @@
+package com.nhnacademy.apigateway.filter.idempotency;
+
+import java.nio.ByteBuffer;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 중복 요청에 다시 돌려줄 백엔드 응답입니다.
+ * 본문은 응답 캐시와 마찬가지로 힙 밖의 direct 버퍼에 읽기 전용으로 보관합니다.
+ *
+ * @param status  HTTP 상태 코드
+ * @param headers 다시 보낼 응답 헤더
+ * @param body    응답 본문
+ */
+record StoredResponse(int status, HttpHeaders headers, ByteBuffer body) {
+
+    static StoredResponse of(int status, HttpHeaders headers, byte[] body) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(body.length);
+        buffer.put(body).flip();
+        return new StoredResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), buffer.asReadOnlyBuffer());
+    }
+}
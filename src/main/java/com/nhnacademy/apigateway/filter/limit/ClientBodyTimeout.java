@@ -0,0 +1,162 @@
+package com.nhnacademy.apigateway.filter.limit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.CoreSubscriber;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+/**
+ * 클라이언트가 본문을 보내지 않고 있는 시간만 재는 본문 수신 제한입니다.
+ * 게이트웨이가 다음 청크를 요청해 둔 동안에만 시간을 재므로, 백엔드가 느리게 읽어 요청을 멈춘 시간(backpressure)은
+ * 청크 간격에도 전체 수신 시간에도 들어가지 않습니다.
+ * 청크마다 기다릴 시간은 idle 제한과 전체 수신 시간 중 남은 시간 가운데 짧은 쪽입니다.
+ */
+final class ClientBodyTimeout implements CoreSubscriber<DataBuffer>, Subscription {
+
+    private final CoreSubscriber<? super DataBuffer> actual;
+    private final long idleTimeoutNanos;
+    private final Supplier<? extends Throwable> timeoutError;
+
+    private Subscription upstream;
+    // 아래 상태는 요청(request), 청크 도착(onNext), 타이머가 서로 다른 스레드에서 바꾸므로 this 로 동기화합니다.
+    private long remainingNanos;
+    private long demand;
+    private long waitingSince = -1;
+    private long generation;
+    private Disposable timer;
+    private boolean done;
+
+    private ClientBodyTimeout(CoreSubscriber<? super DataBuffer> actual, Duration idleTimeout, Duration readTimeout,
+                              Supplier<? extends Throwable> timeoutError) {
+        this.actual = actual;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.remainingNanos = readTimeout.toNanos();
+        this.timeoutError = timeoutError;
+    }
+
+    /**
+     * 본문에 클라이언트 수신 시간 제한을 겁니다.
+     *
+     * @param body         요청 본문
+     * @param idleTimeout  청크를 요청한 뒤 다음 청크가 올 때까지 기다리는 최대 시간
+     * @param readTimeout  청크를 기다린 시간의 합계 상한
+     * @param timeoutError 제한을 넘었을 때 본문 구독자에게 보낼 오류
+     * @return 제한이 걸린 본문
+     */
+    static Flux<DataBuffer> apply(Flux<DataBuffer> body, Duration idleTimeout, Duration readTimeout,
+                                  Supplier<? extends Throwable> timeoutError) {
+        return Flux.from(subscriber -> body.subscribe(new ClientBodyTimeout(
+                Operators.toCoreSubscriber(subscriber), idleTimeout, readTimeout, timeoutError)));
+    }
+
+    @Override
+    public Context currentContext() {
+        return actual.currentContext();
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        if (Operators.validate(upstream, subscription)) {
+            upstream = subscription;
+            actual.onSubscribe(this);
+        }
+    }
+
+    @Override
+    public void request(long n) {
+        if (!Operators.validate(n)) {
+            return;
+        }
+        synchronized (this) {
+            demand = Operators.addCap(demand, n);
+            startWaiting();
+        }
+        upstream.request(n);
+    }
+
+    @Override
+    public void onNext(DataBuffer buffer) {
+        synchronized (this) {
+            if (done) {
+                DataBufferUtils.release(buffer);
+                return;
+            }
+            stopWaiting();
+            if (demand != Long.MAX_VALUE) {
+                demand--;
+            }
+            startWaiting();
+        }
+        actual.onNext(buffer);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (!finish()) {
+            Operators.onErrorDropped(throwable, actual.currentContext());
+            return;
+        }
+        actual.onError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (finish()) {
+            actual.onComplete();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        finish();
+        upstream.cancel();
+    }
+
+    private synchronized boolean finish() {
+        if (done) {
+            return false;
+        }
+        done = true;
+        stopWaiting();
+        return true;
+    }
+
+    private void startWaiting() {
+        if (done || demand == 0 || waitingSince >= 0) {
+            return;
+        }
+        waitingSince = System.nanoTime();
+        long currentGeneration = ++generation;
+        timer = Schedulers.parallel().schedule(() -> timeout(currentGeneration),
+                Math.max(0, Math.min(idleTimeoutNanos, remainingNanos)), TimeUnit.NANOSECONDS);
+    }
+
+    private void stopWaiting() {
+        if (waitingSince < 0) {
+            return;
+        }
+        remainingNanos -= System.nanoTime() - waitingSince;
+        waitingSince = -1;
+        timer.dispose();
+    }
+
+    private void timeout(long timerGeneration) {
+        synchronized (this) {
+            if (done || timerGeneration != generation || waitingSince < 0) {
+                return;
+            }
+            done = true;
+            waitingSince = -1;
+        }
+        upstream.cancel();
+        actual.onError(timeoutError.get());
+    }
+}
@@ -0,0 +1,47 @@
+package com.nhnacademy.apigateway.filter.limit;
+
+import com.nhnacademy.apigateway.filter.FilterOrder;
+import java.util.List;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+/**
+ * 게이트웨이가 직접 처리하는 엔드포인트(관리 API, actuator)에 기본 요청 제한을 적용하는 필터입니다.
+ * 이 요청들은 라우트를 거치지 않아 {@link RequestLimitGlobalFilter} 가 실행되지 않으므로, local-paths 와 일치하는 요청을 인증보다 먼저 검사합니다.
+ */
+@Component
+public class LocalRequestLimitWebFilter implements WebFilter, Ordered {
+
+    private final RequestLimitProperties requestLimitProperties;
+    private final List<PathPattern> localPatterns;
+
+    public LocalRequestLimitWebFilter(RequestLimitProperties requestLimitProperties) {
+        this.requestLimitProperties = requestLimitProperties;
+
+        PathPatternParser parser = new PathPatternParser();
+        this.localPatterns = requestLimitProperties.localPaths().stream().map(parser::parse).toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+        for (PathPattern pattern : localPatterns) {
+            if (pattern.matches(path)) {
+                return RequestLimiter.filter(exchange, requestLimitProperties.defaults(), chain::filter);
+            }
+        }
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrder.REQUEST_LIMIT;
+    }
+}
@@ -0,0 +1,34 @@
+package com.nhnacademy.apigateway.filter.limit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 라우트별 요청 헤더 크기, 본문 크기, 본문 수신 시간을 제한하는 필터입니다.
+ * 게이트웨이 자체 엔드포인트는 라우트를 거치지 않으므로 {@link LocalRequestLimitWebFilter} 가 기본 제한을 적용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestLimitGlobalFilter implements GlobalFilter, Ordered {
+
+    private final RequestLimitProperties requestLimitProperties;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return RequestLimiter.filter(exchange, requestLimitProperties.limitFor(route == null ? null : route.getId()),
+                chain::filter);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 50;
+    }
+}
@@ -0,0 +1,56 @@
+package com.nhnacademy.apigateway.filter.limit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 라우트별 요청 크기와 본문 수신 시간 제한입니다.
+ * 라우트에 지정하지 않은 항목은 defaults 값을 사용합니다.
+ *
+ * @param defaults   모든 라우트와 게이트웨이 자체 엔드포인트에 적용되는 기본 제한
+ * @param routes     라우트 ID 별 제한
+ * @param localPaths 라우트를 거치지 않고 게이트웨이가 직접 처리하는 경로 패턴, defaults 제한을 적용
+ */
+@ConfigurationProperties(prefix = "gateway.request-limit")
+public record RequestLimitProperties(Limit defaults, Map<String, Limit> routes, List<String> localPaths) {
+
+    private static final Limit FALLBACK_LIMIT = new Limit(
+            DataSize.ofMegabytes(1), DataSize.ofKilobytes(16), Duration.ofSeconds(10), Duration.ofSeconds(30));
+
+    public RequestLimitProperties {
+        defaults = FALLBACK_LIMIT.overriddenBy(defaults);
+        routes = routes == null ? Map.of() : Map.copyOf(routes);
+        localPaths = localPaths == null ? List.of("/gateway/**", "/actuator/**") : List.copyOf(localPaths);
+    }
+
+    public Limit limitFor(String routeId) {
+        return defaults.overriddenBy(routes.get(routeId));
+    }
+
+    /**
+     * @param maxBodySize     요청 본문 최대 크기
+     * @param maxHeaderSize   요청 헤더 이름과 값을 합친 최대 크기
+     * @param bodyIdleTimeout 다음 본문 청크를 요청한 뒤 클라이언트를 기다리는 최대 시간
+     * @param bodyReadTimeout 본문을 받는 동안 클라이언트를 기다린 시간의 합계 상한, 백엔드가 읽기를 멈춘 시간은 제외
+     */
+    public record Limit(DataSize maxBodySize,
+                        DataSize maxHeaderSize,
+                        Duration bodyIdleTimeout,
+                        Duration bodyReadTimeout) {
+
+        Limit overriddenBy(Limit override) {
+            if (override == null) {
+                return this;
+            }
+            return new Limit(
+                    Objects.requireNonNullElse(override.maxBodySize, maxBodySize),
+                    Objects.requireNonNullElse(override.maxHeaderSize, maxHeaderSize),
+                    Objects.requireNonNullElse(override.bodyIdleTimeout, bodyIdleTimeout),
+                    Objects.requireNonNullElse(override.bodyReadTimeout, bodyReadTimeout));
+        }
+    }
+}
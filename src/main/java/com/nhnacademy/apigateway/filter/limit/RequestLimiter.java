@@ -0,0 +1,85 @@
+package com.nhnacademy.apigateway.filter.limit;
+
+import com.nhnacademy.apigateway.common.exception.RequestLimitExceededException;
+import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 요청 헤더 크기, 본문 크기, 본문 수신 시간 제한을 적용합니다.
+ * 본문은 버퍼링하지 않고 다음 단계로 흘려보내면서 크기와 수신 시간만 검사합니다.
+ * Content-Length 가 제한을 넘으면 본문을 읽기 전에 거부하고, 선언되지 않았거나 거짓인 경우에는 누적 크기가 제한을 넘는 순간 중단합니다.
+ */
+final class RequestLimiter {
+
+    private RequestLimiter() {
+    }
+
+    static Mono<Void> filter(ServerWebExchange exchange, RequestLimitProperties.Limit limit,
+                             Function<ServerWebExchange, Mono<Void>> next) {
+        ServerHttpRequest request = exchange.getRequest();
+
+        if (headerSize(request.getHeaders()) > limit.maxHeaderSize().toBytes()) {
+            return Mono.error(limitExceeded("요청 헤더가 너무 큽니다.", 431));
+        }
+
+        long maxBodySize = limit.maxBodySize().toBytes();
+        long contentLength = request.getHeaders().getContentLength();
+        if (contentLength > maxBodySize) {
+            return Mono.error(limitExceeded("요청 본문이 너무 큽니다.", 413));
+        }
+        if (contentLength == 0) {
+            return next.apply(exchange);
+        }
+
+        ServerHttpRequest limitedRequest = new ServerHttpRequestDecorator(request) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return limitBody(super.getBody(), limit);
+            }
+        };
+        return next.apply(exchange.mutate().request(limitedRequest).build());
+    }
+
+    private static Flux<DataBuffer> limitBody(Flux<DataBuffer> body, RequestLimitProperties.Limit limit) {
+        long maxBodySize = limit.maxBodySize().toBytes();
+        return Flux.defer(() -> {
+            AtomicLong received = new AtomicLong();
+            return ClientBodyTimeout.apply(body, limit.bodyIdleTimeout(), limit.bodyReadTimeout(),
+                            () -> limitExceeded("요청 본문 수신 시간이 초과되었습니다.", 408))
+                    .handle((buffer, sink) -> {
+                        if (received.addAndGet(buffer.readableByteCount()) > maxBodySize) {
+                            DataBufferUtils.release(buffer);
+                            sink.error(limitExceeded("요청 본문이 너무 큽니다.", 413));
+                            return;
+                        }
+                        sink.next(buffer);
+                    });
+        });
+    }
+
+    private static long headerSize(HttpHeaders headers) {
+        long size = 0;
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            for (String value : header.getValue()) {
+                size += header.getKey().length() + value.length();
+            }
+        }
+        return size;
+    }
+
+    private static RequestLimitExceededException limitExceeded(String message, int status) {
+        return new RequestLimitExceededException(ErrorStatus.toErrorStatus(message, status, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,73 @@
+package com.nhnacademy.apigateway.filter.metrics;
+
+/**
+ * 인증/인가 필터가 요청마다 내리는 판정입니다.
+ * 메트릭의 decision 태그 값으로 사용됩니다.
+ */
+public enum AuthDecision {
+
+    /**
+     * PUBLIC 규칙에 걸려 토큰 검사 없이 통과했습니다.
+     */
+    PUBLIC("public"),
+
+    /**
+     * OPTIONAL 규칙에서 토큰 없이 통과했습니다.
+     */
+    ANONYMOUS("anonymous"),
+
+    /**
+     * 토큰이 필요한 경로에 Authorization 헤더가 없었습니다.
+     */
+    MISSING_TOKEN("missing_token"),
+
+    /**
+     * Authorization 헤더 형식이 잘못되어 사용자 정보 없이 통과했습니다.
+     */
+    MALFORMED_TOKEN("malformed_token"),
+
+    /**
+     * 로그아웃 등으로 폐기된 토큰이라 거부했습니다.
+     */
+    REVOKED("revoked"),
+
+    /**
+     * 액세스 토큰이 유효했습니다.
+     */
+    TOKEN_VALID("token_valid"),
+
+    /**
+     * 액세스 토큰이 만료되어 갱신을 시작했습니다.
+     */
+    REFRESH_TRIGGERED("refresh_triggered"),
+
+    /**
+     * 인증 서버 호출이 실패해 토큰을 갱신하지 못했습니다.
+     */
+    REFRESH_FAILED("refresh_failed"),
+
+    /**
+     * 리프레시 토큰도 만료되어 갱신을 시도하지 않았습니다.
+     */
+    REFRESH_REJECTED("refresh_rejected"),
+
+    /**
+     * 경로에 필요한 역할이 없어 거부했습니다.
+     */
+    ROLE_DENIED("role_denied"),
+
+    /**
+     * 토큰의 사용자 정보가 인증 서버의 사용자 정보와 달라 거부했습니다.
+     */
+    USER_MISMATCH("user_mismatch");
+
+    private final String tagValue;
+
+    AuthDecision(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String tagValue() {
+        return tagValue;
+    }
+}
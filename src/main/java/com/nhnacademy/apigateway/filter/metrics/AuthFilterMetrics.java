@@ -0,0 +1,44 @@
+package com.nhnacademy.apigateway.filter.metrics;
+
+import com.nhnacademy.apigateway.filter.GatewayExchangeAttributes;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * 인증/인가 필터의 판정별 처리 시간을 기록합니다.
+ * 판정마다 Timer 를 미리 등록해 두므로 요청 경로에서는 태그 조회나 객체 생성 없이 배열 접근만 일어납니다.
+ */
+@Component
+public class AuthFilterMetrics {
+
+    private static final String DECISION_TIMER = "gateway.auth.decision";
+
+    private final Timer[] decisionTimers;
+
+    public AuthFilterMetrics(MeterRegistry meterRegistry) {
+        AuthDecision[] decisions = AuthDecision.values();
+        this.decisionTimers = new Timer[decisions.length];
+        for (AuthDecision decision : decisions) {
+            decisionTimers[decision.ordinal()] = Timer.builder(DECISION_TIMER)
+                    .description("Time spent by the gateway auth filters per decision")
+                    .tag("decision", decision.tagValue())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 판정 결과와 판정까지 걸린 시간을 기록합니다.
+     * 판정 결과는 접근 로그에서 쓸 수 있도록 요청 속성({@link GatewayExchangeAttributes#AUTH_DECISION})에도 남깁니다.
+     *
+     * @param exchange   판정한 요청
+     * @param decision   판정 결과
+     * @param startNanos {@link System#nanoTime()} 으로 잰 필터 시작 시각
+     */
+    public void record(ServerWebExchange exchange, AuthDecision decision, long startNanos) {
+        exchange.getAttributes().put(GatewayExchangeAttributes.AUTH_DECISION, decision);
+        decisionTimers[decision.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,17 @@
+package com.nhnacademy.apigateway.filter.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Prometheus 스크랩 엔드포인트 인증 설정입니다.
+ *
+ * @param path  스크랩 토큰으로 인증하는 경로
+ * @param token 스크래퍼가 Authorization: Bearer 로 보내는 전용 토큰, 없으면 스크랩을 모두 거부
+ */
+@ConfigurationProperties(prefix = "gateway.metrics-scrape")
+public record MetricsScrapeProperties(String path, String token) {
+
+    public MetricsScrapeProperties {
+        path = path == null ? "/actuator/prometheus" : path;
+    }
+}
@@ -0,0 +1,64 @@
+package com.nhnacademy.apigateway.filter.metrics;
+
+import com.nhnacademy.apigateway.common.exception.handler.ErrorResponseWriter;
+import com.nhnacademy.apigateway.filter.FilterOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+/**
+ * Prometheus 스크랩 요청을 전용 토큰으로 인증하는 필터입니다.
+ * 스크래퍼는 만료가 짧은 사용자 JWT 를 갱신할 수 없으므로, 스크랩 경로는 인증 규칙에서 PUBLIC 으로 두고 이 필터가 대신 막습니다.
+ * 토큰은 다른 actuator 엔드포인트에 쓸 수 없고, 설정하지 않으면 스크랩 요청을 모두 401 로 거부합니다.
+ */
+@Component
+public class MetricsScrapeWebFilter implements WebFilter, Ordered {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final ErrorResponseWriter errorResponseWriter;
+    private final PathPattern scrapePattern;
+    private final byte[] token;
+
+    public MetricsScrapeWebFilter(MetricsScrapeProperties metricsScrapeProperties,
+                                  ErrorResponseWriter errorResponseWriter) {
+        this.errorResponseWriter = errorResponseWriter;
+        this.scrapePattern = new PathPatternParser().parse(metricsScrapeProperties.path());
+        String configured = metricsScrapeProperties.token();
+        this.token = configured == null || configured.isBlank() ? null : configured.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!scrapePattern.matches(exchange.getRequest().getPath().pathWithinApplication())) {
+            return chain.filter(exchange);
+        }
+        if (!hasScrapeToken(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION))) {
+            return errorResponseWriter.write(exchange, HttpStatus.UNAUTHORIZED.value(), "메트릭 스크랩 토큰이 올바르지 않습니다.");
+        }
+        return chain.filter(exchange);
+    }
+
+    private boolean hasScrapeToken(String authorization) {
+        if (token == null || authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+        // 응답 시간으로 토큰을 추측할 수 없도록 길이와 관계없이 같은 방식으로 비교합니다.
+        return MessageDigest.isEqual(token,
+                authorization.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrder.METRICS_SCRAPE;
+    }
+}
@@ -0,0 +1,41 @@
+package com.nhnacademy.apigateway.filter.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게이트웨이 인스턴스 메모리에서 동작하는 요청 수 제한기입니다.
+ * 버킷은 "라우트 ID:키" 단위로 생성되며, 일정 시간 사용되지 않거나 최대 개수를 넘으면 제거됩니다.
+ */
+@Component
+public class LocalRateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public LocalRateLimiter(RateLimitProperties rateLimitProperties) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(rateLimitProperties.maxBuckets())
+                .expireAfterAccess(rateLimitProperties.idleTimeout())
+                .build();
+    }
+
+    /**
+     * 요청 하나를 허용할지 결정합니다.
+     *
+     * @param routeId 라우트 ID
+     * @param key     사용자 또는 클라이언트 식별 키
+     * @param limit   라우트에 적용할 제한
+     * @return 허용되면 true
+     */
+    public boolean tryAcquire(String routeId, String key, RateLimitProperties.Limit limit) {
+        long now = System.nanoTime();
+        long emissionInterval = NANOS_PER_SECOND / Math.max(1, limit.replenishRate());
+        long burstTolerance = emissionInterval * Math.max(1, limit.burstCapacity());
+
+        return buckets.get(routeId + ':' + key, bucketKey -> new TokenBucket(now))
+                .tryAcquire(now, emissionInterval, burstTolerance);
+    }
+}
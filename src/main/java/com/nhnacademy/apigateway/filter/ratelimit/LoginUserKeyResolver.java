@@ -0,0 +1,50 @@
+package com.nhnacademy.apigateway.filter.ratelimit;
+
+import com.nhnacademy.apigateway.filter.GatewayExchangeAttributes;
+import com.nhnacademy.apigateway.presentation.dto.response.JwtAuthResponse;
+import java.net.InetSocketAddress;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증된 요청은 customerId 로, 익명 요청은 클라이언트 IP 로 요청 수 제한 키를 만듭니다.
+ * 앞단 프록시가 있으면 trusted-proxy-hops 만큼 X-Forwarded-For 를 뒤에서부터 신뢰해 실제 클라이언트 IP 를 사용하고,
+ * 그보다 앞에 클라이언트가 임의로 넣은 값은 무시합니다.
+ * 다른 기준이 필요하면 KeyResolver 빈을 직접 등록하여 교체할 수 있습니다.
+ */
+public class LoginUserKeyResolver implements KeyResolver {
+
+    private final RemoteAddressResolver remoteAddressResolver;
+
+    public LoginUserKeyResolver(RateLimitProperties rateLimitProperties) {
+        this.remoteAddressResolver = rateLimitProperties.trustedProxyHops() > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(rateLimitProperties.trustedProxyHops())
+                : new RemoteAddressResolver() {
+                };
+    }
+
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+        JwtAuthResponse loginUser = exchange.getAttribute(GatewayExchangeAttributes.LOGIN_USER);
+        if (loginUser != null && loginUser.customerId() != null) {
+            return Mono.just("user:" + loginUser.customerId());
+        }
+        return Mono.just("ip:" + clientAddress(exchange));
+    }
+
+    /**
+     * 신뢰할 수 있는 프록시 설정을 반영한 클라이언트 IP 를 반환합니다.
+     *
+     * @return 클라이언트 IP, 알 수 없으면 "unknown"
+     */
+    public String clientAddress(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = remoteAddressResolver.resolve(exchange);
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress().getHostAddress();
+    }
+}
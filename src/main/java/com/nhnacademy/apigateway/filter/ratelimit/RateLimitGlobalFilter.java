@@ -0,0 +1,53 @@
+package com.nhnacademy.apigateway.filter.ratelimit;
+
+import com.nhnacademy.apigateway.common.exception.RateLimitExceededException;
+import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * gateway.rate-limit.routes 에 등록된 라우트의 요청 수를 제한하는 필터입니다.
+ * 제한을 넘은 요청은 백엔드로 전달하지 않고 429 로 응답합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitGlobalFilter implements GlobalFilter, Ordered {
+
+    private final RateLimitProperties rateLimitProperties;
+    private final LocalRateLimiter localRateLimiter;
+    private final KeyResolver keyResolver;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        RateLimitProperties.Limit limit = route == null ? null : rateLimitProperties.routes().get(route.getId());
+        if (limit == null) {
+            return chain.filter(exchange);
+        }
+
+        return keyResolver.resolve(exchange)
+                .defaultIfEmpty("anonymous")
+                .flatMap(key -> {
+                    if (localRateLimiter.tryAcquire(route.getId(), key, limit)) {
+                        return chain.filter(exchange);
+                    }
+                    return Mono.error(new RateLimitExceededException(
+                            ErrorStatus.toErrorStatus("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", 429, LocalDateTime.now())
+                    ));
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 100;
+    }
+}
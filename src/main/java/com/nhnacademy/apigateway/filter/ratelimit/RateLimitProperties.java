@@ -0,0 +1,35 @@
+package com.nhnacademy.apigateway.filter.ratelimit;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 라우트별 요청 수 제한 설정입니다.
+ *
+ * @param routes           라우트 ID 별 제한, 등록되지 않은 라우트는 제한하지 않음
+ * @param maxBuckets       메모리에 유지할 최대 버킷 수
+ * @param idleTimeout      이 시간 동안 사용되지 않은 버킷은 제거
+ * @param trustedProxyHops 게이트웨이 앞단의 신뢰할 수 있는 프록시 수, 0 이면 X-Forwarded-For 를 무시하고 소켓 주소를 사용
+ */
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public record RateLimitProperties(Map<String, Limit> routes, Long maxBuckets, Duration idleTimeout,
+                                  Integer trustedProxyHops) {
+
+    public RateLimitProperties {
+        routes = routes == null ? Map.of() : Map.copyOf(routes);
+        maxBuckets = maxBuckets == null ? 100_000L : maxBuckets;
+        idleTimeout = idleTimeout == null ? Duration.ofMinutes(5) : idleTimeout;
+        trustedProxyHops = trustedProxyHops == null ? 0 : trustedProxyHops;
+        if (trustedProxyHops < 0) {
+            throw new IllegalArgumentException("gateway.rate-limit.trusted-proxy-hops must not be negative");
+        }
+    }
+
+    /**
+     * @param replenishRate 초당 충전되는 요청 수
+     * @param burstCapacity 한 번에 허용하는 최대 요청 수
+     */
+    public record Limit(int replenishRate, int burstCapacity) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.nhnacademy.apigateway.filter.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 방식의 토큰 버킷입니다.
+ * 다음 요청이 허용되는 이론적 도착 시각 하나만 CAS 로 갱신하므로 락 없이 동작합니다.
+ */
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrivalTime;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나를 사용합니다.
+     *
+     * @param nowNanos           현재 시각 (System.nanoTime)
+     * @param emissionInterval   토큰 하나가 충전되는 간격 (ns)
+     * @param burstTolerance     버킷 용량에 해당하는 시간 (ns)
+     * @return 토큰을 사용했으면 true, 버킷이 비어 있으면 false
+     */
+    boolean tryAcquire(long nowNanos, long emissionInterval, long burstTolerance) {
+        while (true) {
+            long current = theoreticalArrivalTime.get();
+            long next = Math.max(current, nowNanos) + emissionInterval;
+            if (next - nowNanos > burstTolerance) {
+                return false;
+            }
+            if (theoreticalArrivalTime.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.nhnacademy.apigateway.filter.rule;
+
+/**
+ * 경로별 인증 방식입니다.
+ */
+public enum AuthMode {
+
+    /**
+     * 토큰을 검사하지 않고 통과시킵니다.
+     */
+    PUBLIC,
+
+    /**
+     * Authorization 헤더가 없으면 통과시키고, 있으면 토큰을 검증합니다.
+     */
+    OPTIONAL,
+
+    /**
+     * 유효한 토큰이 있어야 합니다.
+     */
+    AUTHENTICATED
+}
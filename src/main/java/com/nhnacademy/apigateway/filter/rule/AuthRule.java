@@ -0,0 +1,56 @@
+package com.nhnacademy.apigateway.filter.rule;
+
+import java.util.List;
+import java.util.Set;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+
+/**
+ * 컴파일된 경로별 인증 규칙입니다.
+ *
+ * @param pathPattern 컴파일된 경로 패턴, 기본 규칙이면 null
+ * @param anyDepthKey null 이 아니면 /**&#47; 로 시작하는 규칙으로, 경로의 어느 깊이에서 시작하는 부분 경로든 패턴과 일치하면 적용함.
+ *                    디코딩한 세그먼트 중 이 문자열로 시작하는 것이 없으면 부분 경로를 비교하지 않음
+ * @param methods     규칙을 적용할 HTTP 메서드, 비어 있으면 모든 메서드
+ * @param mode        인증 방식
+ * @param roles       접근을 허용할 역할, 비어 있으면 역할을 검사하지 않음
+ */
+public record AuthRule(PathPattern pathPattern, String anyDepthKey, Set<HttpMethod> methods, AuthMode mode,
+                       Set<String> roles) {
+
+    public boolean matches(PathContainer path, HttpMethod method) {
+        return (methods.isEmpty() || methods.contains(method))
+                && (pathPattern == null || matchesPath(path));
+    }
+
+    private boolean matchesPath(PathContainer path) {
+        if (anyDepthKey == null) {
+            return pathPattern.matches(path);
+        }
+        // 백엔드는 퍼센트 인코딩을 풀어 라우팅하므로 원본 문자열이 아닌 디코딩한 세그먼트 값으로 확인합니다.
+        if (!hasSegmentStartingWith(path, anyDepthKey)) {
+            return false;
+        }
+        List<PathContainer.Element> elements = path.elements();
+        for (int i = 0; i < elements.size(); i++) {
+            if (elements.get(i) instanceof PathContainer.Separator && pathPattern.matches(path.subPath(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasSegmentStartingWith(PathContainer path, String prefix) {
+        for (PathContainer.Element element : path.elements()) {
+            if (element instanceof PathContainer.PathSegment segment && segment.valueToMatch().startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean requiresRole() {
+        return !roles.isEmpty();
+    }
+}
@@ -0,0 +1,167 @@
+package com.nhnacademy.apigateway.filter.rule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 설정된 인증 규칙을 미리 컴파일하고, 요청마다 적용할 규칙을 찾습니다.
+ * 규칙은 첫 번째 경로 세그먼트로 미리 분류해 두므로 요청당 해시 조회 한 번과 소수의 패턴 비교만 수행합니다.
+ * 라우트 테이블이 바뀌면 규칙을 다시 컴파일해 통째로 교체하며, base-rules 는 교체와 관계없이 항상 앞에 둡니다.
+ */
+@Component
+public class AuthRuleMatcher {
+
+    private static final AuthRule DEFAULT_RULE = new AuthRule(null, null, Set.of(), AuthMode.AUTHENTICATED, Set.of());
+
+    private static final String ANY_DEPTH_PREFIX = "/**/";
+
+    private final AuthRuleProperties authRuleProperties;
+    private volatile RuleIndex ruleIndex;
+
+    public AuthRuleMatcher(AuthRuleProperties authRuleProperties) {
+        this.authRuleProperties = authRuleProperties;
+        this.ruleIndex = compile(List.of());
+    }
+
+    /**
+     * 라우트 테이블의 규칙으로 교체할 색인을 컴파일합니다.
+     * 라우트 교체와 함께 {@link #apply(RuleIndex)} 하기 전까지는 현재 규칙이 그대로 적용됩니다.
+     *
+     * @param rules 라우트 테이블의 인증 규칙, 비어 있으면 gateway.auth.rules
+     * @return base-rules 뒤에 규칙을 이어 붙여 컴파일한 색인
+     */
+    public RuleIndex compile(List<AuthRuleProperties.Rule> rules) {
+        List<AuthRuleProperties.Rule> merged = new ArrayList<>(authRuleProperties.baseRules());
+        merged.addAll(rules.isEmpty() ? authRuleProperties.rules() : rules);
+        return RuleIndex.compile(merged);
+    }
+
+    /**
+     * 컴파일해 둔 색인으로 교체합니다.
+     * 색인을 한 번에 바꾸므로 진행 중인 요청은 이전 규칙이나 새 규칙 중 하나로만 평가됩니다.
+     *
+     * @param index {@link #compile(List)} 로 만든 색인
+     */
+    public void apply(RuleIndex index) {
+        this.ruleIndex = index;
+    }
+
+    /**
+     * 요청에 적용할 인증 규칙을 찾습니다.
+     *
+     * @param request 현재 요청
+     * @return 처음 일치하는 규칙, 없으면 AUTHENTICATED 기본 규칙
+     */
+    public AuthRule match(ServerHttpRequest request) {
+        PathContainer path = request.getPath().pathWithinApplication();
+        HttpMethod method = request.getMethod();
+
+        RuleIndex index = ruleIndex;
+        for (AuthRule rule : index.rulesByFirstSegment().getOrDefault(firstSegment(path), index.wildcardRules())) {
+            if (rule.matches(path, method)) {
+                return rule;
+            }
+        }
+        return DEFAULT_RULE;
+    }
+
+    /**
+     * 첫 번째 경로 세그먼트별로 분류된 컴파일된 규칙입니다.
+     */
+    public record RuleIndex(Map<String, List<AuthRule>> rulesByFirstSegment, List<AuthRule> wildcardRules) {
+
+        static RuleIndex compile(List<AuthRuleProperties.Rule> rules) {
+            PathPatternParser parser = new PathPatternParser();
+            List<String> firstSegments = new ArrayList<>();
+            List<AuthRule> compiledRules = new ArrayList<>();
+
+            for (AuthRuleProperties.Rule rule : rules) {
+                firstSegments.add(literalFirstSegment(rule.path()));
+                compiledRules.add(AuthRuleMatcher.compile(parser, rule));
+            }
+
+            List<AuthRule> wildcards = new ArrayList<>();
+            Map<String, List<AuthRule>> buckets = new HashMap<>();
+            for (String firstSegment : firstSegments) {
+                if (firstSegment != null) {
+                    buckets.putIfAbsent(firstSegment, new ArrayList<>());
+                }
+            }
+
+            // 선언 순서를 유지하기 위해 와일드카드 규칙은 모든 버킷에 같은 위치로 함께 넣습니다.
+            for (int i = 0; i < compiledRules.size(); i++) {
+                String firstSegment = firstSegments.get(i);
+                AuthRule rule = compiledRules.get(i);
+                if (firstSegment == null) {
+                    wildcards.add(rule);
+                    buckets.values().forEach(bucket -> bucket.add(rule));
+                } else {
+                    buckets.get(firstSegment).add(rule);
+                }
+            }
+
+            return new RuleIndex(buckets.entrySet().stream()
+                    .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> List.copyOf(entry.getValue()))),
+                    List.copyOf(wildcards));
+        }
+    }
+
+    private static AuthRule compile(PathPatternParser parser, AuthRuleProperties.Rule rule) {
+        // PathPattern 은 ** 를 끝에만 허용하므로, 앞의 /** 는 떼어 내고 경로의 모든 깊이에서 나머지 패턴을 비교합니다.
+        boolean anyDepth = rule.path().startsWith(ANY_DEPTH_PREFIX);
+        String pattern = anyDepth ? rule.path().substring(3) : rule.path();
+        PathPattern pathPattern = parser.parse(pattern);
+        Set<HttpMethod> methods = rule.methods().stream()
+                .map(HttpMethod::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new AuthRule(pathPattern, anyDepth ? literalSegmentPrefix(pattern) : null, methods, rule.mode(),
+                Set.copyOf(rule.roles()));
+    }
+
+    /**
+     * 패턴 첫 세그먼트 앞부분의 고정 문자열을 반환합니다. 이 문자열로 시작하는 세그먼트가 없는 경로는 패턴과 일치할 수 없습니다.
+     */
+    private static String literalSegmentPrefix(String pattern) {
+        int start = pattern.startsWith("/") ? 1 : 0;
+        int end = start;
+        while (end < pattern.length() && "*?{/".indexOf(pattern.charAt(end)) < 0) {
+            end++;
+        }
+        return pattern.substring(start, end);
+    }
+
+    /**
+     * 규칙 버킷을 고를 첫 세그먼트입니다. PathPattern 과 같이 퍼센트 인코딩과 매트릭스 변수를 푼 값을 사용합니다.
+     */
+    private static String firstSegment(PathContainer path) {
+        List<PathContainer.Element> elements = path.elements();
+        return elements.size() > 1 && elements.get(1) instanceof PathContainer.PathSegment segment
+                ? segment.valueToMatch()
+                : "";
+    }
+
+    /**
+     * 패턴의 첫 세그먼트가 고정 문자열이면 그 값을, 와일드카드나 변수를 포함하면 null 을 반환합니다.
+     */
+    private static String literalFirstSegment(String pattern) {
+        String trimmed = pattern.startsWith("/") ? pattern.substring(1) : pattern;
+        int end = trimmed.indexOf('/');
+        String segment = end < 0 ? trimmed : trimmed.substring(0, end);
+
+        if (segment.isEmpty() || segment.contains("*") || segment.contains("?") || segment.contains("{")) {
+            return null;
+        }
+        return segment;
+    }
+}
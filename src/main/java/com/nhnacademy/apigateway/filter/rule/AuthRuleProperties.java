@@ -0,0 +1,37 @@
+package com.nhnacademy.apigateway.filter.rule;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * gateway.auth 에 선언된 경로별 인증 규칙입니다.
+ * 규칙은 선언된 순서대로 평가되며, 처음 일치하는 규칙이 적용됩니다.
+ * base-rules 는 항상 가장 먼저 평가되고, 라우트 테이블의 auth-rules 는 rules 만 대체합니다.
+ *
+ * @param baseRules 라우트 테이블이 바꿀 수 없는 게이트웨이 자체 엔드포인트(관리 API, actuator) 규칙
+ * @param rules     백엔드 경로 규칙, 라우트 테이블에 auth-rules 가 없을 때 사용
+ */
+@ConfigurationProperties(prefix = "gateway.auth")
+public record AuthRuleProperties(List<Rule> baseRules, List<Rule> rules) {
+
+    public AuthRuleProperties {
+        baseRules = baseRules == null ? List.of() : List.copyOf(baseRules);
+        rules = rules == null ? List.of() : List.copyOf(rules);
+    }
+
+    /**
+     * @param path    PathPattern 형식의 경로 패턴, /**&#47; 로 시작하면 나머지 패턴이 경로의 어느 깊이에서든 일치하면 적용
+     *                (예: /**&#47;admin*&#47;** 는 /admin 으로 시작하는 세그먼트가 있는 모든 경로)
+     * @param methods 규칙을 적용할 HTTP 메서드, 비어 있으면 모든 메서드
+     * @param mode    인증 방식, 지정하지 않으면 AUTHENTICATED
+     * @param roles   접근을 허용할 역할, 비어 있으면 역할을 검사하지 않음
+     */
+    public record Rule(String path, List<String> methods, AuthMode mode, List<String> roles) {
+
+        public Rule {
+            methods = methods == null ? List.of() : List.copyOf(methods);
+            mode = mode == null ? AuthMode.AUTHENTICATED : mode;
+            roles = roles == null ? List.of() : List.copyOf(roles);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.apigateway.infrastructure.adaptor;
+
+import com.nhnacademy.apigateway.common.exception.AuthServerUnavailableException;
+import com.nhnacademy.apigateway.common.exception.ExpireRefreshJwtException;
+import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
+import com.nhnacademy.apigateway.presentation.dto.response.AuthResponse;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreaker;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreakerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증 서버를 논블로킹으로 호출하는 어댑터입니다.
+ * 이벤트 루프 스레드에서 블로킹 Feign 호출이 일어나지 않도록 토큰 갱신은 이 어댑터를 사용합니다.
+ */
+@Component
+public class AuthWebClientAdaptor {
+
+    private static final String CIRCUIT_BREAKER_ID = "AUTHORITY-REFRESH";
+
+    private final WebClient authWebClient;
+    private final ReactiveCircuitBreaker circuitBreaker;
+
+    public AuthWebClientAdaptor(@Qualifier("authWebClient") WebClient authWebClient,
+                                ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory) {
+        this.authWebClient = authWebClient;
+        this.circuitBreaker = circuitBreakerFactory.create(CIRCUIT_BREAKER_ID);
+    }
+
+    /**
+     * 리프레시 토큰으로 새 토큰 쌍을 발급받습니다.
+     *
+     * @param accessJwt  "Bearer " 접두사를 포함한 액세스 토큰
+     * @param refreshJwt 리프레시 토큰
+     * @return 갱신된 토큰 쌍을 담은 Mono
+     */
+    public Mono<AuthResponse> refreshAccessToken(String accessJwt, String refreshJwt) {
+        Mono<AuthResponse> refresh = authWebClient.get()
+                .uri("/refresh")
+                .header(HttpHeaders.AUTHORIZATION, accessJwt)
+                .header("Refresh-Token", refreshJwt)
+                .retrieve()
+                .bodyToMono(AuthResponse.class);
+
+        // 토큰 갱신은 리프레시 토큰을 교체하므로 재시도하지 않고 서킷 브레이커만 적용합니다.
+        return circuitBreaker.run(refresh, e -> Mono.error(toApplicationException(e)));
+    }
+
+    private RuntimeException toApplicationException(Throwable e) {
+        if (e instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().is4xxClientError()) {
+            return new ExpireRefreshJwtException(
+                    ErrorStatus.toErrorStatus("refresh 토큰이 만료되었습니다.", 401, LocalDateTime.now())
+            );
+        }
+
+        return new AuthServerUnavailableException(
+                ErrorStatus.toErrorStatus("토큰 갱신 중 오류가 발생했습니다.", 503, LocalDateTime.now())
+        );
+    }
+
+}
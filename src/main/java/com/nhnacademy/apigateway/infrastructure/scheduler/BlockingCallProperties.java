@@ -0,0 +1,40 @@
+package com.nhnacademy.apigateway.infrastructure.scheduler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 블로킹 어댑터 호출을 실행할 스케줄러 설정입니다.
+ *
+ * @param mode           실행 방식
+ * @param maxConcurrency 동시에 실행할 수 있는 최대 호출 수 (IMMEDIATE 에는 적용되지 않음)
+ * @param maxQueued      실행을 기다릴 수 있는 호출 수, 넘으면 즉시 거부 (IMMEDIATE 에는 적용되지 않음).
+ *                       워커마다 나눠 제한하므로 실제 한도는 워커 수 단위로 올림되어 최대 maxConcurrency - 1 만큼 클 수 있음
+ */
+@ConfigurationProperties(prefix = "gateway.blocking-call")
+public record BlockingCallProperties(ExecutionMode mode, Integer maxConcurrency, Integer maxQueued) {
+
+    public BlockingCallProperties {
+        mode = mode == null ? ExecutionMode.VIRTUAL_THREAD : mode;
+        maxConcurrency = maxConcurrency == null ? 64 : maxConcurrency;
+        maxQueued = maxQueued == null ? 1_000 : maxQueued;
+    }
+
+    public enum ExecutionMode {
+
+        /**
+         * 호출한 스레드(Netty 이벤트 루프)에서 바로 실행합니다. 동시 실행 수와 대기 수 제한이 없습니다.
+         * 비교 측정용이며 운영에서는 사용하지 않습니다.
+         */
+        IMMEDIATE,
+
+        /**
+         * 플랫폼 스레드 풀(bounded elastic)에서 실행합니다. 동시 실행 수와 대기 수는 maxConcurrency, maxQueued 로 제한합니다.
+         */
+        BOUNDED_ELASTIC,
+
+        /**
+         * 호출마다 가상 스레드를 만들어 실행합니다. 동시 실행 수와 대기 수는 maxConcurrency, maxQueued 로 제한합니다.
+         */
+        VIRTUAL_THREAD
+    }
+}
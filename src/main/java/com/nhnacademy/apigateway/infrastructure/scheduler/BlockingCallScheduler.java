@@ -0,0 +1,88 @@
+package com.nhnacademy.apigateway.infrastructure.scheduler;
+
+import com.nhnacademy.apigateway.common.exception.BlockingCallRejectedException;
+import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
+import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Feign 클라이언트처럼 스레드를 점유하는 어댑터 호출을 Netty 이벤트 루프 밖에서 실행합니다.
+ * BOUNDED_ELASTIC, VIRTUAL_THREAD 방식은 동시 실행 수와 대기 수가 제한되어 있어 인증 서버가 느려져도 대기열이 무한히 쌓이지 않으며,
+ * 대기열이 가득 차면 호출을 기다리게 하지 않고 503 으로 거부합니다.
+ * 비교용인 IMMEDIATE 방식은 호출한 스레드에서 바로 실행하므로 어떤 제한도 적용되지 않습니다.
+ *
+ * <p>bounded elastic 스케줄러의 대기 수 제한은 워커 스레드마다 따로 적용되므로,
+ * max-queued 를 max-concurrency 로 나눈 값(올림)을 워커별 제한으로 넘깁니다.
+ * 따라서 실제로 대기할 수 있는 호출 수는 max-queued 이상, max-queued + max-concurrency 미만입니다.
+ * 워커 하나에 호출이 몰리면 전체 대기 수가 max-queued 에 못 미쳐도 그 워커로 가는 호출이 먼저 거부될 수 있습니다.
+ */
+@Slf4j
+@Component
+public class BlockingCallScheduler implements DisposableBean {
+
+    private static final String THREAD_NAME_PREFIX = "blocking-call";
+
+    private final Scheduler scheduler;
+
+    public BlockingCallScheduler(BlockingCallProperties blockingCallProperties) {
+        this.scheduler = createScheduler(blockingCallProperties);
+        if (blockingCallProperties.mode() == BlockingCallProperties.ExecutionMode.IMMEDIATE) {
+            log.warn("Blocking adaptor calls run on the calling thread (IMMEDIATE mode), no limits apply");
+        } else {
+            log.info("Blocking adaptor calls run in {} mode (max concurrency {}, max queued {} per worker, {} in total)",
+                    blockingCallProperties.mode(), blockingCallProperties.maxConcurrency(),
+                    queuedPerWorker(blockingCallProperties),
+                    (long) queuedPerWorker(blockingCallProperties) * blockingCallProperties.maxConcurrency());
+        }
+    }
+
+    /**
+     * 블로킹 호출을 스케줄러에서 실행합니다.
+     *
+     * @param callable 블로킹 호출
+     * @return 호출 결과를 담은 Mono, 대기열이 가득 찬 경우 BlockingCallRejectedException
+     */
+    public <T> Mono<T> call(Callable<T> callable) {
+        return Mono.fromCallable(callable)
+                .subscribeOn(scheduler)
+                .onErrorMap(RejectedExecutionException.class, e -> new BlockingCallRejectedException(
+                        ErrorStatus.toErrorStatus("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 503,
+                                LocalDateTime.now())));
+    }
+
+    private static Scheduler createScheduler(BlockingCallProperties properties) {
+        return switch (properties.mode()) {
+            case IMMEDIATE -> Schedulers.immediate();
+            case BOUNDED_ELASTIC -> Schedulers.newBoundedElastic(
+                    properties.maxConcurrency(), queuedPerWorker(properties), THREAD_NAME_PREFIX);
+            case VIRTUAL_THREAD -> {
+                // Schedulers.newXxx 와 달리 Factory 로 만든 스케줄러는 시작되지 않은 상태이므로 직접 init 합니다.
+                Scheduler scheduler = new Schedulers.Factory() {
+                }.newThreadPerTaskBoundedElastic(
+                        properties.maxConcurrency(), queuedPerWorker(properties),
+                        Thread.ofVirtual().name(THREAD_NAME_PREFIX + "-", 0).factory());
+                scheduler.init();
+                yield scheduler;
+            }
+        };
+    }
+
+    /**
+     * 워커 하나가 받을 수 있는 대기 호출 수입니다. 워커 수를 곱하면 max-queued 이상이 되도록 올림합니다.
+     */
+    static int queuedPerWorker(BlockingCallProperties properties) {
+        return Math.max(1, (properties.maxQueued() + properties.maxConcurrency() - 1) / properties.maxConcurrency());
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+}
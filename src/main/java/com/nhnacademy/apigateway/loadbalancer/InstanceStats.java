@@ -0,0 +1,88 @@
+package com.nhnacademy.apigateway.loadbalancer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인스턴스 하나의 처리 중인 요청 수, 지연 시간 EWMA, 연속 실패와 제외 상태입니다.
+ * 지연 시간은 Peak EWMA 로 기록하여 느려진 인스턴스는 즉시 반영하고, 빨라진 인스턴스는 decayTime 에 걸쳐 천천히 반영합니다.
+ */
+public class InstanceStats {
+
+    // 아직 응답을 받아 본 적 없는 인스턴스의 가정 지연 시간입니다.
+    private static final double INITIAL_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final double decayNanos;
+
+    private double ewmaNanos = INITIAL_LATENCY_NANOS;
+    private long lastSampleNanos = System.nanoTime();
+    private int consecutiveFailures;
+    private int ejectionCount;
+    private volatile long ejectedUntilNanos;
+
+    InstanceStats(long decayNanos) {
+        this.decayNanos = decayNanos;
+    }
+
+    void onStart() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * 처리 중인 요청 하나가 끝났음을 기록합니다. 성공, 실패, 취소와 관계없이 onStart 마다 한 번 호출해야 합니다.
+     */
+    void onFinish() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 응답 지연과 성공 여부를 기록합니다. 취소된 요청처럼 지연을 알 수 없는 요청은 기록하지 않습니다.
+     *
+     * @return 이번 실패로 인스턴스가 새로 제외되어야 하면 true
+     */
+    synchronized boolean onSample(long latencyNanos, boolean failed, int failureThreshold) {
+        long now = System.nanoTime();
+        if (latencyNanos > ewmaNanos) {
+            ewmaNanos = latencyNanos;
+        } else {
+            double weight = Math.exp(-(now - lastSampleNanos) / decayNanos);
+            ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+        }
+        lastSampleNanos = now;
+
+        if (!failed) {
+            consecutiveFailures = 0;
+            return false;
+        }
+        return ++consecutiveFailures >= failureThreshold && !isEjected(now);
+    }
+
+    /**
+     * 인스턴스를 제외합니다. 제외될 때마다 제외 시간이 두 배로 늘어나며, 최대 8배까지 늘어납니다.
+     */
+    synchronized void eject(long baseEjectionNanos) {
+        ejectionCount = Math.min(ejectionCount + 1, 4);
+        ejectedUntilNanos = System.nanoTime() + (baseEjectionNanos << (ejectionCount - 1));
+        consecutiveFailures = 0;
+    }
+
+    boolean isEjected(long nowNanos) {
+        return nowNanos - ejectedUntilNanos < 0;
+    }
+
+    /**
+     * 처리 중인 요청이 모두 끝날 때까지 기다리는 시간을 어림한 선택 비용입니다.
+     */
+    synchronized double cost() {
+        return ewmaNanos * (inFlight.get() + 1);
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public synchronized double ewmaMillis() {
+        return ewmaNanos / 1_000_000d;
+    }
+}
@@ -0,0 +1,143 @@
+package com.nhnacademy.apigateway.loadbalancer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게이트웨이의 로드밸런서 필터가 호출하는 생명주기 콜백으로 인스턴스별 지연과 실패를 모읍니다.
+ * 연결 실패나 5xx 응답이 연속되면 인스턴스를 일정 시간 선택 대상에서 제외합니다.
+ * 로드밸런서 필터는 취소된 요청에 onComplete 를 호출하지 않으므로, 처리 중인 요청 수는 이 콜백이 아니라
+ * {@link LoadBalancerInFlightGlobalFilter} 가 요청이 끝나는 모든 경우에 짝을 맞춰 기록합니다.
+ */
+@Slf4j
+@Component
+public class InstanceStatsRegistry
+        implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    private final LoadBalancerProperties loadBalancerProperties;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, InstanceStats> statsByInstance;
+
+    public InstanceStatsRegistry(LoadBalancerProperties loadBalancerProperties, MeterRegistry meterRegistry) {
+        this.loadBalancerProperties = loadBalancerProperties;
+        this.meterRegistry = meterRegistry;
+        // 디스커버리에서 사라진 인스턴스의 통계는 오래 쓰이지 않으면 제거합니다.
+        this.statsByInstance = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    public InstanceStats statsFor(ServiceInstance instance) {
+        return statsByInstance.get(key(instance),
+                key -> new InstanceStats(loadBalancerProperties.decayTime().toNanos()));
+    }
+
+    /**
+     * 제외되지 않은 인스턴스 목록을 반환합니다.
+     * 제외된 인스턴스가 max-ejection-percent 를 넘거나 모두 제외된 경우에는 전체 목록을 그대로 사용합니다.
+     */
+    public List<ServiceInstance> available(List<ServiceInstance> instances) {
+        long now = System.nanoTime();
+        List<ServiceInstance> available = instances.stream()
+                .filter(instance -> !statsFor(instance).isEjected(now))
+                .toList();
+
+        int ejected = instances.size() - available.size();
+        if (available.isEmpty() || ejected * 100 > instances.size() * loadBalancerProperties.maxEjectionPercent()) {
+            return instances;
+        }
+        return available;
+    }
+
+    /**
+     * excluded 와 다른 인스턴스 중 제외되지 않고 비용이 가장 낮은 인스턴스를 고릅니다. 헤지 요청을 보낼 인스턴스를 고를 때 사용합니다.
+     */
+    public Optional<ServiceInstance> leastCostExcept(List<ServiceInstance> instances, ServiceInstance excluded) {
+        return available(instances).stream()
+                .filter(instance -> !key(instance).equals(key(excluded)))
+                .min(Comparator.comparingDouble(instance -> statsFor(instance).cost()));
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        request.getContext().setRequestStartTime(System.nanoTime());
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+
+        long startNanos = completionContext.getLoadBalancerRequest().getContext().getRequestStartTime();
+        long latencyNanos = startNanos > 0 ? System.nanoTime() - startNanos : 0;
+        boolean failed = completionContext.status() == CompletionContext.Status.FAILED
+                || (completionContext.getClientResponse() != null
+                && completionContext.getClientResponse().getHttpStatus() != null
+                && completionContext.getClientResponse().getHttpStatus().is5xxServerError());
+
+        recordSample(lbResponse.getServer(), latencyNanos, failed);
+    }
+
+    /**
+     * 인스턴스로 보낸 요청의 시작을 기록합니다. 끝나면 취소된 경우까지 포함해 반드시 {@link #recordFinish} 를 호출해야 합니다.
+     */
+    public void recordStart(ServiceInstance instance) {
+        statsFor(instance).onStart();
+    }
+
+    /**
+     * 인스턴스로 보낸 요청이 끝났음을 기록합니다.
+     */
+    public void recordFinish(ServiceInstance instance) {
+        statsFor(instance).onFinish();
+    }
+
+    /**
+     * 응답 지연과 성공 여부를 기록하고, 연속 실패가 failure-threshold 에 도달하면 인스턴스를 제외합니다.
+     */
+    public void recordSample(ServiceInstance instance, long latencyNanos, boolean failed) {
+        InstanceStats stats = statsFor(instance);
+        if (stats.onSample(latencyNanos, failed, loadBalancerProperties.failureThreshold())) {
+            stats.eject(loadBalancerProperties.ejectionTime().toNanos());
+            log.warn("Ejecting instance {} after {} consecutive failures",
+                    key(instance), loadBalancerProperties.failureThreshold());
+            Counter.builder("gateway.loadbalancer.ejections")
+                    .description("연속 실패로 선택 대상에서 제외된 횟수")
+                    .tag("service", instance.getServiceId())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getServiceId() + '/' + instance.getHost() + ':' + instance.getPort();
+    }
+}
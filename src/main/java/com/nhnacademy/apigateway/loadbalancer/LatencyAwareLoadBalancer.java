@@ -0,0 +1,61 @@
+package com.nhnacademy.apigateway.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * 지연 시간과 처리 중인 요청 수를 반영하는 power-of-two-choices 로드밸런서입니다.
+ * 제외되지 않은 인스턴스 중 임의의 두 개를 골라 비용(EWMA 지연 시간 x (처리 중인 요청 수 + 1))이 낮은 쪽으로 보냅니다.
+ * 항상 최저 비용 인스턴스만 고르지 않으므로 여러 게이트웨이가 같은 인스턴스로 몰리지 않습니다.
+ */
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final InstanceStatsRegistry instanceStatsRegistry;
+
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                                    InstanceStatsRegistry instanceStatsRegistry) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.instanceStatsRegistry = instanceStatsRegistry;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::choose);
+    }
+
+    private Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+
+        List<ServiceInstance> candidates = instanceStatsRegistry.available(instances);
+        if (candidates.size() == 1) {
+            return new DefaultResponse(candidates.get(0));
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return new DefaultResponse(instanceStatsRegistry.statsFor(a).cost() <= instanceStatsRegistry.statsFor(b).cost()
+                ? a : b);
+    }
+}
@@ -0,0 +1,33 @@
+package com.nhnacademy.apigateway.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 서비스별 로드밸런서 자식 컨텍스트에 등록되는 설정입니다.
+ * 자식 컨텍스트 전용이므로 컴포넌트 스캔에 잡히지 않도록 @Configuration 을 붙이지 않고 LoadBalancerConfig 에서만 참조합니다.
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> reactorServiceInstanceLoadBalancer(
+            Environment environment,
+            LoadBalancerClientFactory loadBalancerClientFactory,
+            LoadBalancerProperties loadBalancerProperties,
+            InstanceStatsRegistry instanceStatsRegistry) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        ObjectProvider<ServiceInstanceListSupplier> supplierProvider =
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class);
+
+        if (loadBalancerProperties.strategy() == LoadBalancerProperties.Strategy.ROUND_ROBIN) {
+            return new RoundRobinLoadBalancer(supplierProvider, serviceId);
+        }
+        return new LatencyAwareLoadBalancer(supplierProvider, instanceStatsRegistry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.nhnacademy.apigateway.loadbalancer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 로드밸런서 필터가 고른 인스턴스의 처리 중인 요청 수를 기록하는 필터입니다.
+ * 로드밸런서 생명주기의 onComplete 는 성공과 오류에만 호출되고 취소(서킷 브레이커 타임아웃, 클라이언트 연결 종료)에는 호출되지 않아
+ * 그 콜백으로 세면 처리 중인 요청 수가 영구히 늘어납니다. 이 필터는 요청이 어떻게 끝나든 doFinally 에서 한 번 줄입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadBalancerInFlightGlobalFilter implements GlobalFilter, Ordered {
+
+    private final InstanceStatsRegistry instanceStatsRegistry;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Response<ServiceInstance> lbResponse =
+                exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return chain.filter(exchange);
+        }
+
+        ServiceInstance instance = lbResponse.getServer();
+        return Mono.defer(() -> {
+            instanceStatsRegistry.recordStart(instance);
+            return chain.filter(exchange)
+                    .doFinally(signal -> instanceStatsRegistry.recordFinish(instance));
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+    }
+}
@@ -0,0 +1,42 @@
+package com.nhnacademy.apigateway.loadbalancer;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * lb:// 라우트의 인스턴스 선택 설정입니다.
+ *
+ * @param strategy           인스턴스 선택 방식
+ * @param decayTime          지연 시간 EWMA 가 과거 값을 잊는 시간 상수
+ * @param failureThreshold   연속 실패가 이 횟수에 도달하면 인스턴스를 제외함
+ * @param ejectionTime       인스턴스를 처음 제외하는 시간, 다시 제외될 때마다 두 배로 늘어남
+ * @param maxEjectionPercent 한 서비스에서 동시에 제외할 수 있는 인스턴스 비율 (%)
+ */
+@ConfigurationProperties(prefix = "gateway.load-balancer")
+public record LoadBalancerProperties(Strategy strategy,
+                                     Duration decayTime,
+                                     Integer failureThreshold,
+                                     Duration ejectionTime,
+                                     Integer maxEjectionPercent) {
+
+    public LoadBalancerProperties {
+        strategy = strategy == null ? Strategy.LATENCY_AWARE : strategy;
+        decayTime = decayTime == null ? Duration.ofSeconds(10) : decayTime;
+        failureThreshold = failureThreshold == null ? 5 : failureThreshold;
+        ejectionTime = ejectionTime == null ? Duration.ofSeconds(30) : ejectionTime;
+        maxEjectionPercent = maxEjectionPercent == null ? 50 : maxEjectionPercent;
+    }
+
+    public enum Strategy {
+
+        /**
+         * 임의의 두 인스턴스 중 지연 시간 EWMA 와 처리 중인 요청 수로 계산한 비용이 낮은 쪽을 고릅니다.
+         */
+        LATENCY_AWARE,
+
+        /**
+         * Spring Cloud LoadBalancer 기본 라운드 로빈입니다.
+         */
+        ROUND_ROBIN
+    }
+}
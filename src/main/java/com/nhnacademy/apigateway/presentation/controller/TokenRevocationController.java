@@ -0,0 +1,40 @@
+package com.nhnacademy.apigateway.presentation.controller;
+
+import com.nhnacademy.apigateway.application.service.TokenRevocationService;
+import com.nhnacademy.apigateway.presentation.dto.request.RevokeTokenRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 관리자가 토큰을 직접 폐기하는 엔드포인트입니다.
+ * 경로가 /**&#47;admin*&#47;** 규칙에 해당하므로 ADMIN 역할만 호출할 수 있습니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/gateway/admin/revocations")
+public class TokenRevocationController {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * 토큰을 만료 시각까지 폐기 목록에 추가합니다.
+     *
+     * @param request 폐기할 토큰
+     * @return 추가되었으면 204, 검증할 수 없거나 이미 만료된 토큰이면 200, 폐기 목록이 가득 찼으면 503
+     */
+    @PostMapping
+    public ResponseEntity<Void> revoke(@RequestBody RevokeTokenRequest request) {
+        if (request.token() == null || request.token().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "폐기할 토큰이 없습니다.");
+        }
+
+        boolean revoked = tokenRevocationService.revokeByAdmin(request.token());
+        return revoked ? ResponseEntity.noContent().build() : ResponseEntity.ok().build();
+    }
+}
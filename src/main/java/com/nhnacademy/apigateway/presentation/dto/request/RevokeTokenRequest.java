@@ -0,0 +1,5 @@
+package com.nhnacademy.apigateway.presentation.dto.request;
+
+public record RevokeTokenRequest(String token) {
+
+}
@@ -0,0 +1,64 @@
+package com.nhnacademy.apigateway.route;
+
+import com.nhnacademy.apigateway.filter.rule.AuthRuleProperties;
+import java.net.URI;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 라우트 테이블 파일의 내용입니다.
+ * 파일 전체가 하나의 버전으로 취급되며, 더 높은 버전만 현재 테이블을 대체합니다.
+ *
+ * @param version   테이블 버전
+ * @param routes    백엔드 라우트 목록
+ * @param authRules 경로별 인증 규칙, 비어 있으면 gateway.auth.rules 를 그대로 사용, 어느 쪽이든 gateway.auth.base-rules 뒤에 평가
+ */
+public record RouteTable(long version, List<RouteEntry> routes, List<AuthRuleProperties.Rule> authRules) {
+
+    public RouteTable {
+        routes = routes == null ? List.of() : List.copyOf(routes);
+        authRules = authRules == null ? List.of() : List.copyOf(authRules);
+    }
+
+    /**
+     * 테이블을 적용하기 전에 라우트 ID 중복, 누락된 값, 잘못된 경로 패턴을 검사합니다.
+     *
+     * @throws IllegalArgumentException 테이블이 올바르지 않은 경우
+     */
+    public void validate() {
+        if (routes.isEmpty()) {
+            throw new IllegalArgumentException("route table has no routes");
+        }
+
+        PathPatternParser parser = new PathPatternParser();
+        Set<String> ids = new HashSet<>();
+        for (RouteEntry route : routes) {
+            if (route.id() == null || route.uri() == null || route.paths().isEmpty()) {
+                throw new IllegalArgumentException("route requires id, uri and paths: " + route);
+            }
+            if (!ids.add(route.id())) {
+                throw new IllegalArgumentException("duplicate route id " + route.id());
+            }
+            route.paths().forEach(parser::parse);
+        }
+        authRules.forEach(rule -> parser.parse(rule.path()));
+    }
+
+    /**
+     * @param id      라우트 ID, 서킷 브레이커와 메트릭 이름으로도 사용
+     * @param uri     백엔드 URI (lb://SERVICE-ID)
+     * @param paths   라우트에 해당하는 경로 패턴
+     * @param methods 라우트에 해당하는 HTTP 메서드, 비어 있으면 모든 메서드
+     * @param order   라우트 평가 순서, 작을수록 먼저 평가
+     */
+    public record RouteEntry(String id, URI uri, List<String> paths, List<String> methods, Integer order) {
+
+        public RouteEntry {
+            paths = paths == null ? List.of() : List.copyOf(paths);
+            methods = methods == null ? List.of() : List.copyOf(methods);
+            order = order == null ? 0 : order;
+        }
+    }
+}
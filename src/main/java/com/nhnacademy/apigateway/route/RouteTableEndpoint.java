@@ -0,0 +1,38 @@
+package com.nhnacademy.apigateway.route;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 적용된 라우트 테이블을 조회하고, 파일을 즉시 다시 읽도록 하는 actuator 엔드포인트입니다.
+ * /actuator/health 와 스크랩 토큰으로 인증하는 /actuator/prometheus 를 제외한 actuator 엔드포인트는 인증 규칙에서 ADMIN 역할로 제한합니다.
+ */
+@Component
+@Endpoint(id = "routetable")
+@RequiredArgsConstructor
+public class RouteTableEndpoint {
+
+    private final RouteTableRouteDefinitionLocator routeTableLocator;
+
+    @ReadOperation
+    public Map<String, Object> routeTable() {
+        RouteTable routeTable = routeTableLocator.getRouteTable();
+        return Map.of(
+                "location", routeTableLocator.getLocation(),
+                "version", routeTable.version(),
+                "routes", routeTable.routes(),
+                "authRules", routeTable.authRules());
+    }
+
+    @WriteOperation
+    public Map<String, Object> reload() {
+        boolean applied = routeTableLocator.reload();
+        return Map.of(
+                "applied", applied,
+                "version", routeTableLocator.getRouteTable().version());
+    }
+}
@@ -0,0 +1,19 @@
+package com.nhnacademy.apigateway.route;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 라우트 테이블 파일 설정입니다.
+ *
+ * @param location       라우트 테이블 YAML 위치 (file:, classpath:)
+ * @param reloadInterval 파일 변경을 확인하는 주기
+ */
+@ConfigurationProperties(prefix = "gateway.route-table")
+public record RouteTableProperties(String location, Duration reloadInterval) {
+
+    public RouteTableProperties {
+        location = location == null ? "classpath:routes.yml" : location;
+        reloadInterval = reloadInterval == null ? Duration.ofSeconds(10) : reloadInterval;
+    }
+}
@@ -0,0 +1,243 @@
+package com.nhnacademy.apigateway.route;
+
+import com.nhnacademy.apigateway.config.ResilienceProperties;
+import com.nhnacademy.apigateway.filter.rule.AuthRuleMatcher;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.cloud.gateway.event.RefreshRoutesEvent;
+import org.springframework.cloud.gateway.event.RefreshRoutesResultEvent;
+import org.springframework.cloud.gateway.filter.FilterDefinition;
+import org.springframework.cloud.gateway.handler.predicate.PredicateDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinitionLocator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * 라우트 테이블 파일(routes.yml)을 읽어 게이트웨이 라우트 정의를 제공합니다.
+ * 파일은 주기적으로 다시 읽으며, 버전이 올라간 경우에만 검증을 거쳐 라우트와 인증 규칙을 함께 교체합니다.
+ * 새 라우트를 내놓고 RefreshRoutesEvent 를 발행한 뒤, 게이트웨이가 라우트 캐시를 바꿨다는 RefreshRoutesResultEvent 를 받은 시점에
+ * 미리 컴파일해 둔 인증 규칙으로 바꿉니다. 라우트 교체가 실패하면 규칙도 바꾸지 않고 이전 라우트 정의로 되돌립니다.
+ * 진행 중인 요청은 이전 라우트로 끝까지 처리됩니다.
+ */
+@Slf4j
+@Component
+public class RouteTableRouteDefinitionLocator implements RouteDefinitionLocator {
+
+    // 백엔드 장애로 볼 응답 상태 코드, 501 처럼 요청 자체의 문제인 경우는 제외합니다.
+    private static final String CIRCUIT_BREAKER_STATUS_CODES = "500,502,503,504";
+
+    private final RouteTableProperties routeTableProperties;
+    private final ResilienceProperties resilienceProperties;
+    private final AuthRuleMatcher authRuleMatcher;
+    private final ResourceLoader resourceLoader;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile RouteTable routeTable;
+    private volatile List<RouteDefinition> routeDefinitions;
+    private volatile String contentHash;
+    private PendingTable pending;
+
+    public RouteTableRouteDefinitionLocator(RouteTableProperties routeTableProperties,
+                                            ResilienceProperties resilienceProperties,
+                                            AuthRuleMatcher authRuleMatcher,
+                                            ResourceLoader resourceLoader,
+                                            ApplicationEventPublisher eventPublisher) throws IOException {
+        this.routeTableProperties = routeTableProperties;
+        this.resilienceProperties = resilienceProperties;
+        this.authRuleMatcher = authRuleMatcher;
+        this.resourceLoader = resourceLoader;
+        this.eventPublisher = eventPublisher;
+
+        // 기동 시점의 테이블이 잘못되었으면 게이트웨이를 띄우지 않습니다.
+        byte[] content = read();
+        PendingTable initial = prepare(parse(content), hash(content));
+        this.routeDefinitions = initial.routeDefinitions();
+        commit(initial);
+    }
+
+    @Override
+    public Flux<RouteDefinition> getRouteDefinitions() {
+        return Flux.fromIterable(routeDefinitions);
+    }
+
+    public RouteTable getRouteTable() {
+        return routeTable;
+    }
+
+    public String getLocation() {
+        return routeTableProperties.location();
+    }
+
+    /**
+     * 라우트 테이블 파일을 다시 읽고, 버전이 올라갔으면 적용합니다.
+     * 읽기나 검증에 실패하면 현재 테이블을 그대로 유지합니다.
+     *
+     * @return 새 테이블로 라우트 교체를 요청했으면 true
+     */
+    @Scheduled(fixedDelayString = "${gateway.route-table.reload-interval:PT10S}",
+            initialDelayString = "${gateway.route-table.reload-interval:PT10S}")
+    public synchronized boolean reload() {
+        try {
+            byte[] content = read();
+            String newHash = hash(content);
+            if (newHash.equals(contentHash) || (pending != null && newHash.equals(pending.contentHash()))) {
+                return false;
+            }
+
+            RouteTable candidate = parse(content);
+            if (candidate.version() <= routeTable.version()) {
+                log.warn("Route table {} changed but version {} is not newer than {}, ignoring",
+                        routeTableProperties.location(), candidate.version(), routeTable.version());
+                contentHash = newHash;
+                return false;
+            }
+
+            pending = prepare(candidate, newHash);
+            this.routeDefinitions = pending.routeDefinitions();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to reload route table from {}, keeping version {}",
+                    routeTableProperties.location(), routeTable.version(), e);
+            return false;
+        }
+        eventPublisher.publishEvent(new RefreshRoutesEvent(this));
+        return true;
+    }
+
+    /**
+     * 게이트웨이가 라우트 캐시를 교체한 결과를 받아 대기 중인 테이블의 인증 규칙을 적용하거나, 실패했으면 라우트 정의를 되돌립니다.
+     *
+     * @param event 라우트 캐시 교체 결과
+     */
+    @EventListener
+    public synchronized void onRoutesRefreshed(RefreshRoutesResultEvent event) {
+        if (pending == null) {
+            return;
+        }
+        if (event.isSuccess()) {
+            commit(pending);
+        } else {
+            log.error("Gateway rejected route table version {}, keeping version {}",
+                    pending.table().version(), routeTable.version(), event.getThrowable());
+            this.routeDefinitions = toRouteDefinitions(routeTable);
+        }
+        pending = null;
+    }
+
+    private PendingTable prepare(RouteTable table, String newHash) {
+        return new PendingTable(table, toRouteDefinitions(table), authRuleMatcher.compile(table.authRules()), newHash);
+    }
+
+    private void commit(PendingTable table) {
+        authRuleMatcher.apply(table.ruleIndex());
+        this.routeTable = table.table();
+        this.contentHash = table.contentHash();
+        log.info("Applied route table version {} with routes {}", table.table().version(),
+                table.table().routes().stream().map(RouteTable.RouteEntry::id).toList());
+    }
+
+    private List<RouteDefinition> toRouteDefinitions(RouteTable table) {
+        return table.routes().stream().map(this::toRouteDefinition).toList();
+    }
+
+    private RouteDefinition toRouteDefinition(RouteTable.RouteEntry route) {
+        RouteDefinition definition = new RouteDefinition();
+        definition.setId(route.id());
+        definition.setUri(route.uri());
+        definition.setOrder(route.order());
+
+        List<PredicateDefinition> predicates = new ArrayList<>();
+        predicates.add(new PredicateDefinition("Path=" + String.join(",", route.paths())));
+        if (!route.methods().isEmpty()) {
+            predicates.add(new PredicateDefinition("Method=" + String.join(",", route.methods())));
+        }
+        definition.setPredicates(predicates);
+        definition.setFilters(resilienceFilters(route.id()));
+        return definition;
+    }
+
+    /**
+     * 라우트에 재시도와 서킷 브레이커를 적용합니다.
+     * 재시도는 멱등 메서드(GET, HEAD)의 5xx 응답과 네트워크 오류에만 적용되며, 각 시도는 서킷 브레이커의 타임아웃을 따릅니다.
+     * 서킷 브레이커는 타임아웃과 연결 오류뿐 아니라 백엔드의 5xx 응답도 실패로 집계하고, 이때 클라이언트에는 백엔드 응답을 그대로 돌려줍니다.
+     */
+    private List<FilterDefinition> resilienceFilters(String routeId) {
+        ResilienceProperties.Policy policy = resilienceProperties.policyFor(routeId);
+        List<FilterDefinition> filters = new ArrayList<>();
+
+        if (policy.retries() > 0) {
+            FilterDefinition retry = new FilterDefinition();
+            retry.setName("Retry");
+            Map<String, String> args = new LinkedHashMap<>();
+            args.put("retries", String.valueOf(policy.retries()));
+            args.put("methods", "GET,HEAD");
+            args.put("series", "SERVER_ERROR");
+            args.put("backoff.firstBackoff", "50ms");
+            args.put("backoff.maxBackoff", "500ms");
+            args.put("backoff.factor", "2");
+            args.put("backoff.basedOnPreviousValue", "true");
+            retry.setArgs(args);
+            filters.add(retry);
+        }
+
+        FilterDefinition circuitBreaker = new FilterDefinition();
+        circuitBreaker.setName("CircuitBreaker");
+        Map<String, String> args = new LinkedHashMap<>();
+        args.put("name", routeId);
+        args.put("statusCodes", CIRCUIT_BREAKER_STATUS_CODES);
+        args.put("resumeWithoutError", "true");
+        circuitBreaker.setArgs(args);
+        filters.add(circuitBreaker);
+        return filters;
+    }
+
+    private byte[] read() throws IOException {
+        try (InputStream inputStream = resourceLoader.getResource(routeTableProperties.location()).getInputStream()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private static RouteTable parse(byte[] content) throws IOException {
+        Resource resource = new ByteArrayResource(content, "route table");
+        Binder binder = new Binder(ConfigurationPropertySources.from(
+                new YamlPropertySourceLoader().load("route-table", resource)));
+        RouteTable table = binder.bind(ConfigurationPropertyName.EMPTY, Bindable.of(RouteTable.class))
+                .orElseThrow(() -> new IllegalArgumentException("route table is empty"));
+        table.validate();
+        return table;
+    }
+
+    /**
+     * 검증과 컴파일을 마치고 라우트 캐시 교체를 기다리는 테이블입니다.
+     */
+    private record PendingTable(RouteTable table, List<RouteDefinition> routeDefinitions,
+                                AuthRuleMatcher.RuleIndex ruleIndex, String contentHash) {
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.nhnacademy.apigateway.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 해시 두 개로 k 개의 비트 위치를 만드는(Kirsch-Mitzenmacher) 스레드 안전 블룸 필터입니다.
+ * mightContain 이 false 이면 넣은 적이 없는 값이고, true 이면 설정한 오탐률 안에서 넣었을 수 있는 값입니다.
+ * 삭제를 지원하지 않으므로 오래된 값을 지우려면 새 필터를 만들어 교체해야 합니다.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+        this.bitCount = (long) words.length() << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 원소 수와 오탐률에 맞춰 비트 수와 해시 수를 정한 필터를 만듭니다.
+     *
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate  목표 오탐률 (0 초과 1 미만)
+     * @return 빈 블룸 필터
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        return new BloomFilter(Math.max(64, bits), hashes);
+    }
+
+    public void put(long hash1, long hash2) {
+        long combined = hash1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = (combined & Long.MAX_VALUE) % bitCount;
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = words.get(word);
+            } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+            combined += hash2;
+        }
+    }
+
+    public boolean mightContain(long hash1, long hash2) {
+        long combined = hash1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = (combined & Long.MAX_VALUE) % bitCount;
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+            combined += hash2;
+        }
+        return true;
+    }
+
+    /**
+     * 필터가 차지하는 비트 배열의 크기(바이트)입니다.
+     */
+    public long byteSize() {
+        return bitCount >>> 3;
+    }
+}
@@ -0,0 +1,102 @@
+package com.nhnacademy.apigateway.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWKS(RFC 7517) 문서를 kid 별 검증 키로 변환합니다.
+ * RSA, EC(P-256/P-384/P-521), oct(HMAC) 키를 지원하며 서명 용도가 아니거나 해석할 수 없는 키는 건너뜁니다.
+ */
+@Slf4j
+final class JsonWebKeys {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private JsonWebKeys() {
+    }
+
+    /**
+     * JWKS 문서를 읽어 kid 를 키로 하는 검증 키 맵을 만듭니다.
+     *
+     * @param inputStream JWKS JSON
+     * @return kid 별 검증 키, 선언 순서를 유지합니다.
+     * @throws IOException JSON 을 읽을 수 없는 경우
+     */
+    static Map<String, Key> parse(InputStream inputStream) throws IOException {
+        JsonNode keys = OBJECT_MAPPER.readTree(inputStream).path("keys");
+        Map<String, Key> keysById = new LinkedHashMap<>();
+        for (JsonNode jwk : keys) {
+            String kid = jwk.path("kid").asText(null);
+            if (kid == null || "enc".equals(jwk.path("use").asText())) {
+                continue;
+            }
+            try {
+                keysById.put(kid, toKey(jwk));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                log.warn("Skipping unusable JWK kid={}: {}", kid, e.getMessage());
+            }
+        }
+        return keysById;
+    }
+
+    private static Key toKey(JsonNode jwk) throws GeneralSecurityException {
+        String kty = jwk.path("kty").asText();
+        return switch (kty) {
+            case "RSA" -> KeyFactory.getInstance("RSA").generatePublic(
+                    new RSAPublicKeySpec(unsigned(jwk, "n"), unsigned(jwk, "e")));
+            case "EC" -> KeyFactory.getInstance("EC").generatePublic(
+                    new ECPublicKeySpec(new ECPoint(unsigned(jwk, "x"), unsigned(jwk, "y")), curve(jwk)));
+            case "oct" -> new SecretKeySpec(decode(jwk, "k"), hmacAlgorithm(jwk.path("alg").asText("HS256")));
+            default -> throw new IllegalArgumentException("unsupported kty " + kty);
+        };
+    }
+
+    private static ECParameterSpec curve(JsonNode jwk) throws GeneralSecurityException {
+        String stdName = switch (jwk.path("crv").asText()) {
+            case "P-256" -> "secp256r1";
+            case "P-384" -> "secp384r1";
+            case "P-521" -> "secp521r1";
+            default -> throw new IllegalArgumentException("unsupported crv " + jwk.path("crv").asText());
+        };
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec(stdName));
+        return parameters.getParameterSpec(ECParameterSpec.class);
+    }
+
+    private static String hmacAlgorithm(String alg) {
+        return switch (alg) {
+            case "HS384" -> "HmacSHA384";
+            case "HS512" -> "HmacSHA512";
+            default -> "HmacSHA256";
+        };
+    }
+
+    private static BigInteger unsigned(JsonNode jwk, String field) {
+        return new BigInteger(1, decode(jwk, field));
+    }
+
+    private static byte[] decode(JsonNode jwk, String field) {
+        String value = jwk.path(field).asText(null);
+        if (value == null) {
+            throw new IllegalArgumentException("missing " + field);
+        }
+        return Base64.getUrlDecoder().decode(value);
+    }
+}
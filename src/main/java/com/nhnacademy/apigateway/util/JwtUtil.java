@@ -1,43 +1,54 @@
 package com.nhnacademy.apigateway.util;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import javax.crypto.SecretKey;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import io.jsonwebtoken.*;
 import java.util.Date;
 import java.time.Instant;
 import java.util.Base64;
-import java.util.Map;
 import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nhnacademy.apigateway.common.exception.JwtException;
 import com.nhnacademy.apigateway.presentation.dto.response.JwtAuthResponse;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Component
 public class JwtUtil {
 
-    private final SecretKey secretKey;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
-    public JwtUtil(@Value("${jwt.secret}") String secretKey) {
-        this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    private final SigningKeyRegistry signingKeyRegistry;
+    private final VerifiedClaimsCache verifiedClaimsCache;
+
+    public JwtUtil(SigningKeyRegistry signingKeyRegistry, VerifiedClaimsCache verifiedClaimsCache) {
+        this.signingKeyRegistry = signingKeyRegistry;
+        this.verifiedClaimsCache = verifiedClaimsCache;
     }
 
 
     private Claims parseToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return verifiedClaimsCache.get(token, this::verifyToken);
+    }
+
+    private Claims verifyToken(String token) {
+        return signingKeyRegistry.parserFor(token).parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 토큰이 아직 모르는 키로 서명되었으면 키를 다시 읽을 때까지 잠시 기다립니다.
+     *
+     * @param token JWT 토큰, null 이면 바로 완료
+     * @return 검증을 시작해도 되면 완료되는 Mono
+     */
+    public Mono<Void> awaitSigningKey(String token) {
+        return signingKeyRegistry.awaitKeyFor(token);
     }
 
     public JwtAuthResponse getLoginUserFromToken(String token) {
@@ -50,21 +61,62 @@ public class JwtUtil {
         return new JwtAuthResponse(userId, userRole, loginStatusName);
     }
 
+    /**
+     * 검증된 토큰의 subject (사용자 UUID) 를 반환합니다.
+     *
+     * @param token JWT 토큰
+     * @return subject, 없으면 null
+     */
+    public String getSubFromToken(String token) {
+        return parseToken(token).getSubject();
+    }
+
     private String getSubFromExpiredToken(Claims claims) {
         return claims.getSubject();
     }
 
     // 추가적으로, JWT를 직접 디코딩하는 방법도 제공합니다.
     public String getSubFromTokenWithoutVerification(String token) {
-        String[] chunks = token.split("\\.");
-        Base64.Decoder decoder = Base64.getUrlDecoder();
+        UnverifiedClaims claims = readUnverifiedClaims(token);
+        return claims == null ? null : claims.sub();
+    }
 
-        String payload = new String(decoder.decode(chunks[1]));
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            Map<String, Object> claimsMap = objectMapper.readValue(payload, Map.class);
-            return (String) claimsMap.get("sub");
-        } catch (IOException e) {
+    /**
+     * 서명 검증 없이 JWT 페이로드에서 sub 와 exp 만 읽습니다.
+     * 페이로드 전체를 Map 으로 역직렬화하지 않고 스트리밍 파서로 필요한 필드만 읽습니다.
+     *
+     * @param token JWT 문자열
+     * @return 읽어낸 클레임, 형식이 잘못된 경우 null
+     */
+    public UnverifiedClaims readUnverifiedClaims(String token) {
+        int payloadStart = token.indexOf('.') + 1;
+        int payloadEnd = token.indexOf('.', payloadStart);
+        if (payloadStart == 0 || payloadEnd < 0) {
+            log.error("Failed to parse JWT payload: malformed token");
+            return null;
+        }
+
+        try (JsonParser parser = JSON_FACTORY.createParser(
+                Base64.getUrlDecoder().decode(token.substring(payloadStart, payloadEnd)))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            String sub = null;
+            Long exp = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                if ("sub".equals(fieldName)) {
+                    sub = parser.getValueAsString();
+                } else if ("exp".equals(fieldName)) {
+                    exp = parser.getValueAsLong();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new UnverifiedClaims(sub, exp);
+        } catch (IOException | IllegalArgumentException e) {
             log.error("Failed to parse JWT payload", e);
             return null;
         }
@@ -78,11 +130,7 @@ public class JwtUtil {
      */
     public boolean isTokenValid(String accessToken) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(accessToken)
-                    .getBody();
+            Claims claims = parseToken(accessToken);
 
             Date expiration = claims.getExpiration();
             Instant now = Instant.now();
@@ -99,4 +147,24 @@ public class JwtUtil {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 검증된 토큰의 만료 시각을 반환합니다.
+     *
+     * @param token JWT 토큰
+     * @return 만료 시각, exp 클레임이 없으면 null
+     */
+    public Instant getExpiration(String token) {
+        Date expiration = parseToken(token).getExpiration();
+        return expiration == null ? null : expiration.toInstant();
+    }
+
+    /**
+     * 서명 검증 없이 읽어낸 JWT 클레임입니다.
+     *
+     * @param sub 토큰 subject
+     * @param exp 만료 시각 (epoch seconds), 없으면 null
+     */
+    public record UnverifiedClaims(String sub, Long exp) {
+    }
+}
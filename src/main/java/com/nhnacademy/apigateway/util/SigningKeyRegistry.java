@@ -0,0 +1,215 @@
+package com.nhnacademy.apigateway.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * JWT 검증 키를 kid 별로 보관하고 토큰에 맞는 파서를 골라 줍니다.
+ * 키는 jwt.keys.location 의 JWKS 문서(file:, classpath:, http(s):)에서 읽으며 주기적으로 다시 읽어 재시작 없이 교체합니다.
+ * kid 가 없는 토큰은 기존 jwt.secret HMAC 키로 검증합니다.
+ * 모르는 kid 가 들어오면 키를 다시 읽으며, 인증 필터는 {@link #awaitKeyFor} 로 그 결과를 잠시 기다린 뒤 검증하므로
+ * 새 키로 서명한 토큰이 키 교체 직후에 401 로 거부되지 않습니다.
+ */
+@Slf4j
+@Component
+public class SigningKeyRegistry {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String location;
+    private final ResourceLoader resourceLoader;
+    private final VerifiedClaimsCache verifiedClaimsCache;
+    private final JwtParser defaultParser;
+    private final long unknownKidReloadIntervalNanos;
+    private final Duration unknownKidWait;
+    private final AtomicReference<CompletableFuture<Void>> pendingReload = new AtomicReference<>();
+
+    private volatile long lastUnknownKidReloadNanos;
+
+    private volatile Map<String, Key> keysById = Map.of();
+    // kid 별 파서를 미리 만들어 두어 검증 비용이 키 개수와 무관하도록 합니다.
+    private volatile Map<String, JwtParser> parsersById = Map.of();
+
+    public SigningKeyRegistry(@Value("${jwt.secret:}") String secretKey,
+                              @Value("${jwt.keys.location:}") String location,
+                              @Value("${jwt.keys.unknown-kid-reload-interval:30s}") Duration unknownKidReloadInterval,
+                              @Value("${jwt.keys.unknown-kid-wait:2s}") Duration unknownKidWait,
+                              ResourceLoader resourceLoader,
+                              VerifiedClaimsCache verifiedClaimsCache) {
+        this.location = location;
+        this.resourceLoader = resourceLoader;
+        this.verifiedClaimsCache = verifiedClaimsCache;
+        this.defaultParser = StringUtils.hasText(secretKey)
+                ? Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8))).build()
+                : null;
+        this.unknownKidReloadIntervalNanos = unknownKidReloadInterval.toNanos();
+        this.unknownKidWait = unknownKidWait;
+        this.lastUnknownKidReloadNanos = System.nanoTime() - unknownKidReloadIntervalNanos;
+        reload();
+    }
+
+    /**
+     * 토큰 헤더의 kid 에 해당하는 파서를 반환합니다.
+     *
+     * @param token JWT 문자열
+     * @return 토큰을 검증할 파서
+     * @throws SignatureException 토큰의 kid 에 해당하는 키가 없는 경우
+     */
+    public JwtParser parserFor(String token) {
+        String kid = token == null ? null : readKeyId(token);
+        if (kid == null) {
+            if (defaultParser == null) {
+                throw new SignatureException("JWT has no kid and no default signing key is configured");
+            }
+            return defaultParser;
+        }
+
+        JwtParser parser = parsersById.get(kid);
+        if (parser == null) {
+            requestReloadForUnknownKid(kid);
+            throw new SignatureException("Unknown JWT signing key id: " + kid);
+        }
+        return parser;
+    }
+
+    /**
+     * 토큰의 kid 에 해당하는 키가 없으면 키를 다시 읽고, 그 결과를 최대 unknown-kid-wait 동안 기다립니다.
+     * 이미 아는 kid 이거나 kid 가 없는 토큰, 간격 제한으로 다시 읽지 않는 경우에는 바로 완료합니다.
+     * 읽기가 실패하거나 시간이 지나도 오류 없이 완료하며, 이후 {@link #parserFor} 가 키 유무를 다시 판단합니다.
+     *
+     * @param token JWT 문자열
+     * @return 키를 다시 읽었거나 기다릴 필요가 없으면 완료되는 Mono
+     */
+    public Mono<Void> awaitKeyFor(String token) {
+        String kid = token == null ? null : readKeyId(token);
+        if (kid == null || parsersById.containsKey(kid)) {
+            return Mono.empty();
+        }
+        CompletableFuture<Void> reload = requestReloadForUnknownKid(kid);
+        if (reload == null) {
+            return Mono.empty();
+        }
+        // 한 요청이 기다림을 포기해도 다른 요청이 기다리는 읽기는 취소하지 않습니다.
+        return Mono.fromFuture(reload, true)
+                .timeout(unknownKidWait, Mono.empty())
+                .onErrorResume(e -> Mono.empty());
+    }
+
+    /**
+     * JWKS 문서를 다시 읽어 키를 교체합니다.
+     * 읽기에 실패하면 기존 키를 그대로 유지하고, 키가 바뀐 경우에만 검증된 클레임 캐시를 비웁니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.refresh-interval:PT5M}",
+            initialDelayString = "${jwt.keys.refresh-interval:PT5M}")
+    public synchronized void reload() {
+        if (!StringUtils.hasText(location)) {
+            return;
+        }
+
+        Map<String, Key> loadedKeys;
+        try (InputStream inputStream = resourceLoader.getResource(location).getInputStream()) {
+            loadedKeys = JsonWebKeys.parse(inputStream);
+        } catch (IOException e) {
+            log.error("Failed to load JWT signing keys from {}, keeping {} existing keys",
+                    location, keysById.size(), e);
+            return;
+        }
+
+        if (loadedKeys.equals(keysById)) {
+            return;
+        }
+
+        Map<String, JwtParser> parsers = new HashMap<>();
+        loadedKeys.forEach((kid, key) -> parsers.put(kid, Jwts.parserBuilder().setSigningKey(key).build()));
+        keysById = Map.copyOf(loadedKeys);
+        parsersById = Map.copyOf(parsers);
+        // 제거되거나 바뀐 키로 검증했던 클레임이 남지 않도록 캐시를 비웁니다.
+        verifiedClaimsCache.invalidateAll();
+        log.info("Loaded JWT signing keys {} from {}", loadedKeys.keySet(), location);
+    }
+
+    /**
+     * 모르는 kid 가 들어오면 새 키가 막 배포되었을 수 있으므로 주기와 별개로 한 번 더 읽습니다.
+     * 잘못된 토큰이 반복해서 들어와도 설정한 간격보다 자주 읽지 않으며, 읽는 중에 들어온 요청은 같은 읽기를 기다립니다.
+     *
+     * @return 진행 중인 읽기, 간격 제한으로 읽지 않으면 null
+     */
+    private CompletableFuture<Void> requestReloadForUnknownKid(String kid) {
+        if (!StringUtils.hasText(location)) {
+            return null;
+        }
+        CompletableFuture<Void> pending = pendingReload.get();
+        if (pending != null) {
+            return pending;
+        }
+        long now = System.nanoTime();
+        if (now - lastUnknownKidReloadNanos < unknownKidReloadIntervalNanos) {
+            return null;
+        }
+
+        CompletableFuture<Void> reload = new CompletableFuture<>();
+        if (!pendingReload.compareAndSet(null, reload)) {
+            return pendingReload.get();
+        }
+        lastUnknownKidReloadNanos = now;
+        log.info("Unknown JWT kid {}, reloading signing keys", kid);
+        Schedulers.boundedElastic().schedule(() -> {
+            try {
+                reload();
+            } finally {
+                pendingReload.set(null);
+                reload.complete(null);
+            }
+        });
+        return reload;
+    }
+
+    private static String readKeyId(String token) {
+        int headerEnd = token.indexOf('.');
+        if (headerEnd <= 0) {
+            return null;
+        }
+
+        try (JsonParser parser = JSON_FACTORY.createParser(
+                Base64.getUrlDecoder().decode(token.substring(0, headerEnd)))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                if ("kid".equals(fieldName)) {
+                    return parser.getValueAsString();
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException | IllegalArgumentException e) {
+            // 헤더를 읽을 수 없는 토큰은 기본 파서가 MalformedJwtException 으로 거부합니다.
+            return null;
+        }
+    }
+}
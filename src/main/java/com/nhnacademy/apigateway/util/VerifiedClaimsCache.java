@@ -0,0 +1,95 @@
+package com.nhnacademy.apigateway.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 마친 JWT 클레임을 토큰 다이제스트 기준으로 보관하는 캐시입니다.
+ * 항목은 최대 TTL 과 토큰의 exp 중 먼저 도래하는 시점에 만료되므로, 만료된 토큰의 클레임이 재사용되지 않습니다.
+ */
+@Component
+public class VerifiedClaimsCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final Cache<String, Claims> cache;
+
+    public VerifiedClaimsCache(@Value("${jwt.claims-cache.max-size:50000}") long maxSize,
+                               @Value("${jwt.claims-cache.ttl:10m}") Duration ttl) {
+        long ttlNanos = ttl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        if (claims.getExpiration() == null) {
+                            return ttlNanos;
+                        }
+                        long untilExpiration = Duration.ofMillis(
+                                claims.getExpiration().getTime() - System.currentTimeMillis()).toNanos();
+                        return Math.max(0, Math.min(ttlNanos, untilExpiration));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 캐시된 클레임을 반환하고, 없으면 verifier 로 검증한 결과를 캐시에 저장합니다.
+     * verifier 가 던진 예외는 캐시하지 않고 그대로 전파됩니다.
+     *
+     * @param token    JWT 문자열
+     * @param verifier 서명과 만료를 검증하고 클레임을 반환하는 함수
+     * @return 검증된 클레임
+     */
+    public Claims get(String token, Function<String, Claims> verifier) {
+        if (token == null) {
+            return verifier.apply(null);
+        }
+        return cache.get(digest(token), key -> verifier.apply(token));
+    }
+
+    /**
+     * 캐시에 보관된 모든 클레임을 제거합니다.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 토큰의 SHA-256 다이제스트를 Base64 문자열로 반환합니다.
+     *
+     * @param token JWT 문자열
+     * @return 토큰 다이제스트
+     */
+    public static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+}
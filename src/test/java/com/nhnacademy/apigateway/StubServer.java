@@ -0,0 +1,163 @@
+package com.nhnacademy.apigateway;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * 게이트웨이 뒤의 백엔드를 흉내 내는 테스트용 HTTP 서버입니다.
+ * 기본으로 200 과 작은 JSON 을 돌려주며, 테스트가 요청별 상태 코드, 지연, 본문을 지정할 수 있습니다.
+ * 받은 요청은 모두 기록하고, 게이트웨이가 연결을 먼저 끊어 응답을 보내지 못한 요청도 따로 기록합니다.
+ */
+public final class StubServer implements AutoCloseable {
+
+    private final String name;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+    private final List<RecordedRequest> abortedRequests = new CopyOnWriteArrayList<>();
+    private volatile Function<RecordedRequest, Response> handler;
+
+    private StubServer(String name, HttpServer server, ExecutorService executor) {
+        this.name = name;
+        this.server = server;
+        this.executor = executor;
+        reset();
+    }
+
+    public static StubServer start(String name) {
+        try {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 128);
+            ExecutorService executor = Executors.newCachedThreadPool();
+            StubServer stub = new StubServer(name, server, executor);
+            server.createContext("/", stub::handle);
+            server.setExecutor(executor);
+            server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String uri() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 이후 요청에 돌려줄 응답을 정합니다.
+     */
+    public void respond(Function<RecordedRequest, Response> handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * 기록된 요청을 지우고 기본 응답으로 되돌립니다.
+     */
+    public void reset() {
+        requests.clear();
+        abortedRequests.clear();
+        handler = request -> Response.ok("{\"server\":\"" + name + "\",\"path\":\"" + request.path() + "\"}");
+    }
+
+    public List<RecordedRequest> requests() {
+        return List.copyOf(requests);
+    }
+
+    public long requestCount(String path) {
+        return requests.stream().filter(request -> request.path().equals(path)).count();
+    }
+
+    /**
+     * 응답을 쓰는 중에 게이트웨이가 연결을 끊은 요청 수입니다.
+     * 연결이 끊긴 뒤에도 작은 응답은 소켓 버퍼에 쓰일 수 있으므로, 확인하려면 충분히 큰 본문으로 응답해야 합니다.
+     */
+    public long abortedCount(String path) {
+        return abortedRequests.stream().filter(request -> request.path().equals(path)).count();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        RecordedRequest request = null;
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            request = new RecordedRequest(exchange.getRequestMethod(),
+                    exchange.getRequestURI().getPath(), Map.copyOf(exchange.getRequestHeaders()),
+                    requestBody.readAllBytes());
+            requests.add(request);
+
+            Response response = handler.apply(request);
+            if (!response.delay().isZero()) {
+                Thread.sleep(response.delay().toMillis());
+            }
+            byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            response.headers().forEach(exchange.getResponseHeaders()::set);
+            exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                exchange.getResponseBody().write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 게이트웨이가 타임아웃이나 헤지 취소로 연결을 먼저 끊은 경우입니다.
+            if (request != null) {
+                abortedRequests.add(request);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * @param headers 헤더 이름별 값 목록, 헤더 이름은 첫 글자만 대문자로 정규화됨
+     */
+    public record RecordedRequest(String method, String path, Map<String, List<String>> headers, byte[] body) {
+
+        public String header(String name) {
+            List<String> values = headers.get(name.substring(0, 1).toUpperCase() + name.substring(1).toLowerCase());
+            return values == null || values.isEmpty() ? null : values.get(0);
+        }
+    }
+
+    public record Response(int status, Duration delay, Map<String, String> headers, String body) {
+
+        public static Response ok(String body) {
+            return new Response(200, Duration.ZERO, Map.of(), body);
+        }
+
+        public static Response status(int status) {
+            return new Response(status, Duration.ZERO, Map.of(), "{\"status\":" + status + "}");
+        }
+
+        public Response delayed(Duration delay) {
+            return new Response(status, delay, headers, body);
+        }
+
+        public Response withHeader(String name, String value) {
+            Map<String, String> merged = new HashMap<>(headers);
+            merged.put(name, value);
+            return new Response(status, delay, Map.copyOf(merged), body);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.nhnacademy.apigateway;
+
+import com.nhnacademy.apigateway.filter.rule.AuthRuleProperties;
+import com.nhnacademy.apigateway.util.JwtUtil;
+import com.nhnacademy.apigateway.util.SigningKeyRegistry;
+import com.nhnacademy.apigateway.util.VerifiedClaimsCache;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.BindResult;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.UrlResource;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.adapter.DefaultServerWebExchange;
+import org.springframework.web.server.i18n.AcceptHeaderLocaleContextResolver;
+import org.springframework.web.server.session.DefaultWebSessionManager;
+
+/**
+ * 테스트와 벤치마크 (src/benchmark/java) 가 공유하는 토큰/설정 픽스처입니다.
+ */
+public final class TestFixtures {
+
+    /**
+     * 테스트 전용 JWT 시크릿입니다.
+     */
+    public static final String JWT_SECRET = "test-secret-test-secret-test-secret-test-secret-0123456789";
+
+    /**
+     * 테스트 전용 식별 헤더 서명 키입니다.
+     */
+    public static final String IDENTITY_SECRET = "test-identity-test-identity-test-identity-test-0123456789";
+
+    // MockServerWebExchange.from 은 교환마다 코덱 설정을 새로 만들어 수십 μs 가 걸리므로, 공유 가능한 구성 요소는 한 번만 만듭니다.
+    private static final ServerCodecConfigurer CODEC_CONFIGURER = ServerCodecConfigurer.create();
+    private static final DefaultWebSessionManager SESSION_MANAGER = new DefaultWebSessionManager();
+    private static final AcceptHeaderLocaleContextResolver LOCALE_RESOLVER = new AcceptHeaderLocaleContextResolver();
+
+    private TestFixtures() {
+    }
+
+    /**
+     * 실제 서버와 같은 구성의 교환 객체를 만듭니다. 응답 본문은 메모리에 모입니다.
+     */
+    public static ServerWebExchange exchange(MockServerHttpRequest request) {
+        return new DefaultServerWebExchange(request, new MockServerHttpResponse(),
+                SESSION_MANAGER, CODEC_CONFIGURER, LOCALE_RESOLVER);
+    }
+
+    /**
+     * 게이트웨이가 검증할 수 있는 토큰을 발급합니다.
+     *
+     * @param userId   userId 클레임
+     * @param userRole userRole 클레임
+     * @param ttl      만료까지 남은 시간, 음수면 이미 만료된 토큰
+     * @return 서명된 JWT
+     */
+    public static String token(long userId, String userRole, Duration ttl) {
+        return Jwts.builder()
+                .setSubject("user-" + userId)
+                .setId(UUID.randomUUID().toString())
+                .claim("userId", userId)
+                .claim("userRole", userRole)
+                .claim("loginStatus", "ACTIVE")
+                .setExpiration(new Date(System.currentTimeMillis() + ttl.toMillis()))
+                .signWith(Keys.hmacShaKeyFor(JWT_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    public static VerifiedClaimsCache verifiedClaimsCache() {
+        return new VerifiedClaimsCache(1_000, Duration.ofMinutes(10));
+    }
+
+    public static SigningKeyRegistry signingKeyRegistry(VerifiedClaimsCache verifiedClaimsCache) {
+        return new SigningKeyRegistry(JWT_SECRET, "", Duration.ofSeconds(30), Duration.ofSeconds(2),
+                new DefaultResourceLoader(), verifiedClaimsCache);
+    }
+
+    public static JwtUtil jwtUtil() {
+        VerifiedClaimsCache verifiedClaimsCache = verifiedClaimsCache();
+        return new JwtUtil(signingKeyRegistry(verifiedClaimsCache), verifiedClaimsCache);
+    }
+
+    /**
+     * 운영 설정 디렉터리 (main 클래스 출력 디렉터리) 를 spring.config.location 형식으로 반환합니다.
+     * 테스트 클래스패스에서는 src/test/resources/application.yml 이 먼저 보이므로 운영 설정은 이 위치에서 직접 읽습니다.
+     */
+    public static String mainConfigLocation() {
+        return ApiGatewayApplication.class.getProtectionDomain().getCodeSource().getLocation().toString();
+    }
+
+    /**
+     * 운영 설정과 같은 규칙으로 측정하도록 application.yml 의 gateway.auth 규칙(base-rules, rules)을 그대로 바인딩합니다.
+     */
+    public static AuthRuleProperties authRuleProperties() {
+        return bindMainConfig("gateway.auth", AuthRuleProperties.class)
+                .orElseGet(() -> new AuthRuleProperties(null, null));
+    }
+
+    /**
+     * 운영 application.yml 의 설정 일부를 바인딩합니다.
+     * 플레이스홀더는 환경 변수와 기본값으로 해석하며, 기본값이 없는 플레이스홀더가 대상 설정에 있으면 바인딩에 실패합니다.
+     */
+    public static <T> BindResult<T> bindMainConfig(String prefix, Class<T> type) {
+        try {
+            StandardEnvironment environment = new StandardEnvironment();
+            new YamlPropertySourceLoader().load("application", new UrlResource(mainConfigLocation() + "application.yml"))
+                    .forEach(environment.getPropertySources()::addLast);
+            return new Binder(ConfigurationPropertySources.get(environment),
+                    new PropertySourcesPlaceholdersResolver(environment)).bind(prefix, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 운영 설정으로 게이트웨이를 임의 포트에 띄우고, 스텁 서버를 같은 이름의 서비스 인스턴스로 등록합니다.
+     *
+     * @param stubs      백엔드 스텁, 같은 이름이 여러 개면 한 서비스의 여러 인스턴스
+     * @param properties 운영 설정을 덮어쓸 속성
+     * @return 기동된 애플리케이션 컨텍스트
+     */
+    public static ConfigurableApplicationContext startGateway(List<StubServer> stubs, Map<String, String> properties) {
+        Map<String, Object> args = new LinkedHashMap<>();
+        args.put("spring.config.location", mainConfigLocation());
+        args.put("spring.profiles.active", "ci");
+        args.put("server.port", 0);
+        args.put("jwt.secret", JWT_SECRET);
+        args.put("gateway.identity.secret", IDENTITY_SECRET);
+        args.put("gateway.access-log.enabled", false);
+        args.put("logging.level.root", "WARN");
+        Map<String, Integer> instanceCounts = new HashMap<>();
+        for (StubServer stub : stubs) {
+            int index = instanceCounts.merge(stub.name(), 1, Integer::sum) - 1;
+            args.put("spring.cloud.discovery.client.simple.instances." + stub.name() + "[" + index + "].uri",
+                    stub.uri());
+            if (stub.name().equals("AUTHORITY-SERVER")) {
+                args.put("api.authority-server", stub.uri());
+            }
+        }
+        args.putAll(properties);
+
+        // 기본 속성은 application.yml 보다 우선순위가 낮으므로 명령행 인자로 넘깁니다.
+        return new SpringApplicationBuilder(ApiGatewayApplication.class)
+                .run(args.entrySet().stream()
+                        .map(arg -> "--" + arg.getKey() + "=" + arg.getValue())
+                        .toArray(String[]::new));
+    }
+
+    public static int port(ConfigurableApplicationContext gateway) {
+        return ((WebServerApplicationContext) gateway).getWebServer().getPort();
+    }
+}
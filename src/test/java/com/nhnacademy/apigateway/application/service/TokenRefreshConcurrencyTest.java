@@ -0,0 +1,106 @@
+package com.nhnacademy.apigateway.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.apigateway.StubServer;
+import com.nhnacademy.apigateway.StubServer.RecordedRequest;
+import com.nhnacademy.apigateway.StubServer.Response;
+import com.nhnacademy.apigateway.TestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+/**
+ * 같은 만료 액세스 토큰을 가진 요청 수백 개가 게이트웨이에 동시에 들어와도 인증 서버 스텁에는 갱신 요청이 한 번만 가는지 확인합니다.
+ * BOOK-USER-SERVER 스텁은 전달받은 토큰 쌍을 본문에 그대로 돌려주므로, 모든 응답에서 같은 새 토큰 쌍을 확인할 수 있습니다.
+ */
+class TokenRefreshConcurrencyTest {
+
+    private static final int CONCURRENT_REQUESTS = 300;
+    private static final String PATH = "/books/likes/mine";
+
+    private static StubServer authorityServer;
+    private static StubServer bookServer;
+    private static ConfigurableApplicationContext gateway;
+    private static String rotatedAccessToken;
+    private static String rotatedRefreshToken;
+
+    @BeforeAll
+    static void startGateway() {
+        rotatedAccessToken = TestFixtures.token(7L, "USER", Duration.ofMinutes(30));
+        rotatedRefreshToken = TestFixtures.token(7L, "USER", Duration.ofDays(7));
+
+        authorityServer = StubServer.start("AUTHORITY-SERVER");
+        // 갱신 응답을 늦춰 모든 요청이 진행 중인 갱신과 겹치게 합니다.
+        authorityServer.respond(request -> Response.ok("{\"accessToken\":\"" + rotatedAccessToken
+                + "\",\"refreshToken\":\"" + rotatedRefreshToken + "\"}").delayed(Duration.ofMillis(300)));
+        bookServer = StubServer.start("BOOK-USER-SERVER");
+        bookServer.respond(TokenRefreshConcurrencyTest::echoTokens);
+
+        gateway = TestFixtures.startGateway(List.of(authorityServer, bookServer), Map.of(
+                "gateway.admission.enabled", "false",
+                "gateway.hedging.enabled", "false"));
+    }
+
+    @AfterAll
+    static void stopGateway() {
+        gateway.close();
+        authorityServer.close();
+        bookServer.close();
+    }
+
+    @Test
+    void concurrentExpiredTokensShareOneRefresh() {
+        String expiredAccessToken = TestFixtures.token(7L, "USER", Duration.ofSeconds(-10));
+        String refreshToken = TestFixtures.token(7L, "USER", Duration.ofDays(7));
+        double issuedBefore = refreshCount("issued");
+        double sharedBefore = refreshCount("coalesced") + refreshCount("reused");
+
+        WebClient webClient = WebClient.create("http://127.0.0.1:" + TestFixtures.port(gateway));
+        List<ResponseEntity<String>> responses = Flux.range(0, CONCURRENT_REQUESTS)
+                .flatMap(i -> webClient.get().uri(PATH)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + expiredAccessToken)
+                        .header("Refresh-Token", refreshToken)
+                        .retrieve()
+                        .toEntity(String.class), CONCURRENT_REQUESTS)
+                .collectList()
+                .block(Duration.ofSeconds(30));
+
+        assertThat(responses).hasSize(CONCURRENT_REQUESTS)
+                .allSatisfy(response -> {
+                    assertThat(response.getStatusCode().value()).isEqualTo(200);
+                    assertThat(response.getBody()).isEqualTo(tokenPair(rotatedAccessToken, rotatedRefreshToken));
+                });
+        assertThat(authorityServer.requestCount("/auth/refresh")).isEqualTo(1);
+        assertThat(bookServer.requestCount(PATH)).isEqualTo(CONCURRENT_REQUESTS);
+        assertThat(refreshCount("issued") - issuedBefore).isEqualTo(1);
+        // 나머지 요청은 진행 중인 갱신을 기다렸거나 방금 끝난 갱신 결과를 재사용했습니다.
+        assertThat(refreshCount("coalesced") + refreshCount("reused") - sharedBefore)
+                .isEqualTo(CONCURRENT_REQUESTS - 1);
+        assertThat(refreshCount("coalesced")).isPositive();
+    }
+
+    private static Response echoTokens(RecordedRequest request) {
+        String authorization = request.header(HttpHeaders.AUTHORIZATION);
+        String accessToken = authorization == null ? null : authorization.substring("Bearer ".length());
+        return Response.ok(tokenPair(accessToken, request.header("Refresh-Token")));
+    }
+
+    private static String tokenPair(String accessToken, String refreshToken) {
+        return "{\"accessToken\":\"" + accessToken + "\",\"refreshToken\":\"" + refreshToken + "\"}";
+    }
+
+    private static double refreshCount(String result) {
+        return gateway.getBean(MeterRegistry.class)
+                .get("gateway.token.refresh").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,129 @@
+package com.nhnacademy.apigateway.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nhnacademy.apigateway.TestFixtures;
+import com.nhnacademy.apigateway.common.exception.RevocationCapacityExceededException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TokenRevocationServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void revokedTokenIsRejectedUntilExpiry() {
+        TokenRevocationService service = service(100);
+        String revoked = TestFixtures.token(1L, "USER", Duration.ofHours(1));
+        String other = TestFixtures.token(1L, "USER", Duration.ofHours(1));
+
+        assertThat(service.revokeByAdmin(revoked)).isTrue();
+
+        assertThat(service.isRevoked(revoked)).isTrue();
+        assertThat(service.isRevoked(other)).isFalse();
+        assertThat(service.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    void expiredTokenIsNotStored() {
+        TokenRevocationService service = service(100);
+        String expired = TestFixtures.token(1L, "USER", Duration.ofMinutes(-1));
+
+        assertThat(service.revokeByAdmin(expired)).isFalse();
+        assertThat(service.isRevoked(expired)).isFalse();
+    }
+
+    @Test
+    void revocationSurvivesBloomFilterRebuild() {
+        TokenRevocationService service = service(100);
+        String revoked = TestFixtures.token(1L, "USER", Duration.ofHours(1));
+        service.revokeOnLogout(revoked);
+
+        service.rebuildBloomFilter();
+
+        assertThat(service.isRevoked(revoked)).isTrue();
+    }
+
+    @Test
+    void fullListRejectsNewRevocationsWithoutForgettingOldOnes() {
+        TokenRevocationService service = service(3);
+        List<String> revoked = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String token = TestFixtures.token(i, "USER", Duration.ofHours(1));
+            service.revokeByAdmin(token);
+            revoked.add(token);
+        }
+        String overflow = TestFixtures.token(9L, "USER", Duration.ofHours(1));
+
+        assertThatThrownBy(() -> service.revokeByAdmin(overflow))
+                .isInstanceOf(RevocationCapacityExceededException.class);
+        assertThat(service.revokeOnLogout(overflow)).isFalse();
+
+        assertThat(revoked).allSatisfy(token -> assertThat(service.isRevoked(token)).isTrue());
+        assertThat(service.isRevoked(overflow)).isFalse();
+        assertThat(meterRegistry.get("gateway.revocation.rejected").counter().count()).isEqualTo(2);
+        // 이미 들어 있는 토큰을 다시 폐기하는 것은 자리를 더 쓰지 않으므로 거절하지 않습니다.
+        assertThat(service.revokeByAdmin(revoked.get(0))).isTrue();
+    }
+
+    @Test
+    void expiredEntriesFreeCapacity() throws InterruptedException {
+        TokenRevocationService service = service(2);
+        service.revokeByAdmin(TestFixtures.token(1L, "USER", Duration.ofSeconds(1)));
+        service.revokeByAdmin(TestFixtures.token(2L, "USER", Duration.ofSeconds(1)));
+
+        Thread.sleep(1_100);
+
+        String next = TestFixtures.token(3L, "USER", Duration.ofHours(1));
+        assertThat(service.revokeByAdmin(next)).isTrue();
+        assertThat(service.isRevoked(next)).isTrue();
+    }
+
+    @Test
+    void forgedTokensDoNotFillTheList() {
+        TokenRevocationService service = service(3);
+        for (int i = 0; i < 10; i++) {
+            String forged = Jwts.builder()
+                    .setSubject("user-" + i)
+                    .setExpiration(new Date(System.currentTimeMillis() + Duration.ofDays(3650).toMillis()))
+                    .signWith(Keys.hmacShaKeyFor(
+                            "forged-secret-forged-secret-forged-secret-0123456789".getBytes(StandardCharsets.UTF_8)))
+                    .compact();
+            assertThat(service.revokeOnLogout(forged)).isFalse();
+            assertThat(service.isRevoked(forged)).isFalse();
+        }
+        assertThat(service.revokeOnLogout("not-a-jwt")).isFalse();
+
+        String real = TestFixtures.token(1L, "USER", Duration.ofHours(1));
+        assertThat(service.revokeOnLogout(real)).isTrue();
+        assertThat(service.isRevoked(real)).isTrue();
+        assertThat(meterRegistry.get("gateway.revocation.ignored").tag("reason", "invalid").counter().count())
+                .isEqualTo(11);
+        assertThat(meterRegistry.get("gateway.revocation.rejected").counter().count()).isZero();
+    }
+
+    @Test
+    void retentionIsCappedAtMaxTtl() throws InterruptedException {
+        TokenRevocationService service = new TokenRevocationService(
+                TestFixtures.jwtUtil(), event -> { }, meterRegistry, 100, 0.01, Duration.ofSeconds(1));
+        String longLived = TestFixtures.token(1L, "USER", Duration.ofDays(365));
+        assertThat(service.revokeByAdmin(longLived)).isTrue();
+
+        Thread.sleep(1_100);
+
+        assertThat(service.isRevoked(longLived)).isFalse();
+    }
+
+    private TokenRevocationService service(long maxEntries) {
+        return new TokenRevocationService(TestFixtures.jwtUtil(), event -> { }, meterRegistry, maxEntries, 0.01,
+                Duration.ofHours(1));
+    }
+}
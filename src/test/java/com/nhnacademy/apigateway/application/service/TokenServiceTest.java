@@ -0,0 +1,139 @@
+package com.nhnacademy.apigateway.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.nhnacademy.apigateway.common.exception.AuthServerUnavailableException;
+import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
+import com.nhnacademy.apigateway.infrastructure.adaptor.AuthWebClientAdaptor;
+import com.nhnacademy.apigateway.presentation.dto.response.AuthResponse;
+import com.nhnacademy.apigateway.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class TokenServiceTest {
+
+    private static final String ACCESS_JWT = "expired-access";
+    private static final String REFRESH_JWT = "refresh";
+    private static final AuthResponse NEW_TOKENS = new AuthResponse("new-access", "new-refresh");
+
+    private AuthWebClientAdaptor authWebClientAdaptor;
+    private TokenService tokenService;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        authWebClientAdaptor = mock(AuthWebClientAdaptor.class);
+        tokenService = new TokenService(authWebClientAdaptor, mock(ApplicationEventPublisher.class),
+                mock(JwtUtil.class), new SimpleMeterRegistry(), new TokenRefreshProperties(null, null, null, null));
+        executor = Executors.newFixedThreadPool(16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentRefreshesShareOneUpstreamCall() throws Exception {
+        Sinks.One<AuthResponse> upstream = Sinks.one();
+        when(authWebClientAdaptor.refreshAccessToken(anyString(), eq(REFRESH_JWT))).thenReturn(upstream.asMono());
+
+        List<CompletableFuture<AuthResponse>> results = refreshConcurrently(16);
+        upstream.tryEmitValue(NEW_TOKENS);
+
+        for (CompletableFuture<AuthResponse> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(NEW_TOKENS);
+        }
+        verify(authWebClientAdaptor, times(1)).refreshAccessToken("Bearer " + ACCESS_JWT, REFRESH_JWT);
+    }
+
+    @Test
+    void lateRefreshReusesRecentResult() {
+        when(authWebClientAdaptor.refreshAccessToken(anyString(), eq(REFRESH_JWT))).thenReturn(Mono.just(NEW_TOKENS));
+
+        AuthResponse first = tokenService.updateAccessToken(ACCESS_JWT, REFRESH_JWT).block();
+        AuthResponse late = tokenService.updateAccessToken(ACCESS_JWT, REFRESH_JWT).block();
+
+        assertThat(late).isSameAs(first);
+        verify(authWebClientAdaptor, times(1)).refreshAccessToken(anyString(), eq(REFRESH_JWT));
+    }
+
+    @Test
+    void revokedRefreshTokenIsNotServedFromCache() {
+        when(authWebClientAdaptor.refreshAccessToken(anyString(), eq(REFRESH_JWT))).thenReturn(Mono.just(NEW_TOKENS));
+        tokenService.refreshAhead(ACCESS_JWT, REFRESH_JWT).block();
+        assertThat(tokenService.rotatedTokens(REFRESH_JWT)).isSameAs(NEW_TOKENS);
+
+        tokenService.onTokenRevoked(new TokenRevokedEvent(REFRESH_JWT));
+
+        assertThat(tokenService.rotatedTokens(REFRESH_JWT)).isNull();
+        tokenService.updateAccessToken(ACCESS_JWT, REFRESH_JWT).block();
+        verify(authWebClientAdaptor, times(2)).refreshAccessToken(anyString(), eq(REFRESH_JWT));
+    }
+
+    @Test
+    void failedRefreshIsSharedButNotReused() throws Exception {
+        Sinks.One<AuthResponse> upstream = Sinks.one();
+        when(authWebClientAdaptor.refreshAccessToken(anyString(), eq(REFRESH_JWT)))
+                .thenReturn(upstream.asMono(), Mono.just(NEW_TOKENS));
+
+        List<CompletableFuture<AuthResponse>> results = refreshConcurrently(8);
+        upstream.tryEmitError(new AuthServerUnavailableException(
+                ErrorStatus.toErrorStatus("토큰 갱신 중 오류가 발생했습니다.", 503, LocalDateTime.now())));
+
+        for (CompletableFuture<AuthResponse> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(AuthServerUnavailableException.class);
+        }
+        assertThat(tokenService.updateAccessToken(ACCESS_JWT, REFRESH_JWT).block()).isSameAs(NEW_TOKENS);
+        verify(authWebClientAdaptor, times(2)).refreshAccessToken(anyString(), eq(REFRESH_JWT));
+    }
+
+    /**
+     * threads 개의 스레드가 동시에 갱신을 요청하고, 모든 요청이 구독된 뒤 결과 Future 를 돌려줍니다.
+     */
+    private List<CompletableFuture<AuthResponse>> refreshConcurrently(int threads) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch subscribed = new CountDownLatch(threads);
+        List<CompletableFuture<AuthResponse>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            CompletableFuture<AuthResponse> result = new CompletableFuture<>();
+            results.add(result);
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    tokenService.updateAccessToken(ACCESS_JWT, REFRESH_JWT)
+                            .subscribe(result::complete, result::completeExceptionally);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    result.completeExceptionally(e);
+                } finally {
+                    subscribed.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(subscribed.await(5, TimeUnit.SECONDS)).isTrue();
+        return results;
+    }
+}
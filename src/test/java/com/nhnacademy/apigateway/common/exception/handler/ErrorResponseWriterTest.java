@@ -0,0 +1,67 @@
+package com.nhnacademy.apigateway.common.exception.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+class ErrorResponseWriterTest {
+
+    private final ErrorResponseWriter errorResponseWriter = new ErrorResponseWriter();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writesStatusMessageAndTimestamp() throws Exception {
+        MockServerHttpResponse response = write(401, "인증 토큰이 존재하지 않습니다.");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        String body = response.getBodyAsString().block();
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(body.getBytes(StandardCharsets.UTF_8).length);
+
+        JsonNode json = objectMapper.readTree(body);
+        assertThat(json.get("status").asInt()).isEqualTo(401);
+        assertThat(json.get("message").asText()).isEqualTo("인증 토큰이 존재하지 않습니다.");
+        assertThat(LocalDateTime.parse(json.get("timestamp").asText())).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    @Test
+    void escapesMessage() throws Exception {
+        String message = "bad \"token\"\n\\ </script>";
+
+        JsonNode json = objectMapper.readTree(write(400, message).getBodyAsString().block());
+
+        assertThat(json.get("message").asText()).isEqualTo(message);
+    }
+
+    @Test
+    void writesNonStandardStatus() throws Exception {
+        // HttpStatus 열거형에 없는 상태 코드도 그대로 응답합니다.
+        MockServerHttpResponse response = write(499, "클라이언트가 요청을 취소했습니다.");
+
+        assertThat(response.getStatusCode().value()).isEqualTo(499);
+        assertThat(objectMapper.readTree(response.getBodyAsString().block()).get("status").asInt()).isEqualTo(499);
+    }
+
+    @Test
+    void writesMessagesBeyondTemplateLimit() throws Exception {
+        for (int i = 0; i < 300; i++) {
+            JsonNode json = objectMapper.readTree(write(503, "reason " + i).getBodyAsString().block());
+            assertThat(json.get("message").asText()).isEqualTo("reason " + i);
+        }
+    }
+
+    private MockServerHttpResponse write(int status, String message) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/users/me"));
+        errorResponseWriter.write(exchange, status, message).block();
+        return exchange.getResponse();
+    }
+}
@@ -0,0 +1,64 @@
+package com.nhnacademy.apigateway.common.exception.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.apigateway.common.exception.UuidMisMatchException;
+import com.nhnacademy.apigateway.common.exception.payload.ErrorStatus;
+import io.jsonwebtoken.MalformedJwtException;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.support.ServiceUnavailableException;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ResponseStatusException;
+
+class GlobalErrorWebExceptionHandlerTest {
+
+    private final GlobalErrorWebExceptionHandler handler = new GlobalErrorWebExceptionHandler(new ErrorResponseWriter());
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void applicationExceptionUsesItsErrorStatus() throws Exception {
+        JsonNode body = handle(new UuidMisMatchException(
+                ErrorStatus.toErrorStatus("사용자 정보가 일치하지 않습니다.", 401, LocalDateTime.now())), 401);
+
+        assertThat(body.get("message").asText()).isEqualTo("사용자 정보가 일치하지 않습니다.");
+    }
+
+    @Test
+    void responseStatusExceptionUsesReasonOrReasonPhrase() throws Exception {
+        assertThat(handle(new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "백엔드 응답 시간 초과"), 504)
+                .get("message").asText()).isEqualTo("백엔드 응답 시간 초과");
+        assertThat(handle(new ResponseStatusException(HttpStatus.NOT_FOUND), 404)
+                .get("message").asText()).isEqualTo("Not Found");
+    }
+
+    @Test
+    void annotatedExceptionUsesAnnotatedStatus() throws Exception {
+        handle(new ServiceUnavailableException(), 503);
+    }
+
+    @Test
+    void invalidTokenIsUnauthorized() throws Exception {
+        handle(new MalformedJwtException("bad token"), 401);
+    }
+
+    @Test
+    void unknownExceptionIsInternalServerError() throws Exception {
+        assertThat(handle(new IllegalStateException("boom"), 500).get("message").asText())
+                .isEqualTo("서버 내부 오류가 발생했습니다.");
+    }
+
+    private JsonNode handle(Throwable ex, int expectedStatus) throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/users/me"));
+        handler.handle(exchange, ex).block();
+
+        assertThat(exchange.getResponse().getStatusCode().value()).isEqualTo(expectedStatus);
+        JsonNode body = objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+        assertThat(body.get("status").asInt()).isEqualTo(expectedStatus);
+        return body;
+    }
+}
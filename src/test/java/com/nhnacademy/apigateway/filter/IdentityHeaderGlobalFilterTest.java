@@ -0,0 +1,77 @@
+package com.nhnacademy.apigateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nhnacademy.apigateway.presentation.dto.response.JwtAuthResponse;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+class IdentityHeaderGlobalFilterTest {
+
+    private static final String JWT_SECRET = "jwt-secret-jwt-secret-jwt-secret-jwt-secret-0123456789";
+    private static final String IDENTITY_SECRET = "identity-secret-identity-secret-identity-secret-0123";
+
+    @Test
+    void refusesToStartWithoutIdentitySecret() {
+        assertThatThrownBy(() -> new IdentityHeaderGlobalFilter(properties(null), JWT_SECRET))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new IdentityHeaderGlobalFilter(properties(" "), JWT_SECRET))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void refusesToReuseJwtSecret() {
+        assertThatThrownBy(() -> new IdentityHeaderGlobalFilter(properties(JWT_SECRET), JWT_SECRET))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("jwt.secret");
+    }
+
+    @Test
+    void signsIdentityWithIdentitySecret() throws Exception {
+        IdentityHeaderGlobalFilter filter = new IdentityHeaderGlobalFilter(properties(IDENTITY_SECRET), JWT_SECRET);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/users/me")
+                .header(IdentityHeaderGlobalFilter.USER_ROLE_HEADER, "ADMIN"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id("BOOK-USER-SERVER").uri(URI.create("http://localhost")).predicate(e -> true).build());
+        exchange.getAttributes().put(GatewayExchangeAttributes.LOGIN_USER,
+                new JwtAuthResponse(7L, "USER", "ACTIVE"));
+
+        AtomicReference<HttpHeaders> forwarded = new AtomicReference<>();
+        filter.filter(exchange, e -> {
+            forwarded.set(e.getRequest().getHeaders());
+            return Mono.empty();
+        }).block();
+
+        HttpHeaders headers = forwarded.get();
+        assertThat(headers.getFirst(IdentityHeaderGlobalFilter.USER_ID_HEADER)).isEqualTo("7");
+        assertThat(headers.getFirst(IdentityHeaderGlobalFilter.USER_ROLE_HEADER)).isEqualTo("USER");
+        String payload = "7|USER|ACTIVE|" + headers.getFirst(IdentityHeaderGlobalFilter.TIMESTAMP_HEADER);
+        assertThat(headers.getFirst(IdentityHeaderGlobalFilter.SIGNATURE_HEADER))
+                .isEqualTo(hmac(IDENTITY_SECRET, payload))
+                .isNotEqualTo(hmac(JWT_SECRET, payload));
+    }
+
+    private static IdentityHeaderProperties properties(String secret) {
+        return new IdentityHeaderProperties(secret, Set.of("BOOK-USER-SERVER"));
+    }
+
+    private static String hmac(String secret, String payload) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,165 @@
+package com.nhnacademy.apigateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.nhnacademy.apigateway.TestFixtures;
+import com.nhnacademy.apigateway.application.service.TokenRefreshProperties;
+import com.nhnacademy.apigateway.application.service.TokenRevocationService;
+import com.nhnacademy.apigateway.application.service.TokenRevokedEvent;
+import com.nhnacademy.apigateway.application.service.TokenService;
+import com.nhnacademy.apigateway.common.exception.handler.ErrorResponseWriter;
+import com.nhnacademy.apigateway.filter.metrics.AuthFilterMetrics;
+import com.nhnacademy.apigateway.filter.rule.AuthRuleMatcher;
+import com.nhnacademy.apigateway.filter.rule.AuthRuleProperties;
+import com.nhnacademy.apigateway.infrastructure.adaptor.AuthWebClientAdaptor;
+import com.nhnacademy.apigateway.presentation.dto.response.AuthResponse;
+import com.nhnacademy.apigateway.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class JwtAuthenticationGlobalFilterTest {
+
+    // 선제 갱신 구간(기본 60초) 안에 들어가는 액세스 토큰 수명입니다.
+    private static final Duration EXPIRING_SOON = Duration.ofSeconds(30);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtUtil jwtUtil = TestFixtures.jwtUtil();
+
+    private AuthWebClientAdaptor authWebClientAdaptor;
+    private JwtAuthenticationGlobalFilter filter;
+    private TokenService tokenService;
+    private TokenRevocationService tokenRevocationService;
+    private String refreshJwt;
+    private AuthResponse newTokens;
+
+    @BeforeEach
+    void setUp() {
+        authWebClientAdaptor = mock(AuthWebClientAdaptor.class);
+        TokenRefreshProperties tokenRefreshProperties = new TokenRefreshProperties(null, null, null, null);
+        tokenService = new TokenService(authWebClientAdaptor, mock(ApplicationEventPublisher.class),
+                jwtUtil, meterRegistry, tokenRefreshProperties);
+        // 애플리케이션 컨텍스트처럼 폐기 이벤트를 TokenService 에 전달합니다.
+        tokenRevocationService = new TokenRevocationService(jwtUtil,
+                event -> tokenService.onTokenRevoked((TokenRevokedEvent) event),
+                meterRegistry, 1_000, 0.01, Duration.ofHours(1));
+        filter = new JwtAuthenticationGlobalFilter(
+                new ErrorResponseWriter(),
+                tokenService,
+                tokenRevocationService,
+                jwtUtil,
+                new AuthRuleMatcher(TestFixtures.bindMainConfig("gateway.auth", AuthRuleProperties.class).get()),
+                new AuthFilterMetrics(meterRegistry),
+                tokenRefreshProperties);
+
+        refreshJwt = TestFixtures.token(1L, "USER", Duration.ofDays(7));
+        newTokens = new AuthResponse(TestFixtures.token(1L, "USER", Duration.ofHours(1)),
+                TestFixtures.token(1L, "USER", Duration.ofDays(7)));
+    }
+
+    @Test
+    void rotatedTokensAreReturnedWhenRefreshFinishesBeforeResponse() {
+        when(authWebClientAdaptor.refreshAccessToken(anyString(), eq(refreshJwt))).thenReturn(Mono.just(newTokens));
+
+        ServerWebExchange exchange = send(TestFixtures.token(1L, "USER", EXPIRING_SOON), refreshJwt);
+
+        assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                .isEqualTo("Bearer " + newTokens.accessToken());
+        assertThat(exchange.getResponse().getHeaders().getFirst("Refresh-Token")).isEqualTo(newTokens.refreshToken());
+    }
+
+    @Test
+    void pendingRefreshDoesNotDelayResponseAndIsDeliveredOnNextRequest() {
+        Sinks.One<AuthResponse> upstream = Sinks.one();
+        when(authWebClientAdaptor.refreshAccessToken(anyString(), eq(refreshJwt))).thenReturn(upstream.asMono());
+        String accessJwt = TestFixtures.token(1L, "USER", EXPIRING_SOON);
+
+        ServerWebExchange missed = send(accessJwt, refreshJwt);
+
+        assertThat(missed.getResponse().getHeaders().containsKey(HttpHeaders.AUTHORIZATION)).isFalse();
+        assertThat(missed.getResponse().getHeaders().containsKey("Refresh-Token")).isFalse();
+
+        upstream.tryEmitValue(newTokens);
+        ServerWebExchange next = send(accessJwt, refreshJwt);
+
+        assertThat(next.getResponse().getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                .isEqualTo("Bearer " + newTokens.accessToken());
+        assertThat(next.getResponse().getHeaders().getFirst("Refresh-Token")).isEqualTo(newTokens.refreshToken());
+        verify(authWebClientAdaptor, times(1)).refreshAccessToken(anyString(), eq(refreshJwt));
+    }
+
+    @Test
+    void clientThatMissedRotationReceivesSamePairAfterAccessTokenExpires() {
+        when(authWebClientAdaptor.refreshAccessToken(anyString(), eq(refreshJwt))).thenReturn(Mono.just(newTokens));
+        send(TestFixtures.token(1L, "USER", EXPIRING_SOON), refreshJwt);
+
+        // 새 토큰 쌍을 받지 못한 클라이언트가 만료된 액세스 토큰과 이전 리프레시 토큰으로 다시 요청합니다.
+        AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+        ServerWebExchange exchange = exchange(TestFixtures.token(1L, "USER", Duration.ofMinutes(-1)), refreshJwt);
+        filter.filter(exchange, ex -> {
+            forwarded.set(ex);
+            return ex.getResponse().setComplete();
+        }).block(Duration.ofSeconds(5));
+
+        assertThat(forwarded.get().getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                .isEqualTo("Bearer " + newTokens.accessToken());
+        assertThat(forwarded.get().getRequest().getHeaders().getFirst("Refresh-Token"))
+                .isEqualTo(newTokens.refreshToken());
+        verify(authWebClientAdaptor, times(1)).refreshAccessToken(anyString(), eq(refreshJwt));
+    }
+
+    @Test
+    void revokedRefreshTokenDoesNotReceiveRotatedPair() {
+        when(authWebClientAdaptor.refreshAccessToken(anyString(), eq(refreshJwt))).thenReturn(Mono.just(newTokens));
+        send(TestFixtures.token(1L, "USER", EXPIRING_SOON), refreshJwt);
+
+        tokenRevocationService.revokeOnLogout(refreshJwt);
+
+        AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+        ServerWebExchange exchange = exchange(TestFixtures.token(1L, "USER", Duration.ofMinutes(-1)), refreshJwt);
+        filter.filter(exchange, ex -> {
+            forwarded.set(ex);
+            return ex.getResponse().setComplete();
+        }).block(Duration.ofSeconds(5));
+
+        assertThat(forwarded.get()).isNull();
+        assertThat(exchange.getResponse().getStatusCode().value()).isEqualTo(401);
+        assertThat(tokenService.rotatedTokens(refreshJwt)).isNull();
+        verify(authWebClientAdaptor, times(1)).refreshAccessToken(anyString(), eq(refreshJwt));
+    }
+
+    @Test
+    void tokenOutsideRefreshWindowIsNotRefreshed() {
+        ServerWebExchange exchange = send(TestFixtures.token(1L, "USER", Duration.ofHours(1)), refreshJwt);
+
+        assertThat(exchange.getResponse().getHeaders().containsKey(HttpHeaders.AUTHORIZATION)).isFalse();
+        verify(authWebClientAdaptor, times(0)).refreshAccessToken(anyString(), anyString());
+    }
+
+    private ServerWebExchange send(String accessJwt, String refreshJwt) {
+        ServerWebExchange exchange = exchange(accessJwt, refreshJwt);
+        filter.filter(exchange, ex -> ex.getResponse().setComplete()).block(Duration.ofSeconds(5));
+        return exchange;
+    }
+
+    private static ServerWebExchange exchange(String accessJwt, String refreshJwt) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/users/me")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessJwt)
+                .header("Refresh-Token", refreshJwt));
+    }
+}
@@ -0,0 +1,134 @@
+package com.nhnacademy.apigateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.nhnacademy.apigateway.application.service.UserInfoService;
+import com.nhnacademy.apigateway.common.exception.ApplicationException;
+import com.nhnacademy.apigateway.common.exception.AuthServerUnavailableException;
+import com.nhnacademy.apigateway.common.exception.UnauthorizedAccessException;
+import com.nhnacademy.apigateway.common.exception.UuidMisMatchException;
+import com.nhnacademy.apigateway.filter.metrics.AuthFilterMetrics;
+import com.nhnacademy.apigateway.filter.rule.AuthMode;
+import com.nhnacademy.apigateway.filter.rule.AuthRule;
+import com.nhnacademy.apigateway.presentation.dto.response.JwtAuthResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+class RoleAuthorizationFilterTest {
+
+    private static final AuthRule ADMIN_RULE = new AuthRule(null, null, Set.of(), AuthMode.AUTHENTICATED, Set.of("ADMIN"));
+    private static final AuthRule USER_RULE = new AuthRule(null, null, Set.of(), AuthMode.AUTHENTICATED, Set.of());
+    private static final JwtAuthResponse ADMIN = new JwtAuthResponse(2L, "ADMIN", "ACTIVE");
+
+    private UserInfoService userInfoService;
+    private RoleAuthorizationFilter filter;
+    private AtomicBoolean forwarded;
+
+    @BeforeEach
+    void setUp() {
+        userInfoService = mock(UserInfoService.class);
+        filter = new RoleAuthorizationFilter(new AuthFilterMetrics(new SimpleMeterRegistry()), userInfoService, true);
+        forwarded = new AtomicBoolean();
+    }
+
+    @Test
+    void userInfoIsNotLookedUpUnlessEnabled() {
+        RoleAuthorizationFilter disabled = new RoleAuthorizationFilter(
+                new AuthFilterMetrics(new SimpleMeterRegistry()), userInfoService, false);
+
+        disabled.filter(exchange(ADMIN_RULE, ADMIN, "user-2"), ex -> Mono.fromRunnable(() -> forwarded.set(true)))
+                .block();
+
+        assertThat(forwarded).isTrue();
+        verify(userInfoService, never()).getUserInfo(anyString());
+    }
+
+    @Test
+    void authorityServerFailureIsRejectedAsUnavailable() {
+        when(userInfoService.getUserInfo("user-2")).thenReturn(Mono.error(new IllegalStateException("timeout")));
+
+        assertThatThrownBy(() -> filter(exchange(ADMIN_RULE, ADMIN, "user-2")).block())
+                .isInstanceOf(AuthServerUnavailableException.class)
+                .satisfies(e -> assertThat(((ApplicationException) e).getErrorStatus().status()).isEqualTo(503));
+        assertThat(forwarded).isFalse();
+    }
+
+    @Test
+    void adminMatchingAuthorityServerIsForwarded() {
+        when(userInfoService.getUserInfo("user-2")).thenReturn(Mono.just(ADMIN));
+
+        filter(exchange(ADMIN_RULE, ADMIN, "user-2")).block();
+
+        assertThat(forwarded).isTrue();
+    }
+
+    @Test
+    void userUnknownToAuthorityServerIsRejected() {
+        when(userInfoService.getUserInfo("user-2")).thenReturn(Mono.empty());
+
+        assertThatThrownBy(() -> filter(exchange(ADMIN_RULE, ADMIN, "user-2")).block())
+                .isInstanceOf(UuidMisMatchException.class)
+                .satisfies(e -> assertThat(((ApplicationException) e).getErrorStatus().status()).isEqualTo(401));
+        assertThat(forwarded).isFalse();
+    }
+
+    @Test
+    void adminWhoseRoleWasRevokedIsRejected() {
+        when(userInfoService.getUserInfo("user-2")).thenReturn(Mono.just(new JwtAuthResponse(2L, "USER", "ACTIVE")));
+
+        assertThatThrownBy(() -> filter(exchange(ADMIN_RULE, ADMIN, "user-2")).block())
+                .isInstanceOf(UuidMisMatchException.class);
+        assertThat(forwarded).isFalse();
+    }
+
+    @Test
+    void subjectOfAnotherCustomerIsRejected() {
+        when(userInfoService.getUserInfo("user-2")).thenReturn(Mono.just(new JwtAuthResponse(3L, "ADMIN", "ACTIVE")));
+
+        assertThatThrownBy(() -> filter(exchange(ADMIN_RULE, ADMIN, "user-2")).block())
+                .isInstanceOf(UuidMisMatchException.class);
+        assertThat(forwarded).isFalse();
+    }
+
+    @Test
+    void missingRoleIsRejectedWithoutLookup() {
+        JwtAuthResponse user = new JwtAuthResponse(1L, "USER", "ACTIVE");
+
+        assertThatThrownBy(() -> filter(exchange(ADMIN_RULE, user, "user-1")).block())
+                .isInstanceOf(UnauthorizedAccessException.class);
+        verify(userInfoService, never()).getUserInfo(anyString());
+    }
+
+    @Test
+    void pathsWithoutRoleAreNotLookedUp() {
+        filter(exchange(USER_RULE, new JwtAuthResponse(1L, "USER", "ACTIVE"), "user-1")).block();
+
+        assertThat(forwarded).isTrue();
+        verify(userInfoService, never()).getUserInfo(anyString());
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange) {
+        return filter.filter(exchange, ex -> Mono.fromRunnable(() -> forwarded.set(true)));
+    }
+
+    private static ServerWebExchange exchange(AuthRule rule, JwtAuthResponse loginUser, String subject) {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/books/admin/1"));
+        exchange.getAttributes().put(GatewayExchangeAttributes.AUTH_RULE, rule);
+        exchange.getAttributes().put(GatewayExchangeAttributes.LOGIN_USER, loginUser);
+        exchange.getAttributes().put(GatewayExchangeAttributes.LOGIN_SUBJECT, subject);
+        return exchange;
+    }
+}
@@ -0,0 +1,108 @@
+package com.nhnacademy.apigateway.filter.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.nhnacademy.apigateway.filter.GatewayExchangeAttributes;
+import com.nhnacademy.apigateway.filter.metrics.AuthDecision;
+import com.nhnacademy.apigateway.presentation.dto.response.JwtAuthResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+class AccessLogWebFilterTest {
+
+    private static final String ERROR_BODY = "{\"message\":\"unavailable\",\"status\":503}";
+
+    private AccessLogWriter accessLogWriter;
+    private AccessLogWebFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        accessLogWriter = mock(AccessLogWriter.class);
+        filter = new AccessLogWebFilter(new AccessLogProperties(true, null, List.of("/actuator/health/**"), null,
+                null, null, null, null), accessLogWriter);
+    }
+
+    @Test
+    void writtenResponseIsLogged() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/books/1"));
+
+        filter.filter(exchange, ex -> {
+            ex.getAttributes().put(GatewayExchangeAttributes.LOGIN_USER, new JwtAuthResponse(7L, "USER", "ACTIVE"));
+            ex.getAttributes().put(GatewayExchangeAttributes.AUTH_DECISION, AuthDecision.TOKEN_VALID);
+            return write(ex.getResponse(), HttpStatus.OK, "{\"id\":1}");
+        }).block();
+
+        AccessLogEntry entry = loggedEntry();
+        assertThat(entry.method()).isEqualTo("GET");
+        assertThat(entry.path()).isEqualTo("/books/1");
+        assertThat(entry.status()).isEqualTo(200);
+        assertThat(entry.userId()).isEqualTo(7L);
+        assertThat(entry.authDecision()).isEqualTo(AuthDecision.TOKEN_VALID.tagValue());
+        assertThat(entry.bytesIn()).isZero();
+        assertThat(entry.bytesOut()).isEqualTo(8);
+    }
+
+    @Test
+    void errorResponseIsLoggedWhenCommitted() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/orders/1"));
+
+        // 예외 처리기처럼 필터 체인이 끝난 뒤 원래 응답에 오류 응답을 씁니다.
+        filter.filter(exchange, ex -> Mono.error(new IllegalStateException("backend failed")))
+                .onErrorResume(e -> {
+                    verify(accessLogWriter, never()).offer(any());
+                    return write(exchange.getResponse(), HttpStatus.SERVICE_UNAVAILABLE, ERROR_BODY);
+                })
+                .block();
+
+        AccessLogEntry entry = loggedEntry();
+        assertThat(entry.status()).isEqualTo(503);
+        assertThat(entry.bytesOut()).isEqualTo(ERROR_BODY.length());
+    }
+
+    @Test
+    void cancelledRequestIsLoggedAsClientClosed() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/books/slow"));
+
+        Disposable request = filter.filter(exchange, ex -> Mono.never()).subscribe();
+        request.dispose();
+
+        AccessLogEntry entry = loggedEntry();
+        assertThat(entry.status()).isEqualTo(499);
+        assertThat(entry.bytesOut()).isZero();
+    }
+
+    @Test
+    void excludedPathIsNotLogged() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health/liveness"));
+
+        filter.filter(exchange, ex -> Mono.empty()).block();
+
+        verify(accessLogWriter, never()).offer(any());
+    }
+
+    private AccessLogEntry loggedEntry() {
+        ArgumentCaptor<AccessLogEntry> captor = ArgumentCaptor.forClass(AccessLogEntry.class);
+        verify(accessLogWriter).offer(captor.capture());
+        return captor.getValue();
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response, HttpStatus status, String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        response.setStatusCode(status);
+        response.getHeaders().setContentLength(bytes.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+    }
+}
@@ -0,0 +1,189 @@
+package com.nhnacademy.apigateway.filter.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ACCESS_LOG 로거에 붙인 appender 로 writer 스레드가 넘긴 줄을 모읍니다.
+ * appender 를 잠가 두면 writer 스레드가 첫 묶음을 넘기다 멈추므로, 그동안 대기열이 차는 상황을 만들 수 있습니다.
+ */
+class AccessLogWriterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger(AccessLogWriter.LOGGER_NAME);
+    private final BlockingAppender appender = new BlockingAppender();
+
+    private Level previousLevel;
+    private boolean previousAdditive;
+    private AccessLogWriter writer;
+
+    @BeforeEach
+    void attachAppender() {
+        previousLevel = accessLogger.getLevel();
+        previousAdditive = accessLogger.isAdditive();
+        accessLogger.setLevel(Level.INFO);
+        accessLogger.setAdditive(false);
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void detachAppender() throws InterruptedException {
+        appender.release();
+        if (writer != null) {
+            writer.destroy();
+        }
+        accessLogger.detachAppender(appender);
+        accessLogger.setLevel(previousLevel);
+        accessLogger.setAdditive(previousAdditive);
+    }
+
+    @Test
+    void offerIsRejectedWhenQueueIsFull() throws InterruptedException {
+        writer = writer(4, 1, 1.0, 1.0, Duration.ofMillis(1));
+        blockWriterThread();
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(writer.offer(entry(200))).isTrue();
+        }
+        assertThat(writer.offer(entry(200))).isFalse();
+        // 5xx 도 대기열이 차면 버립니다.
+        assertThat(writer.offer(entry(503))).isFalse();
+
+        assertThat(dropped("full")).isEqualTo(2);
+        assertThat(queued()).isEqualTo(4);
+    }
+
+    @Test
+    void onlyServerErrorsAreKeptUnderPressure() throws InterruptedException {
+        writer = writer(10, 1, 0.5, 0.0, Duration.ofMillis(1));
+        blockWriterThread();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(writer.offer(entry(200))).isTrue();
+        }
+        assertThat(writer.offer(entry(200))).isFalse();
+        assertThat(writer.offer(entry(404))).isFalse();
+        assertThat(writer.offer(entry(500))).isTrue();
+        assertThat(writer.offer(entry(503))).isTrue();
+
+        assertThat(dropped("sampled")).isEqualTo(2);
+        assertThat(dropped("full")).isZero();
+        assertThat(queued()).isEqualTo(7);
+    }
+
+    @Test
+    void queuedEntriesAreWrittenInBatches() throws InterruptedException {
+        writer = writer(100, 3, 1.0, 1.0, Duration.ofMillis(1));
+        blockWriterThread();
+        for (int i = 0; i < 7; i++) {
+            writer.offer(entry(200));
+        }
+
+        appender.release();
+
+        assertThat(appender.awaitMessages(4)).isTrue();
+        assertThat(appender.messages).extracting(message -> message.split("\n").length)
+                .containsExactly(1, 3, 3, 1);
+        assertThat(appender.messages.get(1).split("\n")[0])
+                .startsWith("{\"ts\":")
+                .contains("\"method\":\"GET\"", "\"path\":\"/books/1\"", "\"status\":200",
+                        "\"route\":\"BOOK-USER-SERVER\"", "\"user\":7", "\"bytesIn\":null", "\"bytesOut\":128",
+                        "\"latencyMs\":1.5");
+        assertThat(queued()).isZero();
+    }
+
+    @Test
+    void destroyDrainsRemainingEntries() throws InterruptedException {
+        // 대기열이 비어 있으면 writer 스레드가 오래 쉬므로, 종료 전까지 항목이 쓰이지 않고 남아 있습니다.
+        writer = writer(100, 2, 1.0, 1.0, Duration.ofMinutes(1));
+        Thread.sleep(100);
+        for (int i = 0; i < 5; i++) {
+            writer.offer(entry(200));
+        }
+        assertThat(appender.messages).isEmpty();
+
+        writer.destroy();
+
+        assertThat(String.join("\n", appender.messages).split("\n")).hasSize(5);
+        assertThat(queued()).isZero();
+    }
+
+    /**
+     * 항목 하나를 넣어 writer 스레드가 appender 에서 멈출 때까지 기다립니다. 멈춘 뒤에는 대기열이 비어 있습니다.
+     */
+    private void blockWriterThread() throws InterruptedException {
+        appender.block();
+        writer.offer(entry(200));
+        assertThat(appender.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued()).isZero();
+    }
+
+    private AccessLogWriter writer(int queueSize, int batchSize, double pressureThreshold, double pressureSampleRate,
+                                   Duration flushInterval) {
+        return new AccessLogWriter(new AccessLogProperties(true, null, null, queueSize, batchSize, flushInterval,
+                pressureThreshold, pressureSampleRate), meterRegistry);
+    }
+
+    private static AccessLogEntry entry(int status) {
+        return new AccessLogEntry(System.currentTimeMillis(), "GET", "/books/1", status, "BOOK-USER-SERVER", 7L,
+                "token_valid", "127.0.0.1", null, 128, 1_500);
+    }
+
+    private double dropped(String reason) {
+        return meterRegistry.get("gateway.access.log.dropped").tag("reason", reason).counter().count();
+    }
+
+    private double queued() {
+        return meterRegistry.get("gateway.access.log.queued").gauge().value();
+    }
+
+    private static final class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        boolean awaitMessages(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (messages.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            return messages.size() >= count;
+        }
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            entered.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(event.getFormattedMessage());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.nhnacademy.apigateway.filter.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long BASELINE_RTT_NANOS = Duration.ofMillis(10).toNanos();
+
+    @Test
+    void limitGrowsWhileLatencyIsFlat() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(Map.of()));
+        fill(limiter, RequestPriority.CRITICAL);
+
+        sample(limiter, BASELINE_RTT_NANOS, 20);
+
+        assertThat(limiter.limit()).isGreaterThan(100);
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(Map.of()));
+        fill(limiter, RequestPriority.CRITICAL);
+        sample(limiter, BASELINE_RTT_NANOS, 20);
+        double limitBeforeSlowdown = limiter.limit();
+
+        // 기준 지연의 tolerance(1.5) 배를 크게 넘는 지연이 이어집니다.
+        sample(limiter, BASELINE_RTT_NANOS * 10, 30);
+
+        assertThat(limiter.limit()).isLessThan(limitBeforeSlowdown).isLessThan(100);
+    }
+
+    @Test
+    void limitDoesNotFallBelowMinLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(Map.of()));
+        fill(limiter, RequestPriority.CRITICAL);
+        sample(limiter, BASELINE_RTT_NANOS, 5);
+
+        sample(limiter, BASELINE_RTT_NANOS * 100, 500);
+
+        assertThat(limiter.limit()).isGreaterThanOrEqualTo(8);
+    }
+
+    @Test
+    void limitIsUnchangedWhileMostlyIdle() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(Map.of()));
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.LOW)).isTrue();
+            limiter.release(i < 10 ? BASELINE_RTT_NANOS : BASELINE_RTT_NANOS * 10);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(100);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void lowerPriorityIsLimitedToItsShare() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                properties(Map.of(RequestPriority.LOW, 0.5, RequestPriority.NORMAL, 0.75)));
+
+        assertThat(fill(limiter, RequestPriority.LOW)).isEqualTo(50);
+        assertThat(limiter.tryAcquire(RequestPriority.NORMAL)).isTrue();
+        assertThat(fill(limiter, RequestPriority.NORMAL)).isEqualTo(24);
+        // 낮은 우선순위가 몫을 다 써도 결제 요청은 나머지 한도를 사용할 수 있습니다.
+        assertThat(fill(limiter, RequestPriority.CRITICAL)).isEqualTo(25);
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isFalse();
+    }
+
+    @Test
+    void releaseWithoutSampleOnlyFreesTheSlot() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(Map.of()));
+        fill(limiter, RequestPriority.CRITICAL);
+        sample(limiter, BASELINE_RTT_NANOS, 20);
+        double limit = limiter.limit();
+
+        for (int i = 0; i < 50; i++) {
+            limiter.releaseWithoutSample();
+            limiter.tryAcquire(RequestPriority.CRITICAL);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(limit);
+    }
+
+    /**
+     * 자리가 찰 때까지 얻습니다.
+     *
+     * @return 얻은 자리 수
+     */
+    private static int fill(AdaptiveConcurrencyLimiter limiter, RequestPriority priority) {
+        int acquired = 0;
+        while (limiter.tryAcquire(priority)) {
+            acquired++;
+        }
+        return acquired;
+    }
+
+    /**
+     * 처리 중인 요청 수를 유지한 채 응답 지연을 반영합니다. 끝난 요청 하나마다 새 요청 하나가 자리를 얻습니다.
+     */
+    private static void sample(AdaptiveConcurrencyLimiter limiter, long rttNanos, int count) {
+        for (int i = 0; i < count; i++) {
+            limiter.release(rttNanos);
+            limiter.tryAcquire(RequestPriority.CRITICAL);
+        }
+    }
+
+    private static AdmissionControlProperties properties(Map<RequestPriority, Double> shares) {
+        return new AdmissionControlProperties(true, 100, 8, 1000, 0.2, 1.5, Duration.ofMinutes(10), shares,
+                List.of());
+    }
+}
@@ -0,0 +1,128 @@
+package com.nhnacademy.apigateway.filter.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.nhnacademy.apigateway.common.exception.AdmissionRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientResponse;
+
+class AdmissionControlGlobalFilterTest {
+
+    private static final String ROUTE = "BOOK-USER-SERVER";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void requestOverLimitIsRejectedWithRetryAfter() {
+        AdmissionControlGlobalFilter filter = filter(2);
+        List<Disposable> held = hold(filter, 2);
+
+        MockServerWebExchange rejected = exchange();
+        Throwable error = filter.filter(rejected, exchange -> Mono.empty())
+                .then(Mono.<Throwable>empty())
+                .onErrorResume(Mono::just)
+                .block();
+
+        assertThat(error).isInstanceOf(AdmissionRejectedException.class);
+        assertThat(((AdmissionRejectedException) error).getErrorStatus().status()).isEqualTo(503);
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(meterRegistry.get("gateway.admission.rejected").tag("route", ROUTE).tag("priority", "LOW")
+                .counter().count()).isEqualTo(1);
+
+        // 처리 중이던 요청이 끝나면 다시 받아들입니다.
+        held.forEach(Disposable::dispose);
+        filter.filter(exchange(), exchange -> Mono.empty()).block();
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void responsesAnsweredByGatewayDoNotShrinkLimit() {
+        AdmissionControlGlobalFilter filter = filter(10);
+        // 한도의 절반 이상이 처리 중이어야 지연이 한도 계산에 반영됩니다.
+        List<Disposable> held = hold(filter, 6);
+
+        for (int i = 0; i < 20; i++) {
+            filter.filter(exchange(), exchange -> backend(exchange, Duration.ofMillis(20))).block();
+            // 캐시 적중이나 429 처럼 백엔드에 가지 않은 응답은 거의 즉시 끝납니다.
+            filter.filter(exchange(), exchange -> Mono.empty()).block();
+        }
+
+        assertThat(limit()).isEqualTo(10);
+        held.forEach(Disposable::dispose);
+    }
+
+    @Test
+    void slowBackendShrinksLimit() {
+        AdmissionControlGlobalFilter filter = filter(10);
+        // 줄어든 한도에서도 새 요청이 자리를 얻을 수 있을 만큼만 붙잡아 둡니다.
+        List<Disposable> held = hold(filter, 4);
+
+        for (int i = 0; i < 5; i++) {
+            filter.filter(exchange(), exchange -> backend(exchange, Duration.ofMillis(5))).block();
+        }
+        for (int i = 0; i < 3; i++) {
+            filter.filter(exchange(), exchange -> backend(exchange, Duration.ofMillis(50))).block();
+        }
+
+        assertThat(limit()).isLessThan(10);
+        held.forEach(Disposable::dispose);
+    }
+
+    /**
+     * 라우팅 필터처럼 백엔드 응답을 교환 속성에 남기고 끝나는 체인입니다.
+     */
+    private static Mono<Void> backend(ServerWebExchange exchange, Duration latency) {
+        return Mono.delay(latency)
+                .doOnNext(tick -> exchange.getAttributes().put(ServerWebExchangeUtils.CLIENT_RESPONSE_ATTR,
+                        mock(HttpClientResponse.class)))
+                .then();
+    }
+
+    private List<Disposable> hold(AdmissionControlGlobalFilter filter, int count) {
+        List<Disposable> held = new ArrayList<>();
+        GatewayFilterChain never = exchange -> Mono.never();
+        for (int i = 0; i < count; i++) {
+            held.add(filter.filter(exchange(), never).subscribe());
+        }
+        return held;
+    }
+
+    private AdmissionControlGlobalFilter filter(int initialLimit) {
+        // 한도가 늘지 않도록 상한을 초기값으로 두어 처리 중인 요청이 항상 한도의 절반 이상이 되게 합니다.
+        AdmissionControlProperties properties = new AdmissionControlProperties(true, initialLimit, 1, initialLimit,
+                1.0, 1.5, Duration.ofMinutes(10), Map.of(), List.of());
+        return new AdmissionControlGlobalFilter(properties, meterRegistry);
+    }
+
+    private double limit() {
+        return meterRegistry.get("gateway.admission.limit").tag("route", ROUTE).gauge().value();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("gateway.admission.inflight").tag("route", ROUTE).gauge().value();
+    }
+
+    private static MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/books/1"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id(ROUTE).uri(URI.create("http://localhost")).predicate(e -> true).build());
+        return exchange;
+    }
+}
@@ -0,0 +1,78 @@
+package com.nhnacademy.apigateway.filter.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+class DirectBodyBufferTest {
+
+    @Test
+    void declaredLengthIsCopiedIntoSingleDirectBuffer() {
+        DirectBodyBuffer copy = new DirectBodyBuffer(11, 1024);
+        copy.append(chunk("hello "));
+        copy.append(chunk("world"));
+
+        ByteBuffer body = copy.complete();
+
+        assertThat(body.isDirect()).isTrue();
+        assertThat(body.isReadOnly()).isTrue();
+        assertThat(body.capacity()).isEqualTo(11);
+        assertThat(text(body)).isEqualTo("hello world");
+    }
+
+    @Test
+    void unknownLengthGrowsAndIsTrimmed() {
+        DirectBodyBuffer copy = new DirectBodyBuffer(-1, 64 * 1024);
+        String part = "x".repeat(3000);
+        copy.append(chunk(part));
+        copy.append(chunk(part));
+        copy.append(chunk("end"));
+
+        ByteBuffer body = copy.complete();
+
+        assertThat(body.isDirect()).isTrue();
+        assertThat(body.capacity()).isEqualTo(6003);
+        assertThat(text(body)).isEqualTo(part + part + "end");
+    }
+
+    @Test
+    void chunkReadPositionIsUnchanged() {
+        DataBuffer chunk = chunk("body");
+        new DirectBodyBuffer(-1, 1024).append(chunk);
+
+        assertThat(chunk.readPosition()).isZero();
+        assertThat(chunk.readableByteCount()).isEqualTo(4);
+    }
+
+    @Test
+    void bodyOverMaxSizeIsNotKept() {
+        DirectBodyBuffer undeclared = new DirectBodyBuffer(-1, 8);
+        undeclared.append(chunk("12345"));
+        undeclared.append(chunk("67890"));
+        assertThat(undeclared.complete()).isNull();
+
+        DirectBodyBuffer declared = new DirectBodyBuffer(10, 8);
+        declared.append(chunk("1234567890"));
+        assertThat(declared.complete()).isNull();
+    }
+
+    @Test
+    void emptyBodyIsKept() {
+        assertThat(new DirectBodyBuffer(0, 1024).complete().remaining()).isZero();
+        assertThat(new DirectBodyBuffer(-1, 1024).complete().remaining()).isZero();
+    }
+
+    private static DataBuffer chunk(String value) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String text(ByteBuffer body) {
+        byte[] bytes = new byte[body.remaining()];
+        body.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,247 @@
+package com.nhnacademy.apigateway.filter.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.apigateway.StubServer;
+import com.nhnacademy.apigateway.StubServer.RecordedRequest;
+import com.nhnacademy.apigateway.StubServer.Response;
+import com.nhnacademy.apigateway.TestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 공개 도서 조회가 BOOK-USER-SERVER 스텁 앞에서 캐시되는지 확인합니다.
+ * 스텁은 요청을 받을 때마다 version 을 하나씩 올려 응답하므로 캐시에서 나간 응답은 이전 응답과 version 이 같습니다.
+ * 캐시 항목은 테스트 사이에 남으므로 테스트마다 다른 경로를 사용합니다.
+ */
+class ResponseCacheGlobalFilterTest {
+
+    private static final String ETAG = "\"v1\"";
+
+    private static final AtomicInteger versions = new AtomicInteger();
+
+    private static StubServer bookServer;
+    private static ConfigurableApplicationContext gateway;
+    private static WebTestClient client;
+
+    @BeforeAll
+    static void startGateway() {
+        bookServer = StubServer.start("BOOK-USER-SERVER");
+        gateway = TestFixtures.startGateway(List.of(bookServer), Map.of(
+                "gateway.hedging.enabled", "false"));
+        client = WebTestClient.bindToServer()
+                .baseUrl("http://127.0.0.1:" + TestFixtures.port(gateway))
+                .responseTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @AfterAll
+    static void stopGateway() {
+        gateway.close();
+        bookServer.close();
+    }
+
+    @BeforeEach
+    void resetStub() {
+        bookServer.reset();
+        bookServer.respond(request -> versioned());
+    }
+
+    @Test
+    void secondRequestIsServedFromCache() {
+        double hitsBefore = gets("hit");
+        double missesBefore = gets("miss");
+
+        String first = get("/books/cached")
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER, "MISS")
+                .expectBody(String.class).returnResult().getResponseBody();
+        get("/books/cached")
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER, "HIT")
+                .expectBody(String.class).isEqualTo(first);
+
+        assertThat(bookServer.requestCount("/books/cached")).isEqualTo(1);
+        assertThat(gets("hit") - hitsBefore).isEqualTo(1);
+        assertThat(gets("miss") - missesBefore).isEqualTo(1);
+    }
+
+    @Test
+    void noStoreAndPrivateResponsesAreNotCached() {
+        bookServer.respond(request -> versioned().withHeader(HttpHeaders.CACHE_CONTROL,
+                request.path().endsWith("no-store") ? "no-store" : "private, max-age=60"));
+
+        for (String path : List.of("/books/no-store", "/books/private")) {
+            get(path).expectStatus().isOk()
+                    .expectHeader().doesNotExist(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER);
+            get(path).expectStatus().isOk()
+                    .expectHeader().doesNotExist(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER);
+            assertThat(bookServer.requestCount(path)).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void entryExpiresAfterMaxAge() throws InterruptedException {
+        bookServer.respond(request -> versioned().withHeader(HttpHeaders.CACHE_CONTROL, "max-age=1"));
+
+        get("/books/max-age").expectHeader().valueEquals(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER, "MISS");
+        get("/books/max-age").expectHeader().valueEquals(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER, "HIT");
+        Thread.sleep(1_200);
+        get("/books/max-age").expectHeader().valueEquals(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER, "MISS");
+
+        assertThat(bookServer.requestCount("/books/max-age")).isEqualTo(2);
+    }
+
+    @Test
+    void varyAndContentEncodingResponsesAreNotCached() {
+        bookServer.respond(request -> request.path().endsWith("vary")
+                ? versioned().withHeader(HttpHeaders.VARY, "Accept-Language")
+                : versioned().withHeader(HttpHeaders.CONTENT_ENCODING, "br"));
+
+        for (String path : List.of("/books/vary", "/books/encoded")) {
+            get(path).expectStatus().isOk();
+            get(path).expectStatus().isOk()
+                    .expectHeader().doesNotExist(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER);
+            assertThat(bookServer.requestCount(path)).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void notModifiedRevalidationReturnsCachedBody() throws InterruptedException {
+        bookServer.respond(ResponseCacheGlobalFilterTest::revalidating);
+        String first = get("/books/revalidated")
+                .expectStatus().isOk()
+                .expectBody(String.class).returnResult().getResponseBody();
+        Thread.sleep(1_200);
+        double hitsBefore = gets("hit");
+        double missesBefore = gets("miss");
+
+        get("/books/revalidated")
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER, "REVALIDATED")
+                .expectBody(String.class).isEqualTo(first);
+
+        assertThat(bookServer.requests()).hasSize(2);
+        assertThat(bookServer.requests().get(1).header(HttpHeaders.IF_NONE_MATCH)).isEqualTo(ETAG);
+        // 유효 시간이 지난 항목은 조회되더라도 백엔드로 갔으므로 미스입니다.
+        assertThat(gets("hit") - hitsBefore).isZero();
+        assertThat(gets("miss") - missesBefore).isEqualTo(1);
+
+        get("/books/revalidated")
+                .expectHeader().valueEquals(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER, "HIT")
+                .expectBody(String.class).isEqualTo(first);
+        assertThat(bookServer.requests()).hasSize(2);
+    }
+
+    @Test
+    void clientIfNoneMatchIsAnsweredWithNotModified() {
+        bookServer.respond(ResponseCacheGlobalFilterTest::revalidating);
+        get("/books/conditional").expectStatus().isOk();
+
+        client.get().uri("/books/conditional")
+                .header(HttpHeaders.IF_NONE_MATCH, ETAG)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER, "HIT")
+                .expectBody().isEmpty();
+
+        assertThat(bookServer.requestCount("/books/conditional")).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentMissesAreCollapsed() {
+        bookServer.respond(request -> versioned().delayed(Duration.ofMillis(300)));
+        double collapsedBefore = collapsed();
+
+        List<ResponseEntity<String>> responses = concurrentGets("/books/collapsed", 5);
+
+        assertThat(responses).hasSize(5)
+                .allSatisfy(response -> assertThat(response.getStatusCode().value()).isEqualTo(200));
+        assertThat(responses).extracting(ResponseEntity::getBody).containsOnly(responses.get(0).getBody());
+        assertThat(bookServer.requestCount("/books/collapsed")).isEqualTo(1);
+        assertThat(collapsed() - collapsedBefore).isEqualTo(4);
+    }
+
+    @Test
+    void concurrentRevalidationsAreCollapsed() throws InterruptedException {
+        bookServer.respond(ResponseCacheGlobalFilterTest::revalidating);
+        String first = get("/books/collapsed-revalidation")
+                .expectBody(String.class).returnResult().getResponseBody();
+        Thread.sleep(1_200);
+        bookServer.respond(request -> revalidating(request).delayed(Duration.ofMillis(300)));
+
+        List<ResponseEntity<String>> responses = concurrentGets("/books/collapsed-revalidation", 5);
+
+        assertThat(responses).extracting(ResponseEntity::getBody).containsOnly(first);
+        assertThat(bookServer.requestCount("/books/collapsed-revalidation")).isEqualTo(2);
+    }
+
+    @Test
+    void authenticatedRequestBypassesCache() {
+        String accessToken = TestFixtures.token(7L, "USER", Duration.ofMinutes(10));
+
+        for (int i = 0; i < 2; i++) {
+            client.get().uri("/books/authenticated")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().doesNotExist(ResponseCacheGlobalFilter.CACHE_STATUS_HEADER);
+        }
+
+        assertThat(bookServer.requestCount("/books/authenticated")).isEqualTo(2);
+    }
+
+    private static Response versioned() {
+        return Response.ok("{\"version\":" + versions.incrementAndGet() + "}");
+    }
+
+    /**
+     * ETag 로 재검증하는 백엔드 응답입니다. 1초 동안 유효하며, 같은 ETag 로 조건부 요청이 오면 본문 없이 304 로 응답합니다.
+     */
+    private static Response revalidating(RecordedRequest request) {
+        if (ETAG.equals(request.header(HttpHeaders.IF_NONE_MATCH))) {
+            return new Response(304, Duration.ZERO, Map.of(HttpHeaders.ETAG, ETAG), "");
+        }
+        return versioned()
+                .withHeader(HttpHeaders.ETAG, ETAG)
+                .withHeader(HttpHeaders.CACHE_CONTROL, "max-age=1");
+    }
+
+    private static WebTestClient.ResponseSpec get(String path) {
+        return client.get().uri(path).exchange();
+    }
+
+    private static List<ResponseEntity<String>> concurrentGets(String path, int count) {
+        WebClient webClient = WebClient.create("http://127.0.0.1:" + TestFixtures.port(gateway));
+        Mono<ResponseEntity<String>> request = Mono.defer(() -> webClient.get().uri(path)
+                .retrieve()
+                .toEntity(String.class));
+        return Flux.range(0, count)
+                .flatMap(i -> request)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+    }
+
+    private static double gets(String result) {
+        return gateway.getBean(MeterRegistry.class)
+                .get("gateway.response.cache.gets").tag("result", result).functionCounter().count();
+    }
+
+    private static double collapsed() {
+        return gateway.getBean(MeterRegistry.class).get("gateway.response.cache.collapsed").counter().count();
+    }
+}
@@ -0,0 +1,102 @@
+package com.nhnacademy.apigateway.filter.hedging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.apigateway.StubServer;
+import com.nhnacademy.apigateway.StubServer.Response;
+import com.nhnacademy.apigateway.TestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * 지연이 다른 두 BOOK-USER-SERVER 스텁 인스턴스 앞에서 조회 요청이 헤지되는지 확인합니다.
+ * 라운드 로빈으로 연속한 두 요청 중 하나는 느린 인스턴스가 첫 요청을 받으며, 헤지 대기 시간은 100ms 로 고정합니다.
+ */
+class HedgingGlobalFilterTest {
+
+    private static final String ROUTE = "BOOK-USER-SERVER";
+    private static final String PATH = "/books/hedged";
+    private static final Duration HEDGE_DELAY = Duration.ofMillis(100);
+    private static final Duration SLOW_DELAY = Duration.ofSeconds(2);
+    // 끊긴 연결에 쓰기가 실패하도록 소켓 버퍼보다 큰 본문으로 응답합니다.
+    private static final String LARGE_BODY = "{\"instance\":\"slow\",\"padding\":\"" + "x".repeat(4 * 1024 * 1024) + "\"}";
+
+    private static StubServer slowServer;
+    private static StubServer fastServer;
+    private static ConfigurableApplicationContext gateway;
+    private static WebTestClient client;
+
+    @BeforeAll
+    static void startGateway() {
+        slowServer = StubServer.start(ROUTE);
+        fastServer = StubServer.start(ROUTE);
+        slowServer.respond(request -> Response.ok(LARGE_BODY).delayed(SLOW_DELAY));
+        fastServer.respond(request -> Response.ok("{\"instance\":\"fast\"}"));
+        gateway = TestFixtures.startGateway(List.of(slowServer, fastServer), Map.of(
+                "gateway.load-balancer.strategy", "ROUND_ROBIN",
+                "gateway.response-cache.enabled", "false",
+                "gateway.hedging.routes." + ROUTE + ".min-delay", HEDGE_DELAY.toMillis() + "ms",
+                "gateway.hedging.routes." + ROUTE + ".max-delay", HEDGE_DELAY.toMillis() + "ms"));
+        client = WebTestClient.bindToServer()
+                .baseUrl("http://127.0.0.1:" + TestFixtures.port(gateway))
+                .responseTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @AfterAll
+    static void stopGateway() {
+        gateway.close();
+        slowServer.close();
+        fastServer.close();
+    }
+
+    @Test
+    void slowPrimaryIsHedgedToFastInstanceAndCancelled() throws InterruptedException {
+        Duration hedgedElapsed = null;
+        for (int i = 0; i < 2; i++) {
+            long slowRequestsBefore = slowServer.requestCount(PATH);
+            long startNanos = System.nanoTime();
+
+            client.get().uri(PATH).exchange()
+                    .expectStatus().isOk()
+                    .expectBody().jsonPath("$.instance").isEqualTo("fast");
+
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+            assertThat(elapsed).isLessThan(SLOW_DELAY);
+            if (slowServer.requestCount(PATH) > slowRequestsBefore) {
+                hedgedElapsed = elapsed;
+            }
+        }
+
+        assertThat(hedgedElapsed).as("한 요청은 느린 인스턴스가 먼저 받아야 합니다").isNotNull();
+        assertThat(hedgedElapsed).isGreaterThanOrEqualTo(HEDGE_DELAY);
+        assertThat(slowServer.requestCount(PATH)).isEqualTo(1);
+        assertThat(fastServer.requestCount(PATH)).isEqualTo(2);
+
+        MeterRegistry meterRegistry = gateway.getBean(MeterRegistry.class);
+        assertThat(count(meterRegistry, "gateway.hedging.eligible")).isEqualTo(2);
+        assertThat(count(meterRegistry, "gateway.hedging.sent")).isEqualTo(1);
+        assertThat(count(meterRegistry, "gateway.hedging.wins")).isEqualTo(1);
+        // 헤지에 져서 응답 전에 취소된 느린 첫 요청은 지연 분포에 기록되지 않습니다.
+        assertThat(meterRegistry.get("gateway.hedging.primary.latency").tag("route", ROUTE).timer().count())
+                .isEqualTo(1);
+
+        // 취소된 첫 요청은 연결이 끊겨 느린 인스턴스가 응답을 보내지 못합니다.
+        long deadline = System.nanoTime() + SLOW_DELAY.plusSeconds(3).toNanos();
+        while (slowServer.abortedCount(PATH) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(slowServer.abortedCount(PATH)).isEqualTo(1);
+    }
+
+    private static double count(MeterRegistry meterRegistry, String name) {
+        return meterRegistry.get(name).tag("route", ROUTE).counter().count();
+    }
+}
@@ -0,0 +1,244 @@
+package com.nhnacademy.apigateway.filter.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.apigateway.StubServer;
+import com.nhnacademy.apigateway.StubServer.Response;
+import com.nhnacademy.apigateway.TestFixtures;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 주문 요청이 ORDER-PAYMENT-SERVER 스텁에 한 번만 전달되고, 재시도에는 보관한 응답이 재생되는지 확인합니다.
+ * 스텁은 요청을 받을 때마다 orderId 를 하나씩 올려 응답하므로 재생된 응답은 첫 응답과 orderId 가 같습니다.
+ * 보관한 키는 테스트 사이에 남으므로 테스트마다 다른 키와 본문을 사용합니다.
+ */
+class IdempotencyGlobalFilterTest {
+
+    private static final String KEY_HEADER = "Idempotency-Key";
+    private static final int MAX_BODY_SIZE = 1024;
+
+    private static final AtomicInteger orderIds = new AtomicInteger();
+
+    private static StubServer orderServer;
+    private static ConfigurableApplicationContext gateway;
+    private static WebTestClient client;
+    private static String accessToken;
+
+    @BeforeAll
+    static void startGateway() {
+        orderServer = StubServer.start("ORDER-PAYMENT-SERVER");
+        gateway = TestFixtures.startGateway(List.of(orderServer), Map.of(
+                "gateway.idempotency.max-body-size", MAX_BODY_SIZE + "B",
+                "gateway.response-cache.enabled", "false",
+                "gateway.hedging.enabled", "false"));
+        client = WebTestClient.bindToServer()
+                .baseUrl("http://127.0.0.1:" + TestFixtures.port(gateway))
+                .responseTimeout(Duration.ofSeconds(10))
+                .build();
+        accessToken = TestFixtures.token(7L, "USER", Duration.ofMinutes(10));
+    }
+
+    @AfterAll
+    static void stopGateway() {
+        gateway.close();
+        orderServer.close();
+    }
+
+    @BeforeEach
+    void resetStub() {
+        orderServer.reset();
+        orderServer.respond(request -> Response.ok("{\"orderId\":" + orderIds.incrementAndGet() + "}"));
+    }
+
+    @Test
+    void retryWithSameKeyIsReplayed() {
+        String first = order(accessToken, "replay", "{\"bookId\":1}")
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(IdempotencyGlobalFilter.REPLAYED_HEADER)
+                .expectBody(String.class).returnResult().getResponseBody();
+
+        order(accessToken, "replay", "{\"bookId\":1}")
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(IdempotencyGlobalFilter.REPLAYED_HEADER, "true")
+                .expectBody(String.class).isEqualTo(first);
+
+        assertThat(orderServer.requestCount("/orders")).isEqualTo(1);
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() {
+        order(accessToken, "mismatch", "{\"bookId\":1}").expectStatus().isOk();
+
+        order(accessToken, "mismatch", "{\"bookId\":2}")
+                .expectStatus().isEqualTo(422)
+                .expectBody().jsonPath("$.status").isEqualTo(422);
+
+        assertThat(orderServer.requestCount("/orders")).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForFirstResponse() {
+        orderServer.respond(request -> Response.ok("{\"orderId\":" + orderIds.incrementAndGet() + "}")
+                .delayed(Duration.ofMillis(500)));
+        double collapsedBefore = requestCount("collapsed");
+
+        WebClient webClient = WebClient.create("http://127.0.0.1:" + TestFixtures.port(gateway));
+        Mono<ResponseEntity<String>> request = Mono.defer(() -> webClient.post().uri("/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .header(KEY_HEADER, "concurrent")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"bookId\":3}")
+                .retrieve()
+                .toEntity(String.class));
+        List<ResponseEntity<String>> responses = Flux.merge(request, request)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(responses).hasSize(2)
+                .allSatisfy(response -> assertThat(response.getStatusCode().value()).isEqualTo(200));
+        assertThat(responses.get(0).getBody()).isEqualTo(responses.get(1).getBody());
+        assertThat(responses).filteredOn(response ->
+                        response.getHeaders().containsKey(IdempotencyGlobalFilter.REPLAYED_HEADER))
+                .hasSize(1);
+        assertThat(orderServer.requestCount("/orders")).isEqualTo(1);
+        assertThat(requestCount("collapsed") - collapsedBefore).isEqualTo(1);
+    }
+
+    @Test
+    void failedResponseIsNotReplayed() {
+        orderServer.respond(request -> Response.status(503));
+        order(accessToken, "retry-after-failure", "{\"bookId\":4}").expectStatus().isEqualTo(503);
+
+        orderServer.respond(request -> Response.ok("{\"orderId\":" + orderIds.incrementAndGet() + "}"));
+        order(accessToken, "retry-after-failure", "{\"bookId\":4}")
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(IdempotencyGlobalFilter.REPLAYED_HEADER);
+
+        assertThat(orderServer.requestCount("/orders")).isEqualTo(2);
+    }
+
+    @Test
+    void anonymousRequestsWithoutKeyAreNotDeduplicated() {
+        // 같은 프록시 뒤의 두 사용자가 같은 주문을 보내도 서로의 응답을 받지 않아야 합니다.
+        order(null, null, "{\"bookId\":5}").expectStatus().isOk();
+        order(null, null, "{\"bookId\":5}")
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(IdempotencyGlobalFilter.REPLAYED_HEADER);
+
+        assertThat(orderServer.requestCount("/orders")).isEqualTo(2);
+    }
+
+    @Test
+    void anonymousKeyIsReplayedOnlyForTheSameRequest() {
+        String first = order(null, "anonymous", "{\"bookId\":6}")
+                .expectStatus().isOk()
+                .expectBody(String.class).returnResult().getResponseBody();
+
+        // 같은 키라도 다른 요청이면 다른 사용자의 요청일 수 있으므로 거부하지도, 재생하지도 않습니다.
+        order(null, "anonymous", "{\"bookId\":7}")
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(IdempotencyGlobalFilter.REPLAYED_HEADER);
+
+        order(null, "anonymous", "{\"bookId\":6}")
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(IdempotencyGlobalFilter.REPLAYED_HEADER, "true")
+                .expectBody(String.class).isEqualTo(first);
+
+        assertThat(orderServer.requestCount("/orders")).isEqualTo(2);
+    }
+
+    @Test
+    void sameKeyFromDifferentUsersIsNotShared() {
+        String otherUserToken = TestFixtures.token(8L, "USER", Duration.ofMinutes(10));
+
+        order(accessToken, "per-user", "{\"bookId\":8}").expectStatus().isOk();
+        order(otherUserToken, "per-user", "{\"bookId\":8}")
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(IdempotencyGlobalFilter.REPLAYED_HEADER);
+
+        assertThat(orderServer.requestCount("/orders")).isEqualTo(2);
+    }
+
+    @Test
+    void userWithoutIdentifierIsScopedLikeAnonymous() {
+        // 사용자 식별자가 없는 토큰은 IP 로만 구분되므로, 같은 키라도 요청이 다르면 거부하지 않고 따로 보냅니다.
+        String tokenWithoutId = tokenWithoutUserId();
+
+        order(tokenWithoutId, "no-user-id", "{\"bookId\":9}").expectStatus().isOk();
+        order(tokenWithoutId, "no-user-id", "{\"bookId\":10}")
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(IdempotencyGlobalFilter.REPLAYED_HEADER);
+        order(tokenWithoutId, null, "{\"bookId\":10}")
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(IdempotencyGlobalFilter.REPLAYED_HEADER);
+
+        assertThat(orderServer.requestCount("/orders")).isEqualTo(3);
+    }
+
+    @Test
+    void bodyLargerThanMaxBodySizeIsRejectedWithoutBuffering() {
+        // 경로의 본문 제한(64KB) 보다 작아도 멱등 처리용 버퍼 제한을 넘으면 거부합니다.
+        Flux<DataBuffer> body = Flux.range(0, 4)
+                .map(i -> DefaultDataBufferFactory.sharedInstance.wrap(new byte[MAX_BODY_SIZE / 2]));
+
+        client.post().uri("/orders").contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .header(KEY_HEADER, "oversized")
+                .body(body, DataBuffer.class)
+                .exchange()
+                .expectStatus().isEqualTo(413)
+                .expectBody().jsonPath("$.status").isEqualTo(413);
+
+        assertThat(orderServer.requests()).isEmpty();
+    }
+
+    private static WebTestClient.ResponseSpec order(String token, String idempotencyKey, String body) {
+        return client.post().uri("/orders").contentType(MediaType.APPLICATION_JSON)
+                .headers(headers -> {
+                    if (token != null) {
+                        headers.setBearerAuth(token);
+                    }
+                    if (idempotencyKey != null) {
+                        headers.set(KEY_HEADER, idempotencyKey);
+                    }
+                })
+                .bodyValue(body)
+                .exchange();
+    }
+
+    private static String tokenWithoutUserId() {
+        return Jwts.builder()
+                .claim("userRole", "USER")
+                .claim("loginStatus", "ACTIVE")
+                .setExpiration(new Date(System.currentTimeMillis() + Duration.ofMinutes(10).toMillis()))
+                .signWith(Keys.hmacShaKeyFor(TestFixtures.JWT_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    private static double requestCount(String result) {
+        return gateway.getBean(MeterRegistry.class)
+                .get("gateway.idempotency.requests").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.apigateway.filter.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class IdempotencyStoreTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private final IdempotencyStore store = new IdempotencyStore(
+            new IdempotencyProperties(null, null, null, null, null, null, null, null, null, null, null),
+            new SimpleMeterRegistry());
+
+    @Test
+    void onlyFirstRequestRegistersKey() {
+        IdempotencyEntry first = IdempotencyEntry.inFlight("fingerprint", TTL);
+
+        assertThat(store.putIfAbsent("user:1|key|a", first)).isNull();
+        assertThat(store.putIfAbsent("user:1|key|a", IdempotencyEntry.inFlight("fingerprint", TTL)))
+                .isSameAs(first);
+        assertThat(store.putIfAbsent("user:2|key|a", IdempotencyEntry.inFlight("fingerprint", TTL))).isNull();
+    }
+
+    @Test
+    void completedEntryKeepsFingerprintAndResponse() {
+        IdempotencyEntry inFlight = IdempotencyEntry.inFlight("fingerprint", TTL);
+        store.putIfAbsent("user:1|key|a", inFlight);
+
+        StoredResponse response = StoredResponse.of(201, new HttpHeaders(), "{\"orderId\":1}".getBytes());
+        store.complete("user:1|key|a", inFlight, inFlight.completed(response));
+
+        IdempotencyEntry stored = store.putIfAbsent("user:1|key|a", IdempotencyEntry.inFlight("fingerprint", TTL));
+        assertThat(stored.isCompleted()).isTrue();
+        assertThat(stored.fingerprint()).isEqualTo("fingerprint");
+        assertThat(stored.response().status()).isEqualTo(201);
+        assertThat(stored.response().body().remaining()).isEqualTo(13);
+    }
+
+    @Test
+    void staleRequestCannotReplaceOrRemoveNewerEntry() {
+        // 기다리다 시간이 지나 키를 비운 요청이 그 사이 새로 등록된 항목을 건드리지 않아야 합니다.
+        IdempotencyEntry stale = IdempotencyEntry.inFlight("fingerprint", TTL);
+        IdempotencyEntry current = IdempotencyEntry.inFlight("fingerprint", TTL);
+        store.putIfAbsent("user:1|key|a", current);
+
+        store.complete("user:1|key|a", stale,
+                stale.completed(StoredResponse.of(200, new HttpHeaders(), new byte[0])));
+        store.remove("user:1|key|a", stale);
+
+        assertThat(store.putIfAbsent("user:1|key|a", IdempotencyEntry.inFlight("fingerprint", TTL)))
+                .isSameAs(current);
+    }
+
+    @Test
+    void removedKeyCanBeRegisteredAgain() {
+        IdempotencyEntry inFlight = IdempotencyEntry.inFlight("fingerprint", TTL);
+        store.putIfAbsent("user:1|key|a", inFlight);
+
+        store.remove("user:1|key|a", inFlight);
+
+        assertThat(store.putIfAbsent("user:1|key|a", IdempotencyEntry.inFlight("fingerprint", TTL))).isNull();
+    }
+}
@@ -0,0 +1,97 @@
+package com.nhnacademy.apigateway.filter.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+class ClientBodyTimeoutTest {
+
+    private static final Duration IDLE = Duration.ofMillis(100);
+
+    @Test
+    void timeWithoutDemandIsNotCounted() throws Exception {
+        ManualSubscriber subscriber = new ManualSubscriber();
+        ClientBodyTimeout.apply(chunks(3), IDLE, Duration.ofMillis(150), TimeoutMarker::new).subscribe(subscriber);
+
+        subscriber.request(1);
+        // 백엔드가 읽기를 멈춘 것처럼 idle 제한과 전체 제한보다 오래 요청하지 않습니다.
+        Thread.sleep(300);
+        subscriber.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.result.get(1, TimeUnit.SECONDS)).isNull();
+        assertThat(subscriber.received.get()).isEqualTo(3);
+    }
+
+    @Test
+    void stalledClientTimesOutWhileDemandIsPending() throws Exception {
+        ManualSubscriber subscriber = new ManualSubscriber();
+        ClientBodyTimeout.apply(chunks(1).concatWith(Flux.never()), IDLE, Duration.ofSeconds(30), TimeoutMarker::new)
+                .subscribe(subscriber);
+
+        subscriber.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.result.get(1, TimeUnit.SECONDS)).isInstanceOf(TimeoutMarker.class);
+        assertThat(subscriber.received.get()).isEqualTo(1);
+    }
+
+    @Test
+    void slowChunksExhaustReadTimeout() throws Exception {
+        ManualSubscriber subscriber = new ManualSubscriber();
+        Flux<DataBuffer> slowBody = Flux.interval(Duration.ofMillis(60)).take(10).map(i -> chunk());
+        ClientBodyTimeout.apply(slowBody, IDLE, Duration.ofMillis(200), TimeoutMarker::new).subscribe(subscriber);
+
+        subscriber.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.result.get(2, TimeUnit.SECONDS)).isInstanceOf(TimeoutMarker.class);
+        assertThat(subscriber.received.get()).isBetween(2, 4);
+    }
+
+    private static Flux<DataBuffer> chunks(int count) {
+        return Flux.range(0, count).map(i -> chunk());
+    }
+
+    private static DataBuffer chunk() {
+        return DefaultDataBufferFactory.sharedInstance.wrap("chunk".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static final class TimeoutMarker extends RuntimeException {
+    }
+
+    /**
+     * 요청량을 테스트가 직접 정하는 구독자입니다. 정상 완료면 null, 오류면 그 예외로 result 를 완료합니다.
+     */
+    private static final class ManualSubscriber extends BaseSubscriber<DataBuffer> {
+
+        private final CompletableFuture<Throwable> result = new CompletableFuture<>();
+        private final AtomicInteger received = new AtomicInteger();
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+        }
+
+        @Override
+        protected void hookOnNext(DataBuffer value) {
+            received.incrementAndGet();
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            result.complete(null);
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            result.complete(throwable);
+        }
+    }
+}
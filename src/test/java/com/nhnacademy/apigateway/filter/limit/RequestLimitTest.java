@@ -0,0 +1,130 @@
+package com.nhnacademy.apigateway.filter.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.apigateway.StubServer;
+import com.nhnacademy.apigateway.TestFixtures;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 라우트와 게이트웨이 자체 엔드포인트에 요청 헤더 크기, 본문 크기, 본문 수신 시간 제한이 적용되는지 확인합니다.
+ * ORDER-PAYMENT-SERVER 의 본문 제한은 64KB, 기본 본문 제한은 1MB, 헤더 제한은 16KB 입니다.
+ */
+class RequestLimitTest {
+
+    private static final int ORDER_BODY_LIMIT = 64 * 1024;
+
+    private static StubServer orderServer;
+    private static ConfigurableApplicationContext gateway;
+    private static WebTestClient client;
+
+    @BeforeAll
+    static void startGateway() {
+        orderServer = StubServer.start("ORDER-PAYMENT-SERVER");
+        gateway = TestFixtures.startGateway(List.of(orderServer), Map.of(
+                "gateway.request-limit.defaults.body-idle-timeout", "300ms",
+                // 테스트마다 같은 본문을 보내므로 중복 요청으로 재생되지 않게 합니다.
+                "gateway.idempotency.enabled", "false",
+                "gateway.response-cache.enabled", "false",
+                "gateway.hedging.enabled", "false"));
+        client = WebTestClient.bindToServer()
+                .baseUrl("http://127.0.0.1:" + TestFixtures.port(gateway))
+                .responseTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @AfterAll
+    static void stopGateway() {
+        gateway.close();
+        orderServer.close();
+    }
+
+    @BeforeEach
+    void resetStub() {
+        orderServer.reset();
+    }
+
+    @Test
+    void bodyWithinLimitIsForwarded() {
+        client.post().uri("/orders").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new byte[ORDER_BODY_LIMIT / 2])
+                .exchange()
+                .expectStatus().isOk();
+
+        assertThat(orderServer.requests()).singleElement()
+                .satisfies(request -> assertThat(request.body()).hasSize(ORDER_BODY_LIMIT / 2));
+    }
+
+    @Test
+    void declaredOversizedBodyIsRejectedBeforeReading() {
+        client.post().uri("/orders").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new byte[ORDER_BODY_LIMIT + 1])
+                .exchange()
+                .expectStatus().isEqualTo(413)
+                .expectBody().jsonPath("$.status").isEqualTo(413);
+
+        assertThat(orderServer.requests()).isEmpty();
+    }
+
+    @Test
+    void chunkedOversizedBodyIsRejectedOnceLimitIsCrossed() {
+        Flux<DataBuffer> body = Flux.range(0, 10).map(i -> chunk(ORDER_BODY_LIMIT / 4));
+
+        client.post().uri("/orders").contentType(MediaType.APPLICATION_JSON)
+                .body(body, DataBuffer.class)
+                .exchange()
+                .expectStatus().isEqualTo(413);
+    }
+
+    @Test
+    void stalledBodyTimesOut() {
+        // 첫 청크를 보낸 뒤 body-idle-timeout(300ms) 보다 오래 멈춥니다.
+        Flux<DataBuffer> body = Flux.concat(Mono.just(chunk(1024)),
+                Mono.delay(Duration.ofSeconds(3)).map(i -> chunk(1024)));
+
+        client.post().uri("/orders").contentType(MediaType.APPLICATION_JSON)
+                .body(body, DataBuffer.class)
+                .exchange()
+                .expectStatus().isEqualTo(408);
+    }
+
+    @Test
+    void oversizedHeadersAreRejected() {
+        client.get().uri("/policies/shipping")
+                .header("X-Padding", "a".repeat(20 * 1024))
+                .exchange()
+                .expectStatus().isEqualTo(431);
+
+        assertThat(orderServer.requests()).isEmpty();
+    }
+
+    @Test
+    void gatewayAdminEndpointsAreLimitedBeforeAuthentication() {
+        client.post().uri("/gateway/admin/revocations").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new byte[2 * 1024 * 1024])
+                .exchange()
+                .expectStatus().isEqualTo(413);
+
+        client.get().uri("/gateway/admin/revocations")
+                .header("X-Padding", "a".repeat(20 * 1024))
+                .exchange()
+                .expectStatus().isEqualTo(431);
+    }
+
+    private static DataBuffer chunk(int size) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(new byte[size]);
+    }
+}
@@ -0,0 +1,90 @@
+package com.nhnacademy.apigateway.filter.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.apigateway.common.exception.handler.ErrorResponseWriter;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+class MetricsScrapeWebFilterTest {
+
+    private static final String SCRAPE_TOKEN = "scrape-token";
+
+    private AtomicBoolean forwarded;
+
+    @BeforeEach
+    void setUp() {
+        forwarded = new AtomicBoolean();
+    }
+
+    @Test
+    void scrapeWithTokenIsForwarded() {
+        MockServerWebExchange exchange = exchange("/actuator/prometheus", "Bearer " + SCRAPE_TOKEN);
+
+        filter(SCRAPE_TOKEN).filter(exchange, ex -> Mono.fromRunnable(() -> forwarded.set(true))).block();
+
+        assertThat(forwarded).isTrue();
+        assertThat(exchange.getResponse().getStatusCode()).isNull();
+    }
+
+    @Test
+    void scrapeWithoutTokenIsRejected() {
+        for (String authorization : new String[] {null, "Bearer wrong-token", SCRAPE_TOKEN, "Bearer "}) {
+            MockServerWebExchange exchange = exchange("/actuator/prometheus", authorization);
+
+            filter(SCRAPE_TOKEN).filter(exchange, ex -> Mono.fromRunnable(() -> forwarded.set(true))).block();
+
+            assertThat(exchange.getResponse().getStatusCode().value()).as("%s", authorization).isEqualTo(401);
+        }
+        assertThat(forwarded).isFalse();
+    }
+
+    @Test
+    void percentEncodedScrapePathIsRejected() {
+        MockServerWebExchange exchange = exchange("/%61ctuator/prometheus", null);
+
+        filter(SCRAPE_TOKEN).filter(exchange, ex -> Mono.fromRunnable(() -> forwarded.set(true))).block();
+
+        assertThat(forwarded).isFalse();
+        assertThat(exchange.getResponse().getStatusCode().value()).isEqualTo(401);
+    }
+
+    @Test
+    void scrapeIsRejectedWhenTokenIsNotConfigured() {
+        MockServerWebExchange exchange = exchange("/actuator/prometheus", "Bearer ");
+
+        filter("").filter(exchange, ex -> Mono.fromRunnable(() -> forwarded.set(true))).block();
+
+        assertThat(forwarded).isFalse();
+        assertThat(exchange.getResponse().getStatusCode().value()).isEqualTo(401);
+    }
+
+    @Test
+    void otherPathsAreNotChecked() {
+        // 다른 actuator 엔드포인트는 인증 규칙에 따라 관리자 JWT 로 인증하므로 스크랩 토큰을 요구하지 않습니다.
+        MockServerWebExchange exchange = exchange("/actuator/metrics", "Bearer user-jwt");
+
+        filter(SCRAPE_TOKEN).filter(exchange, ex -> Mono.fromRunnable(() -> forwarded.set(true))).block();
+
+        assertThat(forwarded).isTrue();
+    }
+
+    private static MetricsScrapeWebFilter filter(String token) {
+        return new MetricsScrapeWebFilter(new MetricsScrapeProperties(null, token), new ErrorResponseWriter());
+    }
+
+    private static MockServerWebExchange exchange(String path, String authorization) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.method(HttpMethod.GET, URI.create(path));
+        if (authorization != null) {
+            request.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        return MockServerWebExchange.from(request.build());
+    }
+}
@@ -0,0 +1,94 @@
+package com.nhnacademy.apigateway.filter.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.apigateway.config.RateLimitConfig;
+import com.nhnacademy.apigateway.filter.GatewayExchangeAttributes;
+import com.nhnacademy.apigateway.presentation.dto.response.JwtAuthResponse;
+import java.net.InetSocketAddress;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+class LoginUserKeyResolverTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(PropertiesConfig.class)
+            .withConfiguration(AutoConfigurations.of(RateLimitConfig.class));
+
+    @Test
+    void loginUserIsKeyedByCustomerId() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/orders"));
+        exchange.getAttributes().put(GatewayExchangeAttributes.LOGIN_USER, new JwtAuthResponse(42L, "USER", "ACTIVE"));
+
+        assertThat(resolver(0).resolve(exchange).block()).isEqualTo("user:42");
+    }
+
+    @Test
+    void forwardedForIsIgnoredWithoutTrustedProxy() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/coupons")
+                .header("X-Forwarded-For", "203.0.113.7"));
+
+        assertThat(resolver(0).resolve(exchange).block()).isEqualTo("ip:10.0.0.1");
+    }
+
+    @Test
+    void trustedProxyHopsSelectClientAddressFromTheRight() {
+        // 클라이언트가 앞에 넣은 198.51.100.1 은 무시하고, 신뢰하는 프록시가 덧붙인 값만 사용합니다.
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/coupons")
+                .header("X-Forwarded-For", "198.51.100.1, 203.0.113.7"));
+
+        assertThat(resolver(1).resolve(exchange).block()).isEqualTo("ip:203.0.113.7");
+        assertThat(resolver(2).resolve(exchange).block()).isEqualTo("ip:198.51.100.1");
+    }
+
+    @Test
+    void missingForwardedForFallsBackToSocketAddress() {
+        assertThat(resolver(1).resolve(exchange(MockServerHttpRequest.get("/coupons"))).block())
+                .isEqualTo("ip:10.0.0.1");
+    }
+
+    @Test
+    void registeredByDefault() {
+        contextRunner.run(context -> assertThat(context).getBean(KeyResolver.class)
+                .isInstanceOf(LoginUserKeyResolver.class));
+    }
+
+    @Test
+    void backsOffWhenAnotherKeyResolverIsRegistered() {
+        contextRunner.withUserConfiguration(CustomKeyResolverConfig.class)
+                .run(context -> {
+                    assertThat(context).hasSingleBean(KeyResolver.class);
+                    assertThat(context).doesNotHaveBean(LoginUserKeyResolver.class);
+                });
+    }
+
+    private static LoginUserKeyResolver resolver(int trustedProxyHops) {
+        return new LoginUserKeyResolver(new RateLimitProperties(null, null, null, trustedProxyHops));
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request.remoteAddress(new InetSocketAddress("10.0.0.1", 40000)));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(RateLimitProperties.class)
+    static class PropertiesConfig {
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class CustomKeyResolverConfig {
+
+        @Bean
+        KeyResolver customKeyResolver() {
+            return exchange -> Mono.just("custom");
+        }
+    }
+}
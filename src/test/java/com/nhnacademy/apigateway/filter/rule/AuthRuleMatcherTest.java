@@ -0,0 +1,139 @@
+package com.nhnacademy.apigateway.filter.rule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.apigateway.TestFixtures;
+import java.net.URI;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+/**
+ * 운영 application.yml 의 gateway.auth 규칙이 경로별 인증 판단을 그대로 유지하는지 확인합니다.
+ */
+class AuthRuleMatcherTest {
+
+    private static AuthRuleMatcher matcher;
+
+    @BeforeAll
+    static void setUp() {
+        matcher = new AuthRuleMatcher(TestFixtures.bindMainConfig("gateway.auth", AuthRuleProperties.class).get());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "GET,    /actuator/health,                PUBLIC",
+            "GET,    /actuator/health/liveness,       PUBLIC",
+            "GET,    /actuator/prometheus,            PUBLIC",
+            "GET,    /auth/login,                     PUBLIC",
+            "POST,   /auth/refresh,                   PUBLIC",
+            "POST,   /auth/logout,                    PUBLIC",
+            "GET,    /auth/dormant/1,                 PUBLIC",
+            "GET,    /auth/info,                      AUTHENTICATED",
+            "GET,    /books/1024,                     PUBLIC",
+            "GET,    /books/categories/root,          PUBLIC",
+            "GET,    /books/likes/books/17,           PUBLIC",
+            "GET,    /books/likes/17/exist,           PUBLIC",
+            "GET,    /books/likes/abc/exist,          AUTHENTICATED",
+            "POST,   /books/likes/17,                 AUTHENTICATED",
+            "GET,    /users/check-email,              PUBLIC",
+            "POST,   /users/sign-up,                  PUBLIC",
+            "POST,   /users/find/password,            PUBLIC",
+            "POST,   /users/find/email,               PUBLIC",
+            "POST,   /users/cart-books,               PUBLIC",
+            "GET,    /users/cart-books/3,             PUBLIC",
+            "GET,    /users/me,                       AUTHENTICATED",
+            "GET,    /policies/shipping,              PUBLIC",
+            "GET,    /orders/none-member/42,          PUBLIC",
+            "GET,    /orders/42/delivery,             PUBLIC",
+            "PUT,    /orders/42/delivery-status,      PUBLIC",
+            "POST,   /orders,                         OPTIONAL",
+            "GET,    /orders,                         AUTHENTICATED",
+            "GET,    /orders/55,                      AUTHENTICATED",
+            "GET,    /reviews/books/17,               OPTIONAL",
+            "POST,   /reviews,                        AUTHENTICATED",
+            "POST,   /payments/confirm,               OPTIONAL",
+            "GET,    /coupons,                        OPTIONAL",
+            "GET,    /coupons/3,                      AUTHENTICATED",
+            "GET,    /unknown,                        AUTHENTICATED"
+    })
+    void resolvesAuthModeForPath(HttpMethod method, String path, AuthMode expected) {
+        AuthRule rule = matcher.match(MockServerHttpRequest.method(method, path).build());
+
+        assertThat(rule.mode()).isEqualTo(expected);
+        assertThat(rule.requiresRole()).isFalse();
+    }
+
+    /**
+     * 이전에는 경로에 "/admin" 이 들어 있으면 관리자 권한을 요구했으므로, 같은 경로가 모두 ADMIN 규칙에 걸리는지 확인합니다.
+     * 백엔드가 디코딩하면 같은 경로가 되는 퍼센트 인코딩과 매트릭스 변수도 포함합니다. 인코딩이 유지되도록 URI 로 요청을 만듭니다.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/admin",
+            "/admin/members",
+            "/users/admin",
+            "/users/admin/members",
+            "/users/administrators",
+            "/books/admin/1/stock",
+            "/orders/admin/list",
+            "/orders/42/admin/refund",
+            "/coupons/policies/3/admin/issue",
+            "/books/likes/admin/1",
+            "/policies/shipping/admin",
+            "/gateway/admin/revocations",
+            "/auth/admin-login",
+            "/books/%61dmin/1/stock",
+            "/books/%61%64%6D%69%6E",
+            "/orders/42/admin;v=1/refund"
+    })
+    void requiresAdminWhereverPathContainsAdmin(String path) {
+        for (HttpMethod method : List.of(HttpMethod.GET, HttpMethod.POST, HttpMethod.DELETE)) {
+            AuthRule rule = matcher.match(MockServerHttpRequest.method(method, URI.create(path)).build());
+
+            assertThat(rule.roles()).as("%s %s", method, path).containsExactly("ADMIN");
+            assertThat(rule.mode()).isEqualTo(AuthMode.AUTHENTICATED);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/actuator/metrics",
+            "/actuator/metrics/gateway.auth.decision",
+            "/actuator/info",
+            "/actuator/routetable",
+            "/actuator/healthz",
+            "/%61ctuator/metrics",
+            "/actuator/%6Detrics"
+    })
+    void actuatorEndpointsOtherThanHealthRequireAdmin(String path) {
+        AuthRule rule = matcher.match(MockServerHttpRequest.method(HttpMethod.GET, URI.create(path)).build());
+
+        assertThat(rule.roles()).containsExactly("ADMIN");
+        assertThat(rule.mode()).isEqualTo(AuthMode.AUTHENTICATED);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/users/me/badmin", "/books/readmin", "/orders/42", "/books/1024"})
+    void doesNotRequireAdminWithoutAdminSegment(String path) {
+        AuthRule rule = matcher.match(MockServerHttpRequest.get(path).build());
+
+        assertThat(path).doesNotContain("/admin");
+        assertThat(rule.requiresRole()).isFalse();
+    }
+
+    @Test
+    void firstDeclaredRuleWins() {
+        AuthRuleMatcher ordered = new AuthRuleMatcher(new AuthRuleProperties(null, List.of(
+                new AuthRuleProperties.Rule("/**/admin*/**", null, null, List.of("ADMIN")),
+                new AuthRuleProperties.Rule("/books/**", null, AuthMode.PUBLIC, null))));
+
+        assertThat(ordered.match(MockServerHttpRequest.get("/books/admin/1").build()).roles()).containsExactly("ADMIN");
+        assertThat(ordered.match(MockServerHttpRequest.get("/books/1").build()).mode()).isEqualTo(AuthMode.PUBLIC);
+    }
+}
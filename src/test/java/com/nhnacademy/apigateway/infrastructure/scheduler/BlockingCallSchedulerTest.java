@@ -0,0 +1,80 @@
+package com.nhnacademy.apigateway.infrastructure.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nhnacademy.apigateway.common.exception.BlockingCallRejectedException;
+import com.nhnacademy.apigateway.infrastructure.scheduler.BlockingCallProperties.ExecutionMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class BlockingCallSchedulerTest {
+
+    @ParameterizedTest
+    @CsvSource({"64, 1000, 16", "1, 5, 5", "64, 10, 1", "4, 8, 2"})
+    void queueLimitIsSplitAcrossWorkers(int maxConcurrency, int maxQueued, int expectedPerWorker) {
+        BlockingCallProperties properties =
+                new BlockingCallProperties(ExecutionMode.BOUNDED_ELASTIC, maxConcurrency, maxQueued);
+
+        assertThat(BlockingCallScheduler.queuedPerWorker(properties)).isEqualTo(expectedPerWorker);
+        assertThat((long) expectedPerWorker * maxConcurrency).isGreaterThanOrEqualTo(maxQueued);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ExecutionMode.class, names = {"BOUNDED_ELASTIC", "VIRTUAL_THREAD"})
+    void callsRunOffTheCallingThread(ExecutionMode mode) {
+        BlockingCallScheduler scheduler = new BlockingCallScheduler(new BlockingCallProperties(mode, 2, 2));
+        try {
+            Thread caller = Thread.currentThread();
+
+            Thread worker = scheduler.call(Thread::currentThread).block(Duration.ofSeconds(5));
+
+            assertThat(worker).isNotSameAs(caller);
+        } finally {
+            scheduler.destroy();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ExecutionMode.class, names = {"BOUNDED_ELASTIC", "VIRTUAL_THREAD"})
+    void callsBeyondConcurrencyAndQueueAreRejected(ExecutionMode mode) throws Exception {
+        BlockingCallScheduler scheduler = new BlockingCallScheduler(new BlockingCallProperties(mode, 1, 1));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            List<CompletableFuture<Boolean>> accepted = new ArrayList<>();
+            accepted.add(scheduler.call(() -> {
+                started.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            }).toFuture());
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            accepted.add(scheduler.call(() -> true).toFuture());
+
+            assertThatThrownBy(() -> scheduler.call(() -> true).block(Duration.ofSeconds(5)))
+                    .isInstanceOf(BlockingCallRejectedException.class);
+
+            release.countDown();
+            for (CompletableFuture<Boolean> call : accepted) {
+                assertThat(call.get(5, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            release.countDown();
+            scheduler.destroy();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ExecutionMode.class, names = "IMMEDIATE")
+    void immediateModeRunsOnTheCallingThread(ExecutionMode mode) {
+        BlockingCallScheduler scheduler = new BlockingCallScheduler(new BlockingCallProperties(mode, 1, 1));
+
+        assertThat(scheduler.call(Thread::currentThread).block()).isSameAs(Thread.currentThread());
+    }
+}
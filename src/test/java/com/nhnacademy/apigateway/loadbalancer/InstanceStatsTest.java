@@ -0,0 +1,98 @@
+package com.nhnacademy.apigateway.loadbalancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class InstanceStatsTest {
+
+    private static final long DECAY_NANOS = Duration.ofSeconds(10).toNanos();
+    private static final long MILLIS = Duration.ofMillis(1).toNanos();
+
+    @Test
+    void costGrowsWithInFlightRequests() {
+        InstanceStats stats = new InstanceStats(DECAY_NANOS);
+        double idleCost = stats.cost();
+
+        stats.onStart();
+        stats.onStart();
+
+        assertThat(stats.inFlight()).isEqualTo(2);
+        assertThat(stats.cost()).isEqualTo(idleCost * 3);
+
+        stats.onFinish();
+        stats.onFinish();
+
+        assertThat(stats.inFlight()).isZero();
+        assertThat(stats.cost()).isEqualTo(idleCost);
+    }
+
+    @Test
+    void slowSampleIsReflectedImmediately() {
+        InstanceStats stats = new InstanceStats(DECAY_NANOS);
+
+        stats.onSample(200 * MILLIS, false, 5);
+
+        assertThat(stats.ewmaMillis()).isEqualTo(200);
+    }
+
+    @Test
+    void fastSamplesDecayPeakGradually() {
+        InstanceStats stats = new InstanceStats(Duration.ofMillis(1).toNanos());
+        stats.onSample(200 * MILLIS, false, 5);
+
+        // 감쇠 시간 상수(1ms)보다 충분히 뒤에 들어온 빠른 응답은 최고 지연을 거의 잊게 합니다.
+        sleep(Duration.ofMillis(20));
+        stats.onSample(MILLIS, false, 5);
+
+        assertThat(stats.ewmaMillis()).isLessThan(2);
+    }
+
+    @Test
+    void samplingDoesNotChangeInFlight() {
+        InstanceStats stats = new InstanceStats(DECAY_NANOS);
+        stats.onStart();
+
+        stats.onSample(10 * MILLIS, false, 5);
+
+        assertThat(stats.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void consecutiveFailuresTriggerEjection() {
+        InstanceStats stats = new InstanceStats(DECAY_NANOS);
+
+        assertThat(stats.onSample(MILLIS, true, 3)).isFalse();
+        assertThat(stats.onSample(MILLIS, true, 3)).isFalse();
+        assertThat(stats.onSample(MILLIS, true, 3)).isTrue();
+
+        stats.eject(Duration.ofMinutes(1).toNanos());
+        assertThat(stats.isEjected(System.nanoTime())).isTrue();
+        // 이미 제외된 동안의 실패는 다시 제외하지 않습니다.
+        for (int i = 0; i < 3; i++) {
+            assertThat(stats.onSample(MILLIS, true, 3)).isFalse();
+        }
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        InstanceStats stats = new InstanceStats(DECAY_NANOS);
+
+        stats.onSample(MILLIS, true, 3);
+        stats.onSample(MILLIS, true, 3);
+        stats.onSample(MILLIS, false, 3);
+
+        assertThat(stats.onSample(MILLIS, true, 3)).isFalse();
+        assertThat(stats.onSample(MILLIS, true, 3)).isFalse();
+        assertThat(stats.onSample(MILLIS, true, 3)).isTrue();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.nhnacademy.apigateway.loadbalancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * power-of-two-choices 선택과, 취소된 요청을 포함한 처리 중인 요청 수 기록을 확인합니다.
+ * 인스턴스가 두 개면 매번 두 인스턴스를 모두 비교하므로 비용이 낮은 쪽이 항상 선택됩니다.
+ */
+class LatencyAwareLoadBalancerTest {
+
+    private static final long MILLIS = Duration.ofMillis(1).toNanos();
+
+    private final ServiceInstance fast = new DefaultServiceInstance("fast", "BOOK-USER-SERVER", "10.0.0.1", 8080, false);
+    private final ServiceInstance slow = new DefaultServiceInstance("slow", "BOOK-USER-SERVER", "10.0.0.2", 8080, false);
+    private final InstanceStatsRegistry registry = new InstanceStatsRegistry(
+            new LoadBalancerProperties(null, null, 3, null, null), new SimpleMeterRegistry());
+    private final LatencyAwareLoadBalancer loadBalancer = loadBalancer(List.of(fast, slow));
+    private final LoadBalancerInFlightGlobalFilter inFlightFilter = new LoadBalancerInFlightGlobalFilter(registry);
+
+    @Test
+    void slowerInstanceIsNotChosen() {
+        registry.recordSample(fast, 5 * MILLIS, false);
+        registry.recordSample(slow, 200 * MILLIS, false);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(choose()).isEqualTo(fast);
+        }
+    }
+
+    @Test
+    void busyInstanceIsAvoided() {
+        registry.recordSample(fast, 5 * MILLIS, false);
+        registry.recordSample(slow, 5 * MILLIS, false);
+        registry.recordStart(fast);
+        registry.recordStart(fast);
+
+        assertThat(choose()).isEqualTo(slow);
+    }
+
+    @Test
+    void ejectedInstanceIsSkipped() {
+        for (int i = 0; i < 3; i++) {
+            registry.recordSample(fast, MILLIS, true);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(choose()).isEqualTo(slow);
+        }
+    }
+
+    @Test
+    void cancelledRequestReleasesInFlight() {
+        registry.recordSample(fast, 5 * MILLIS, false);
+        registry.recordSample(slow, 6 * MILLIS, false);
+
+        // 서킷 브레이커 타임아웃이나 클라이언트 연결 종료로 응답 전에 취소된 요청들입니다.
+        for (int i = 0; i < 10; i++) {
+            MockServerWebExchange exchange = routedTo(fast);
+            Disposable request = inFlightFilter.filter(exchange, e -> Mono.never()).subscribe();
+            assertThat(registry.statsFor(fast).inFlight()).isEqualTo(1);
+            request.dispose();
+        }
+
+        assertThat(registry.statsFor(fast).inFlight()).isZero();
+        assertThat(choose()).isEqualTo(fast);
+    }
+
+    @Test
+    void completedAndFailedRequestsReleaseInFlight() {
+        inFlightFilter.filter(routedTo(fast), e -> Mono.empty()).block();
+        inFlightFilter.filter(routedTo(fast), e -> Mono.error(new IllegalStateException("connection refused")))
+                .onErrorResume(e -> Mono.empty())
+                .block();
+
+        assertThat(registry.statsFor(fast).inFlight()).isZero();
+    }
+
+    private ServiceInstance choose() {
+        Response<ServiceInstance> response = loadBalancer.choose(new DefaultRequest<>()).block();
+        return response.getServer();
+    }
+
+    private static MockServerWebExchange routedTo(ServiceInstance instance) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(URI.create("/books/1")));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR,
+                new DefaultResponse(instance));
+        return exchange;
+    }
+
+    @SuppressWarnings("unchecked")
+    private LatencyAwareLoadBalancer loadBalancer(List<ServiceInstance> instances) {
+        ServiceInstanceListSupplier supplier = mock(ServiceInstanceListSupplier.class);
+        when(supplier.get(any())).thenReturn(Flux.just(instances));
+        ObjectProvider<ServiceInstanceListSupplier> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(supplier);
+        return new LatencyAwareLoadBalancer(provider, registry);
+    }
+}
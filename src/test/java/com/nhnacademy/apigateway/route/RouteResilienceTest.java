@@ -0,0 +1,112 @@
+package com.nhnacademy.apigateway.route;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.apigateway.StubServer;
+import com.nhnacademy.apigateway.StubServer.Response;
+import com.nhnacademy.apigateway.TestFixtures;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * 지연과 오류를 주입하는 스텁 백엔드 앞에서 라우트별 타임아웃, 재시도, 서킷 브레이커가 동작하는지 확인합니다.
+ * 서킷 상태가 테스트 사이에 섞이지 않도록 서킷을 여는 테스트는 COUPON-SERVER 만 사용합니다.
+ */
+class RouteResilienceTest {
+
+    private static StubServer bookServer;
+    private static StubServer couponServer;
+    private static ConfigurableApplicationContext gateway;
+    private static WebTestClient client;
+
+    @BeforeAll
+    static void startGateway() {
+        bookServer = StubServer.start("BOOK-USER-SERVER");
+        couponServer = StubServer.start("COUPON-SERVER");
+        gateway = TestFixtures.startGateway(List.of(bookServer, couponServer), Map.of(
+                "gateway.resilience.defaults.timeout", "500ms",
+                "gateway.resilience.routes.COUPON-SERVER.retries", "0",
+                "gateway.resilience.routes.COUPON-SERVER.sliding-window-size", "4",
+                "gateway.resilience.routes.COUPON-SERVER.wait-duration-in-open-state", "1m",
+                "gateway.rate-limit.routes.COUPON-SERVER.replenish-rate", "1000",
+                "gateway.rate-limit.routes.COUPON-SERVER.burst-capacity", "1000",
+                "gateway.response-cache.enabled", "false",
+                "gateway.hedging.enabled", "false"));
+        client = WebTestClient.bindToServer()
+                .baseUrl("http://127.0.0.1:" + TestFixtures.port(gateway))
+                .responseTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @AfterAll
+    static void stopGateway() {
+        gateway.close();
+        bookServer.close();
+        couponServer.close();
+    }
+
+    @BeforeEach
+    void resetStubs() {
+        bookServer.reset();
+        couponServer.reset();
+    }
+
+    @Test
+    void idempotentRequestIsRetriedOnServerError() {
+        AtomicInteger attempts = new AtomicInteger();
+        bookServer.respond(request -> attempts.incrementAndGet() <= 2
+                ? Response.status(503)
+                : Response.ok("{\"ok\":true}"));
+
+        client.get().uri("/books/retry").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.ok").isEqualTo(true);
+
+        assertThat(bookServer.requestCount("/books/retry")).isEqualTo(3);
+    }
+
+    @Test
+    void nonIdempotentRequestIsNotRetriedAndKeepsBackendResponse() {
+        bookServer.respond(request -> new Response(502, Duration.ZERO, Map.of(), "{\"backend\":\"down\"}"));
+
+        client.post().uri("/books/no-retry").exchange()
+                .expectStatus().isEqualTo(502)
+                .expectBody().jsonPath("$.backend").isEqualTo("down");
+
+        assertThat(bookServer.requestCount("/books/no-retry")).isEqualTo(1);
+    }
+
+    @Test
+    void slowBackendTimesOutWithErrorStatus() {
+        bookServer.respond(request -> Response.ok("{}").delayed(Duration.ofSeconds(2)));
+
+        client.post().uri("/books/slow").exchange()
+                .expectStatus().isEqualTo(504)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(504)
+                .jsonPath("$.message").exists();
+    }
+
+    @Test
+    void serverErrorsOpenTheCircuitAndFailFast() {
+        couponServer.respond(request -> Response.status(500));
+        for (int i = 0; i < 4; i++) {
+            client.get().uri("/coupons").exchange().expectStatus().isEqualTo(500);
+        }
+
+        couponServer.respond(request -> Response.ok("{}"));
+        client.get().uri("/coupons").exchange()
+                .expectStatus().isEqualTo(503)
+                .expectBody().jsonPath("$.status").isEqualTo(503);
+
+        assertThat(couponServer.requestCount("/coupons")).isEqualTo(4);
+    }
+}
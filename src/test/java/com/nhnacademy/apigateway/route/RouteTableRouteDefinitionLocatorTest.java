@@ -0,0 +1,129 @@
+package com.nhnacademy.apigateway.route;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.apigateway.TestFixtures;
+import com.nhnacademy.apigateway.config.ResilienceProperties;
+import com.nhnacademy.apigateway.filter.rule.AuthMode;
+import com.nhnacademy.apigateway.filter.rule.AuthRule;
+import com.nhnacademy.apigateway.filter.rule.AuthRuleMatcher;
+import com.nhnacademy.apigateway.filter.rule.AuthRuleProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cloud.gateway.event.RefreshRoutesEvent;
+import org.springframework.cloud.gateway.event.RefreshRoutesResultEvent;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+class RouteTableRouteDefinitionLocatorTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<Object> events = new ArrayList<>();
+    private Path routesFile;
+    private AuthRuleMatcher authRuleMatcher;
+    private RouteTableRouteDefinitionLocator locator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        routesFile = directory.resolve("routes.yml");
+        write(1, "/books/**", "");
+        authRuleMatcher = new AuthRuleMatcher(TestFixtures.bindMainConfig("gateway.auth", AuthRuleProperties.class).get());
+        locator = new RouteTableRouteDefinitionLocator(
+                new RouteTableProperties("file:" + routesFile, null),
+                new ResilienceProperties(null, null),
+                authRuleMatcher,
+                new DefaultResourceLoader(),
+                events::add);
+    }
+
+    @Test
+    void routeTableRulesCannotOverrideBaseRules() throws IOException {
+        write(2, "/books/**", """
+                auth-rules:
+                  - path: /**
+                    mode: PUBLIC
+                """);
+
+        assertThat(locator.reload()).isTrue();
+        locator.onRoutesRefreshed(new RefreshRoutesResultEvent(this));
+
+        assertThat(match("/gateway/admin/revocations").roles()).containsExactly("ADMIN");
+        assertThat(match("/actuator/metrics").roles()).containsExactly("ADMIN");
+        assertThat(match("/actuator/health").mode()).isEqualTo(AuthMode.PUBLIC);
+        assertThat(match("/users/me").mode()).isEqualTo(AuthMode.PUBLIC);
+    }
+
+    @Test
+    void rulesSwitchOnlyAfterGatewayRefreshesRoutes() throws IOException {
+        write(2, "/books/**", """
+                auth-rules:
+                  - path: /books/**
+                    mode: AUTHENTICATED
+                """);
+
+        assertThat(locator.reload()).isTrue();
+
+        assertThat(events).singleElement().isInstanceOf(RefreshRoutesEvent.class);
+        assertThat(match("/books/1").mode()).isEqualTo(AuthMode.PUBLIC);
+        assertThat(locator.getRouteTable().version()).isEqualTo(1);
+
+        locator.onRoutesRefreshed(new RefreshRoutesResultEvent(this));
+
+        assertThat(match("/books/1").mode()).isEqualTo(AuthMode.AUTHENTICATED);
+        assertThat(locator.getRouteTable().version()).isEqualTo(2);
+    }
+
+    @Test
+    void failedRouteRefreshKeepsRulesAndRestoresRoutes() throws IOException {
+        write(2, "/coupons/**", """
+                auth-rules:
+                  - path: /books/**
+                    mode: AUTHENTICATED
+                """);
+
+        assertThat(locator.reload()).isTrue();
+        locator.onRoutesRefreshed(new RefreshRoutesResultEvent(this, new IllegalStateException("bad predicate")));
+
+        assertThat(match("/books/1").mode()).isEqualTo(AuthMode.PUBLIC);
+        assertThat(locator.getRouteTable().version()).isEqualTo(1);
+        assertThat(routePaths()).containsExactly("/books/**");
+    }
+
+    @Test
+    void sameVersionIsIgnored() throws IOException {
+        write(1, "/coupons/**", "");
+
+        assertThat(locator.reload()).isFalse();
+        assertThat(events).isEmpty();
+        assertThat(routePaths()).containsExactly("/books/**");
+    }
+
+    private AuthRule match(String path) {
+        return authRuleMatcher.match(MockServerHttpRequest.get(path).build());
+    }
+
+    private List<String> routePaths() {
+        return locator.getRouteDefinitions().map(RouteDefinition::getPredicates)
+                .map(predicates -> predicates.get(0).getArgs().values().iterator().next())
+                .collectList().block();
+    }
+
+    private void write(long version, String path, String authRules) throws IOException {
+        Files.writeString(routesFile, """
+                version: %d
+                routes:
+                  - id: BOOK-USER-SERVER
+                    uri: lb://BOOK-USER-SERVER
+                    paths: [ %s ]
+                %s""".formatted(version, path, authRules));
+    }
+}
@@ -0,0 +1,242 @@
+package com.nhnacademy.apigateway.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nhnacademy.apigateway.TestFixtures;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+class SigningKeyRegistryTest {
+
+    private static final byte[] HMAC_SECRET = "hmac-secret-hmac-secret-hmac-secret-0123".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path directory;
+
+    private Path jwks;
+    private KeyPair rsa;
+    private KeyPair ec;
+    private VerifiedClaimsCache verifiedClaimsCache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwks = directory.resolve("jwks.json");
+        rsa = rsaKeyPair();
+        ec = ecKeyPair();
+        verifiedClaimsCache = new VerifiedClaimsCache(1_000, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void keyIsSelectedByKid() throws IOException {
+        writeJwks(rsaJwk("rsa-1", rsa), ecJwk("ec-1", ec), hmacJwk("hmac-1", HMAC_SECRET));
+        SigningKeyRegistry registry = registry(Duration.ofSeconds(30));
+
+        assertThat(subject(registry, token("rsa-1", rsa.getPrivate()))).isEqualTo("user-1");
+        assertThat(subject(registry, token("ec-1", ec.getPrivate()))).isEqualTo("user-1");
+        assertThat(subject(registry, token("hmac-1", Keys.hmacShaKeyFor(HMAC_SECRET)))).isEqualTo("user-1");
+    }
+
+    @Test
+    void tokenWithoutKidIsVerifiedWithSecret() throws IOException {
+        writeJwks(rsaJwk("rsa-1", rsa));
+        SigningKeyRegistry registry = registry(Duration.ofSeconds(30));
+
+        String token = TestFixtures.token(1L, "ROLE_USER", Duration.ofMinutes(5));
+
+        assertThat(registry.parserFor(token).parseClaimsJws(token).getBody().get("userId", Long.class))
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void knownKidSignedWithOtherKeyIsRejected() throws Exception {
+        writeJwks(rsaJwk("rsa-1", rsa));
+        SigningKeyRegistry registry = registry(Duration.ofSeconds(30));
+
+        String forged = token("rsa-1", rsaKeyPair().getPrivate());
+
+        assertThatThrownBy(() -> registry.parserFor(forged).parseClaimsJws(forged))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void reloadSwapsKeysAndClearsVerifiedClaims() throws Exception {
+        writeJwks(rsaJwk("rsa-1", rsa));
+        SigningKeyRegistry registry = registry(Duration.ofSeconds(30));
+        String token = token("rsa-1", rsa.getPrivate());
+        AtomicInteger verifications = new AtomicInteger();
+        verifiedClaimsCache.get(token, t -> verify(registry, t, verifications));
+        verifiedClaimsCache.get(token, t -> verify(registry, t, verifications));
+        assertThat(verifications).hasValue(1);
+
+        KeyPair rotated = rsaKeyPair();
+        writeJwks(rsaJwk("rsa-2", rotated));
+        registry.reload();
+
+        assertThat(subject(registry, token("rsa-2", rotated.getPrivate()))).isEqualTo("user-1");
+        assertThatThrownBy(() -> registry.parserFor(token)).isInstanceOf(SignatureException.class);
+        // 제거된 키로 검증했던 클레임이 캐시에 남아 있지 않아 다시 검증합니다.
+        assertThatThrownBy(() -> verifiedClaimsCache.get(token, t -> verify(registry, t, verifications)))
+                .isInstanceOf(SignatureException.class);
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void failedReloadKeepsExistingKeys() throws IOException {
+        writeJwks(rsaJwk("rsa-1", rsa));
+        SigningKeyRegistry registry = registry(Duration.ofSeconds(30));
+        String token = token("rsa-1", rsa.getPrivate());
+
+        Files.writeString(jwks, "{ not json");
+        registry.reload();
+        assertThat(subject(registry, token)).isEqualTo("user-1");
+
+        Files.delete(jwks);
+        registry.reload();
+        assertThat(subject(registry, token)).isEqualTo("user-1");
+    }
+
+    @Test
+    void unknownKidWaitsForReload() throws IOException {
+        writeJwks(rsaJwk("rsa-1", rsa));
+        SigningKeyRegistry registry = registry(Duration.ofSeconds(30));
+
+        KeyPair rotated = rsaKeyPair();
+        writeJwks(rsaJwk("rsa-1", rsa), rsaJwk("rsa-2", rotated));
+        String token = token("rsa-2", rotated.getPrivate());
+
+        registry.awaitKeyFor(token).block(Duration.ofSeconds(5));
+
+        assertThat(subject(registry, token)).isEqualTo("user-1");
+    }
+
+    @Test
+    void unknownKidReloadIsThrottled() throws IOException {
+        writeJwks(rsaJwk("rsa-1", rsa));
+        SigningKeyRegistry registry = registry(Duration.ofMinutes(10));
+
+        registry.awaitKeyFor(token("unknown", rsa.getPrivate())).block(Duration.ofSeconds(5));
+
+        KeyPair rotated = rsaKeyPair();
+        writeJwks(rsaJwk("rsa-1", rsa), rsaJwk("rsa-2", rotated));
+        String token = token("rsa-2", rotated.getPrivate());
+
+        // 간격 안에서는 모르는 kid 가 다시 와도 키를 읽지 않고 바로 거부합니다.
+        registry.awaitKeyFor(token).block(Duration.ofSeconds(5));
+        assertThatThrownBy(() -> registry.parserFor(token)).isInstanceOf(SignatureException.class);
+
+        registry.reload();
+        assertThat(subject(registry, token)).isEqualTo("user-1");
+    }
+
+    @Test
+    void unknownKidWithoutKeyLocationIsRejected() {
+        SigningKeyRegistry registry = new SigningKeyRegistry(TestFixtures.JWT_SECRET, "", Duration.ofSeconds(30),
+                Duration.ofSeconds(2), new DefaultResourceLoader(), verifiedClaimsCache);
+        String token = token("rsa-1", rsa.getPrivate());
+
+        registry.awaitKeyFor(token).block(Duration.ofSeconds(5));
+
+        assertThatThrownBy(() -> registry.parserFor(token)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void encryptionKeysAndKeysWithoutKidAreSkipped() throws IOException {
+        writeJwks(rsaJwk("rsa-1", rsa).replace("\"kty\"", "\"use\": \"enc\", \"kty\""),
+                rsaJwk("rsa-2", rsa).replace("\"kid\": \"rsa-2\",", ""),
+                "{\"kid\": \"bad\", \"kty\": \"EC\", \"crv\": \"P-192\", \"x\": \"AA\", \"y\": \"AA\"}",
+                ecJwk("ec-1", ec));
+
+        assertThat(JsonWebKeys.parse(Files.newInputStream(jwks))).containsOnlyKeys("ec-1");
+    }
+
+    private SigningKeyRegistry registry(Duration unknownKidReloadInterval) {
+        return new SigningKeyRegistry(TestFixtures.JWT_SECRET, jwks.toUri().toString(), unknownKidReloadInterval,
+                Duration.ofSeconds(2), new DefaultResourceLoader(), verifiedClaimsCache);
+    }
+
+    private static String subject(SigningKeyRegistry registry, String token) {
+        return registry.parserFor(token).parseClaimsJws(token).getBody().getSubject();
+    }
+
+    private static Claims verify(SigningKeyRegistry registry, String token, AtomicInteger verifications) {
+        verifications.incrementAndGet();
+        return registry.parserFor(token).parseClaimsJws(token).getBody();
+    }
+
+    private static String token(String kid, Key signingKey) {
+        return Jwts.builder()
+                .setHeaderParam("kid", kid)
+                .setSubject("user-1")
+                .setExpiration(new Date(System.currentTimeMillis() + Duration.ofMinutes(5).toMillis()))
+                .signWith(signingKey)
+                .compact();
+    }
+
+    private void writeJwks(String... jwk) throws IOException {
+        Files.writeString(jwks, "{\"keys\": [" + String.join(",", List.of(jwk)) + "]}");
+    }
+
+    private static String rsaJwk(String kid, KeyPair keyPair) {
+        RSAPublicKey key = (RSAPublicKey) keyPair.getPublic();
+        return "{\"kid\": \"%s\", \"kty\": \"RSA\", \"alg\": \"RS256\", \"n\": \"%s\", \"e\": \"%s\"}"
+                .formatted(kid, base64(key.getModulus()), base64(key.getPublicExponent()));
+    }
+
+    private static String ecJwk(String kid, KeyPair keyPair) {
+        ECPublicKey key = (ECPublicKey) keyPair.getPublic();
+        return "{\"kid\": \"%s\", \"kty\": \"EC\", \"crv\": \"P-256\", \"x\": \"%s\", \"y\": \"%s\"}"
+                .formatted(kid, base64(key.getW().getAffineX()), base64(key.getW().getAffineY()));
+    }
+
+    private static String hmacJwk(String kid, byte[] secret) {
+        return "{\"kid\": \"%s\", \"kty\": \"oct\", \"alg\": \"HS256\", \"k\": \"%s\"}"
+                .formatted(kid, Base64.getUrlEncoder().withoutPadding().encodeToString(secret));
+    }
+
+    /**
+     * JWK 의 정수 필드처럼 부호 바이트 없이 base64url 로 인코딩합니다.
+     */
+    private static String base64(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static KeyPair rsaKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static KeyPair ecKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+}